@@ -26,7 +26,6 @@ import static java.util.Collections.emptyMap;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
-import com.google.common.collect.Maps.IteratorBasedAbstractMap;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
 import com.google.errorprone.annotations.concurrent.LazyInit;
@@ -188,111 +187,6 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
     }
   }
 
-  private abstract static class ArrayMap<K, V extends @Nullable Object>
-      extends IteratorBasedAbstractMap<K, V> {
-    private final ImmutableMap<K, Integer> keyIndex;
-
-    private ArrayMap(ImmutableMap<K, Integer> keyIndex) {
-      this.keyIndex = keyIndex;
-    }
-
-    @Override
-    public Set<K> keySet() {
-      return keyIndex.keySet();
-    }
-
-    K getKey(int index) {
-      return keyIndex.keySet().asList().get(index);
-    }
-
-    abstract String getKeyRole();
-
-    @ParametricNullness
-    abstract V getValue(int index);
-
-    @ParametricNullness
-    abstract V setValue(int index, @ParametricNullness V newValue);
-
-    @Override
-    public int size() {
-      return keyIndex.size();
-    }
-
-    @Override
-    public boolean isEmpty() {
-      return keyIndex.isEmpty();
-    }
-
-    Entry<K, V> getEntry(int index) {
-      checkElementIndex(index, size());
-      return new AbstractMapEntry<K, V>() {
-        @Override
-        public K getKey() {
-          return ArrayMap.this.getKey(index);
-        }
-
-        @Override
-        @ParametricNullness
-        public V getValue() {
-          return ArrayMap.this.getValue(index);
-        }
-
-        @Override
-        @ParametricNullness
-        public V setValue(@ParametricNullness V value) {
-          return ArrayMap.this.setValue(index, value);
-        }
-      };
-    }
-
-    @Override
-    Iterator<Entry<K, V>> entryIterator() {
-      return new AbstractIndexedListIterator<Entry<K, V>>(size()) {
-        @Override
-        Entry<K, V> get(int index) {
-          return getEntry(index);
-        }
-      };
-    }
-
-    // TODO(lowasser): consider an optimized values() implementation
-
-    @Override
-    public boolean containsKey(@Nullable Object key) {
-      return keyIndex.containsKey(key);
-    }
-
-    @Override
-    public @Nullable V get(@Nullable Object key) {
-      Integer index = keyIndex.get(key);
-      if (index == null) {
-        return null;
-      } else {
-        return getValue(index);
-      }
-    }
-
-    @Override
-    public @Nullable V put(K key, @ParametricNullness V value) {
-      Integer index = keyIndex.get(key);
-      if (index == null) {
-        throw new IllegalArgumentException(
-            getKeyRole() + " " + key + " not in " + keyIndex.keySet());
-      }
-      return setValue(index, value);
-    }
-
-    @Override
-    public @Nullable V remove(@Nullable Object key) {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void clear() {
-      throw new UnsupportedOperationException();
-    }
-  }
-
   /**
    * Returns, as an immutable list, the row keys provided when the table was constructed, including
    * those that are mapped to null values only.
@@ -603,7 +497,7 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
     }
   }
 
-  private final class Column extends ArrayMap<R, @Nullable V> {
+  private final class Column extends KeyIndexedMap<R, @Nullable V> {
     final int columnIndex;
 
     Column(int columnIndex) {
@@ -650,7 +544,7 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
   }
 
   @WeakOuter
-  private final class ColumnMap extends ArrayMap<C, Map<R, @Nullable V>> {
+  private final class ColumnMap extends KeyIndexedMap<C, Map<R, @Nullable V>> {
     private ColumnMap() {
       super(columnKeyToIndex);
     }
@@ -698,7 +592,7 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
     }
   }
 
-  private final class Row extends ArrayMap<C, @Nullable V> {
+  private final class Row extends KeyIndexedMap<C, @Nullable V> {
     final int rowIndex;
 
     Row(int rowIndex) {
@@ -745,7 +639,7 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
   }
 
   @WeakOuter
-  private final class RowMap extends ArrayMap<R, Map<C, @Nullable V>> {
+  private final class RowMap extends KeyIndexedMap<R, Map<C, @Nullable V>> {
     private RowMap() {
       super(rowKeyToIndex);
     }
@@ -0,0 +1,811 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.CollectPreconditions.checkRemove;
+import static com.google.common.math.IntMath.saturatedMultiply;
+import static java.lang.Math.max;
+import static java.util.Collections.unmodifiableList;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.j2objc.annotations.WeakOuter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@code ListMultimap} that stores its keys and values in a handful of flat arrays rather than in
+ * one collection object per key.
+ *
+ * <p>Each distinct key owns a <i>slot</i>, numbered in the order in which keys were added. A slot's
+ * values occupy a contiguous slice of a single array shared by the whole multimap, described by the
+ * slot's offset, length and capacity. When a slice fills up it is either extended in place (if it
+ * is the last slice in the array) or moved to the end of the array with some room to grow. The
+ * space left behind is reclaimed by repacking all slices once it makes up half of the array.
+ * Removing a key leaves its slot empty; empty slots are squeezed out when the key arrays fill up.
+ *
+ * <p>Iteration over keys follows insertion order, save that if all values associated with a key
+ * are removed and then the key is added back into the multimap, that key will come last. Values of
+ * each key are kept in the order in which they were added.
+ *
+ * <p>All views are live and are created on demand; {@link #get} in particular returns a lightweight
+ * {@link RandomAccess} list that looks up the key's slot only when the multimap's keys have been
+ * renumbered since its last access.
+ *
+ * <p>Keys and values may be null. All optional multimap methods are supported. This class is not
+ * threadsafe when any concurrent operations update the multimap.
+ */
+@GwtCompatible
+final class CompactListMultimap<K extends @Nullable Object, V extends @Nullable Object>
+    extends AbstractMultimap<K, V> implements ListMultimap<K, V>, Serializable {
+
+  static <K extends @Nullable Object, V extends @Nullable Object>
+      CompactListMultimap<K, V> create() {
+    return new CompactListMultimap<>(DEFAULT_EXPECTED_KEYS, DEFAULT_EXPECTED_VALUES_PER_KEY);
+  }
+
+  static <K extends @Nullable Object, V extends @Nullable Object>
+      CompactListMultimap<K, V> create(int expectedKeys, int expectedValuesPerKey) {
+    return new CompactListMultimap<>(expectedKeys, expectedValuesPerKey);
+  }
+
+  private static final int DEFAULT_EXPECTED_KEYS = 8;
+  private static final int DEFAULT_EXPECTED_VALUES_PER_KEY = 2;
+
+  /** Marks the end of a hash chain, or a key that is not present. */
+  private static final int ABSENT = -1;
+
+  /** The {@code lengths} entry of a slot whose key has been removed. */
+  private static final int REMOVED = -1;
+
+  /** The minimum capacity given to a slice that is moved to the end of the value array. */
+  final int expectedValuesPerKey;
+
+  // Per-slot columns. A slot whose key was removed has a length of REMOVED and no slice.
+  private transient @Nullable Object[] keys;
+  private transient int[] hashes;
+  private transient int[] next;
+  private transient int[] offsets;
+  private transient int[] lengths;
+  private transient int[] capacities;
+
+  /** Maps a bucket to the first slot in its hash chain, chained further through {@link #next}. */
+  private transient int[] table;
+
+  /** The number of slots handed out, including removed ones. */
+  private transient int slotCount;
+
+  private transient int keyCount;
+  private transient int size;
+
+  /** Every slice lives in {@code values[0, valuesEnd)}. */
+  private transient @Nullable Object[] values;
+
+  private transient int valuesEnd;
+
+  /** The number of cells below {@link #valuesEnd} that belong to no slice. */
+  private transient int garbage;
+
+  private transient int modCount;
+
+  /** Incremented whenever a slot is removed or slots are renumbered. */
+  private transient int slotEpoch;
+
+  private CompactListMultimap(int expectedKeys, int expectedValuesPerKey) {
+    checkNonnegative(expectedKeys, "expectedKeys");
+    this.expectedValuesPerKey = checkNonnegative(expectedValuesPerKey, "expectedValuesPerKey");
+    init(expectedKeys);
+  }
+
+  private void init(int expectedKeys) {
+    int slots = max(expectedKeys, 2);
+    keys = new @Nullable Object[slots];
+    hashes = new int[slots];
+    next = new int[slots];
+    offsets = new int[slots];
+    lengths = new int[slots];
+    capacities = new int[slots];
+    table = new int[Hashing.closedTableSize(slots, 1.0)];
+    Arrays.fill(table, ABSENT);
+    slotCount = 0;
+    keyCount = 0;
+    size = 0;
+    values = new @Nullable Object[saturatedMultiply(max(expectedKeys, 1), expectedValuesPerKey)];
+    valuesEnd = 0;
+    garbage = 0;
+  }
+
+  @SuppressWarnings("unchecked") // we only put K instances into keys
+  @ParametricNullness
+  private K key(int slot) {
+    return (K) keys[slot];
+  }
+
+  @SuppressWarnings("unchecked") // we only put V instances into values
+  @ParametricNullness
+  private V value(int cell) {
+    return (V) values[cell];
+  }
+
+  private int slotOf(@Nullable Object key) {
+    int hash = Hashing.smearedHash(key);
+    for (int slot = table[hash & (table.length - 1)]; slot != ABSENT; slot = next[slot]) {
+      if (hashes[slot] == hash && Objects.equals(key, keys[slot])) {
+        return slot;
+      }
+    }
+    return ABSENT;
+  }
+
+  private int addSlot(@ParametricNullness K key) {
+    if (slotCount == keys.length) {
+      if (keyCount <= slotCount / 2) {
+        renumberSlots();
+      } else {
+        int newLength = expand(keys.length, slotCount + 1);
+        keys = Arrays.copyOf(keys, newLength);
+        hashes = Arrays.copyOf(hashes, newLength);
+        next = Arrays.copyOf(next, newLength);
+        offsets = Arrays.copyOf(offsets, newLength);
+        lengths = Arrays.copyOf(lengths, newLength);
+        capacities = Arrays.copyOf(capacities, newLength);
+      }
+    }
+    int slot = slotCount++;
+    int hash = Hashing.smearedHash(key);
+    keys[slot] = key;
+    hashes[slot] = hash;
+    offsets[slot] = valuesEnd;
+    lengths[slot] = 0;
+    capacities[slot] = 0;
+    keyCount++;
+    if (keyCount > table.length) {
+      rehash(Hashing.closedTableSize(keyCount, 1.0));
+    } else {
+      int bucket = hash & (table.length - 1);
+      next[slot] = table[bucket];
+      table[bucket] = slot;
+    }
+    return slot;
+  }
+
+  /** Squeezes removed slots out of the slot columns, preserving the order of the others. */
+  private void renumberSlots() {
+    int to = 0;
+    for (int from = 0; from < slotCount; from++) {
+      if (lengths[from] != REMOVED) {
+        keys[to] = keys[from];
+        hashes[to] = hashes[from];
+        offsets[to] = offsets[from];
+        lengths[to] = lengths[from];
+        capacities[to] = capacities[from];
+        to++;
+      }
+    }
+    Arrays.fill(keys, to, slotCount, null);
+    slotCount = to;
+    slotEpoch++;
+    rehash(table.length);
+  }
+
+  private void rehash(int tableSize) {
+    int[] newTable = new int[tableSize];
+    Arrays.fill(newTable, ABSENT);
+    int mask = tableSize - 1;
+    for (int slot = slotCount - 1; slot >= 0; slot--) {
+      if (lengths[slot] != REMOVED) {
+        int bucket = hashes[slot] & mask;
+        next[slot] = newTable[bucket];
+        newTable[bucket] = slot;
+      }
+    }
+    table = newTable;
+  }
+
+  private void removeSlot(int slot) {
+    int bucket = hashes[slot] & (table.length - 1);
+    if (table[bucket] == slot) {
+      table[bucket] = next[slot];
+    } else {
+      int previous = table[bucket];
+      while (next[previous] != slot) {
+        previous = next[previous];
+      }
+      next[previous] = next[slot];
+    }
+    int offset = offsets[slot];
+    int capacity = capacities[slot];
+    Arrays.fill(values, offset, offset + lengths[slot], null);
+    if (offset + capacity == valuesEnd) {
+      valuesEnd = offset;
+    } else {
+      garbage += capacity;
+    }
+    size -= lengths[slot];
+    keys[slot] = null;
+    lengths[slot] = REMOVED;
+    capacities[slot] = 0;
+    keyCount--;
+    slotEpoch++;
+    modCount++;
+  }
+
+  /** Makes room for {@code count} more values in the slice of {@code slot}. */
+  private void ensureRoom(int slot, int count) {
+    int length = lengths[slot];
+    if (capacities[slot] - length >= count) {
+      return;
+    }
+    int needed = slotCells(slot, length + count);
+    if (valuesEnd + needed > values.length) {
+      if (garbage > valuesEnd / 2) {
+        repack(needed);
+        needed = slotCells(slot, length + count);
+      }
+      if (valuesEnd + needed > values.length) {
+        values = Arrays.copyOf(values, expand(values.length, valuesEnd + needed));
+      }
+    }
+    int offset = offsets[slot];
+    if (offset + capacities[slot] == valuesEnd) {
+      capacities[slot] += needed;
+    } else {
+      System.arraycopy(values, offset, values, valuesEnd, length);
+      Arrays.fill(values, offset, offset + length, null);
+      garbage += capacities[slot];
+      offsets[slot] = valuesEnd;
+      capacities[slot] = needed;
+    }
+    valuesEnd += needed;
+  }
+
+  /**
+   * Returns how many cells past {@link #valuesEnd} the slice of {@code slot} needs in order to hold
+   * {@code minCapacity} values. The last slice in the array grows in place; any other slice moves
+   * to the end with headroom, so that keys receiving values in turn don't move on every insertion.
+   */
+  private int slotCells(int slot, int minCapacity) {
+    int capacity = capacities[slot];
+    if (offsets[slot] + capacity == valuesEnd) {
+      return minCapacity - capacity;
+    }
+    return max(minCapacity, max(expectedValuesPerKey, capacity + (capacity >> 1) + 1));
+  }
+
+  /** Copies every slice, trimmed to its length, into a new array with {@code extra} spare cells. */
+  private void repack(int extra) {
+    @Nullable Object[] newValues = new @Nullable Object[expand(size, size + extra)];
+    int end = 0;
+    for (int slot = 0; slot < slotCount; slot++) {
+      int length = lengths[slot];
+      if (length != REMOVED) {
+        System.arraycopy(values, offsets[slot], newValues, end, length);
+        offsets[slot] = end;
+        capacities[slot] = length;
+        end += length;
+      }
+    }
+    values = newValues;
+    valuesEnd = end;
+    garbage = 0;
+  }
+
+  private static int expand(int oldLength, int minLength) {
+    return max(minLength, oldLength + (oldLength >> 1) + 1);
+  }
+
+  private void insert(int slot, int index, @ParametricNullness V value) {
+    ensureRoom(slot, 1);
+    int cell = offsets[slot] + index;
+    System.arraycopy(values, cell, values, cell + 1, lengths[slot] - index);
+    values[cell] = value;
+    lengths[slot]++;
+    size++;
+    modCount++;
+  }
+
+  @ParametricNullness
+  private V removeValue(int slot, int index) {
+    int offset = offsets[slot];
+    int length = lengths[slot];
+    V oldValue = value(offset + index);
+    if (length == 1) {
+      removeSlot(slot);
+    } else {
+      System.arraycopy(values, offset + index + 1, values, offset + index, length - index - 1);
+      values[offset + length - 1] = null;
+      lengths[slot] = length - 1;
+      size--;
+      modCount++;
+    }
+    return oldValue;
+  }
+
+  // Query Operations
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return slotOf(key) != ABSENT;
+  }
+
+  @Override
+  public boolean containsValue(@Nullable Object value) {
+    for (int slot = 0; slot < slotCount; slot++) {
+      if (indexOf(slot, value) != -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsEntry(@Nullable Object key, @Nullable Object value) {
+    int slot = slotOf(key);
+    return slot != ABSENT && indexOf(slot, value) != -1;
+  }
+
+  private int indexOf(int slot, @Nullable Object value) {
+    int offset = offsets[slot];
+    for (int i = 0; i < lengths[slot]; i++) {
+      if (Objects.equals(value, values[offset + i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // Modification Operations
+
+  @CanIgnoreReturnValue
+  @Override
+  public boolean put(@ParametricNullness K key, @ParametricNullness V value) {
+    int slot = slotOf(key);
+    if (slot == ABSENT) {
+      slot = addSlot(key);
+    }
+    insert(slot, lengths[slot], value);
+    return true;
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public boolean remove(@Nullable Object key, @Nullable Object value) {
+    int slot = slotOf(key);
+    if (slot == ABSENT) {
+      return false;
+    }
+    int index = indexOf(slot, value);
+    if (index == -1) {
+      return false;
+    }
+    removeValue(slot, index);
+    return true;
+  }
+
+  // Bulk Operations
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned list is immutable and implements {@link java.util.RandomAccess}.
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public List<V> replaceValues(@ParametricNullness K key, Iterable<? extends V> values) {
+    checkNotNull(values);
+    int slot = slotOf(key);
+    if (slot == ABSENT) {
+      putAll(key, values);
+      return Collections.emptyList();
+    }
+    List<V> oldValues = copyValues(slot);
+    Iterator<? extends V> iterator = values.iterator();
+    if (!iterator.hasNext()) {
+      removeSlot(slot);
+      return oldValues;
+    }
+    // Keep the slot, and with it the key's position in the iteration order.
+    int offset = offsets[slot];
+    Arrays.fill(this.values, offset, offset + lengths[slot], null);
+    size -= lengths[slot];
+    lengths[slot] = 0;
+    while (iterator.hasNext()) {
+      insert(slot, lengths[slot], iterator.next());
+    }
+    return oldValues;
+  }
+
+  private List<V> copyValues(int slot) {
+    int offset = offsets[slot];
+    List<V> copy = new ArrayList<>(lengths[slot]);
+    for (int i = 0; i < lengths[slot]; i++) {
+      copy.add(value(offset + i));
+    }
+    return unmodifiableList(copy);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned list is immutable and implements {@link java.util.RandomAccess}.
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public List<V> removeAll(@Nullable Object key) {
+    int slot = slotOf(key);
+    if (slot == ABSENT) {
+      return Collections.emptyList();
+    }
+    List<V> oldValues = copyValues(slot);
+    removeSlot(slot);
+    return oldValues;
+  }
+
+  @Override
+  public void clear() {
+    init(DEFAULT_EXPECTED_KEYS);
+    slotEpoch++;
+    modCount++;
+  }
+
+  // Views
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned list is a view that implements {@link java.util.RandomAccess}. Changes to it
+   * write through to the multimap, and adding to an empty view adds the key to the multimap.
+   */
+  @Override
+  public List<V> get(@ParametricNullness K key) {
+    return new ValueList(key);
+  }
+
+  @WeakOuter
+  private final class ValueList extends AbstractList<V> implements RandomAccess {
+    @ParametricNullness private final K key;
+    private int slot = ABSENT;
+    private int epoch;
+
+    ValueList(@ParametricNullness K key) {
+      this.key = key;
+    }
+
+    /** Returns the key's slot, or {@code ABSENT} if the multimap has no values for it. */
+    private int slot() {
+      if (slot == ABSENT || epoch != slotEpoch) {
+        slot = slotOf(key);
+        epoch = slotEpoch;
+      }
+      return slot;
+    }
+
+    @Override
+    public int size() {
+      int slot = slot();
+      return (slot == ABSENT) ? 0 : lengths[slot];
+    }
+
+    @Override
+    @ParametricNullness
+    public V get(int index) {
+      checkElementIndex(index, size());
+      return value(offsets[slot] + index);
+    }
+
+    @Override
+    @ParametricNullness
+    public V set(int index, @ParametricNullness V value) {
+      checkElementIndex(index, size());
+      int cell = offsets[slot] + index;
+      V oldValue = value(cell);
+      values[cell] = value;
+      return oldValue;
+    }
+
+    @Override
+    public void add(int index, @ParametricNullness V value) {
+      checkPositionIndex(index, size());
+      if (slot == ABSENT) {
+        slot = addSlot(key);
+      }
+      insert(slot, index, value);
+      modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends V> collection) {
+      int count = collection.size();
+      if (count == 0) {
+        return false;
+      }
+      if (slot() == ABSENT) {
+        slot = addSlot(key);
+      }
+      ensureRoom(slot, count);
+      int cell = offsets[slot] + lengths[slot];
+      int added = 0;
+      for (V value : collection) {
+        if (added++ == count) {
+          throw new ConcurrentModificationException();
+        }
+        values[cell++] = value;
+      }
+      if (added != count) {
+        throw new ConcurrentModificationException();
+      }
+      lengths[slot] += count;
+      size += count;
+      CompactListMultimap.this.modCount++;
+      modCount++;
+      return true;
+    }
+
+    @Override
+    @ParametricNullness
+    public V remove(int index) {
+      checkElementIndex(index, size());
+      modCount++;
+      return removeValue(slot, index);
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+      return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(@Nullable Object o) {
+      int slot = slot();
+      return (slot == ABSENT) ? -1 : CompactListMultimap.this.indexOf(slot, o);
+    }
+
+    @Override
+    public void clear() {
+      if (slot() != ABSENT) {
+        removeSlot(slot);
+        modCount++;
+      }
+    }
+  }
+
+  @Override
+  Set<K> createKeySet() {
+    @WeakOuter
+    final class KeySet extends Sets.ImprovedAbstractSet<K> {
+      @Override
+      public int size() {
+        return keyCount;
+      }
+
+      @Override
+      public Iterator<K> iterator() {
+        return new KeyIterator();
+      }
+
+      @Override
+      public boolean contains(@Nullable Object key) {
+        return containsKey(key);
+      }
+
+      @Override
+      public boolean remove(@Nullable Object key) {
+        int slot = slotOf(key);
+        if (slot == ABSENT) {
+          return false;
+        }
+        removeSlot(slot);
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        CompactListMultimap.this.clear();
+      }
+    }
+    return new KeySet();
+  }
+
+  private final class KeyIterator implements Iterator<K> {
+    private int nextSlot = skipRemoved(0);
+    private int lastSlot = ABSENT;
+    private int expectedModCount = modCount;
+
+    private int skipRemoved(int slot) {
+      while (slot < slotCount && lengths[slot] == REMOVED) {
+        slot++;
+      }
+      return slot;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextSlot < slotCount;
+    }
+
+    @Override
+    @ParametricNullness
+    public K next() {
+      checkForComodification(expectedModCount);
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      lastSlot = nextSlot;
+      nextSlot = skipRemoved(nextSlot + 1);
+      return key(lastSlot);
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification(expectedModCount);
+      checkRemove(lastSlot != ABSENT);
+      removeSlot(lastSlot);
+      lastSlot = ABSENT;
+      expectedModCount = modCount;
+    }
+  }
+
+  /** Iterates over all values, slot by slot, producing one element per value. */
+  private abstract class Itr<T extends @Nullable Object> implements Iterator<T> {
+    private int nextSlot;
+    private int nextIndex;
+    private int lastSlot = ABSENT;
+    private int lastIndex;
+    private int expectedModCount = modCount;
+
+    Itr() {
+      advance();
+    }
+
+    @ParametricNullness
+    abstract T output(int slot, int cell);
+
+    /** Moves past exhausted and removed slots; a removed slot's length is negative. */
+    private void advance() {
+      while (nextSlot < slotCount && nextIndex >= lengths[nextSlot]) {
+        nextSlot++;
+        nextIndex = 0;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextSlot < slotCount;
+    }
+
+    @Override
+    @ParametricNullness
+    public T next() {
+      checkForComodification(expectedModCount);
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      lastSlot = nextSlot;
+      lastIndex = nextIndex++;
+      advance();
+      return output(lastSlot, offsets[lastSlot] + lastIndex);
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification(expectedModCount);
+      checkRemove(lastSlot != ABSENT);
+      removeValue(lastSlot, lastIndex);
+      if (lastSlot == nextSlot) {
+        nextIndex--;
+      }
+      lastSlot = ABSENT;
+      expectedModCount = modCount;
+    }
+  }
+
+  private void checkForComodification(int expectedModCount) {
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  Multiset<K> createKeys() {
+    return new Multimaps.Keys<K, V>(this);
+  }
+
+  @Override
+  Collection<V> createValues() {
+    return new Values();
+  }
+
+  @Override
+  Iterator<V> valueIterator() {
+    return new Itr<V>() {
+      @Override
+      @ParametricNullness
+      V output(int slot, int cell) {
+        return value(cell);
+      }
+    };
+  }
+
+  @Override
+  Collection<Entry<K, V>> createEntries() {
+    return new Entries();
+  }
+
+  @Override
+  Iterator<Entry<K, V>> entryIterator() {
+    return new Itr<Entry<K, V>>() {
+      @Override
+      Entry<K, V> output(int slot, int cell) {
+        return Maps.immutableEntry(key(slot), value(cell));
+      }
+    };
+  }
+
+  @Override
+  Map<K, Collection<V>> createAsMap() {
+    return new Multimaps.AsMap<>(this);
+  }
+
+  /**
+   * @serialData expectedValuesPerKey, the number of distinct keys, and then for each distinct key:
+   *     the key, the number of values for that key, and the key's values
+   */
+  @GwtIncompatible
+  @J2ktIncompatible
+  private void writeObject(ObjectOutputStream stream) throws IOException {
+    stream.defaultWriteObject();
+    Serialization.writeMultimap(this, stream);
+  }
+
+  @GwtIncompatible
+  @J2ktIncompatible
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    init(DEFAULT_EXPECTED_KEYS);
+    Serialization.populateMultimap(this, stream);
+  }
+
+  @GwtIncompatible @J2ktIncompatible private static final long serialVersionUID = 0;
+}
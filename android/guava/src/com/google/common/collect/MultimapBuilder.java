@@ -121,6 +121,43 @@ public abstract class MultimapBuilder<K0 extends @Nullable Object, V0 extends @N
     };
   }
 
+  /**
+   * Uses a compact hash table, which keeps its entries in flat arrays rather than allocating an
+   * object per entry, to map keys to value collections.
+   *
+   * <p>The collections returned by {@link Multimap#keySet()}, {@link Multimap#keys()}, and {@link
+   * Multimap#asMap()} will iterate through the keys in the order that they were first added to the
+   * multimap, save that if all values associated with a key are removed and then the key is added
+   * back into the multimap, that key will come last in the key iteration order.
+   *
+   * <p>The resulting builder additionally offers {@link
+   * CompactMultimapBuilderWithKeys#compactListValues() compactListValues()}, which does away with
+   * the per-key value collections as well.
+   *
+   * @since NEXT
+   */
+  public static CompactMultimapBuilderWithKeys<@Nullable Object> compactKeys() {
+    return compactKeys(DEFAULT_EXPECTED_KEYS);
+  }
+
+  /**
+   * Uses a compact hash table, which keeps its entries in flat arrays rather than allocating an
+   * object per entry, to map keys to value collections, initialized to expect the specified number
+   * of keys.
+   *
+   * <p>The collections returned by {@link Multimap#keySet()}, {@link Multimap#keys()}, and {@link
+   * Multimap#asMap()} will iterate through the keys in the order that they were first added to the
+   * multimap, save that if all values associated with a key are removed and then the key is added
+   * back into the multimap, that key will come last in the key iteration order.
+   *
+   * @throws IllegalArgumentException if {@code expectedKeys < 0}
+   * @since NEXT
+   */
+  public static CompactMultimapBuilderWithKeys<@Nullable Object> compactKeys(int expectedKeys) {
+    checkNonnegative(expectedKeys, "expectedKeys");
+    return new CompactMultimapBuilderWithKeys<>(expectedKeys);
+  }
+
   /**
    * Uses a naturally-ordered {@link TreeMap} to map keys to value collections.
    *
@@ -409,6 +446,56 @@ public abstract class MultimapBuilder<K0 extends @Nullable Object, V0 extends @N
     }
   }
 
+  /**
+   * A {@link MultimapBuilderWithKeys} whose keys are kept in a compact hash table, as returned by
+   * {@link MultimapBuilder#compactKeys()}.
+   *
+   * @param <K0> The upper bound on the key type of the generated multimap.
+   * @since NEXT
+   */
+  public static final class CompactMultimapBuilderWithKeys<K0 extends @Nullable Object>
+      extends MultimapBuilderWithKeys<K0> {
+    private final int expectedKeys;
+
+    CompactMultimapBuilderWithKeys(int expectedKeys) {
+      this.expectedKeys = expectedKeys;
+    }
+
+    @Override
+    <K extends K0, V extends @Nullable Object> Map<K, Collection<V>> createMap() {
+      return Platform.newCompactLinkedHashMapWithExpectedSize(expectedKeys);
+    }
+
+    /**
+     * Stores the values of all keys in one shared array, each key owning a contiguous slice of it,
+     * instead of in one value collection per key. This saves most of the memory spent on small
+     * value collections, at the cost of occasionally moving a key's values when its slice fills up.
+     *
+     * <p>The lists returned by {@link ListMultimap#get}, {@link ListMultimap#removeAll}, and {@link
+     * ListMultimap#replaceValues} implement {@link java.util.RandomAccess}. As with the other value
+     * collection implementations, {@code get} returns a view that is only materialized on access.
+     */
+    public ListMultimapBuilder<K0, @Nullable Object> compactListValues() {
+      return compactListValues(MultimapBuilderWithKeys.DEFAULT_EXPECTED_VALUES_PER_KEY);
+    }
+
+    /**
+     * Stores the values of all keys in one shared array, as with {@link #compactListValues()},
+     * initialized to expect the specified number of values per key.
+     *
+     * @throws IllegalArgumentException if {@code expectedValuesPerKey < 0}
+     */
+    public ListMultimapBuilder<K0, @Nullable Object> compactListValues(int expectedValuesPerKey) {
+      checkNonnegative(expectedValuesPerKey, "expectedValuesPerKey");
+      return new ListMultimapBuilder<K0, @Nullable Object>() {
+        @Override
+        public <K extends K0, V extends @Nullable Object> ListMultimap<K, V> build() {
+          return CompactListMultimap.create(expectedKeys, expectedValuesPerKey);
+        }
+      };
+    }
+  }
+
   /** Returns a new, empty {@code Multimap} with the specified implementation. */
   public abstract <K extends K0, V extends V0> Multimap<K, V> build();
 
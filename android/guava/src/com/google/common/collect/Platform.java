@@ -45,6 +45,15 @@ final class Platform {
     return CompactLinkedHashMap.createWithExpectedSize(expectedSize);
   }
 
+  /**
+   * Returns the platform preferred implementation of an insertion ordered map that avoids
+   * allocating an object per entry.
+   */
+  static <K extends @Nullable Object, V extends @Nullable Object>
+      Map<K, V> newCompactLinkedHashMapWithExpectedSize(int expectedSize) {
+    return CompactLinkedHashMap.createWithExpectedSize(expectedSize);
+  }
+
   /** Returns the platform preferred implementation of a set based on a hash table. */
   static <E extends @Nullable Object> Set<E> newHashSetWithExpectedSize(int expectedSize) {
     return CompactHashSet.createWithExpectedSize(expectedSize);
@@ -18,7 +18,9 @@ package com.google.common.collect;
 
 import static com.google.common.collect.ObjectArrays.newArray;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -46,6 +48,11 @@ final class Platform {
     return Maps.newLinkedHashMapWithExpectedSize(expectedSize);
   }
 
+  static <K extends @Nullable Object, V extends @Nullable Object>
+      Map<K, V> newCompactLinkedHashMapWithExpectedSize(int expectedSize) {
+    return Maps.newLinkedHashMapWithExpectedSize(expectedSize);
+  }
+
   static <E extends @Nullable Object> Set<E> newHashSetWithExpectedSize(int expectedSize) {
     return Sets.newHashSetWithExpectedSize(expectedSize);
   }
@@ -95,6 +102,12 @@ final class Platform {
     return result;
   }
 
+  /** Equivalent to Arrays.sort(array, from, to, comparator); GWT has no parallel sort. */
+  static <T extends @Nullable Object> void sort(
+      T[] array, int from, int to, Comparator<? super T> comparator) {
+    Arrays.sort(array, from, to, comparator);
+  }
+
   // TODO(user): Move this logic to a utility class.
   @JsType(isNative = true, name = "Array", namespace = JsPackage.GLOBAL)
   private interface NativeArray {
@@ -48,10 +48,12 @@ import org.jspecify.annotations.Nullable;
  */
 @NullUnmarked
 public class ConcurrentHashMultisetBenchmark {
-  @Param({"1", "2", "4", "8"})
+  @Param({"1", "2", "4", "8", "16", "32", "64"})
   int threads;
 
-  @Param({"3", "30", "300"})
+  // A size of 1 makes every operation contend for the same element's counter, which is the case
+  // that STRIPED_CONCURRENT_HASH_MULTISET is meant for.
+  @Param({"1", "3", "30", "300"})
   int size;
 
   @Param MultisetSupplier implSupplier;
@@ -146,6 +148,12 @@ public class ConcurrentHashMultisetBenchmark {
         return ConcurrentHashMultiset.create();
       }
     },
+    STRIPED_CONCURRENT_HASH_MULTISET() {
+      @Override
+      Multiset<Integer> get() {
+        return ConcurrentHashMultiset.createStriped();
+      }
+    },
     BOXED_ATOMIC_REPLACE() {
       @Override
       Multiset<Integer> get() {
@@ -21,6 +21,7 @@ import static com.google.common.collect.Iterables.concat;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.truth.Truth.assertThat;
 import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.annotations.GwtCompatible;
@@ -28,9 +29,11 @@ import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.base.Predicate;
 import com.google.common.collect.testing.CollectionTestSuiteBuilder;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.collect.testing.TestStringCollectionGenerator;
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.math.LongMath;
 import com.google.common.testing.NullPointerTester;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -40,6 +43,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -466,6 +470,49 @@ public class Collections2Test extends TestCase {
     assertFalse(permutationSet.contains(null));
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testPermutationSetSpliterator() {
+    Collection<List<Integer>> permutationSet = Collections2.permutations(newArrayList(1, 2, 3));
+    SpliteratorTester.of(permutationSet::spliterator)
+        .expect(
+            newArrayList(1, 2, 3),
+            newArrayList(1, 3, 2),
+            newArrayList(3, 1, 2),
+            newArrayList(3, 2, 1),
+            newArrayList(2, 3, 1),
+            newArrayList(2, 1, 3))
+        .inOrder();
+  }
+
+  @GwtIncompatible // Spliterator
+  public void testPermutationSetSpliterator_matchesIterator() {
+    for (int n = 0; n <= 6; n++) {
+      Collection<List<Integer>> permutationSet =
+          Collections2.permutations(newArrayList(ContiguousSet.closedOpen(0, n)));
+      List<List<Integer>> expected = newArrayList(permutationSet.iterator());
+      assertThat(permutationSet.stream().collect(toList()))
+          .containsExactlyElementsIn(expected)
+          .inOrder();
+      assertThat(permutationSet.parallelStream().collect(toList()))
+          .containsExactlyElementsIn(expected)
+          .inOrder();
+    }
+  }
+
+  @GwtIncompatible // Spliterator
+  public void testPermutationSetSpliterator_splitsLargeInput() {
+    List<Integer> list = newArrayList(ContiguousSet.closed(1, 20));
+    Spliterator<List<Integer>> spliterator = Collections2.permutations(list).spliterator();
+    assertEquals(LongMath.factorial(20), spliterator.getExactSizeIfKnown());
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertEquals(LongMath.factorial(20) / 2, spliterator.trySplit().estimateSize());
+    List<List<Integer>> first = new ArrayList<>();
+    spliterator.tryAdvance(first::add);
+    assertThat(first.get(0))
+        .containsExactly(4, 3, 2, 1, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20)
+        .inOrder();
+  }
+
   private <T> void assertNextPermutation(
       List<T> expectedPermutation, Iterator<List<T>> permutations) {
     assertTrue("Expected another permutation, but there was none.", permutations.hasNext());
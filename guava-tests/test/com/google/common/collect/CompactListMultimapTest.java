@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.google.ListMultimapTestSuiteBuilder;
+import com.google.common.collect.testing.google.TestStringListMultimapGenerator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jspecify.annotations.NullMarked;
+
+/** Unit tests for {@link CompactListMultimap}. */
+@GwtCompatible
+@NullMarked
+public class CompactListMultimapTest extends TestCase {
+
+  @GwtIncompatible // suite
+  @J2ktIncompatible
+  @AndroidIncompatible // test-suite builders
+  public static Test suite() {
+    TestSuite suite = new TestSuite();
+    suite.addTest(
+        ListMultimapTestSuiteBuilder.using(
+                new TestStringListMultimapGenerator() {
+                  @Override
+                  protected ListMultimap<String, String> create(Entry<String, String>[] entries) {
+                    ListMultimap<String, String> multimap =
+                        MultimapBuilder.compactKeys().compactListValues().build();
+                    for (Entry<String, String> entry : entries) {
+                      multimap.put(entry.getKey(), entry.getValue());
+                    }
+                    return multimap;
+                  }
+                })
+            .named("CompactListMultimap")
+            .withFeatures(
+                MapFeature.ALLOWS_NULL_KEYS,
+                MapFeature.ALLOWS_NULL_VALUES,
+                MapFeature.ALLOWS_ANY_NULL_QUERIES,
+                MapFeature.GENERAL_PURPOSE,
+                MapFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                CollectionFeature.KNOWN_ORDER,
+                CollectionFeature.SERIALIZABLE,
+                CollectionSize.ANY)
+            .createTestSuite());
+    suite.addTestSuite(CompactListMultimapTest.class);
+    return suite;
+  }
+
+  private static <K, V> ListMultimap<K, V> create() {
+    return MultimapBuilder.compactKeys().compactListValues().build();
+  }
+
+  public void testGetAndRemoveAllRandomAccess() {
+    ListMultimap<String, Integer> multimap = create();
+    multimap.put("foo", 1);
+    multimap.put("foo", 3);
+    assertTrue(multimap.get("foo") instanceof RandomAccess);
+    assertTrue(multimap.get("bar") instanceof RandomAccess);
+    assertTrue(multimap.removeAll("foo") instanceof RandomAccess);
+    assertTrue(multimap.removeAll("bar") instanceof RandomAccess);
+  }
+
+  public void testInterleavedPuts() {
+    ListMultimap<Integer, Integer> multimap = create();
+    ListMultimap<Integer, Integer> expected =
+        MultimapBuilder.linkedHashKeys().arrayListValues().build();
+    for (int i = 0; i < 10_000; i++) {
+      int key = (i * 7919) % 101;
+      multimap.put(key, i);
+      expected.put(key, i);
+    }
+    assertEquals(expected, multimap);
+    assertThat(multimap.keySet()).containsExactlyElementsIn(expected.keySet()).inOrder();
+    assertThat(multimap.values()).containsExactlyElementsIn(expected.values()).inOrder();
+  }
+
+  public void testKeyOrderAfterRemoval() {
+    ListMultimap<String, Integer> multimap = create();
+    multimap.put("a", 1);
+    multimap.put("b", 2);
+    multimap.put("c", 3);
+    multimap.remove("a", 1);
+    multimap.put("a", 4);
+    assertThat(multimap.keySet()).containsExactly("b", "c", "a").inOrder();
+  }
+
+  public void testReplaceValuesKeepsKeyPosition() {
+    ListMultimap<String, Integer> multimap = create();
+    multimap.putAll("a", asList(1, 2));
+    multimap.put("b", 3);
+    assertThat(multimap.replaceValues("a", asList(5, 6, 7))).containsExactly(1, 2).inOrder();
+    assertThat(multimap.keySet()).containsExactly("a", "b").inOrder();
+    assertThat(multimap.get("a")).containsExactly(5, 6, 7).inOrder();
+    assertThat(multimap.replaceValues("a", ImmutableList.<Integer>of())).hasSize(3);
+    assertFalse(multimap.containsKey("a"));
+  }
+
+  public void testManyKeysRemovedAndReadded() {
+    ListMultimap<Integer, Integer> multimap = create();
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 1000; i++) {
+        multimap.put(i, round);
+      }
+      for (int i = 0; i < 1000; i += 2) {
+        multimap.removeAll(i);
+      }
+    }
+    assertEquals(500, multimap.keySet().size());
+    assertThat(multimap.get(1)).containsExactly(0, 1, 2, 3, 4).inOrder();
+    assertFalse(multimap.containsKey(998));
+    assertThat(Iterables.limit(multimap.keySet(), 3)).containsExactly(1, 3, 5).inOrder();
+  }
+
+  public void testGetViewFollowsKey() {
+    ListMultimap<String, Integer> multimap = create();
+    List<Integer> view = multimap.get("a");
+    view.add(1);
+    multimap.put("b", 2);
+    view.add(0, 0);
+    assertThat(multimap.get("a")).containsExactly(0, 1).inOrder();
+    multimap.removeAll("a");
+    assertThat(view).isEmpty();
+    multimap.put("a", 3);
+    assertThat(view).containsExactly(3);
+    view.clear();
+    assertThat(multimap.keySet()).containsExactly("b");
+  }
+
+  public void testBuilderRejectsNegativeArguments() {
+    assertThrows(IllegalArgumentException.class, () -> MultimapBuilder.compactKeys(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MultimapBuilder.compactKeys().compactListValues(-1));
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.testing.SerializableTester.reserializeAndAssert;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/** Test cases for {@link CompactTable}. */
+@GwtCompatible
+@NullMarked
+public class CompactTableTest extends AbstractTableTest<Character> {
+
+  @Override
+  protected Table<String, Integer, Character> create(@Nullable Object... data) {
+    Table<String, Integer, Character> table = CompactTable.create();
+    table.put("foo", 4, 'a');
+    table.put("cat", 1, 'b');
+    table.clear();
+    populate(table, data);
+    return table;
+  }
+
+  public void testIterationOrder() {
+    Table<String, String, String> table = CompactTable.create();
+    for (int i = 0; i < 5; i++) {
+      table.put("r" + i, "c" + i, "v" + i);
+    }
+    assertThat(table.rowKeySet()).containsExactly("r0", "r1", "r2", "r3", "r4").inOrder();
+    assertThat(table.columnKeySet()).containsExactly("c0", "c1", "c2", "c3", "c4").inOrder();
+    assertThat(table.values()).containsExactly("v0", "v1", "v2", "v3", "v4").inOrder();
+  }
+
+  public void testColumnIterationOrder() {
+    Table<String, Integer, Character> table =
+        create("foo", 1, 'a', "bar", 2, 'b', "baz", 1, 'c', "foo", 2, 'd');
+    assertThat(table.column(1).keySet()).containsExactly("foo", "baz").inOrder();
+    assertThat(table.column(2).values()).containsExactly('b', 'd').inOrder();
+  }
+
+  public void testRemoveThenPut() {
+    table = create("foo", 1, 'a', "bar", 1, 'b', "foo", 3, 'c');
+    table.remove("foo", 1);
+    table.remove("foo", 3);
+    assertFalse(table.containsRow("foo"));
+    assertThat(table.rowKeySet()).containsExactly("bar");
+    table.put("foo", 3, 'd');
+    assertTrue(table.containsRow("foo"));
+    assertThat(table.row("foo")).containsExactly(3, 'd');
+    assertThat(table.column(3)).containsExactly("foo", 'd');
+    assertThat(table.column(1)).containsExactly("bar", 'b');
+  }
+
+  public void testCompaction() {
+    CompactTable<Integer, Integer, Integer> table = CompactTable.create();
+    for (int i = 0; i < 1000; i++) {
+      table.put(i, i % 10, i);
+      if (i % 3 != 0) {
+        table.remove(i, i % 10);
+      }
+    }
+    assertEquals(334, table.size());
+    assertEquals(334, table.rowKeySet().size());
+    assertEquals(10, table.columnKeySet().size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i % 3 == 0 ? (Integer) i : null, table.get(i, i % 10));
+    }
+    assertEquals(34, table.column(0).size());
+    assertThat(Iterables.limit(table.column(0).keySet(), 4))
+        .containsExactly(0, 30, 60, 90)
+        .inOrder();
+  }
+
+  public void testRowIteratorRemove() {
+    table = create("foo", 1, 'a', "bar", 1, 'b', "foo", 3, 'c', "foo", 4, 'd');
+    Iterator<Map.Entry<Integer, Character>> iterator = table.row("foo").entrySet().iterator();
+    iterator.next();
+    iterator.remove();
+    iterator.next().setValue('e');
+    assertThat(table.row("foo")).containsExactly(3, 'e', 4, 'd').inOrder();
+    assertThat(table.column(1)).containsExactly("bar", 'b');
+    assertSize(3);
+  }
+
+  public void testRowEntryAfterCompaction() {
+    table = create("bar", 1, 'a', "foo", 1, 'b', "foo", 2, 'c');
+    Map.Entry<Integer, Character> entry = table.row("foo").entrySet().iterator().next();
+    Map.Entry<String, Character> columnEntry = table.column(2).entrySet().iterator().next();
+    table.remove("bar", 1);
+    // Adding cells compacts the arrays, which moves the remaining cells to new indices.
+    for (int i = 0; i < 20; i++) {
+      table.put("baz", i + 10, 'x');
+    }
+    assertEquals((Integer) 1, entry.getKey());
+    assertEquals((Character) 'b', entry.getValue());
+    assertEquals((Character) 'b', entry.setValue('d'));
+    assertEquals((Character) 'd', table.get("foo", 1));
+    assertEquals((Character) 'c', columnEntry.getValue());
+
+    table.remove("foo", 1);
+    assertThrows(IllegalStateException.class, entry::getValue);
+  }
+
+  public void testIteratorConcurrentModification() {
+    table = create("foo", 1, 'a', "bar", 1, 'b');
+    Iterator<Table.Cell<String, Integer, Character>> iterator = table.cellSet().iterator();
+    iterator.next();
+    table.put("baz", 2, 'c');
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  public void testCreateWithValidSizes() {
+    Table<String, Integer, Character> table1 = CompactTable.create(100, 20, 500);
+    table1.put("foo", 1, 'a');
+    assertEquals((Character) 'a', table1.get("foo", 1));
+
+    Table<String, Integer, Character> table2 = CompactTable.create(100, 20, 0);
+    table2.put("foo", 1, 'a');
+    assertEquals((Character) 'a', table2.get("foo", 1));
+
+    Table<String, Integer, Character> table3 = CompactTable.create(0, 0, 20);
+    table3.put("foo", 1, 'a');
+    assertEquals((Character) 'a', table3.get("foo", 1));
+
+    Table<String, Integer, Character> table4 = CompactTable.create(0, 0, 0);
+    table4.put("foo", 1, 'a');
+    assertEquals((Character) 'a', table4.get("foo", 1));
+  }
+
+  public void testCreateWithInvalidSizes() {
+    assertThrows(IllegalArgumentException.class, () -> CompactTable.create(-5, 20, 100));
+
+    assertThrows(IllegalArgumentException.class, () -> CompactTable.create(100, -5, 100));
+
+    assertThrows(IllegalArgumentException.class, () -> CompactTable.create(100, 20, -5));
+  }
+
+  public void testCreateCopy() {
+    Table<String, Integer, Character> original =
+        create("foo", 1, 'a', "bar", 1, 'b', "foo", 3, 'c');
+    Table<String, Integer, Character> copy = CompactTable.create(original);
+    assertEquals(original, copy);
+    assertEquals((Character) 'a', copy.get("foo", 1));
+  }
+
+  @J2ktIncompatible
+  @GwtIncompatible // SerializableTester
+  public void testSerialization() {
+    table = create("foo", 1, 'a', "bar", 1, 'b', "foo", 3, 'c');
+    reserializeAndAssert(table);
+  }
+
+  @J2ktIncompatible
+  @GwtIncompatible // NullPointerTester
+  public void testNullPointerStatic() {
+    new NullPointerTester().testAllPublicStaticMethods(CompactTable.class);
+  }
+}
@@ -62,10 +62,22 @@ public class ConcurrentHashMultisetBasherTest extends TestCase {
     testAddAndRemove(mapMaker.makeMap());
   }
 
+  public void testAddAndRemove_striped() throws Exception {
+    testAddAndRemove(ConcurrentHashMultiset.createStriped());
+  }
+
   private void testAddAndRemove(ConcurrentMap<String, AtomicInteger> map)
       throws ExecutionException, InterruptedException {
+    testAddAndRemove(ConcurrentHashMultiset.create(map));
+
+    // Since we have access to the backing map, verify that there are no zeroes in the map
+    for (AtomicInteger value : map.values()) {
+      assertTrue("map should not contain a zero", value.get() != 0);
+    }
+  }
 
-    ConcurrentHashMultiset<String> multiset = ConcurrentHashMultiset.create(map);
+  private void testAddAndRemove(ConcurrentHashMultiset<String> multiset)
+      throws ExecutionException, InterruptedException {
     int nThreads = 20;
     int tasksPerThread = 10;
     int nTasks = nThreads * tasksPerThread;
@@ -90,11 +102,6 @@ public class ConcurrentHashMultisetBasherTest extends TestCase {
     } finally {
       pool.shutdownNow();
     }
-
-    // Since we have access to the backing map, verify that there are no zeroes in the map
-    for (AtomicInteger value : map.values()) {
-      assertTrue("map should not contain a zero", value.get() != 0);
-    }
   }
 
   private static class MutateTask implements Callable<int[]> {
@@ -23,9 +23,11 @@ import static com.google.common.testing.SerializableTester.reserializeAndAssert;
 import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Equivalence;
@@ -76,6 +78,15 @@ public class ConcurrentHashMultisetTest extends TestCase {
                 CollectionFeature.ALLOWS_NULL_QUERIES)
             .named("ConcurrentSkipListMultiset")
             .createTestSuite());
+    suite.addTest(
+        MultisetTestSuiteBuilder.using(stripedConcurrentHashMultisetGenerator())
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.GENERAL_PURPOSE,
+                CollectionFeature.SERIALIZABLE,
+                CollectionFeature.ALLOWS_NULL_QUERIES)
+            .named("ConcurrentHashMultiset.createStriped")
+            .createTestSuite());
     suite.addTestSuite(ConcurrentHashMultisetTest.class);
     return suite;
   }
@@ -90,6 +101,18 @@ public class ConcurrentHashMultisetTest extends TestCase {
     };
   }
 
+  @AndroidIncompatible // test-suite builders
+  private static TestStringMultisetGenerator stripedConcurrentHashMultisetGenerator() {
+    return new TestStringMultisetGenerator() {
+      @Override
+      protected Multiset<String> create(String[] elements) {
+        Multiset<String> multiset = ConcurrentHashMultiset.createStriped();
+        Collections.addAll(multiset, elements);
+        return multiset;
+      }
+    };
+  }
+
   @AndroidIncompatible // test-suite builders
   private static TestStringMultisetGenerator concurrentSkipListMultisetGenerator() {
     return new TestStringMultisetGenerator() {
@@ -372,6 +395,34 @@ public class ConcurrentHashMultisetTest extends TestCase {
     reserializeAndAssert(multiset);
   }
 
+  public void testCreateStriped() {
+    ConcurrentHashMultiset<Integer> multiset = ConcurrentHashMultiset.createStriped();
+    assertTrue(multiset.isEmpty());
+    multiset.add(1, 3);
+    multiset.add(2);
+    ConcurrentHashMultiset<Integer> copy = reserializeAndAssert(multiset);
+    assertEquals(3, copy.add(1, 2));
+    assertEquals(5, copy.count(1));
+  }
+
+  public void testAddAll_tallied() {
+    when(backingMap.get(KEY)).thenReturn(null);
+    when(backingMap.putIfAbsent(eq(KEY), isA(AtomicInteger.class))).thenReturn(null);
+    when(backingMap.get("kittens")).thenReturn(null);
+    when(backingMap.putIfAbsent(eq("kittens"), isA(AtomicInteger.class))).thenReturn(null);
+
+    assertTrue(multiset.addAll(asList(KEY, "kittens", KEY, KEY)));
+
+    verify(backingMap).putIfAbsent(eq(KEY), argThat(counter -> counter.get() == 3));
+    verify(backingMap).putIfAbsent(eq("kittens"), argThat(counter -> counter.get() == 1));
+  }
+
+  public void testAddAll_nullElement() {
+    ConcurrentHashMultiset<String> multiset = ConcurrentHashMultiset.create();
+    assertThrows(NullPointerException.class, () -> multiset.addAll(asList(KEY, null)));
+    assertTrue(multiset.isEmpty());
+  }
+
   public void testIdentityKeyEquality_strongKeys() {
     testIdentityKeyEquality(STRONG);
   }
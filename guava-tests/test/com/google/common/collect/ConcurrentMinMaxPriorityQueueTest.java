@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.testing.QueueTestSuiteBuilder;
+import com.google.common.collect.testing.TestStringQueueGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit test for {@link ConcurrentMinMaxPriorityQueue}. */
+@J2ktIncompatible
+@GwtIncompatible
+@NullUnmarked
+public class ConcurrentMinMaxPriorityQueueTest extends TestCase {
+
+  @AndroidIncompatible // test-suite builders
+  public static Test suite() {
+    TestSuite suite = new TestSuite();
+    suite.addTestSuite(ConcurrentMinMaxPriorityQueueTest.class);
+    suite.addTest(
+        QueueTestSuiteBuilder.using(
+                new TestStringQueueGenerator() {
+                  @Override
+                  protected Queue<String> create(String[] elements) {
+                    Queue<String> queue =
+                        MinMaxPriorityQueue.<String>orderedBy(Ordering.natural())
+                            .createConcurrent();
+                    queue.addAll(asList(elements));
+                    return queue;
+                  }
+                })
+            .named("ConcurrentMinMaxPriorityQueue")
+            .withFeatures(CollectionSize.ANY, CollectionFeature.GENERAL_PURPOSE)
+            .createTestSuite());
+    return suite;
+  }
+
+  public void testBothEnds() {
+    ConcurrentMinMaxPriorityQueue<Integer> queue =
+        MinMaxPriorityQueue.<Integer>orderedBy(Ordering.natural()).createConcurrent();
+    queue.addAll(asList(4, 1, 9, 3));
+    assertEquals((Integer) 1, queue.peekFirst());
+    assertEquals((Integer) 9, queue.peekLast());
+    assertEquals((Integer) 9, queue.pollLast());
+    assertEquals((Integer) 1, queue.poll());
+    assertThat(queue).containsExactly(3, 4);
+  }
+
+  public void testMaximumSize_rejectsWithoutEvicting() {
+    ConcurrentMinMaxPriorityQueue<Integer> queue =
+        MinMaxPriorityQueue.<Integer>orderedBy(Ordering.natural())
+            .maximumSize(3)
+            .createConcurrent();
+    assertTrue(queue.offer(5));
+    assertTrue(queue.offer(7));
+    assertTrue(queue.offer(6));
+    assertFalse(queue.offer(7));
+    assertFalse(queue.offer(8));
+    assertTrue(queue.add(8));
+    assertTrue(queue.offer(1));
+    assertThat(queue).containsExactly(1, 5, 6);
+    assertEquals((Integer) 1, queue.pollFirst());
+    // No longer full, so a large element is retained.
+    assertTrue(queue.offer(100));
+    assertEquals((Integer) 100, queue.peekLast());
+  }
+
+  public void testDrainTo() {
+    ConcurrentMinMaxPriorityQueue<Integer> queue =
+        MinMaxPriorityQueue.<Integer>orderedBy(Ordering.natural())
+            .maximumSize(2)
+            .createConcurrent();
+    queue.addAll(asList(3, 1, 2));
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(2, queue.drainTo(drained));
+    assertThat(drained).containsExactly(1, 2).inOrder();
+    assertTrue(queue.isEmpty());
+    assertTrue(queue.offer(50));
+  }
+
+  public void testIteratorIsSnapshot() {
+    ConcurrentMinMaxPriorityQueue<Integer> queue =
+        MinMaxPriorityQueue.<Integer>orderedBy(Ordering.natural()).createConcurrent();
+    queue.addAll(asList(1, 2, 3));
+    Iterator<Integer> iterator = queue.iterator();
+    queue.add(4);
+    List<Integer> seen = new ArrayList<>();
+    while (iterator.hasNext()) {
+      Integer next = iterator.next();
+      seen.add(next);
+      if (next == 2) {
+        iterator.remove();
+      }
+    }
+    assertThat(seen).containsExactly(1, 2, 3);
+    assertThat(queue).containsExactly(1, 3, 4);
+  }
+
+  public void testConcurrentTopN() throws Exception {
+    int threads = 4;
+    int perThread = 50_000;
+    ConcurrentMinMaxPriorityQueue<Integer> queue =
+        MinMaxPriorityQueue.<Integer>orderedBy(Ordering.natural())
+            .maximumSize(100)
+            .createConcurrent();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = perThread - 1; i >= 0; i--) {
+                    queue.offer(i * threads + offset);
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    List<Integer> drained = new ArrayList<>();
+    queue.drainTo(drained);
+    assertThat(drained).containsExactlyElementsIn(ContiguousSet.closedOpen(0, 100)).inOrder();
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.BoundType.CLOSED;
+import static com.google.common.collect.BoundType.OPEN;
+import static com.google.common.testing.SerializableTester.reserializeAndAssert;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.google.SortedMultisetTestSuiteBuilder;
+import com.google.common.collect.testing.google.TestStringMultisetGenerator;
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jspecify.annotations.NullMarked;
+
+/** Tests for {@link ConcurrentSkipListMultiset}. */
+@J2ktIncompatible
+@GwtIncompatible
+@NullMarked
+public class ConcurrentSkipListMultisetTest extends TestCase {
+
+  @AndroidIncompatible // test-suite builders
+  public static Test suite() {
+    TestSuite suite = new TestSuite();
+    suite.addTest(
+        SortedMultisetTestSuiteBuilder.using(
+                new TestStringMultisetGenerator() {
+                  @Override
+                  protected Multiset<String> create(String[] elements) {
+                    return ConcurrentSkipListMultiset.create(asList(elements));
+                  }
+
+                  @Override
+                  public List<String> order(List<String> insertionOrder) {
+                    return Ordering.natural().sortedCopy(insertionOrder);
+                  }
+                })
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.KNOWN_ORDER,
+                CollectionFeature.GENERAL_PURPOSE,
+                CollectionFeature.SERIALIZABLE,
+                CollectionFeature.ALLOWS_NULL_QUERIES)
+            .named("ConcurrentSkipListMultiset, Ordering.natural")
+            .createTestSuite());
+    suite.addTest(
+        SortedMultisetTestSuiteBuilder.using(
+                new TestStringMultisetGenerator() {
+                  @Override
+                  protected Multiset<String> create(String[] elements) {
+                    Multiset<String> result =
+                        ConcurrentSkipListMultiset.create(Ordering.<String>natural().reverse());
+                    Collections.addAll(result, elements);
+                    return result;
+                  }
+
+                  @Override
+                  public List<String> order(List<String> insertionOrder) {
+                    return Ordering.natural().reverse().sortedCopy(insertionOrder);
+                  }
+                })
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.KNOWN_ORDER,
+                CollectionFeature.GENERAL_PURPOSE,
+                CollectionFeature.SERIALIZABLE,
+                CollectionFeature.ALLOWS_NULL_QUERIES)
+            .named("ConcurrentSkipListMultiset, reverse order")
+            .createTestSuite());
+    suite.addTestSuite(ConcurrentSkipListMultisetTest.class);
+    return suite;
+  }
+
+  public void testCreate() {
+    ConcurrentSkipListMultiset<String> multiset = ConcurrentSkipListMultiset.create();
+    multiset.add("foo", 2);
+    multiset.add("bar");
+    assertEquals(3, multiset.size());
+    assertEquals(2, multiset.count("foo"));
+    assertEquals(Ordering.natural(), multiset.comparator());
+    assertThat(multiset.toString()).isEqualTo("[bar, foo x 2]");
+  }
+
+  public void testCreateWithComparator() {
+    Multiset<String> multiset = ConcurrentSkipListMultiset.create(Collections.reverseOrder());
+    multiset.add("foo", 2);
+    multiset.add("bar");
+    assertEquals(3, multiset.size());
+    assertThat(multiset.toString()).isEqualTo("[foo x 2, bar]");
+  }
+
+  public void testCreateFromIterable() {
+    Multiset<String> multiset = ConcurrentSkipListMultiset.create(asList("foo", "bar", "foo"));
+    assertEquals(TreeMultiset.create(asList("foo", "bar", "foo")), multiset);
+    assertThat(multiset.toString()).isEqualTo("[bar, foo x 2]");
+  }
+
+  public void testViewsShareCounts() {
+    ConcurrentSkipListMultiset<Integer> multiset = ConcurrentSkipListMultiset.create();
+    for (int i = 0; i < 10; i++) {
+      multiset.add(i, i + 1);
+    }
+    SortedMultiset<Integer> view = multiset.subMultiset(2, OPEN, 6, CLOSED);
+    assertThat(view.elementSet()).containsExactly(3, 4, 5, 6).inOrder();
+    assertEquals(4 + 5 + 6 + 7, view.size());
+
+    view.add(4, 10);
+    assertEquals(15, multiset.count(4));
+    multiset.remove(5, 6);
+    assertFalse(view.contains(5));
+    assertEquals(0, view.count(8));
+    assertThrows(IllegalArgumentException.class, () -> view.add(8));
+    assertThrows(IllegalArgumentException.class, () -> view.setCount(2, 1));
+    assertEquals(0, view.setCount(8, 0));
+
+    // Narrowing a view past its own bounds yields an empty view rather than an exception.
+    SortedMultiset<Integer> narrowed = view.headMultiset(8, CLOSED).tailMultiset(7, OPEN);
+    assertTrue(narrowed.isEmpty());
+    assertThat(view.descendingMultiset().elementSet()).containsExactly(6, 4, 3).inOrder();
+  }
+
+  public void testPollEntries() {
+    ConcurrentSkipListMultiset<String> multiset =
+        ConcurrentSkipListMultiset.create(asList("a", "b", "b", "c", "c", "c"));
+    assertEquals(Multisets.immutableEntry("a", 1), multiset.pollFirstEntry());
+    assertEquals(Multisets.immutableEntry("c", 3), multiset.pollLastEntry());
+    assertEquals(Multisets.immutableEntry("b", 2), multiset.tailMultiset("b", CLOSED).firstEntry());
+    assertEquals(Multisets.immutableEntry("b", 2), multiset.pollLastEntry());
+    assertNull(multiset.pollFirstEntry());
+    assertNull(multiset.pollLastEntry());
+    assertTrue(multiset.isEmpty());
+  }
+
+  public void testRemoveExactly() {
+    ConcurrentSkipListMultiset<String> multiset =
+        ConcurrentSkipListMultiset.create(asList("a", "b", "b"));
+    assertFalse(multiset.removeExactly("b", 3));
+    assertTrue(multiset.removeExactly("b", 2));
+    assertThat(multiset).containsExactly("a");
+  }
+
+  public void testConcurrentPolls() throws Exception {
+    int elements = 1000;
+    ConcurrentSkipListMultiset<Integer> multiset = ConcurrentSkipListMultiset.create();
+    for (int i = 0; i < elements; i++) {
+      multiset.add(i, 3);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<Multiset.Entry<Integer>>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<Multiset.Entry<Integer>> polled = new ArrayList<>();
+                  Multiset.Entry<Integer> entry;
+                  while ((entry = multiset.pollFirstEntry()) != null) {
+                    polled.add(entry);
+                  }
+                  return polled;
+                }));
+      }
+      Multiset<Integer> polled = HashMultiset.create();
+      for (Future<List<Multiset.Entry<Integer>>> future : futures) {
+        for (Multiset.Entry<Integer> entry : future.get(10, SECONDS)) {
+          assertEquals(3, entry.getCount());
+          polled.add(entry.getElement(), entry.getCount());
+        }
+      }
+      assertEquals(elements, polled.elementSet().size());
+      assertEquals(3 * elements, polled.size());
+      assertTrue(multiset.isEmpty());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testSerializationOfView() {
+    ConcurrentSkipListMultiset<String> multiset =
+        ConcurrentSkipListMultiset.create(asList("a", "b", "b", "c"));
+    reserializeAndAssert(multiset);
+    reserializeAndAssert(multiset.headMultiset("b", CLOSED));
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(ConcurrentSkipListMultiset.class);
+    tester.testAllPublicInstanceMethods(ConcurrentSkipListMultiset.<String>create());
+  }
+}
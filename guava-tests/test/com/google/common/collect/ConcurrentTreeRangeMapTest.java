@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link ConcurrentTreeRangeMap}. */
+@J2ktIncompatible
+@GwtIncompatible // NavigableMap
+@NullUnmarked
+public class ConcurrentTreeRangeMapTest extends TestCase {
+
+  public void testAgainstTreeRangeMap() {
+    Random random = new Random(0);
+    RangeMap<Integer, Integer> rangeMap = ConcurrentTreeRangeMap.create();
+    RangeMap<Integer, Integer> expected = TreeRangeMap.create();
+    for (int i = 0; i < 1000; i++) {
+      int lower = random.nextInt(100);
+      Range<Integer> range = Range.closedOpen(lower, lower + random.nextInt(10));
+      int value = random.nextInt(3);
+      switch (random.nextInt(5)) {
+        case 0:
+          rangeMap.put(range, value);
+          expected.put(range, value);
+          break;
+        case 1:
+          rangeMap.putCoalescing(range, value);
+          expected.putCoalescing(range, value);
+          break;
+        case 2:
+          rangeMap.remove(range);
+          expected.remove(range);
+          break;
+        case 3:
+          rangeMap.merge(range, value, (a, b) -> a + b > 3 ? null : a + b);
+          expected.merge(range, value, (a, b) -> a + b > 3 ? null : a + b);
+          break;
+        default:
+          Range<Integer> subRange = Range.closed(lower, lower + 10);
+          rangeMap.subRangeMap(subRange).put(range, value);
+          expected.subRangeMap(subRange).put(range, value);
+      }
+      assertEquals(expected, rangeMap);
+      assertEquals(expected.toString(), rangeMap.toString());
+    }
+  }
+
+  public void testPutSplitsExistingRange() {
+    RangeMap<Integer, String> rangeMap = ConcurrentTreeRangeMap.create();
+    rangeMap.put(Range.closed(0, 20), "a");
+    rangeMap.put(Range.closedOpen(5, 10), "b");
+    assertThat(rangeMap.asMapOfRanges())
+        .containsExactly(
+            Range.closedOpen(0, 5), "a", Range.closedOpen(5, 10), "b", Range.closed(10, 20), "a")
+        .inOrder();
+    assertEquals("b", rangeMap.get(7));
+    assertEquals(Range.closed(10, 20), rangeMap.getEntry(15).getKey());
+    assertEquals(Range.closed(0, 20), rangeMap.span());
+  }
+
+  public void testSubRangeMapWritesThrough() {
+    RangeMap<Integer, String> rangeMap = ConcurrentTreeRangeMap.create();
+    rangeMap.put(Range.closed(0, 20), "a");
+    RangeMap<Integer, String> subRangeMap = rangeMap.subRangeMap(Range.closed(5, 10));
+    subRangeMap.put(Range.closed(6, 8), "b");
+    subRangeMap.remove(Range.closed(9, 10));
+    assertEquals("b", rangeMap.get(7));
+    assertNull(rangeMap.get(9));
+    assertEquals("a", rangeMap.get(11));
+    assertThat(subRangeMap.asMapOfRanges())
+        .containsExactly(
+            Range.closedOpen(5, 6), "a", Range.closed(6, 8), "b", Range.open(8, 9), "a")
+        .inOrder();
+  }
+
+  public void testAsMapOfRangesUnmodifiable() {
+    RangeMap<Integer, String> rangeMap = ConcurrentTreeRangeMap.create();
+    rangeMap.put(Range.closed(0, 20), "a");
+    assertThrows(UnsupportedOperationException.class, () -> rangeMap.asMapOfRanges().clear());
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> rangeMap.asDescendingMapOfRanges().remove(Range.closed(0, 20)));
+  }
+
+  public void testCopyOf() {
+    RangeMap<Integer, String> expected = TreeRangeMap.create();
+    expected.put(Range.closed(0, 3), "a");
+    expected.put(Range.open(5, 8), "b");
+    ConcurrentTreeRangeMap<Integer, String> copy = ConcurrentTreeRangeMap.copyOf(expected);
+    assertEquals(expected, copy);
+    assertEquals(expected.hashCode(), copy.hashCode());
+  }
+
+  public void testConcurrentUpdatesDoNotUnmapKeys() throws Exception {
+    ConcurrentTreeRangeMap<Integer, Integer> rangeMap = ConcurrentTreeRangeMap.create();
+    rangeMap.put(Range.closedOpen(0, 1000), 0);
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<Future<?>> writers = new ArrayList<>();
+      for (int t = 0; t < 2; t++) {
+        int seed = t;
+        writers.add(
+            executor.submit(
+                () -> {
+                  Random random = new Random(seed);
+                  for (int i = 0; i < 20_000; i++) {
+                    int lower = random.nextInt(1000);
+                    Range<Integer> range =
+                        Range.closedOpen(lower, Math.min(1000, lower + random.nextInt(50)));
+                    rangeMap.put(range, random.nextInt(5));
+                    rangeMap.merge(range, 1, Integer::sum);
+                  }
+                }));
+      }
+      Future<Integer> reader =
+          executor.submit(
+              () -> {
+                Random random = new Random(2);
+                int misses = 0;
+                while (!done.get()) {
+                  if (rangeMap.get(random.nextInt(1000)) == null) {
+                    misses++;
+                  }
+                }
+                return misses;
+              });
+      for (Future<?> writer : writers) {
+        writer.get(30, SECONDS);
+      }
+      done.set(true);
+      assertEquals(0, (int) reader.get(10, SECONDS));
+      assertEquals(Range.closedOpen(0, 1000), rangeMap.span());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(ConcurrentTreeRangeMap.class);
+    tester.testAllPublicInstanceMethods(ConcurrentTreeRangeMap.create());
+  }
+}
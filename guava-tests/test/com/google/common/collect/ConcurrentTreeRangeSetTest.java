@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.testing.SerializableTester.reserializeAndAssert;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link ConcurrentTreeRangeSet}. */
+@J2ktIncompatible
+@GwtIncompatible // ConcurrentTreeRangeSet
+@NullUnmarked
+public class ConcurrentTreeRangeSetTest extends AbstractRangeSetTest {
+
+  public void testAgainstTreeRangeSet() {
+    Random random = new Random(0);
+    RangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    RangeSet<Integer> expected = TreeRangeSet.create();
+    for (int i = 0; i < 1000; i++) {
+      int lower = random.nextInt(100);
+      Range<Integer> range =
+          random.nextBoolean()
+              ? Range.closed(lower, lower + random.nextInt(10))
+              : Range.closedOpen(lower, lower + random.nextInt(10));
+      switch (random.nextInt(4)) {
+        case 0:
+        case 1:
+          rangeSet.add(range);
+          expected.add(range);
+          break;
+        case 2:
+          rangeSet.remove(range);
+          expected.remove(range);
+          break;
+        default:
+          rangeSet.complement().remove(range);
+          expected.complement().remove(range);
+      }
+      assertEquals(expected, rangeSet);
+      testInvariants(rangeSet);
+    }
+  }
+
+  public void testCoalescing() {
+    RangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    rangeSet.add(Range.closed(1, 3));
+    rangeSet.add(Range.closed(5, 7));
+    rangeSet.add(Range.open(9, 10));
+    rangeSet.add(Range.closed(2, 6));
+    assertThat(rangeSet.asRanges()).containsExactly(Range.closed(1, 7), Range.open(9, 10));
+    rangeSet.remove(Range.open(2, 4));
+    assertThat(rangeSet.asRanges())
+        .containsExactly(Range.closed(1, 2), Range.closed(4, 7), Range.open(9, 10))
+        .inOrder();
+    assertEquals(Range.closed(4, 7), rangeSet.rangeContaining(5));
+    assertTrue(rangeSet.encloses(Range.closed(5, 6)));
+    assertEquals(Range.closedOpen(1, 10), rangeSet.span());
+  }
+
+  public void testViewsWriteThrough() {
+    RangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    rangeSet.add(Range.closed(1, 10));
+    RangeSet<Integer> subRangeSet = rangeSet.subRangeSet(Range.closed(5, 20));
+    assertThat(subRangeSet.asRanges()).containsExactly(Range.closed(5, 10));
+    subRangeSet.add(Range.closed(12, 15));
+    subRangeSet.remove(Range.open(6, 8));
+    assertThat(rangeSet.asRanges())
+        .containsExactly(Range.closed(1, 6), Range.closed(8, 10), Range.closed(12, 15))
+        .inOrder();
+    rangeSet.complement().add(Range.closed(2, 3));
+    assertFalse(rangeSet.contains(2));
+    assertEquals(rangeSet, rangeSet.complement().complement());
+  }
+
+  public void testAsRangesUnmodifiable() {
+    RangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    rangeSet.add(Range.closed(1, 10));
+    assertThrows(UnsupportedOperationException.class, () -> rangeSet.asRanges().clear());
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> rangeSet.asDescendingSetOfRanges().remove(Range.closed(1, 10)));
+  }
+
+  public void testConcurrentUpdatesDoNotHideStableRanges() throws Exception {
+    ConcurrentTreeRangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    rangeSet.add(Range.closedOpen(0, 1000));
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<Future<?>> writers = new ArrayList<>();
+      for (int t = 0; t < 2; t++) {
+        int seed = t;
+        writers.add(
+            executor.submit(
+                () -> {
+                  Random random = new Random(seed);
+                  for (int i = 0; i < 20_000; i++) {
+                    int lower = random.nextInt(2000);
+                    int upper = lower + random.nextInt(50);
+                    rangeSet.add(Range.closed(lower, upper));
+                    rangeSet.remove(Range.closedOpen(Math.max(lower, 1000), Math.max(upper, 1000)));
+                  }
+                }));
+      }
+      Future<Integer> reader =
+          executor.submit(
+              () -> {
+                Random random = new Random(2);
+                int misses = 0;
+                while (!done.get()) {
+                  if (!rangeSet.contains(random.nextInt(1000))) {
+                    misses++;
+                  }
+                }
+                return misses;
+              });
+      for (Future<?> writer : writers) {
+        writer.get(30, SECONDS);
+      }
+      done.set(true);
+      assertEquals(0, (int) reader.get(10, SECONDS));
+      assertTrue(rangeSet.encloses(Range.closedOpen(0, 1000)));
+      testInvariants(rangeSet);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testCreateCopies() {
+    RangeSet<Integer> expected = TreeRangeSet.create();
+    expected.add(Range.closed(1, 3));
+    expected.add(Range.closed(5, 8));
+    assertEquals(expected, ConcurrentTreeRangeSet.create(expected));
+    assertEquals(expected, ConcurrentTreeRangeSet.create(expected.asRanges()));
+  }
+
+  public void testSerialization() {
+    RangeSet<Integer> rangeSet = ConcurrentTreeRangeSet.create();
+    rangeSet.add(Range.closed(1, 3));
+    rangeSet.add(Range.greaterThan(8));
+    reserializeAndAssert(rangeSet);
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(ConcurrentTreeRangeSet.class);
+    tester.testAllPublicInstanceMethods(ConcurrentTreeRangeSet.create());
+  }
+}
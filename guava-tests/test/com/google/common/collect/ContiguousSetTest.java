@@ -35,6 +35,7 @@ import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.collect.testing.NavigableSetTestSuiteBuilder;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.collect.testing.google.SetGenerators.ContiguousSetDescendingGenerator;
 import com.google.common.collect.testing.google.SetGenerators.ContiguousSetGenerator;
@@ -44,6 +45,7 @@ import com.google.common.collect.testing.google.SetGenerators.ContiguousSetTails
 import com.google.common.testing.EqualsTester;
 import java.util.Collection;
 import java.util.Set;
+import java.util.Spliterator;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -399,6 +401,17 @@ public class ContiguousSetTest extends TestCase {
     assertEquals(ImmutableList.of(1, 2, 3), ImmutableList.copyOf(list.toArray(new Integer[0])));
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testSpliterator() {
+    SpliteratorTester.of(() -> ContiguousSet.closed(1, 5).spliterator())
+        .expect(1, 2, 3, 4, 5)
+        .inOrder();
+    Spliterator<Long> spliterator = ContiguousSet.closed(0L, 1L << 20).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.SORTED));
+    long prefixSize = spliterator.trySplit().estimateSize();
+    assertEquals((1L << 20) + 1, prefixSize + spliterator.estimateSize());
+  }
+
   @J2ktIncompatible
   @GwtIncompatible // suite
   @AndroidIncompatible // test-suite builders
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.Tables.immutableCell;
+import static com.google.common.testing.SerializableTester.reserializeAndAssert;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.Map;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullMarked;
+
+/** Tests for {@link DoubleArrayTable}. */
+@GwtCompatible
+@NullMarked
+public class DoubleArrayTableTest extends TestCase {
+
+  private static DoubleArrayTable<String, Integer> create() {
+    DoubleArrayTable<String, Integer> table =
+        DoubleArrayTable.create(asList("foo", "bar", "cat"), asList(1, 2));
+    table.putDouble("foo", 1, 1.5);
+    table.putDouble("bar", 2, -2.0);
+    table.putDouble("cat", 1, 3.25);
+    return table;
+  }
+
+  public void testCreate_filledWithZero() {
+    DoubleArrayTable<String, Integer> table =
+        DoubleArrayTable.create(asList("foo", "bar"), asList(1, 2, 3));
+    assertEquals(6, table.size());
+    assertEquals(0.0, table.getDouble("bar", 3));
+    assertEquals((Double) 0.0, table.get("foo", 2));
+    assertThat(table.values()).containsExactly(0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+  }
+
+  public void testCreate_invalid() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DoubleArrayTable.create(asList("foo", "foo"), asList(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DoubleArrayTable.create(asList("foo"), ImmutableList.<Integer>of()));
+  }
+
+  public void testCreate_empty() {
+    DoubleArrayTable<String, Integer> table =
+        DoubleArrayTable.create(ImmutableList.<String>of(), ImmutableList.<Integer>of());
+    assertTrue(table.isEmpty());
+    assertEquals(0, table.size());
+    assertEquals(HashBasedTable.create(), table);
+  }
+
+  public void testGetAndPut() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertEquals(1.5, table.getDouble("foo", 1));
+    assertEquals((Double) 1.5, table.get("foo", 1));
+    assertNull(table.get("foo", 3));
+    assertNull(table.get("dog", 1));
+    assertEquals(1.5, table.putDouble("foo", 1, 4.0));
+    assertEquals((Double) 4.0, table.put("foo", 1, (Double) 5.0));
+    assertEquals(5.0, table.at(0, 0));
+    assertEquals(-2.0, table.set(1, 1, 7.0));
+    assertEquals(7.0, table.getDouble("bar", 2));
+    assertThrows(IllegalArgumentException.class, () -> table.putDouble("dog", 1, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> table.getDouble("foo", 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> table.at(3, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> table.set(0, 2, 1.0));
+  }
+
+  public void testRowAndColumnOperations() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertThat(table.getRow("cat")).usingExactEquality().containsExactly(3.25, 0.0).inOrder();
+    assertThat(table.getColumn(1))
+        .usingExactEquality()
+        .containsExactly(1.5, 0.0, 3.25)
+        .inOrder();
+
+    table.setRow("bar", new double[] {8.0, 9.0});
+    table.setColumn(2, new double[] {10.0, 11.0, 12.0});
+    assertThat(table.toArray())
+        .isEqualTo(new double[][] {{1.5, 10.0}, {8.0, 11.0}, {3.25, 12.0}});
+
+    assertThrows(IllegalArgumentException.class, () -> table.setRow("foo", new double[3]));
+    assertThrows(IllegalArgumentException.class, () -> table.setColumn(1, new double[2]));
+    assertThrows(IllegalArgumentException.class, () -> table.getRow("dog"));
+
+    table.fill(0.5);
+    assertThat(table.values()).containsExactly(0.5, 0.5, 0.5, 0.5, 0.5, 0.5);
+  }
+
+  public void testViews() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertThat(table.row("foo")).containsExactly(1, 1.5, 2, 0.0).inOrder();
+    assertThat(table.column(1)).containsExactly("foo", 1.5, "bar", 0.0, "cat", 3.25).inOrder();
+    assertThat(table.row("dog")).isEmpty();
+    assertThat(table.rowKeySet()).containsExactly("foo", "bar", "cat").inOrder();
+    assertThat(table.columnKeySet()).containsExactly(1, 2).inOrder();
+    assertThat(table.cellSet()).contains(immutableCell("bar", 2, -2.0));
+    assertThat(table.rowMap().get("cat")).containsExactly(1, 3.25, 2, 0.0).inOrder();
+
+    table.row("foo").put(2, 6.0);
+    table.column(1).put("bar", 7.0);
+    assertEquals(6.0, table.getDouble("foo", 2));
+    assertEquals(7.0, table.getDouble("bar", 1));
+    assertThrows(IllegalArgumentException.class, () -> table.row("foo").put(3, 1.0));
+    assertThrows(UnsupportedOperationException.class, () -> table.row("foo").remove(1));
+  }
+
+  public void testContainsValue() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertTrue(table.containsValue(1.5));
+    assertTrue(table.containsValue(0.0));
+    assertFalse(table.containsValue(-0.0));
+    assertFalse(table.containsValue(1.5f));
+    assertFalse(table.containsValue(null));
+    table.putDouble("foo", 2, Double.NaN);
+    assertTrue(table.containsValue(Double.NaN));
+  }
+
+  @SuppressWarnings("DoNotCall")
+  public void testUnsupported() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertThrows(UnsupportedOperationException.class, () -> table.remove("foo", 1));
+    assertThrows(UnsupportedOperationException.class, () -> table.clear());
+  }
+
+  public void testEqualsToOtherTables() {
+    DoubleArrayTable<String, Integer> table = create();
+    ArrayTable<String, Integer, Double> arrayTable =
+        ArrayTable.create(asList("foo", "bar", "cat"), asList(1, 2));
+    for (Table.Cell<String, Integer, Double> cell : table.cellSet()) {
+      arrayTable.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+    }
+    assertEquals(arrayTable, table);
+    assertEquals(table, arrayTable);
+    assertEquals(arrayTable.hashCode(), table.hashCode());
+    assertEquals(arrayTable.toString(), table.toString());
+  }
+
+  public void testCreateCopy() {
+    DoubleArrayTable<String, Integer> table = create();
+    DoubleArrayTable<String, Integer> copy = DoubleArrayTable.create(table);
+    assertEquals(table, copy);
+    copy.putDouble("foo", 1, 9.0);
+    assertEquals(1.5, table.getDouble("foo", 1));
+
+    ArrayTable<String, Integer, Double> arrayTable = ArrayTable.create(table);
+    assertEquals(table, DoubleArrayTable.create(arrayTable));
+
+    Table<String, Integer, Double> hashTable = HashBasedTable.create();
+    hashTable.put("foo", 1, 1.0);
+    hashTable.put("bar", 2, 2.0);
+    DoubleArrayTable<String, Integer> fromHash = DoubleArrayTable.create(hashTable);
+    assertEquals(4, fromHash.size());
+    assertEquals(0.0, fromHash.getDouble("foo", 2));
+    assertEquals(2.0, fromHash.getDouble("bar", 2));
+  }
+
+  public void testCreateCopy_nullValue() {
+    ArrayTable<String, Integer, Double> arrayTable =
+        ArrayTable.create(asList("foo", "bar"), asList(1));
+    arrayTable.put("foo", 1, 1.0);
+    assertThrows(NullPointerException.class, () -> DoubleArrayTable.create(arrayTable));
+  }
+
+  @J2ktIncompatible
+  @GwtIncompatible // SerializableTester
+  public void testSerialization() {
+    reserializeAndAssert(create());
+  }
+
+  @J2ktIncompatible
+  @GwtIncompatible // NullPointerTester
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(DoubleArrayTable.class);
+    tester.testAllPublicInstanceMethods(create());
+  }
+
+  public void testRowMapEntries() {
+    DoubleArrayTable<String, Integer> table = create();
+    Map.Entry<String, Map<Integer, Double>> entry = table.rowMap().entrySet().iterator().next();
+    assertEquals("foo", entry.getKey());
+    assertThat(entry.getValue()).containsExactly(1, 1.5, 2, 0.0).inOrder();
+  }
+}
@@ -259,4 +259,30 @@ public class HashBiMapTest extends TestCase {
         .containsExactly(immutableEntry(2, "b"), immutableEntry(3, "a"))
         .inOrder();
   }
+
+  public void testInverseForcePutWhenPredecessorIsLastSlot() {
+    BiMap<String, Integer> map = HashBiMap.create();
+    map.put("a", 1);
+    map.put("b", 2);
+    map.put("c", 3);
+    map.put("d", 4);
+    map.remove("a");
+    map.remove("d");
+    map.inverse().forcePut(5, "c");
+    assertThat(map.entrySet())
+        .containsExactly(immutableEntry("b", 2), immutableEntry("c", 5))
+        .inOrder();
+  }
+
+  public void testInverseForcePutReplacingFirstKey() {
+    BiMap<String, Integer> map = HashBiMap.create();
+    map.put("a", 1);
+    map.put("b", 2);
+    map.inverse().forcePut(2, "a");
+    assertThat(map.entrySet()).containsExactly(immutableEntry("a", 2));
+    map.put("c", 3);
+    assertThat(map.entrySet())
+        .containsExactly(immutableEntry("a", 2), immutableEntry("c", 3))
+        .inOrder();
+  }
 }
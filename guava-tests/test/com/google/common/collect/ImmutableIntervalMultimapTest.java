@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.Maps.immutableEntry;
+import static com.google.common.testing.SerializableTester.reserializeAndAssert;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link ImmutableIntervalMultimap}. */
+@GwtIncompatible // ImmutableIntervalMultimap
+@NullUnmarked
+public class ImmutableIntervalMultimapTest extends TestCase {
+
+  public void testOf() {
+    assertTrue(ImmutableIntervalMultimap.of().isEmpty());
+    assertSame(ImmutableIntervalMultimap.of(), ImmutableIntervalMultimap.builder().build());
+    ImmutableIntervalMultimap<Integer, String> single =
+        ImmutableIntervalMultimap.of(Range.closed(1, 3), "a");
+    assertThat(single.getAll(2)).containsExactly("a");
+    assertEquals(Range.closed(1, 3), single.span());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ImmutableIntervalMultimap.of(Range.closedOpen(1, 1), "a"));
+  }
+
+  public void testBuilderOrdersEntries() {
+    ImmutableIntervalMultimap<Integer, String> multimap =
+        ImmutableIntervalMultimap.<Integer, String>builder()
+            .put(Range.closed(5, 8), "c")
+            .put(Range.closed(1, 10), "a")
+            .put(Range.closed(1, 4), "b")
+            .put(Range.closed(1, 10), "d")
+            .build();
+    assertThat(multimap.entries())
+        .containsExactly(
+            immutableEntry(Range.closed(1, 4), "b"),
+            immutableEntry(Range.closed(1, 10), "a"),
+            immutableEntry(Range.closed(1, 10), "d"),
+            immutableEntry(Range.closed(5, 8), "c"))
+        .inOrder();
+    assertThat(multimap.getAll(4)).containsExactly("b", "a", "d").inOrder();
+    assertThat(multimap.getAll(6)).containsExactly("a", "d", "c").inOrder();
+    assertThat(multimap.getOverlapping(Range.open(4, 5)))
+        .containsExactly(
+            immutableEntry(Range.closed(1, 10), "a"), immutableEntry(Range.closed(1, 10), "d"))
+        .inOrder();
+    assertEquals(Range.closed(1, 10), multimap.span());
+  }
+
+  public void testAgainstTreeIntervalMultimap() {
+    Random random = new Random(0);
+    TreeIntervalMultimap<Integer, Integer> expected = TreeIntervalMultimap.create();
+    for (int i = 0; i < 300; i++) {
+      int lower = random.nextInt(100);
+      expected.put(Range.closed(lower, lower + random.nextInt(30)), i);
+    }
+    ImmutableIntervalMultimap<Integer, Integer> multimap =
+        ImmutableIntervalMultimap.copyOf(expected);
+    assertEquals(expected, multimap);
+    assertEquals(expected.span(), multimap.span());
+    for (int key = -1; key <= 131; key++) {
+      assertEquals(expected.getAll(key), multimap.getAll(key));
+      Range<Integer> range = Range.closedOpen(key, key + 7);
+      assertEquals(expected.getOverlapping(range), multimap.getOverlapping(range));
+    }
+  }
+
+  @SuppressWarnings("DoNotCall")
+  public void testUnsupported() {
+    ImmutableIntervalMultimap<Integer, String> multimap =
+        ImmutableIntervalMultimap.of(Range.closed(1, 3), "a");
+    assertThrows(
+        UnsupportedOperationException.class, () -> multimap.put(Range.closed(4, 5), "b"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> multimap.remove(Range.closed(1, 3), "a"));
+    assertThrows(UnsupportedOperationException.class, multimap::clear);
+    assertThrows(
+        UnsupportedOperationException.class, () -> multimap.putAll(ImmutableIntervalMultimap.of()));
+  }
+
+  public void testCopyOfImmutable() {
+    ImmutableIntervalMultimap<Integer, String> multimap =
+        ImmutableIntervalMultimap.of(Range.closed(1, 3), "a");
+    assertSame(multimap, ImmutableIntervalMultimap.copyOf(multimap));
+  }
+
+  public void testSerialization() {
+    reserializeAndAssert(ImmutableIntervalMultimap.of());
+    reserializeAndAssert(
+        ImmutableIntervalMultimap.<Integer, String>builder()
+            .put(Range.closed(1, 10), "a")
+            .put(Range.atMost(3), "b")
+            .put(Range.closed(1, 10), "c")
+            .build());
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(ImmutableIntervalMultimap.class);
+    tester.testAllPublicInstanceMethods(ImmutableIntervalMultimap.of(Range.closed(1, 3), "a"));
+  }
+}
@@ -33,6 +33,7 @@ import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.base.Equivalence;
 import com.google.common.collect.ImmutableListMultimap.Builder;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.collect.testing.google.ListMultimapTestSuiteBuilder;
 import com.google.common.collect.testing.google.TestStringListMultimapGenerator;
@@ -573,6 +574,24 @@ public class ImmutableListMultimapTest extends TestCase {
         .isEqualTo(0);
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testValuesAndEntriesSpliterator() {
+    ImmutableListMultimap<Integer, String> multimap =
+        Multimaps.index(Arrays.asList("a", "bb", "c", "dd", "eee"), String::length);
+    SpliteratorTester.of(() -> multimap.values().spliterator())
+        .expect("a", "c", "bb", "dd", "eee")
+        .inOrder();
+    SpliteratorTester.of(() -> multimap.entries().spliterator())
+        .expect(
+            Maps.immutableEntry(1, "a"),
+            Maps.immutableEntry(1, "c"),
+            Maps.immutableEntry(2, "bb"),
+            Maps.immutableEntry(2, "dd"),
+            Maps.immutableEntry(3, "eee"))
+        .inOrder();
+    assertEquals(5, multimap.values().spliterator().getExactSizeIfKnown());
+  }
+
   // Yes, we want to test that inverse() returns the same instance each time that it's called.
   @SuppressWarnings("SelfAssertion")
   public void testInverseMinimizesWork() {
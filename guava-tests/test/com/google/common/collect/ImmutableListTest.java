@@ -49,10 +49,12 @@ import com.google.common.collect.testing.testers.ListHashCodeTester;
 import com.google.common.testing.CollectorTester;
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -428,6 +430,22 @@ public class ImmutableListTest extends TestCase {
         .expectCollects(ImmutableList.of("a", "b", "c", "d"), "a", "b", "c", "d");
   }
 
+  public void testToImmutableList_parallel() {
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      expected.add(i);
+    }
+    ImmutableList<Integer> list =
+        expected.parallelStream().collect(ImmutableList.toImmutableList());
+    assertEquals(expected, list);
+  }
+
+  public void testToImmutableList_nullElement() {
+    assertThrows(
+        NullPointerException.class,
+        () -> Stream.of("a", null).collect(ImmutableList.toImmutableList()));
+  }
+
   // Basic tests
 
   @J2ktIncompatible
@@ -805,6 +805,28 @@ public class ImmutableMapTest extends TestCase {
         () -> Stream.of(mapEntry("one", 1), mapEntry("one", 11)).collect(collector));
   }
 
+  public void testToImmutableMap_parallel() {
+    Map<Integer, String> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      expected.put(i, Integer.toString(i));
+    }
+    ImmutableMap<Integer, String> map =
+        expected.entrySet().parallelStream()
+            .collect(toImmutableMap(Entry::getKey, Entry::getValue));
+    assertThat(map.entrySet()).containsExactlyElementsIn(expected.entrySet()).inOrder();
+  }
+
+  public void testToImmutableMap_parallel_exceptionOnDuplicateKey() {
+    List<Integer> keys = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      keys.add(i);
+    }
+    keys.add(50_000);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> keys.parallelStream().collect(toImmutableMap(k -> k, k -> "value")));
+  }
+
   public void testToImmutableMapMerging() {
     Collector<Entry<String, Integer>, ?, ImmutableMap<String, Integer>> collector =
         toImmutableMap(Entry::getKey, Entry::getValue, Integer::sum);
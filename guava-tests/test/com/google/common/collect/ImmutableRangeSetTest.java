@@ -434,6 +434,58 @@ public class ImmutableRangeSetTest extends AbstractRangeSetTest {
     }
   }
 
+  public void testContainsLongExtremes() {
+    ImmutableRangeSet<Long> rangeSet =
+        ImmutableRangeSet.<Long>builder()
+            .add(Range.atMost(Long.MIN_VALUE + 1))
+            .add(Range.open(3L, 4L))
+            .add(Range.openClosed(4L, 6L))
+            .add(Range.greaterThan(Long.MAX_VALUE - 1))
+            .build();
+    assertTrue(rangeSet.contains(Long.MIN_VALUE));
+    assertTrue(rangeSet.contains(Long.MIN_VALUE + 1));
+    assertFalse(rangeSet.contains(Long.MIN_VALUE + 2));
+    assertFalse(rangeSet.contains(3L));
+    assertFalse(rangeSet.contains(4L));
+    assertEquals(Range.openClosed(4L, 6L), rangeSet.rangeContaining(5L));
+    assertTrue(rangeSet.contains(6L));
+    assertFalse(rangeSet.contains(7L));
+    assertFalse(rangeSet.contains(Long.MAX_VALUE - 1));
+    assertEquals(Range.greaterThan(Long.MAX_VALUE - 1), rangeSet.rangeContaining(Long.MAX_VALUE));
+    assertNull(rangeSet.rangeContaining(0L));
+
+    ImmutableRangeSet<Long> complement = rangeSet.complement();
+    for (long value = -2; value <= 8; value++) {
+      assertEquals(!rangeSet.contains(value), complement.contains(value));
+    }
+    assertFalse(complement.contains(Long.MIN_VALUE));
+    assertTrue(complement.contains(Long.MAX_VALUE - 1));
+
+    ImmutableRangeSet<Long> unrepresentable = ImmutableRangeSet.of(Range.lessThan(Long.MIN_VALUE));
+    assertFalse(unrepresentable.contains(Long.MIN_VALUE));
+  }
+
+  public void testContainsManyIntegerRanges() {
+    ImmutableRangeSet.Builder<Integer> builder = ImmutableRangeSet.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.add(Range.openClosed(10 * i, 10 * i + 3));
+    }
+    ImmutableRangeSet<Integer> rangeSet = builder.build();
+    for (int value = -5; value < 10010; value++) {
+      int remainder = Math.floorMod(value, 10);
+      boolean expected = value > 0 && value <= 9993 && remainder >= 1 && remainder <= 3;
+      assertEquals(expected, rangeSet.contains(value));
+      assertEquals(!expected, rangeSet.complement().contains(value));
+    }
+    ImmutableRangeSet<Integer> subRangeSet = rangeSet.subRangeSet(Range.closed(25, 52));
+    assertThat(subRangeSet.asRanges())
+        .containsExactly(
+            Range.openClosed(30, 33), Range.openClosed(40, 43), Range.openClosed(50, 52))
+        .inOrder();
+    assertEquals(Range.openClosed(50, 52), subRangeSet.rangeContaining(52));
+    assertFalse(subRangeSet.contains(53));
+  }
+
   private static final ImmutableRangeSet<Integer> RANGE_SET_ONE =
       ImmutableRangeSet.<Integer>builder()
           .add(Range.closed(2, 4))
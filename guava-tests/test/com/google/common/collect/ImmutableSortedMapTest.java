@@ -547,6 +547,31 @@ public class ImmutableSortedMapTest extends TestCase {
     assertThrows(IllegalArgumentException.class, () -> ImmutableSortedMap.copyOf(original));
   }
 
+  @GwtIncompatible // Platform.PARALLEL_SORT_THRESHOLD
+  @J2ktIncompatible
+  public void testCopyOf_parallelSort() {
+    int size = 2 * Platform.PARALLEL_SORT_THRESHOLD;
+    Map<Integer, String> original = new LinkedHashMap<>();
+    for (int i = size - 1; i >= 0; i--) {
+      original.put(i, Integer.toString(i));
+    }
+    ImmutableSortedMap<Integer, String> copy = ImmutableSortedMap.copyOf(original);
+    assertEquals(original, copy);
+    assertThat(copy.keySet()).isInStrictOrder();
+  }
+
+  @GwtIncompatible // Platform.PARALLEL_SORT_THRESHOLD
+  @J2ktIncompatible
+  public void testBuilder_parallelSort_duplicateKey() {
+    int size = 2 * Platform.PARALLEL_SORT_THRESHOLD;
+    ImmutableSortedMap.Builder<Integer, Integer> builder = ImmutableSortedMap.naturalOrder();
+    for (int i = 0; i < size; i++) {
+      builder.put(i, i);
+    }
+    builder.put(size / 2, -1);
+    assertThrows(IllegalArgumentException.class, () -> builder.buildOrThrow());
+  }
+
   public void testImmutableMapCopyOfImmutableSortedMap() {
     IntegerDiv10 three = new IntegerDiv10(3);
     IntegerDiv10 eleven = new IntegerDiv10(11);
@@ -600,6 +600,42 @@ public class ImmutableSortedSetTest extends AbstractImmutableSetTest {
     assertThat(set).containsExactly("a", "b", "c", "d", "e", "f").inOrder();
   }
 
+  @GwtIncompatible // Platform.PARALLEL_SORT_THRESHOLD
+  @J2ktIncompatible
+  public void testCopyOf_parallelSort() {
+    int size = 2 * Platform.PARALLEL_SORT_THRESHOLD;
+    Integer[] elements = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      // every value appears twice, in descending order
+      elements[i] = (size - 1 - i) / 2;
+    }
+    ImmutableSortedSet<Integer> set = ImmutableSortedSet.copyOf(elements);
+    assertThat(set).hasSize(size / 2);
+    assertThat(set).isInStrictOrder();
+    assertThat(set.first()).isEqualTo(0);
+    assertThat(set.last()).isEqualTo(size / 2 - 1);
+  }
+
+  @GwtIncompatible // Platform.PARALLEL_SORT_THRESHOLD
+  @J2ktIncompatible
+  public void testBuilder_parallelSort_keepsFirstDuplicate() {
+    int size = 2 * Platform.PARALLEL_SORT_THRESHOLD;
+    ImmutableSortedSet.Builder<String> builder =
+        ImmutableSortedSet.orderedBy(String.CASE_INSENSITIVE_ORDER);
+    for (int i = size - 1; i >= 0; i--) {
+      builder.add("a" + i);
+    }
+    for (int i = 0; i < size; i++) {
+      builder.add("A" + i);
+    }
+    ImmutableSortedSet<String> set = builder.build();
+    assertThat(set).hasSize(size);
+    assertThat(set).isInStrictOrder(String.CASE_INSENSITIVE_ORDER);
+    for (String element : set) {
+      assertThat(element).startsWith("a");
+    }
+  }
+
   public void testCopyOf_subSet() {
     SortedSet<String> set = of("e", "a", "f", "b", "d", "c");
     SortedSet<String> subset = set.subSet("c", "e");
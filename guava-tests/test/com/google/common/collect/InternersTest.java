@@ -119,4 +119,74 @@ public class InternersTest extends TestCase {
     Interners.InternerBuilder builder = Interners.newBuilder();
     assertThrows(IllegalArgumentException.class, () -> builder.concurrencyLevel(-42));
   }
+
+  public void testBounded_simplistic() {
+    String canonical = "a";
+    String not = new String("a");
+
+    Interner<String> pool = Interners.newBuilder().maximumSize(100).build();
+    assertThat(pool.intern(canonical)).isSameInstanceAs(canonical);
+    assertThat(pool.intern(not)).isSameInstanceAs(canonical);
+  }
+
+  public void testBounded_null() {
+    Interner<String> pool = Interners.newBuilder().maximumSize(100).build();
+    assertThrows(NullPointerException.class, () -> pool.intern(null));
+  }
+
+  public void testBounded_staysWithinMaximumSize() {
+    Interner<Integer> pool = Interners.newBuilder().maximumSize(50).recordStats().build();
+    for (int i = 0; i < 1000; i++) {
+      pool.intern(i);
+    }
+    InternerStats stats = Interners.stats(pool);
+    assertThat(stats.size()).isAtMost(50);
+    assertEquals(1000, stats.missCount());
+    assertEquals(1000 - stats.size(), stats.evictionCount());
+  }
+
+  public void testBounded_keepsRecentlyUsedInstance() {
+    Interner<String> pool = Interners.newBuilder().maximumSize(1).build();
+    String a = new String("a");
+    assertThat(pool.intern(a)).isSameInstanceAs(a);
+    pool.intern("b");
+    String a2 = new String("a");
+    // "a" was evicted, so a new canonical instance takes its place.
+    assertThat(pool.intern(a2)).isSameInstanceAs(a2);
+  }
+
+  public void testBounded_invalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> Interners.newBuilder().maximumSize(0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Interners.newBuilder().maximumSize(Integer.MAX_VALUE));
+    Interners.newBuilder().maximumSize(1 << 24);
+    assertThrows(
+        IllegalStateException.class, () -> Interners.newBuilder().maximumSize(1).maximumSize(2));
+    Interners.InternerBuilder weak = Interners.newBuilder().weak().maximumSize(10);
+    assertThrows(IllegalStateException.class, () -> weak.build());
+    assertThrows(IllegalStateException.class, () -> Interners.newBuilder().buildStringInterner());
+  }
+
+  public void testStats() {
+    Interner<String> pool = Interners.newBuilder().recordStats().build();
+    pool.intern("a");
+    pool.intern(new String("a"));
+    pool.intern("b");
+    InternerStats stats = Interners.stats(pool);
+    assertEquals(1, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals(3, stats.requestCount());
+    assertEquals(0, stats.evictionCount());
+    assertEquals(2, stats.size());
+    assertEquals(1.0 / 3, stats.hitRate(), 0.0);
+  }
+
+  public void testStats_notRecorded() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Interners.stats(Interners.newStrongInterner()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Interners.stats(Interners.newBuilder().maximumSize(10).build()));
+  }
 }
@@ -19,6 +19,7 @@ package com.google.common.collect;
 import static com.google.common.base.Predicates.alwaysFalse;
 import static com.google.common.base.Predicates.alwaysTrue;
 import static com.google.common.base.Predicates.equalTo;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Iterables.all;
 import static com.google.common.collect.Iterables.any;
 import static com.google.common.collect.Iterables.concat;
@@ -49,6 +50,7 @@ import static org.junit.Assert.assertThrows;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.Equivalence;
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.collect.testing.IteratorTester;
@@ -70,6 +72,7 @@ import java.util.Queue;
 import java.util.RandomAccess;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.Spliterator;
 import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
 import org.jspecify.annotations.NullMarked;
@@ -1373,4 +1376,41 @@ public class IterablesTest extends TestCase {
 
     assertThat(merged).containsExactly(0, 2, 4, 6, 8, 1, 3, 5, 7, 9).inOrder();
   }
+
+  public void testIntersectSorted() {
+    Iterable<Integer> intersection =
+        Iterables.intersectSorted(
+            ImmutableList.of(1, 2, 2, 4, 6), ImmutableList.of(2, 2, 2, 6, 7), Ordering.natural());
+    assertThat(intersection).containsExactly(2, 2, 6).inOrder();
+    assertThat(intersection).containsExactly(2, 2, 6).inOrder();
+    assertThat(intersection.spliterator().hasCharacteristics(Spliterator.ORDERED)).isTrue();
+  }
+
+  public void testDifferenceSorted() {
+    Iterable<Integer> difference =
+        Iterables.differenceSorted(
+            ImmutableList.of(1, 2, 2, 4, 6), ImmutableList.of(2, 6, 7), Ordering.natural());
+    assertThat(difference).containsExactly(1, 2, 4).inOrder();
+  }
+
+  public void testJoinSorted() {
+    Iterable<String> joined =
+        Iterables.joinSorted(
+            ImmutableList.of(1, 2, 2, 3),
+            ImmutableList.of("1a", "2a", "2b", "4a"),
+            i -> i,
+            s -> s.charAt(0) - '0',
+            Ordering.natural(),
+            (i, s) -> i + s);
+    assertThat(Streams.stream(joined).collect(toImmutableList()))
+        .containsExactly("11a", "22a", "22b", "22a", "22b")
+        .inOrder();
+  }
+
+  public void testGroupAdjacent() {
+    Iterable<List<Integer>> groups =
+        Iterables.groupAdjacent(ImmutableList.of(1, 1, 2, 3, 3, 3), Equivalence.equals());
+    assertThat(groups).containsExactly(asList(1, 1), asList(2), asList(3, 3, 3)).inOrder();
+    assertThrows(UnsupportedOperationException.class, () -> groups.iterator().remove());
+  }
 }
@@ -50,6 +50,7 @@ import static org.junit.Assert.assertThrows;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.Equivalence;
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
@@ -1594,6 +1595,102 @@ public class IteratorsTest extends TestCase {
         .inOrder();
   }
 
+  public void testIntersectSorted() {
+    Iterator<Integer> intersection =
+        Iterators.intersectSorted(
+            asList(1, 2, 2, 2, 4, 6, 9).iterator(),
+            asList(0, 2, 2, 3, 6, 9, 9, 10).iterator(),
+            Ordering.natural());
+    assertThat(ImmutableList.copyOf(intersection)).containsExactly(2, 2, 6, 9).inOrder();
+  }
+
+  public void testIntersectSorted_returnsElementsOfFirst() {
+    Comparator<TestDatum> comparator = comparing(d -> d.letter);
+    Iterator<TestDatum> intersection =
+        Iterators.intersectSorted(
+            asList(new TestDatum("A", 1), new TestDatum("B", 1)).iterator(),
+            asList(new TestDatum("B", 2), new TestDatum("C", 2)).iterator(),
+            comparator);
+    assertThat(ImmutableList.copyOf(intersection)).containsExactly(new TestDatum("B", 1));
+  }
+
+  public void testIntersectSorted_empty() {
+    assertFalse(
+        Iterators.intersectSorted(
+                Iterators.<Integer>emptyIterator(), asList(1, 2).iterator(), Ordering.natural())
+            .hasNext());
+  }
+
+  public void testDifferenceSorted() {
+    Iterator<Integer> difference =
+        Iterators.differenceSorted(
+            asList(1, 2, 2, 2, 4, 6, 9, 11).iterator(),
+            asList(0, 2, 2, 3, 6, 9, 9, 10).iterator(),
+            Ordering.natural());
+    assertThat(ImmutableList.copyOf(difference)).containsExactly(1, 2, 4, 11).inOrder();
+  }
+
+  public void testDifferenceSorted_secondEmpty() {
+    Iterator<Integer> difference =
+        Iterators.differenceSorted(
+            asList(1, 2, 3).iterator(), Iterators.<Integer>emptyIterator(), Ordering.natural());
+    assertThat(ImmutableList.copyOf(difference)).containsExactly(1, 2, 3).inOrder();
+  }
+
+  public void testJoinSorted() {
+    Iterator<String> joined =
+        Iterators.joinSorted(
+            asList(new TestDatum("A", 1), new TestDatum("B", 2), new TestDatum("B", 3)).iterator(),
+            asList("A", "B", "Bb", "C").iterator(),
+            d -> d.letter,
+            s -> s.substring(0, 1),
+            Ordering.natural(),
+            (d, s) -> s + d.number);
+    assertThat(ImmutableList.copyOf(joined))
+        .containsExactly("A1", "B2", "Bb2", "B3", "Bb3")
+        .inOrder();
+  }
+
+  public void testJoinSorted_noMatches() {
+    Iterator<String> joined =
+        Iterators.joinSorted(
+            asList(1, 3, 5).iterator(),
+            asList(0, 2, 4, 6).iterator(),
+            i -> i,
+            i -> i,
+            Ordering.natural(),
+            (l, r) -> l + ":" + r);
+    assertFalse(joined.hasNext());
+  }
+
+  public void testJoinSorted_largeInputs() {
+    Iterator<Integer> joined =
+        Iterators.joinSorted(
+            ContiguousSet.closedOpen(0, 100_000).iterator(),
+            ContiguousSet.closedOpen(50_000, 150_000).iterator(),
+            i -> i,
+            i -> i,
+            Ordering.natural(),
+            (l, r) -> l);
+    assertEquals(50_000, Iterators.size(joined));
+  }
+
+  public void testGroupAdjacent() {
+    Iterator<List<String>> groups =
+        Iterators.groupAdjacent(
+            asList("a", "ab", "b", "ba", "bb", "a").iterator(),
+            Equivalence.equals().onResultOf(s -> s.charAt(0)));
+    assertThat(ImmutableList.copyOf(groups))
+        .containsExactly(asList("a", "ab"), asList("b", "ba", "bb"), asList("a"))
+        .inOrder();
+  }
+
+  public void testGroupAdjacent_unmodifiable() {
+    List<String> group =
+        Iterators.groupAdjacent(asList("a", "a").iterator(), Equivalence.equals()).next();
+    assertThrows(UnsupportedOperationException.class, () -> group.add("a"));
+  }
+
   private static final class TestDatum {
     final String letter;
     final int number;
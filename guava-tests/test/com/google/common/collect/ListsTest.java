@@ -45,6 +45,7 @@ import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.collect.testing.IteratorTester;
 import com.google.common.collect.testing.ListTestSuiteBuilder;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.collect.testing.TestStringListGenerator;
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
@@ -61,6 +62,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.concurrent.CopyOnWriteArrayList;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -664,6 +666,16 @@ public class ListsTest extends TestCase {
         IllegalArgumentException.class, () -> cartesianProduct(list, list, list, list, list));
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testCartesianProduct_spliterator() {
+    List<List<Integer>> product = Lists.cartesianProduct(asList(1, 2), asList(3, 4, 5));
+    SpliteratorTester.of(product::spliterator)
+        .expect(
+            asList(1, 3), asList(1, 4), asList(1, 5), asList(2, 3), asList(2, 4), asList(2, 5))
+        .inOrder();
+    assertTrue(product.spliterator().hasCharacteristics(Spliterator.SUBSIZED));
+  }
+
   public void testTransformHashCodeRandomAccess() {
     List<String> list = transform(SOME_LIST, SOME_FUNCTION);
     assertEquals(SOME_STRING_LIST.hashCode(), list.hashCode());
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.Platform.reduceIterationsIfGwt;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit test for {@link LongMinMaxPriorityQueue}. */
+@GwtCompatible
+@NullUnmarked
+public class LongMinMaxPriorityQueueTest extends TestCase {
+
+  public void testEmpty() {
+    LongMinMaxPriorityQueue<String> queue = LongMinMaxPriorityQueue.create();
+    assertTrue(queue.isEmpty());
+    assertEquals(0, queue.size());
+    assertNull(queue.peekFirst());
+    assertNull(queue.peekLast());
+    assertNull(queue.pollFirst());
+    assertNull(queue.pollLast());
+    assertThrows(NoSuchElementException.class, () -> queue.peekFirstPriority());
+    assertThrows(NoSuchElementException.class, () -> queue.peekLastPriority());
+  }
+
+  public void testPollBothEnds() {
+    LongMinMaxPriorityQueue<String> queue = LongMinMaxPriorityQueue.expectedSize(2).create();
+    long[] priorities = {5, -3, 12, 0, Long.MAX_VALUE, Long.MIN_VALUE, 7};
+    for (long priority : priorities) {
+      assertTrue(queue.offer(priority, "p" + priority));
+    }
+    assertEquals(7, queue.size());
+    assertEquals(Long.MIN_VALUE, queue.peekFirstPriority());
+    assertEquals(Long.MAX_VALUE, queue.peekLastPriority());
+    assertEquals("p" + Long.MIN_VALUE, queue.pollFirst());
+    assertEquals("p" + Long.MAX_VALUE, queue.pollLast());
+    assertEquals("p-3", queue.pollFirst());
+    assertEquals("p12", queue.pollLast());
+    assertEquals("p0", queue.peekFirst());
+    assertEquals("p7", queue.peekLast());
+    assertEquals(3, queue.size());
+  }
+
+  public void testMaximumSize() {
+    LongMinMaxPriorityQueue<String> queue = LongMinMaxPriorityQueue.maximumSize(3).create();
+    assertTrue(queue.offer(10, "a"));
+    assertTrue(queue.offer(20, "b"));
+    assertTrue(queue.offer(30, "c"));
+    assertFalse(queue.offer(30, "d"));
+    assertFalse(queue.offer(40, "e"));
+    assertTrue(queue.offer(5, "f"));
+    assertEquals(3, queue.size());
+    assertEquals(20, queue.peekLastPriority());
+    assertEquals("f", queue.pollFirst());
+    assertEquals("a", queue.pollFirst());
+    assertEquals("b", queue.pollFirst());
+  }
+
+  public void testBuilderRejectsInvalidSizes() {
+    assertThrows(IllegalArgumentException.class, () -> LongMinMaxPriorityQueue.expectedSize(-1));
+    assertThrows(IllegalArgumentException.class, () -> LongMinMaxPriorityQueue.maximumSize(0));
+  }
+
+  public void testNullElement() {
+    LongMinMaxPriorityQueue<String> queue = LongMinMaxPriorityQueue.create();
+    assertThrows(NullPointerException.class, () -> queue.offer(1, null));
+  }
+
+  public void testClear() {
+    LongMinMaxPriorityQueue<String> queue = LongMinMaxPriorityQueue.create();
+    queue.offer(1, "a");
+    queue.offer(2, "b");
+    queue.clear();
+    assertTrue(queue.isEmpty());
+    queue.offer(3, "c");
+    assertEquals("c", queue.peekLast());
+  }
+
+  public void testRandomAgainstSortedModel() {
+    Random random = new Random(0);
+    for (int iteration = 0; iteration < reduceIterationsIfGwt(100); iteration++) {
+      int maximumSize = random.nextBoolean() ? Integer.MAX_VALUE : 1 + random.nextInt(20);
+      LongMinMaxPriorityQueue<Long> queue =
+          LongMinMaxPriorityQueue.maximumSize(maximumSize).expectedSize(0).create();
+      // Priorities to their number of occurrences.
+      TreeMap<Long, Integer> model = new TreeMap<>();
+      int modelSize = 0;
+      for (int op = 0; op < 500; op++) {
+        int choice = random.nextInt(4);
+        if (choice < 2) {
+          long priority = random.nextInt(100);
+          boolean retained = queue.offer(priority, priority);
+          if (modelSize < maximumSize) {
+            assertTrue(retained);
+            model.merge(priority, 1, Integer::sum);
+            modelSize++;
+          } else if (priority >= model.lastKey()) {
+            assertFalse(retained);
+          } else {
+            assertTrue(retained);
+            decrement(model, model.lastKey());
+            model.merge(priority, 1, Integer::sum);
+          }
+        } else if (modelSize > 0) {
+          long expected = choice == 2 ? model.firstKey() : model.lastKey();
+          assertEquals((Long) expected, choice == 2 ? queue.pollFirst() : queue.pollLast());
+          decrement(model, expected);
+          modelSize--;
+        }
+        assertEquals(modelSize, queue.size());
+        assertTrue(queue.isIntact());
+      }
+      List<Long> drained = new ArrayList<>();
+      while (!queue.isEmpty()) {
+        drained.add(queue.pollFirst());
+      }
+      assertThat(drained).isInOrder();
+    }
+  }
+
+  private static void decrement(TreeMap<Long, Integer> model, long priority) {
+    if (model.merge(priority, -1, Integer::sum) == 0) {
+      model.remove(priority);
+    }
+  }
+}
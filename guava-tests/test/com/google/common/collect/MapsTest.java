@@ -45,6 +45,7 @@ import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.collect.Maps.EntryTransformer;
 import com.google.common.collect.Maps.ValueDifferenceImpl;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
 import java.io.IOException;
@@ -1240,6 +1241,16 @@ public class MapsTest extends TestCase {
     assertEquals(ImmutableMap.of("a", 2.0, "b", 3.0), transformed);
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testTransformValues_valuesSpliterator() {
+    Map<String, Integer> map = ImmutableMap.of("a", 4, "b", 9, "c", 16);
+    Map<String, Double> transformed = transformValues(map, SQRT_FUNCTION);
+    SpliteratorTester.of(() -> transformed.values().spliterator())
+        .expect(2.0, 3.0, 4.0)
+        .inOrder();
+    assertEquals(3, transformed.values().spliterator().getExactSizeIfKnown());
+  }
+
   public void testTransformEntries() {
     Map<String, String> map = ImmutableMap.of("a", "4", "b", "9");
     EntryTransformer<String, String, String> concat =
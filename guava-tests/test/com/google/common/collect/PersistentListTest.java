@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.testing.features.CollectionFeature.ALLOWS_NULL_QUERIES;
+import static com.google.common.collect.testing.features.CollectionFeature.SERIALIZABLE;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.testing.ListTestSuiteBuilder;
+import com.google.common.collect.testing.TestStringListGenerator;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link PersistentList}. */
+@NullUnmarked
+public class PersistentListTest extends TestCase {
+  @AndroidIncompatible // test-suite builders
+  public static Test suite() {
+    TestSuite suite = new TestSuite();
+    suite.addTest(
+        ListTestSuiteBuilder.using(
+                new TestStringListGenerator() {
+                  @Override
+                  protected List<String> create(String[] elements) {
+                    return PersistentList.copyOf(elements);
+                  }
+                })
+            .named("PersistentList.copyOf")
+            .withFeatures(CollectionSize.ANY, SERIALIZABLE, ALLOWS_NULL_QUERIES)
+            .createTestSuite());
+    suite.addTest(
+        ListTestSuiteBuilder.using(
+                new TestStringListGenerator() {
+                  @Override
+                  protected List<String> create(String[] elements) {
+                    PersistentList<String> list = PersistentList.of();
+                    for (String element : elements) {
+                      list = list.append(element);
+                    }
+                    return list;
+                  }
+                })
+            .named("PersistentList.append")
+            .withFeatures(CollectionSize.ANY, SERIALIZABLE, ALLOWS_NULL_QUERIES)
+            .createTestSuite());
+    suite.addTestSuite(PersistentListTest.class);
+    return suite;
+  }
+
+  // Sizes around the boundaries of the tail and of each level of the tree.
+  private static final int[] SIZES = {0, 1, 31, 32, 33, 64, 65, 1056, 1057, 32 * 32 * 32 + 33};
+
+  private static List<Integer> range(int size) {
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  public void testCopyOf() {
+    for (int size : SIZES) {
+      assertEquals(range(size), PersistentList.copyOf(range(size)));
+    }
+  }
+
+  public void testCopyOf_persistentList() {
+    PersistentList<Integer> list = PersistentList.of(1, 2, 3);
+    assertThat(PersistentList.copyOf(list)).isSameInstanceAs(list);
+    assertThat(ImmutableList.copyOf(list)).isSameInstanceAs(list);
+  }
+
+  public void testAppend() {
+    for (int size : SIZES) {
+      PersistentList<Integer> list = PersistentList.copyOf(range(size));
+      List<Integer> expected = range(size);
+      for (int i = 0; i < 100; i++) {
+        list = list.append(-i);
+        expected.add(-i);
+      }
+      assertEquals(expected, list);
+    }
+  }
+
+  public void testAppend_leavesOriginalUnchanged() {
+    PersistentList<Integer> original = PersistentList.copyOf(range(100));
+    PersistentList<Integer> appended = original.append(100);
+    assertEquals(range(100), original);
+    assertEquals(range(101), appended);
+  }
+
+  public void testAppendAll() {
+    PersistentList<Integer> list = PersistentList.copyOf(range(10));
+    assertEquals(range(50), list.appendAll(range(50).subList(10, 50)));
+  }
+
+  public void testWith() {
+    for (int size : SIZES) {
+      if (size == 0) {
+        continue;
+      }
+      PersistentList<Integer> original = PersistentList.copyOf(range(size));
+      PersistentList<Integer> list = original;
+      List<Integer> expected = range(size);
+      for (int i = 0; i < size; i += 7) {
+        list = list.with(i, -i);
+        expected.set(i, -i);
+      }
+      assertEquals(expected, list);
+      assertEquals(range(size), original);
+    }
+  }
+
+  public void testWith_outOfBounds() {
+    PersistentList<Integer> list = PersistentList.of(1, 2, 3);
+    assertThrows(IndexOutOfBoundsException.class, () -> list.with(3, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, 4));
+  }
+
+  public void testWithoutLast() {
+    for (int size : SIZES) {
+      PersistentList<Integer> list = PersistentList.copyOf(range(size));
+      for (int i = size - 1; i >= 0; i--) {
+        list = list.withoutLast();
+        if (i % 31 == 0) {
+          assertEquals(range(i), list);
+        }
+      }
+      assertThat(list).isEmpty();
+    }
+  }
+
+  public void testWithoutLast_empty() {
+    assertThrows(NoSuchElementException.class, () -> PersistentList.of().withoutLast());
+  }
+
+  public void testWithoutLast_thenAppend() {
+    PersistentList<Integer> list = PersistentList.copyOf(range(1057));
+    assertEquals(range(1057), list.withoutLast().append(1056));
+  }
+
+  public void testWith_supertypeArray() {
+    Integer[] integers = {1, 2, 3};
+    PersistentList<Number> list = PersistentList.<Number>copyOf(integers);
+    assertThat(list.with(0, 1.5)).containsExactly(1.5, 2, 3).inOrder();
+  }
+
+  public void testToPersistentList() {
+    List<Integer> expected = range(10_000);
+    assertEquals(
+        expected,
+        IntStream.range(0, 10_000).boxed().parallel().collect(PersistentList.toPersistentList()));
+  }
+
+  public void testSerialization() {
+    PersistentList<Integer> list = PersistentList.copyOf(range(1057));
+    PersistentList<Integer> copy = SerializableTester.reserializeAndAssert(list);
+    assertEquals(range(1058), copy.append(1057));
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(PersistentList.class);
+    tester.testAllPublicInstanceMethods(PersistentList.of(1, 2, 3));
+  }
+}
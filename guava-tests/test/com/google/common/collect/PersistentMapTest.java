@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.testing.MapTestSuiteBuilder;
+import com.google.common.collect.testing.TestStringMapGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
+
+/** Tests for {@link PersistentMap}. */
+@NullUnmarked
+public class PersistentMapTest extends TestCase {
+  @AndroidIncompatible // test-suite builders
+  public static Test suite() {
+    TestSuite suite = new TestSuite();
+    suite.addTest(
+        MapTestSuiteBuilder.using(
+                new TestStringMapGenerator() {
+                  @Override
+                  protected Map<String, String> create(Entry<String, String>[] entries) {
+                    PersistentMap<String, String> map = PersistentMap.of();
+                    for (Entry<String, String> entry : entries) {
+                      map = map.with(entry.getKey(), entry.getValue());
+                    }
+                    return map;
+                  }
+                })
+            .named("PersistentMap")
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.SERIALIZABLE,
+                MapFeature.ALLOWS_ANY_NULL_QUERIES)
+            .createTestSuite());
+    suite.addTestSuite(PersistentMapTest.class);
+    return suite;
+  }
+
+  /** A key whose hash codes collide often, to exercise collision nodes. */
+  private static final class CollidingKey {
+    final int value;
+
+    CollidingKey(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value % 7;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      return o instanceof CollidingKey && ((CollidingKey) o).value == value;
+    }
+  }
+
+  public void testRandomOperations() {
+    checkRandomOperations(Integer::valueOf);
+  }
+
+  public void testRandomOperations_collidingKeys() {
+    checkRandomOperations(CollidingKey::new);
+  }
+
+  private static void checkRandomOperations(IntFunction<Object> keyFactory) {
+    Random random = new Random(0);
+    PersistentMap<Object, Integer> map = PersistentMap.of();
+    Map<Object, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 20_000; i++) {
+      Object key = keyFactory.apply(random.nextInt(500));
+      if (random.nextInt(3) < 2) {
+        map = map.with(key, i);
+        expected.put(key, i);
+      } else {
+        map = map.without(key);
+        expected.remove(key);
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    assertEquals(expected, map);
+    for (Object key : expected.keySet()) {
+      map = map.without(key);
+    }
+    assertThat(map).isEmpty();
+  }
+
+  public void testWith_leavesOriginalUnchanged() {
+    PersistentMap<String, Integer> original = PersistentMap.of("a", 1);
+    PersistentMap<String, Integer> updated = original.with("a", 2).with("b", 3);
+    assertEquals(ImmutableMap.of("a", 1), original);
+    assertEquals(ImmutableMap.of("a", 2, "b", 3), updated);
+  }
+
+  public void testWith_sameValue() {
+    Integer value = 1000;
+    PersistentMap<String, Integer> map = PersistentMap.of("a", value);
+    assertThat(map.with("a", value)).isSameInstanceAs(map);
+  }
+
+  public void testWithout_absentKey() {
+    PersistentMap<String, Integer> map = PersistentMap.of("a", 1);
+    assertThat(map.without("b")).isSameInstanceAs(map);
+    assertThat(map.without(null)).isSameInstanceAs(map);
+  }
+
+  public void testWithAll() {
+    PersistentMap<String, Integer> map = PersistentMap.of("a", 1);
+    assertEquals(ImmutableMap.of("a", 2, "b", 3), map.withAll(ImmutableMap.of("a", 2, "b", 3)));
+  }
+
+  public void testCopyOf() {
+    ImmutableMap<String, Integer> source = ImmutableMap.of("a", 1, "b", 2);
+    PersistentMap<String, Integer> map = PersistentMap.copyOf(source);
+    assertEquals(source, map);
+    assertThat(PersistentMap.copyOf(map)).isSameInstanceAs(map);
+  }
+
+  public void testToPersistentMap() {
+    PersistentMap<Integer, String> map =
+        IntStream.range(0, 10_000)
+            .boxed()
+            .parallel()
+            .collect(PersistentMap.toPersistentMap(i -> i, i -> Integer.toString(i)));
+    assertThat(map).hasSize(10_000);
+    assertThat(map).containsEntry(1234, "1234");
+  }
+
+  public void testToPersistentMap_duplicateKey() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Stream.of(1, 2, 1).collect(PersistentMap.toPersistentMap(i -> i, i -> i)));
+  }
+
+  @SuppressWarnings("DoNotCall")
+  public void testMutators() {
+    PersistentMap<String, Integer> map = PersistentMap.of("a", 1);
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+    assertThrows(UnsupportedOperationException.class, () -> map.clear());
+  }
+
+  public void testEquals() {
+    new EqualsTester()
+        .addEqualityGroup(
+            PersistentMap.of(),
+            ImmutableMap.of(),
+            new HashMap<>(),
+            PersistentMap.of("a", 1).without("a"))
+        .addEqualityGroup(
+            PersistentMap.of("a", 1).with("b", 2),
+            PersistentMap.of("b", 2).with("a", 1),
+            ImmutableMap.of("a", 1, "b", 2))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    PersistentMap<Integer, String> map = PersistentMap.of();
+    for (int i = 0; i < 1000; i++) {
+      map = map.with(i, "v" + i);
+    }
+    PersistentMap<Integer, String> copy = SerializableTester.reserializeAndAssert(map);
+    assertEquals("v999", copy.with(1000, "v1000").get(999));
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(PersistentMap.class);
+    tester.testAllPublicInstanceMethods(PersistentMap.of("a", 1));
+  }
+}
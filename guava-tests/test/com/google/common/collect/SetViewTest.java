@@ -34,6 +34,7 @@ import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.collect.Sets.SetView;
 import com.google.common.collect.testing.SetTestSuiteBuilder;
+import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.collect.testing.TestStringSetGenerator;
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
@@ -43,6 +44,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.Spliterator;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -471,6 +473,17 @@ public class SetViewTest extends TestCase {
     assertThat(union).containsExactly(0, 1, 2);
   }
 
+  @GwtIncompatible // SpliteratorTester
+  public void testUnion_spliterator() {
+    Set<Integer> set1 = new LinkedHashSet<>(asList(1, 2, 3));
+    Set<Integer> set2 = new LinkedHashSet<>(asList(3, 4, 2, 5));
+    SpliteratorTester.of(() -> union(set1, set2).spliterator()).expect(1, 2, 3, 4, 5).inOrder();
+    Spliterator<Integer> spliterator = union(set1, set2).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+  }
+
   public void testIntersection_isView() {
     Set<Integer> set1 = newHashSet(1, 2);
     Set<Integer> set2 = newHashSet(2, 3);
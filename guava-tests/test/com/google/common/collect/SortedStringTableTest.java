@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link SortedStringTable}. */
+@J2ktIncompatible
+@GwtIncompatible // SortedStringTable
+@NullUnmarked
+public class SortedStringTableTest extends TestCase {
+
+  private static ByteBuffer write(SortedStringTable.Builder builder) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    builder.writeTo(out);
+    return ByteBuffer.wrap(out.toByteArray());
+  }
+
+  public void testEmpty() throws IOException {
+    ImmutableSortedMap<String, byte[]> map =
+        SortedStringTable.open(write(SortedStringTable.builder()));
+    assertTrue(map.isEmpty());
+    assertNull(map.get("a"));
+  }
+
+  public void testRoundTrip() throws IOException {
+    TreeMap<String, byte[]> expected = new TreeMap<>();
+    for (int i = 0; i < 1000; i++) {
+      // Long shared prefixes, multi-byte characters, and a surrogate pair.
+      String key =
+          "key/\u00e9\u4e2d/" + (i % 3 == 0 ? "\ud83d\ude00" : "") + Integer.toHexString(i);
+      byte[] value = new byte[1 + i % 200];
+      value[value.length / 2] = (byte) i;
+      expected.put(key, value);
+    }
+    expected.put("", new byte[] {42});
+    ImmutableSortedMap<String, byte[]> map =
+        SortedStringTable.open(write(SortedStringTable.builder().putAll(expected)));
+
+    assertEquals(expected.size(), map.size());
+    assertThat(map.keySet()).containsExactlyElementsIn(expected.keySet()).inOrder();
+    List<byte[]> values = new ArrayList<>(map.values());
+    int i = 0;
+    for (Entry<String, byte[]> entry : expected.entrySet()) {
+      assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+      assertThat(values.get(i++)).isEqualTo(entry.getValue());
+    }
+    assertNull(map.get("key/"));
+    assertNull(map.get(42));
+  }
+
+  public void testNavigation() throws IOException {
+    ImmutableSortedMap<String, byte[]> map =
+        SortedStringTable.open(
+            write(
+                SortedStringTable.builder()
+                    .put("cherry", new byte[] {3})
+                    .put("apple", new byte[] {1})
+                    .put("banana", new byte[] {2})
+                    .put("date", new byte[] {4})));
+    assertThat(map.keySet()).containsExactly("apple", "banana", "cherry", "date").inOrder();
+    assertEquals("banana", map.ceilingKey("b"));
+    assertEquals("apple", map.floorKey("b"));
+    assertThat(map.headMap("cherry").keySet()).containsExactly("apple", "banana").inOrder();
+    assertThat(map.tailMap("banana", false).descendingMap().keySet())
+        .containsExactly("date", "cherry")
+        .inOrder();
+    assertThat(map.firstEntry().getValue()).isEqualTo(new byte[] {1});
+    assertThat(map.lastEntry().getValue()).isEqualTo(new byte[] {4});
+  }
+
+  public void testOpenAtPosition() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(new byte[] {1, 2, 3});
+    SortedStringTable.builder().put("a", new byte[] {5}).writeTo(out);
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    buffer.position(3);
+    ImmutableSortedMap<String, byte[]> map = SortedStringTable.open(buffer);
+    assertThat(map.get("a")).isEqualTo(new byte[] {5});
+    assertEquals(3, buffer.position());
+  }
+
+  public void testOpenFile() throws IOException {
+    Path path = Files.createTempFile("table", ".sst");
+    try {
+      try (OutputStream out = Files.newOutputStream(path)) {
+        SortedStringTable.builder().put("a", new byte[] {1}).put("b", new byte[0]).writeTo(out);
+      }
+      ImmutableSortedMap<String, byte[]> map = SortedStringTable.open(path);
+      assertThat(map.keySet()).containsExactly("a", "b").inOrder();
+      assertThat(map.get("a")).isEqualTo(new byte[] {1});
+      assertThat(map.get("b")).isEmpty();
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  public void testValuesAreCopies() throws IOException {
+    ImmutableSortedMap<String, byte[]> map =
+        SortedStringTable.open(write(SortedStringTable.builder().put("a", new byte[] {1})));
+    map.get("a")[0] = 2;
+    assertThat(map.get("a")).isEqualTo(new byte[] {1});
+  }
+
+  public void testBuilderRejectsDuplicateKeys() {
+    SortedStringTable.Builder builder =
+        SortedStringTable.builder().put("a", new byte[0]).put("a", new byte[1]);
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.writeTo(new ByteArrayOutputStream()));
+  }
+
+  public void testBuilderRejectsUnpairedSurrogate() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SortedStringTable.builder().put("a\ud83d", new byte[0]));
+  }
+
+  public void testOpenRejectsGarbage() {
+    assertThrows(
+        IllegalArgumentException.class, () -> SortedStringTable.open(ByteBuffer.allocate(16)));
+    assertThrows(
+        IllegalArgumentException.class, () -> SortedStringTable.open(ByteBuffer.allocate(3)));
+  }
+
+  public void testDamagedEntriesFailCleanly() throws IOException {
+    ByteBuffer buffer =
+        write(
+            SortedStringTable.builder()
+                .put("apple", new byte[] {1, 2, 3})
+                .put("apricot", new byte[] {4}));
+    ByteBuffer badOffset = ByteBuffer.wrap(buffer.array().clone());
+    badOffset.putInt(16, 1 << 20); // first entry offset, past the end
+    ImmutableSortedMap<String, byte[]> map = SortedStringTable.open(badOffset);
+    assertThrows(IllegalArgumentException.class, () -> map.firstKey());
+
+    ByteBuffer truncated = ByteBuffer.wrap(buffer.array(), 0, buffer.capacity() - 2);
+    ImmutableSortedMap<String, byte[]> truncatedMap = SortedStringTable.open(truncated);
+    assertThat(truncatedMap.firstKey()).isEqualTo("apple");
+    assertThrows(IllegalArgumentException.class, () -> truncatedMap.get("apricot"));
+  }
+
+  public void testNullPointers() {
+    new NullPointerTester().testAllPublicStaticMethods(SortedStringTable.class);
+    new NullPointerTester().testAllPublicInstanceMethods(SortedStringTable.builder());
+  }
+}
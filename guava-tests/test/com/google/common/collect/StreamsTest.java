@@ -19,6 +19,7 @@ import static com.google.common.collect.Streams.stream;
 import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toCollection;
+import static org.junit.Assert.assertThrows;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
@@ -26,6 +27,7 @@ import com.google.common.collect.testing.SpliteratorTester;
 import com.google.common.primitives.Doubles;
 import com.google.common.truth.IterableSubject;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -146,6 +148,34 @@ public class StreamsTest extends TestCase {
         .isEqualTo(OptionalDouble.empty());
   }
 
+  public void testLeastOfAndGreatestOf_longStream() {
+    assertThat(Streams.leastOf(LongStream.of(5, 3, 9, 1, 7, 3), 3))
+        .isEqualTo(new long[] {1, 3, 3});
+    assertThat(Streams.greatestOf(LongStream.of(5, 3, 9, 1, 7, 3), 2)).isEqualTo(new long[] {9, 7});
+    assertThat(Streams.leastOf(LongStream.of(2, 1), 5)).isEqualTo(new long[] {1, 2});
+    assertThat(Streams.greatestOf(LongStream.of(Long.MIN_VALUE, Long.MAX_VALUE), 1))
+        .isEqualTo(new long[] {Long.MAX_VALUE});
+    assertThat(Streams.leastOf(LongStream.of(1, 2, 3), 0)).isEmpty();
+    assertThrows(IllegalArgumentException.class, () -> Streams.leastOf(LongStream.of(), -1));
+  }
+
+  public void testLeastOfAndGreatestOf_longStreamParallel() {
+    long[] values = LongStream.range(0, 100_000).map(i -> (i * 7919) % 100_003).toArray();
+    long[] sorted = LongStream.of(values).sorted().toArray();
+    assertThat(Streams.leastOf(LongStream.of(values).parallel(), 1000))
+        .isEqualTo(Arrays.copyOf(sorted, 1000));
+    assertThat(Streams.greatestOf(LongStream.of(values).parallel(), 3))
+        .isEqualTo(new long[] {sorted[99_999], sorted[99_998], sorted[99_997]});
+  }
+
+  public void testLeastOfAndGreatestOf_doubleStream() {
+    double[] values = {2.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1.5};
+    assertThat(Streams.leastOf(DoubleStream.of(values), 4))
+        .isEqualTo(new double[] {Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0});
+    assertThat(Streams.greatestOf(DoubleStream.of(values).parallel(), 3))
+        .isEqualTo(new double[] {Double.NaN, 2.5, 0.0});
+  }
+
   public void testConcat_refStream() {
     assertThat(Streams.concat(Stream.of("a"), Stream.of("b"), Stream.empty(), Stream.of("c", "d")))
         .containsExactly("a", "b", "c", "d")
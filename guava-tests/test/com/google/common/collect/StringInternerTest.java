@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit test for {@link StringInterner}. */
+@NullUnmarked
+public class StringInternerTest extends TestCase {
+  private final StringInterner interner =
+      Interners.newBuilder().maximumSize(1000).recordStats().buildStringInterner();
+
+  public void testInternString() {
+    String canonical = "hello";
+    assertThat(interner.intern(canonical)).isSameInstanceAs(canonical);
+    assertThat(interner.intern(new String("hello"))).isSameInstanceAs(canonical);
+  }
+
+  public void testInternCharSequence() {
+    String canonical = interner.intern(new StringBuilder("hello"));
+    assertEquals("hello", canonical);
+    assertThat(interner.intern(new StringBuilder("hello"))).isSameInstanceAs(canonical);
+    assertThat(interner.intern("hello")).isSameInstanceAs(canonical);
+  }
+
+  public void testInternCharArraySlice() {
+    char[] chars = "xxhelloyy".toCharArray();
+    String canonical = interner.intern(chars, 2, 5);
+    assertEquals("hello", canonical);
+    assertThat(interner.intern("hello".toCharArray(), 0, 5)).isSameInstanceAs(canonical);
+    assertThat(interner.intern(new String("hello"))).isSameInstanceAs(canonical);
+    assertEquals("", interner.intern(chars, 9, 0));
+  }
+
+  public void testInternByteArraySlice() {
+    byte[] bytes = "--hello--".getBytes(UTF_8);
+    String canonical = interner.intern(bytes, 2, 5);
+    assertEquals("hello", canonical);
+    assertThat(interner.intern("hello".getBytes(UTF_8), 0, 5)).isSameInstanceAs(canonical);
+    assertThat(interner.intern("hello".toCharArray(), 0, 5)).isSameInstanceAs(canonical);
+  }
+
+  public void testInternByteArraySlice_nonAscii() {
+    byte[] bytes = "[café]".getBytes(UTF_8);
+    String canonical = interner.intern(bytes, 1, bytes.length - 2);
+    assertEquals("café", canonical);
+    assertThat(interner.intern(new String("café"))).isSameInstanceAs(canonical);
+  }
+
+  public void testStats() {
+    char[] chars = "abc".toCharArray();
+    interner.intern(chars, 0, 3);
+    interner.intern(chars, 0, 3);
+    interner.intern(chars, 0, 2);
+    InternerStats stats = Interners.stats(interner);
+    assertEquals(1, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals(2, stats.size());
+  }
+
+  public void testInvalidSlices() {
+    char[] chars = new char[3];
+    byte[] bytes = new byte[3];
+    assertThrows(IndexOutOfBoundsException.class, () -> interner.intern(chars, 2, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> interner.intern(chars, 0, -1));
+    assertThrows(IndexOutOfBoundsException.class, () -> interner.intern(bytes, -1, 1));
+  }
+
+  public void testConcurrentInterningReturnsOneInstance() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<String>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<String> results = new ArrayList<>();
+                  for (int i = 0; i < 500; i++) {
+                    results.add(interner.intern(Integer.toString(i).toCharArray(), 0, 1));
+                  }
+                  return results;
+                }));
+      }
+      List<String> first = futures.get(0).get();
+      for (Future<List<String>> future : futures) {
+        List<String> results = future.get();
+        for (int i = 0; i < results.size(); i++) {
+          assertThat(results.get(i)).isSameInstanceAs(first.get(i));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testNullPointers() {
+    new NullPointerTester().testAllPublicInstanceMethods(interner);
+  }
+}
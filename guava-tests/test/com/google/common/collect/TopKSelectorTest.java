@@ -119,4 +119,17 @@ public class TopKSelectorTest extends TestCase {
     top.offerAll(Ints.asList(5, 7, 6, 2, 4, 3, 1, 0, 0, 0, 0, 0, 0, 0));
     assertThat(top.topK()).isEqualTo(Ints.asList(0, 0, 0, 0, 0, 0, 0));
   }
+
+  public void testCombine() {
+    TopKSelector<Integer> top = TopKSelector.least(3);
+    top.offerAll(Ints.asList(9, 4, 8));
+    TopKSelector<Integer> other = TopKSelector.least(3);
+    other.offerAll(Ints.asList(7, 1, 6, 5, 2, 3));
+    assertThat(top.combine(other).topK()).containsExactly(1, 2, 3).inOrder();
+
+    TopKSelector<Integer> empty = TopKSelector.least(3);
+    TopKSelector<Integer> full = TopKSelector.least(3);
+    full.offerAll(Ints.asList(3, 1, 2, 0));
+    assertThat(empty.combine(full).topK()).containsExactly(0, 1, 2).inOrder();
+  }
 }
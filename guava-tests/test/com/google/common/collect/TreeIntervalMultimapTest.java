@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.Maps.immutableEntry;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Tests for {@link TreeIntervalMultimap}. */
+@GwtIncompatible // TreeIntervalMultimap
+@NullUnmarked
+public class TreeIntervalMultimapTest extends TestCase {
+
+  public void testEmpty() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    assertTrue(multimap.isEmpty());
+    assertThat(multimap.getAll(1)).isEmpty();
+    assertThat(multimap.getOverlapping(Range.all())).isEmpty();
+    assertThat(multimap.entries()).isEmpty();
+    assertThrows(NoSuchElementException.class, multimap::span);
+  }
+
+  public void testOverlappingRanges() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    assertTrue(multimap.put(Range.closed(1, 10), "a"));
+    assertTrue(multimap.put(Range.closedOpen(3, 5), "b"));
+    assertTrue(multimap.put(Range.atLeast(8), "c"));
+    assertTrue(multimap.put(Range.closed(1, 10), "d"));
+    assertFalse(multimap.put(Range.closedOpen(4, 4), "e"));
+
+    assertEquals(4, multimap.size());
+    assertThat(multimap.getAll(4)).containsExactly("a", "d", "b").inOrder();
+    assertThat(multimap.getAll(5)).containsExactly("a", "d").inOrder();
+    assertThat(multimap.getAll(10)).containsExactly("a", "d", "c").inOrder();
+    assertThat(multimap.getAll(11)).containsExactly("c");
+    assertThat(multimap.getAll(0)).isEmpty();
+    assertEquals(Range.atLeast(1), multimap.span());
+  }
+
+  public void testGetOverlapping() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    multimap.put(Range.closedOpen(1, 2), "a");
+    multimap.put(Range.closed(2, 3), "b");
+    multimap.put(Range.open(3, 6), "c");
+    assertThat(multimap.getOverlapping(Range.closed(2, 3)))
+        .containsExactly(immutableEntry(Range.closed(2, 3), "b"));
+    assertThat(multimap.getOverlapping(Range.closed(1, 4)))
+        .containsExactly(
+            immutableEntry(Range.closedOpen(1, 2), "a"),
+            immutableEntry(Range.closed(2, 3), "b"),
+            immutableEntry(Range.open(3, 6), "c"))
+        .inOrder();
+    assertThat(multimap.getOverlapping(Range.closedOpen(3, 3))).isEmpty();
+    assertThat(multimap.getOverlapping(Range.singleton(3)))
+        .containsExactly(immutableEntry(Range.closed(2, 3), "b"));
+  }
+
+  public void testRemove() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    multimap.put(Range.closed(1, 10), "a");
+    multimap.put(Range.closed(1, 10), "b");
+    multimap.put(Range.closed(1, 10), "a");
+    multimap.put(Range.closed(2, 10), "a");
+    assertFalse(multimap.remove(Range.closed(1, 9), "a"));
+    assertFalse(multimap.remove(Range.closed(1, 10), "c"));
+    assertFalse(multimap.remove(Range.closed(1, 10), null));
+    assertTrue(multimap.remove(Range.closed(1, 10), "a"));
+    assertThat(multimap.getAll(5)).containsExactly("b", "a", "a").inOrder();
+    assertTrue(multimap.remove(Range.closed(1, 10), "a"));
+    assertThat(multimap.getAll(1)).containsExactly("b");
+    multimap.clear();
+    assertTrue(multimap.isEmpty());
+  }
+
+  public void testAgainstBruteForce() {
+    Random random = new Random(0);
+    TreeIntervalMultimap<Integer, Integer> multimap = TreeIntervalMultimap.create();
+    List<Entry<Range<Integer>, Integer>> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      int lower = random.nextInt(100);
+      Range<Integer> range = Range.closedOpen(lower, lower + 1 + random.nextInt(20));
+      if (random.nextInt(4) > 0 || expected.isEmpty()) {
+        multimap.put(range, i);
+        expected.add(immutableEntry(range, i));
+      } else {
+        Entry<Range<Integer>, Integer> entry = expected.remove(random.nextInt(expected.size()));
+        assertTrue(multimap.remove(entry.getKey(), entry.getValue()));
+      }
+      expected.sort(Range.<Integer>rangeLexOrdering().onKeys());
+      assertThat(multimap.entries()).containsExactlyElementsIn(expected).inOrder();
+
+      int key = random.nextInt(120);
+      List<Integer> values = new ArrayList<>();
+      for (Entry<Range<Integer>, Integer> entry : expected) {
+        if (entry.getKey().contains(key)) {
+          values.add(entry.getValue());
+        }
+      }
+      assertThat(multimap.getAll(key)).containsExactlyElementsIn(values).inOrder();
+    }
+  }
+
+  public void testEntriesIteratorConcurrentModification() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    multimap.put(Range.closed(1, 10), "a");
+    multimap.put(Range.closed(2, 10), "b");
+    Iterator<Entry<Range<Integer>, String>> iterator = multimap.entries().iterator();
+    iterator.next();
+    multimap.put(Range.closed(3, 4), "c");
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  public void testEquals() {
+    TreeIntervalMultimap<Integer, String> multimap = TreeIntervalMultimap.create();
+    multimap.put(Range.closed(1, 10), "a");
+    multimap.put(Range.closed(2, 3), "b");
+    TreeIntervalMultimap<Integer, String> reordered = TreeIntervalMultimap.create();
+    reordered.put(Range.closed(2, 3), "b");
+    reordered.put(Range.closed(1, 10), "a");
+    TreeIntervalMultimap<Integer, String> duplicates = TreeIntervalMultimap.create(multimap);
+    duplicates.put(Range.closed(2, 3), "b");
+    new EqualsTester()
+        .addEqualityGroup(
+            multimap,
+            reordered,
+            TreeIntervalMultimap.create(multimap),
+            ImmutableIntervalMultimap.copyOf(multimap))
+        .addEqualityGroup(duplicates)
+        .addEqualityGroup(TreeIntervalMultimap.create(), ImmutableIntervalMultimap.of())
+        .testEquals();
+    assertEquals("[[1..10]=a, [2..3]=b]", multimap.toString());
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicStaticMethods(TreeIntervalMultimap.class);
+    tester.testAllPublicInstanceMethods(TreeIntervalMultimap.create());
+  }
+}
@@ -42,6 +42,10 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.SettableAbstractFuture.TrustedAbstractFuture;
@@ -63,6 +67,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -1061,6 +1066,168 @@ public class AbstractFutureTest extends TestCase {
 
   private static final class SomeCheckedException extends Exception {}
 
+  public void testListenersWithBatchingExecutor_dispatchedTogether() {
+    List<String> calls = new ArrayList<>();
+    List<List<Runnable>> batches = new ArrayList<>();
+    BatchingExecutor batching =
+        new BatchingExecutor() {
+          boolean started;
+
+          @Override
+          public boolean tryExecuteAll(List<Runnable> tasks) {
+            if (!started) {
+              return false;
+            }
+            batches.add(tasks);
+            tasks.forEach(Runnable::run);
+            return true;
+          }
+
+          @Override
+          public void execute(Runnable task) {
+            started = true;
+            batches.add(ImmutableList.of(task));
+            task.run();
+          }
+        };
+    AbstractFuture<String> future = new AbstractFuture<String>() {};
+    future.addListener(() -> calls.add("a"), batching);
+    future.addListener(() -> calls.add("b"), batching);
+    future.addListener(() -> calls.add("c"), directExecutor());
+    future.addListener(() -> calls.add("d"), batching);
+    future.addListener(() -> calls.add("e"), batching);
+    future.addListener(() -> calls.add("f"), batching);
+    future.addListener(() -> calls.add("g"), directExecutor());
+    future.addListener(() -> calls.add("h"), batching);
+    future.set("done");
+
+    assertThat(calls).containsExactly("a", "b", "c", "d", "e", "f", "g", "h").inOrder();
+    // The first listener of each run starts the executor, which then takes the rest in one call.
+    assertThat(Lists.transform(batches, List::size)).containsExactly(1, 1, 1, 2, 1).inOrder();
+  }
+
+  public void testListenersWithBatchingExecutor_declinedOnlyOnce() {
+    List<Runnable> executed = new ArrayList<>();
+    AtomicInteger offers = new AtomicInteger();
+    BatchingExecutor declining =
+        new BatchingExecutor() {
+          @Override
+          public boolean tryExecuteAll(List<Runnable> tasks) {
+            offers.incrementAndGet();
+            return false;
+          }
+
+          @Override
+          public void execute(Runnable task) {
+            executed.add(task);
+          }
+        };
+    AbstractFuture<String> future = new AbstractFuture<String>() {};
+    for (int i = 0; i < 10; i++) {
+      future.addListener(() -> {}, declining);
+    }
+    future.set("done");
+
+    assertThat(executed).hasSize(10);
+    assertThat(offers.get()).isEqualTo(1);
+  }
+
+  public void testManyListeners_runInOrder() {
+    List<Integer> calls = new ArrayList<>();
+    AbstractFuture<String> future = new AbstractFuture<String>() {};
+    for (int i = 0; i < 1000; i++) {
+      int index = i;
+      future.addListener(() -> calls.add(index), directExecutor());
+    }
+    future.set("done");
+
+    assertThat(calls).containsExactlyElementsIn(ContiguousSet.closedOpen(0, 1000)).inOrder();
+  }
+
+  public void testManyListeners_withSetFutureChains() {
+    List<String> calls = new ArrayList<>();
+    AbstractFuture<String> source = new AbstractFuture<String>() {};
+    List<AbstractFuture<String>> chained = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      int index = i;
+      source.addListener(() -> calls.add("source" + index), directExecutor());
+      if (i % 7 == 0) {
+        AbstractFuture<String> target = new AbstractFuture<String>() {};
+        target.setFuture(source);
+        target.addListener(() -> calls.add("target" + index), directExecutor());
+        chained.add(target);
+      }
+    }
+    source.set("done");
+
+    assertThat(calls).hasSize(100 + chained.size());
+    for (AbstractFuture<String> target : chained) {
+      assertThat(Futures.getUnchecked(target)).isEqualTo("done");
+    }
+    assertThat(Iterables.filter(calls, call -> call.startsWith("source")))
+        .containsExactlyElementsIn(
+            Lists.transform(ContiguousSet.closedOpen(0, 100).asList(), i -> "source" + i))
+        .inOrder();
+  }
+
+  public void testManyListenersWithBatchingExecutor_chunksBatched() {
+    List<Integer> calls = new ArrayList<>();
+    List<Integer> batchSizes = new ArrayList<>();
+    BatchingExecutor batching =
+        new BatchingExecutor() {
+          @Override
+          public boolean tryExecuteAll(List<Runnable> tasks) {
+            batchSizes.add(tasks.size());
+            tasks.forEach(Runnable::run);
+            return true;
+          }
+
+          @Override
+          public void execute(Runnable task) {
+            batchSizes.add(1);
+            task.run();
+          }
+        };
+    AbstractFuture<String> future = new AbstractFuture<String>() {};
+    for (int i = 0; i < 64; i++) {
+      int index = i;
+      future.addListener(() -> calls.add(index), batching);
+    }
+    future.set("done");
+
+    assertThat(calls).containsExactlyElementsIn(ContiguousSet.closedOpen(0, 64)).inOrder();
+    // Each chunk of 16 listeners costs one execute and one batch of the other 15.
+    assertThat(batchSizes).containsExactly(1, 15, 1, 15, 1, 15, 1, 15).inOrder();
+  }
+
+  public void testListenersWithBatchingExecutor_executorThrows() {
+    List<String> calls = new ArrayList<>();
+    List<Runnable> attempted = new ArrayList<>();
+    BatchingExecutor rejecting =
+        new BatchingExecutor() {
+          @Override
+          public boolean tryExecuteAll(List<Runnable> tasks) {
+            return false;
+          }
+
+          @Override
+          public void execute(Runnable task) {
+            attempted.add(task);
+            throw new RejectedExecutionException();
+          }
+        };
+    AbstractFuture<String> future = new AbstractFuture<String>() {};
+    future.addListener(() -> calls.add("a"), rejecting);
+    future.addListener(() -> calls.add("b"), rejecting);
+    future.addListener(() -> calls.add("c"), rejecting);
+    future.addListener(() -> calls.add("d"), directExecutor());
+    future.set("done");
+
+    // Each listener gets its own attempt, as it would with any other executor.
+    assertThat(attempted).hasSize(3);
+    assertThat(calls).containsExactly("d");
+  }
+
   public void testTrustedGetFailure_completed() {
     TrustedAbstractFuture<String> future = new TrustedAbstractFuture<>();
     future.doSet("261");
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.getDone;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.FakeTicker;
+import com.google.common.util.concurrent.ConcurrencyLimiter.Aimd;
+import com.google.common.util.concurrent.ConcurrencyLimiter.Permit;
+import com.google.common.util.concurrent.ConcurrencyLimiter.Vegas;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit tests for {@link ConcurrencyLimiter}. */
+@GwtIncompatible
+@J2ktIncompatible
+@NullUnmarked
+public class ConcurrencyLimiterTest extends TestCase {
+  private static final long THRESHOLD_NANOS = MILLISECONDS.toNanos(100);
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  public void testTryAcquire_upToLimit() {
+    ConcurrencyLimiter limiter = aimd(2, 10);
+    Permit first = limiter.tryAcquire();
+    Permit second = limiter.tryAcquire();
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(limiter.tryAcquire()).isNull();
+    assertEquals(2, limiter.getInFlight());
+
+    first.releaseIgnored();
+    assertEquals(1, limiter.getInFlight());
+    assertThat(limiter.tryAcquire()).isNotNull();
+  }
+
+  public void testRelease_twice() {
+    ConcurrencyLimiter limiter = aimd(2, 10);
+    Permit permit = limiter.tryAcquire();
+    permit.release();
+    assertThrows(IllegalStateException.class, permit::release);
+    assertThrows(IllegalStateException.class, permit::releaseIgnored);
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  public void testAimd_increasesWhenFastAndInUse() {
+    ConcurrencyLimiter limiter = aimd(2, 10);
+    Permit first = limiter.tryAcquire();
+    Permit second = limiter.tryAcquire();
+    ticker.advance(10, MILLISECONDS);
+    first.release();
+    second.release();
+    assertEquals(4, limiter.getLimit());
+  }
+
+  public void testAimd_doesNotIncreaseWhenUnderused() {
+    ConcurrencyLimiter limiter = aimd(10, 20);
+    for (int i = 0; i < 5; i++) {
+      limiter.tryAcquire().release();
+    }
+    assertEquals(10, limiter.getLimit());
+  }
+
+  public void testAimd_decreasesWhenSlow() {
+    ConcurrencyLimiter limiter = aimd(10, 20);
+    Permit permit = limiter.tryAcquire();
+    ticker.advance(200, MILLISECONDS);
+    permit.release();
+    assertEquals(9, limiter.getLimit());
+  }
+
+  public void testAimd_decreasesWhenDropped() {
+    ConcurrencyLimiter limiter = aimd(10, 20);
+    limiter.tryAcquire().releaseDropped();
+    limiter.tryAcquire().releaseDropped();
+    assertEquals(8, limiter.getLimit());
+  }
+
+  public void testAimd_staysWithinBounds() {
+    ConcurrencyLimiter limiter = aimd(1, 3);
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire().release();
+    }
+    assertEquals(3, limiter.getLimit());
+    for (int i = 0; i < 50; i++) {
+      limiter.tryAcquire().releaseDropped();
+    }
+    assertEquals(1, limiter.getLimit());
+  }
+
+  public void testReleaseIgnored_doesNotChangeLimit() {
+    ConcurrencyLimiter limiter = aimd(1, 10);
+    limiter.tryAcquire().releaseIgnored();
+    assertEquals(1, limiter.getLimit());
+  }
+
+  public void testVegas_increasesWithoutQueueing() {
+    ConcurrencyLimiter limiter = ConcurrencyLimiter.create(new Vegas(), 2, 100, ticker);
+    for (int i = 0; i < 3; i++) {
+      Permit permit = limiter.tryAcquire();
+      ticker.advance(10, MILLISECONDS);
+      permit.release();
+    }
+    assertThat(limiter.getLimit()).isGreaterThan(2);
+  }
+
+  public void testVegas_decreasesWhenLatencyGrows() {
+    ConcurrencyLimiter limiter = ConcurrencyLimiter.create(new Vegas(), 20, 100, ticker);
+    List<Permit> permits = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      permits.add(limiter.tryAcquire());
+    }
+    ticker.advance(10, MILLISECONDS);
+    // Too few operations were in flight when this one started to say anything about the limit, but
+    // its latency is still the lowest seen.
+    permits.get(0).release();
+    assertEquals(20, limiter.getLimit());
+    ticker.advance(90, MILLISECONDS);
+    permits.get(19).release();
+    assertEquals(18, limiter.getLimit());
+  }
+
+  public void testVegas_decreasesWhenDropped() {
+    ConcurrencyLimiter limiter = ConcurrencyLimiter.create(new Vegas(), 100, 100, ticker);
+    limiter.tryAcquire().releaseDropped();
+    assertEquals(98, limiter.getLimit());
+  }
+
+  public void testAcquireAsync_immediate() throws Exception {
+    ConcurrencyLimiter limiter = aimd(1, 10);
+    ListenableFuture<Permit> future = limiter.acquireAsync();
+    assertThat(getDone(future)).isNotNull();
+    assertEquals(1, limiter.getInFlight());
+  }
+
+  public void testAcquireAsync_waits() throws Exception {
+    ConcurrencyLimiter limiter = aimd(1, 1);
+    Permit held = limiter.tryAcquire();
+    ListenableFuture<Permit> first = limiter.acquireAsync();
+    assertFalse(first.isDone());
+    assertThat(limiter.tryAcquire()).isNull();
+
+    held.release();
+    Permit granted = getDone(first);
+    assertEquals(1, limiter.getInFlight());
+    granted.release();
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  public void testAcquireAsync_skipsCancelledWaiters() throws Exception {
+    ConcurrencyLimiter limiter = aimd(2, 2);
+    Permit held = limiter.tryAcquire();
+    Permit unused = limiter.tryAcquire();
+    ListenableFuture<Permit> cancelled = limiter.acquireAsync();
+    ListenableFuture<Permit> waiting = limiter.acquireAsync();
+    assertTrue(cancelled.cancel(false));
+
+    held.release();
+    assertThat(getDone(waiting)).isNotNull();
+    assertEquals(2, limiter.getInFlight());
+  }
+
+  public void testAcquireAsync_tooManyWaiters() {
+    ConcurrencyLimiter limiter = aimd(1, 1);
+    Permit unused = limiter.tryAcquire();
+    ListenableFuture<Permit> waiting = limiter.acquireAsync();
+    ExecutionException expected =
+        assertThrows(ExecutionException.class, () -> getDone(limiter.acquireAsync()));
+    assertThat(expected).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+
+    waiting.cancel(false);
+    assertFalse(limiter.acquireAsync().isDone());
+  }
+
+  public void testDecorate_runsAndReleases() throws Exception {
+    ConcurrencyLimiter limiter = aimd(1, 10);
+    ListeningExecutorService executor = limiter.decorate(newDirectExecutorService());
+    ListenableFuture<String> future = executor.submit(() -> "a");
+    assertThat(getDone(future)).isEqualTo("a");
+    assertEquals(0, limiter.getInFlight());
+    assertEquals(2, limiter.getLimit());
+  }
+
+  public void testDecorate_shedsWhenAtLimit() {
+    ConcurrencyLimiter limiter = aimd(1, 10);
+    List<Runnable> queued = new ArrayList<>();
+    ListeningExecutorService direct = newDirectExecutorService();
+    ListeningExecutorService executor =
+        limiter.decorate(
+            new ForwardingListeningExecutorService() {
+              @Override
+              protected ListeningExecutorService delegate() {
+                return direct;
+              }
+
+              @Override
+              public void execute(Runnable command) {
+                queued.add(command);
+              }
+            });
+    ListenableFuture<?> first = executor.submit(() -> {});
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> {}));
+
+    queued.get(0).run();
+    assertTrue(first.isDone());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  public void testDecorate_delegateRejects() {
+    ConcurrencyLimiter limiter = aimd(1, 10);
+    ExecutorService delegate = Executors.newSingleThreadExecutor();
+    delegate.shutdown();
+    ListeningExecutorService executor = limiter.decorate(delegate);
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    assertEquals(0, limiter.getInFlight());
+    assertEquals(1, limiter.getLimit());
+    assertTrue(executor.isShutdown());
+  }
+
+  public void testDecorate_shutdownNowReleasesUnrunTasks() throws InterruptedException {
+    ConcurrencyLimiter limiter = aimd(5, 10);
+    ListeningExecutorService executor = limiter.decorate(Executors.newSingleThreadExecutor());
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          started.countDown();
+          Uninterruptibles.awaitUninterruptibly(proceed);
+        });
+    Runnable queued = () -> {};
+    executor.execute(queued);
+    started.await();
+    assertEquals(2, limiter.getInFlight());
+
+    assertThat(executor.shutdownNow()).containsExactly(queued);
+    assertEquals(1, limiter.getInFlight());
+    proceed.countDown();
+    assertTrue(executor.awaitTermination(10, SECONDS));
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  public void testInvalidArguments() {
+    Duration second = Duration.ofSeconds(1);
+    assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.aimd(0, 10, second));
+    assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.aimd(11, 10, second));
+    assertThrows(
+        IllegalArgumentException.class, () -> ConcurrencyLimiter.aimd(1, 10, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.vegas(2, 1));
+  }
+
+  public void testToString() {
+    ConcurrencyLimiter limiter = ConcurrencyLimiter.vegas(3, 10);
+    Permit unused = limiter.tryAcquire();
+    assertThat(limiter.toString()).isEqualTo("ConcurrencyLimiter[limit=3, inFlight=1]");
+    assertThat(limiter.decorate(newDirectExecutorService()).toString())
+        .contains("ConcurrencyLimiter[limit=3, inFlight=1]");
+  }
+
+  private ConcurrencyLimiter aimd(int initialLimit, int maxLimit) {
+    return ConcurrencyLimiter.create(new Aimd(THRESHOLD_NANOS), initialLimit, maxLimit, ticker);
+  }
+}
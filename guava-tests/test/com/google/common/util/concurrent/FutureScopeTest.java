@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.getDone;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit tests for {@link FutureScope}. */
+@GwtIncompatible
+@J2ktIncompatible
+@NullUnmarked
+public class FutureScopeTest extends TestCase {
+
+  public void testJoin_allSucceed() throws Exception {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      ListenableFuture<String> a = scope.fork(() -> "a");
+      ListenableFuture<String> b = scope.forkAsync(() -> immediateFuture("b"));
+      SettableFuture<String> c = SettableFuture.create();
+      assertThat(scope.adopt(c)).isSameInstanceAs(c);
+
+      ListenableFuture<Void> joined = scope.join();
+      assertFalse(joined.isDone());
+      c.set("c");
+      assertThat(getDone(joined)).isNull();
+      assertThat(getDone(a)).isEqualTo("a");
+      assertThat(getDone(b)).isEqualTo("b");
+    }
+  }
+
+  public void testJoin_empty() throws Exception {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      assertThat(getDone(scope.join())).isNull();
+    }
+  }
+
+  public void testFailure_cancelsSiblings() {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      SettableFuture<String> slow = scope.adopt(SettableFuture.create());
+      SettableFuture<String> failing = scope.adopt(SettableFuture.create());
+      ListenableFuture<Void> joined = scope.join();
+
+      Exception failure = new Exception();
+      failing.setException(failure);
+      assertTrue(slow.isCancelled());
+      assertTrue(slow.wasInterrupted());
+      ExecutionException expected = assertThrows(ExecutionException.class, () -> getDone(joined));
+      assertThat(expected).hasCauseThat().isSameInstanceAs(failure);
+    }
+  }
+
+  public void testFailure_reportsFirstFailure() {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      Exception first = new Exception("first");
+      ListenableFuture<String> failed =
+          scope.fork(
+              () -> {
+                throw first;
+              });
+      assertTrue(failed.isDone());
+      ListenableFuture<String> forkedLater = scope.fork(() -> "never run");
+      assertTrue(forkedLater.isCancelled());
+
+      ExecutionException expected =
+          assertThrows(ExecutionException.class, () -> getDone(scope.join()));
+      assertThat(expected).hasCauseThat().isSameInstanceAs(first);
+    }
+  }
+
+  public void testCancelledChild_cancelsJoin() {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      SettableFuture<String> sibling = scope.adopt(SettableFuture.create());
+      SettableFuture<String> child = scope.adopt(SettableFuture.create());
+      ListenableFuture<Void> joined = scope.join();
+      child.cancel(false);
+      assertTrue(sibling.isCancelled());
+      assertTrue(joined.isCancelled());
+    }
+  }
+
+  public void testCancelJoin_cancelsChildren() {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      SettableFuture<String> child = scope.adopt(SettableFuture.create());
+      ListenableFuture<Void> joined = scope.join();
+      joined.cancel(true);
+      assertTrue(child.isCancelled());
+      assertTrue(child.wasInterrupted());
+    }
+  }
+
+  public void testClose_cancelsOutstandingChildren() {
+    SettableFuture<String> done = SettableFuture.create();
+    SettableFuture<String> pending = SettableFuture.create();
+    FutureScope scope = FutureScope.open(directExecutor());
+    scope.adopt(done);
+    scope.adopt(pending);
+    done.set("done");
+    scope.close();
+    assertTrue(pending.isCancelled());
+    assertFalse(done.isCancelled());
+    scope.close();
+  }
+
+  public void testForkAfterJoinOrClose_throws() {
+    FutureScope scope = FutureScope.open(directExecutor());
+    ListenableFuture<Void> unused = scope.join();
+    assertThrows(IllegalStateException.class, () -> scope.fork(() -> "a"));
+    assertThrows(IllegalStateException.class, () -> scope.join());
+    scope.close();
+    assertThrows(IllegalStateException.class, () -> scope.adopt(SettableFuture.create()));
+  }
+
+  public void testRejectedExecution_failsScope() {
+    try (FutureScope scope =
+        FutureScope.open(
+            command -> {
+              throw new RejectedExecutionException();
+            })) {
+      ListenableFuture<String> child = scope.fork(() -> "a");
+      ExecutionException expected = assertThrows(ExecutionException.class, () -> getDone(child));
+      assertThat(expected).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+    }
+  }
+
+  public void testJoin_timeout() throws Exception {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor();
+    CountDownLatch interrupted = new CountDownLatch(1);
+    try (FutureScope scope = FutureScope.open(executor)) {
+      ListenableFuture<String> child =
+          scope.fork(
+              () -> {
+                try {
+                  new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                  interrupted.countDown();
+                }
+                return "interrupted";
+              });
+      ListenableFuture<Void> joined = scope.join(Duration.ofMillis(10), scheduler);
+      ExecutionException expected = assertThrows(ExecutionException.class, () -> joined.get());
+      assertThat(expected).hasCauseThat().isInstanceOf(TimeoutException.class);
+      // The timeout fails the joined future before it cancels the children.
+      assertTrue(interrupted.await(10, SECONDS));
+      assertTrue(child.isCancelled());
+    } finally {
+      executor.shutdown();
+      scheduler.shutdown();
+    }
+  }
+
+  public void testFork_concurrentFailure() throws Exception {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try (FutureScope scope = FutureScope.open(executor)) {
+      CountDownLatch never = new CountDownLatch(1);
+      for (int i = 0; i < 10; i++) {
+        ListenableFuture<Boolean> unused = scope.fork(() -> never.await(10, SECONDS));
+      }
+      ListenableFuture<String> failing =
+          scope.fork(
+              () -> {
+                throw new IllegalStateException();
+              });
+      ExecutionException expected =
+          assertThrows(ExecutionException.class, () -> scope.join().get(10, SECONDS));
+      assertThat(expected).hasCauseThat().isInstanceOf(IllegalStateException.class);
+      assertTrue(failing.isDone());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  public void testCancelledChildException() {
+    try (FutureScope scope = FutureScope.open(directExecutor())) {
+      ListenableFuture<String> child =
+          scope.fork(
+              () -> {
+                throw new CancellationException();
+              });
+      assertFalse(child.isCancelled());
+      assertThrows(ExecutionException.class, () -> getDone(scope.join()));
+    }
+  }
+}
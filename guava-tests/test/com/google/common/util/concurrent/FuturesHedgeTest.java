@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.hedge;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit tests for {@link Futures#hedge}. */
+@GwtIncompatible
+@J2ktIncompatible
+@NullUnmarked
+public class FuturesHedgeTest extends TestCase {
+  private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+
+  /** The futures returned by {@link #callable}, in the order the attempts started. */
+  private final List<SettableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+  private final Semaphore attemptStarted = new Semaphore(0);
+
+  private final AsyncCallable<String> callable =
+      () -> {
+        SettableFuture<String> attempt = SettableFuture.create();
+        attempts.add(attempt);
+        attemptStarted.release();
+        return attempt;
+      };
+
+  @Override
+  protected void tearDown() {
+    executor.shutdownNow();
+  }
+
+  public void testFirstAttemptSucceeds() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    ListenableFuture<String> future =
+        hedge(
+            () -> {
+              calls.incrementAndGet();
+              return immediateFuture("a");
+            },
+            Duration.ofSeconds(10),
+            3,
+            executor);
+    assertThat(future.get(10, SECONDS)).isEqualTo("a");
+    assertEquals(1, calls.get());
+  }
+
+  public void testBackupAttemptWins() throws Exception {
+    ListenableFuture<String> future = hedge(callable, Duration.ofMillis(1), 2, executor);
+    awaitAttempts(2);
+    attempts.get(1).set("backup");
+
+    assertThat(future.get(10, SECONDS)).isEqualTo("backup");
+    assertCancelled(attempts.get(0));
+    assertTrue(attempts.get(0).wasInterrupted());
+  }
+
+  public void testStopsAtMaxAttempts() throws Exception {
+    ListenableFuture<String> future = hedge(callable, 1, MILLISECONDS, 3, executor);
+    awaitAttempts(3);
+    Thread.sleep(50);
+    assertThat(attempts).hasSize(3);
+    assertFalse(future.isDone());
+
+    attempts.get(2).set("c");
+    assertThat(future.get(10, SECONDS)).isEqualTo("c");
+    assertCancelled(attempts.get(0));
+    assertCancelled(attempts.get(1));
+  }
+
+  public void testNoBackupAfterSuccess() throws Exception {
+    ListenableFuture<String> future = hedge(callable, Duration.ofMillis(20), 5, executor);
+    awaitAttempts(1);
+    attempts.get(0).set("a");
+    assertThat(future.get(10, SECONDS)).isEqualTo("a");
+    Thread.sleep(100);
+    assertThat(attempts).hasSize(1);
+  }
+
+  public void testFailureDoesNotLaunchBackup() throws Exception {
+    Exception failure = new Exception();
+    AtomicInteger calls = new AtomicInteger();
+    ListenableFuture<String> future =
+        hedge(
+            () -> {
+              calls.incrementAndGet();
+              throw failure;
+            },
+            Duration.ofSeconds(10),
+            3,
+            executor);
+    ExecutionException expected =
+        assertThrows(ExecutionException.class, () -> future.get(10, SECONDS));
+    assertThat(expected).hasCauseThat().isSameInstanceAs(failure);
+    assertEquals(1, calls.get());
+  }
+
+  public void testAllAttemptsFail_reportsFirstFailure() throws Exception {
+    ListenableFuture<String> future = hedge(callable, Duration.ofMillis(1), 2, executor);
+    awaitAttempts(2);
+    Exception first = new Exception("first");
+    attempts.get(0).setException(first);
+    assertFalse(future.isDone());
+    attempts.get(1).setException(new Exception("second"));
+
+    ExecutionException expected =
+        assertThrows(ExecutionException.class, () -> future.get(10, SECONDS));
+    assertThat(expected).hasCauseThat().isSameInstanceAs(first);
+  }
+
+  public void testFailureThenBackupSucceeds() throws Exception {
+    ListenableFuture<String> future = hedge(callable, Duration.ofMillis(1), 2, executor);
+    awaitAttempts(2);
+    attempts.get(0).setException(new Exception());
+    attempts.get(1).set("b");
+    assertThat(future.get(10, SECONDS)).isEqualTo("b");
+  }
+
+  public void testCancel_cancelsAttemptsAndBackups() throws Exception {
+    ListenableFuture<String> future = hedge(callable, Duration.ofMillis(20), 5, executor);
+    awaitAttempts(1);
+    assertTrue(future.cancel(false));
+    assertCancelled(attempts.get(0));
+    assertFalse(attempts.get(0).wasInterrupted());
+    Thread.sleep(100);
+    assertThat(attempts).hasSize(1);
+  }
+
+  public void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class, () -> hedge(callable, Duration.ofMillis(1), 0, executor));
+    assertThrows(
+        IllegalArgumentException.class, () -> hedge(callable, Duration.ofMillis(-1), 1, executor));
+  }
+
+  /**
+   * Asserts that {@code attempt} is, or soon will be, cancelled. An attempt's task may still be
+   * returning from the callable when the hedged future completes, in which case the task cancels
+   * the attempt as it does.
+   */
+  private static void assertCancelled(ListenableFuture<?> attempt) {
+    assertThrows(CancellationException.class, () -> attempt.get(10, SECONDS));
+  }
+
+  private void awaitAttempts(int count) throws InterruptedException {
+    assertTrue(attemptStarted.tryAcquire(count, 10, SECONDS));
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.Ticker;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.util.concurrent.RateLimiterTest.FakeStopwatch;
+import java.time.Duration;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit tests for {@link KeyedRateLimiter}. */
+@GwtIncompatible
+@J2ktIncompatible
+@NullUnmarked
+public class KeyedRateLimiterTest extends TestCase {
+  private final FakeStopwatch stopwatch = new FakeStopwatch();
+
+  private final Ticker ticker = tickerFor(stopwatch);
+
+  public void testKeysAreIndependent() {
+    KeyedRateLimiter<String> limiter = create(1.0);
+    assertTrue(limiter.tryAcquire("a"));
+    assertFalse(limiter.tryAcquire("a"));
+    assertTrue(limiter.tryAcquire("b"));
+    assertFalse(limiter.tryAcquire("b"));
+
+    stopwatch.sleepMillis(1000);
+    assertTrue(limiter.tryAcquire("a"));
+    assertTrue(limiter.tryAcquire("b"));
+  }
+
+  public void testBurst() {
+    KeyedRateLimiter<String> limiter = create(5.0);
+    assertTrue(limiter.tryAcquire("a"));
+    stopwatch.sleepMillis(10000);
+    // One second's worth of stored permits, plus the permit that is available right away.
+    for (int i = 0; i < 6; i++) {
+      assertTrue(limiter.tryAcquire("a"));
+    }
+    assertFalse(limiter.tryAcquire("a"));
+  }
+
+  public void testLargeRequestThrottlesTheNextOne() {
+    KeyedRateLimiter<String> limiter = create(1.0);
+    assertTrue(limiter.tryAcquire("a", 10));
+    stopwatch.sleepMillis(9999);
+    assertFalse(limiter.tryAcquire("a"));
+    stopwatch.sleepMillis(1);
+    assertTrue(limiter.tryAcquire("a"));
+  }
+
+  public void testBehavesLikeRateLimiter() {
+    Random random = new Random(0);
+    for (double rate : new double[] {0.5, 1.0, 5.0, 8.0, 100.0}) {
+      // A RateLimiter starts out as if it had been unused since its stopwatch started, and a key as
+      // if it had been unused until it was first used, so both start out at time zero.
+      FakeStopwatch clock = new FakeStopwatch();
+      RateLimiter expected = RateLimiter.create(rate, clock);
+      KeyedRateLimiter<String> actual =
+          KeyedRateLimiter.create(rate, 10, MINUTES, tickerFor(clock));
+      for (int i = 0; i < 1000; i++) {
+        int permits = 1 + random.nextInt(3);
+        assertEquals(
+            "rate " + rate + ", step " + i,
+            expected.tryAcquire(permits),
+            actual.tryAcquire("key", permits));
+        clock.sleepMicros("U", random.nextInt(500_000));
+      }
+    }
+  }
+
+  public void testParent() {
+    KeyedRateLimiter<String> parent = create(2.0);
+    KeyedRateLimiter<String> limiter =
+        KeyedRateLimiter.create(
+            10.0, Duration.ofMinutes(1), parent, tenant -> tenant.substring(0, 1));
+    assertTrue(limiter.tryAcquire("a1"));
+    assertFalse(limiter.tryAcquire("a2")); // the parent key "a" is exhausted
+    assertTrue(limiter.tryAcquire("b1"));
+
+    stopwatch.sleepMillis(500);
+    assertTrue(limiter.tryAcquire("a2"));
+  }
+
+  public void testParentRejection_doesNotChargeKey() {
+    KeyedRateLimiter<String> parent = create(1.0);
+    KeyedRateLimiter<String> limiter =
+        KeyedRateLimiter.create(0.1, Duration.ofMinutes(1), parent, tenant -> "all");
+    assertTrue(limiter.tryAcquire("a"));
+    assertFalse(limiter.tryAcquire("b"));
+
+    stopwatch.sleepMillis(1000);
+    // Had "b" been charged for its rejected request, it would have to wait ten seconds.
+    assertTrue(limiter.tryAcquire("b"));
+    assertFalse(limiter.tryAcquire("a"));
+  }
+
+  public void testExpiration() {
+    KeyedRateLimiter<String> limiter = KeyedRateLimiter.create(0.01, 1, MINUTES, ticker);
+    assertTrue(limiter.tryAcquire("a"));
+    stopwatch.sleepMillis(30_000);
+    assertFalse(limiter.tryAcquire("a"));
+    // Once "a" has gone unused for a minute, it is forgotten, and starts over.
+    stopwatch.sleepMillis(60_000);
+    assertTrue(limiter.tryAcquire("a"));
+  }
+
+  public void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class, () -> KeyedRateLimiter.create(0.0, Duration.ofMinutes(1)));
+    assertThrows(IllegalArgumentException.class, () -> KeyedRateLimiter.create(1.0, Duration.ZERO));
+    KeyedRateLimiter<String> limiter = create(1.0);
+    assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire("a", 0));
+  }
+
+  public void testGetRateAndToString() {
+    KeyedRateLimiter<String> limiter = create(5.0);
+    assertEquals(5.0, limiter.getRate());
+    assertEquals("KeyedRateLimiter[stableRate=5.0qps]", limiter.toString());
+  }
+
+  public void testNulls() {
+    NullPointerTester tester =
+        new NullPointerTester()
+            .setDefault(int.class, 1)
+            .setDefault(double.class, 1.0d)
+            .setDefault(long.class, 1L)
+            .setDefault(Duration.class, Duration.ofSeconds(1))
+            .setDefault(KeyedRateLimiter.class, create(1.0));
+    tester.testAllPublicStaticMethods(KeyedRateLimiter.class);
+    tester.testAllPublicInstanceMethods(create(1.0));
+  }
+
+  private static Ticker tickerFor(FakeStopwatch stopwatch) {
+    return new Ticker() {
+      @Override
+      public long read() {
+        return stopwatch.instant;
+      }
+    };
+  }
+
+  private KeyedRateLimiter<String> create(double permitsPerSecond) {
+    return KeyedRateLimiter.create(permitsPerSecond, 10, MINUTES, ticker);
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.getDone;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.testing.NullPointerTester;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+import org.jspecify.annotations.NullUnmarked;
+
+/** Unit tests for {@link KeyedSequentialExecutor}. */
+@GwtIncompatible
+@J2ktIncompatible
+@NullUnmarked
+public class KeyedSequentialExecutorTest extends TestCase {
+
+  private static class FakeExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      while (!tasks.isEmpty()) {
+        tasks.remove().run();
+      }
+    }
+  }
+
+  private final FakeExecutor fakePool = new FakeExecutor();
+
+  public void testOrderingPerKey() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    List<String> log = new ArrayList<>();
+    executor.execute("a", () -> log.add("a1"));
+    executor.execute("b", () -> log.add("b1"));
+    executor.execute("a", () -> log.add("a2"));
+    executor.execute("b", () -> log.add("b2"));
+    // One turn per key, however many tasks it has.
+    assertEquals(2, fakePool.tasks.size());
+
+    fakePool.runAll();
+    assertThat(log).containsExactly("a1", "a2", "b1", "b2").inOrder();
+  }
+
+  public void testBusyKeyYieldsToOtherKeys() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    List<String> log = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      executor.execute("busy", () -> log.add("busy"));
+    }
+    executor.execute("quiet", () -> log.add("quiet"));
+
+    fakePool.runAll();
+    assertThat(log).hasSize(51);
+    assertThat(log.indexOf("quiet")).isLessThan(50);
+  }
+
+  public void testIdleKeysAreRemoved() {
+    KeyedSequentialExecutor<Integer> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    for (int i = 0; i < 1000; i++) {
+      executor.execute(i, () -> {});
+    }
+    assertEquals(1000, executor.stats().activeKeyCount());
+    assertEquals(1000, executor.stats().queuedTaskCount());
+
+    fakePool.runAll();
+    assertEquals(0, executor.stats().activeKeyCount());
+    assertEquals(0, executor.stats().queuedTaskCount());
+    assertEquals(1000, executor.stats().completedTaskCount());
+
+    // A key that was removed starts a new turn when it is used again.
+    AtomicBoolean ran = new AtomicBoolean();
+    executor.execute(0, () -> ran.set(true));
+    fakePool.runAll();
+    assertTrue(ran.get());
+  }
+
+  public void testQueueFull() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 2);
+    executor.execute("a", () -> {});
+    executor.execute("a", () -> {});
+    assertThrows(RejectedExecutionException.class, () -> executor.execute("a", () -> {}));
+    executor.execute("b", () -> {});
+    assertEquals(1, executor.stats().rejectedTaskCount());
+
+    fakePool.runAll();
+    executor.execute("a", () -> {});
+    fakePool.runAll();
+    assertEquals(4, executor.stats().completedTaskCount());
+  }
+
+  public void testRuntimeException_doesNotStopExecution() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    AtomicBoolean ran = new AtomicBoolean();
+    executor.execute(
+        "a",
+        () -> {
+          throw new RuntimeException("FAKE EXCEPTION!");
+        });
+    executor.execute("a", () -> ran.set(true));
+
+    fakePool.runAll();
+    assertTrue(ran.get());
+    assertEquals(1, executor.stats().failedTaskCount());
+    assertEquals(1, executor.stats().completedTaskCount());
+  }
+
+  public void testInterrupt_doesNotInterruptSubsequentTask() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    executor.execute("a", () -> Thread.currentThread().interrupt());
+    executor.execute("a", () -> interrupted.set(Thread.currentThread().isInterrupted()));
+
+    fakePool.runAll();
+    assertFalse(interrupted.get());
+    assertTrue(Thread.interrupted());
+  }
+
+  public void testDelegateRejection() {
+    AtomicBoolean reject = new AtomicBoolean(true);
+    KeyedSequentialExecutor<String> executor =
+        KeyedSequentialExecutor.create(
+            task -> {
+              if (reject.get()) {
+                throw new RejectedExecutionException();
+              }
+              task.run();
+            },
+            100);
+    AtomicBoolean ran = new AtomicBoolean();
+    assertThrows(RejectedExecutionException.class, () -> executor.execute("a", () -> {}));
+    assertEquals(0, executor.stats().activeKeyCount());
+    assertEquals(0, executor.stats().queuedTaskCount());
+    assertEquals(1, executor.stats().rejectedTaskCount());
+
+    reject.set(false);
+    executor.execute("a", () -> ran.set(true));
+    assertTrue(ran.get());
+  }
+
+  public void testDelegateFailsOnNextTurn() {
+    AtomicInteger submissions = new AtomicInteger();
+    KeyedSequentialExecutor<String> executor =
+        KeyedSequentialExecutor.create(
+            task -> {
+              if (submissions.incrementAndGet() == 2) {
+                throw new IllegalStateException("FAKE EXCEPTION!");
+              }
+              fakePool.execute(task);
+            },
+            100);
+    AtomicInteger ran = new AtomicInteger();
+    for (int i = 0; i < 20; i++) {
+      executor.execute("a", ran::incrementAndGet);
+    }
+    // The first turn runs 16 tasks and then fails to submit the second.
+    assertThrows(IllegalStateException.class, fakePool::runAll);
+    assertEquals(16, ran.get());
+    assertEquals(4, executor.stats().queuedTaskCount());
+
+    // The key is not stuck: the next task starts a new turn, which runs everything queued.
+    executor.execute("a", ran::incrementAndGet);
+    fakePool.runAll();
+    assertEquals(21, ran.get());
+    assertEquals(0, executor.stats().activeKeyCount());
+  }
+
+  public void testSubmit() throws Exception {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    ListenableFuture<String> callable = executor.submit("a", () -> "done");
+    ListenableFuture<?> runnable = executor.submit("a", () -> {});
+    assertFalse(callable.isDone());
+
+    fakePool.runAll();
+    assertEquals("done", getDone(callable));
+    assertNull(getDone(runnable));
+  }
+
+  public void testExecutorFor() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    List<String> log = new ArrayList<>();
+    Executor forA = executor.executorFor("a");
+    forA.execute(() -> log.add("a1"));
+    executor.execute("a", () -> log.add("a2"));
+
+    fakePool.runAll();
+    assertThat(log).containsExactly("a1", "a2").inOrder();
+  }
+
+  public void testForkJoinPool_preservesOrderPerKey() throws Exception {
+    ForkJoinPool pool =
+        new ForkJoinPool(
+            4, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, /* asyncMode= */ true);
+    try {
+      KeyedSequentialExecutor<Integer> executor = KeyedSequentialExecutor.create(pool, 1000);
+      int keys = 100;
+      int tasksPerKey = 200;
+      ConcurrentHashMap<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+      List<ListenableFuture<?>> futures = new ArrayList<>();
+      for (int i = 0; i < tasksPerKey; i++) {
+        for (int key = 0; key < keys; key++) {
+          int task = i;
+          List<Integer> forKey = seen.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+          futures.add(executor.submit(key, () -> forKey.add(task)));
+        }
+      }
+      Futures.allAsList(futures).get(10, SECONDS);
+
+      for (int key = 0; key < keys; key++) {
+        assertThat(seen.get(key)).isInStrictOrder();
+        assertThat(seen.get(key)).hasSize(tasksPerKey);
+      }
+      assertEquals(keys * tasksPerKey, executor.stats().completedTaskCount());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class, () -> KeyedSequentialExecutor.create(fakePool, 0));
+  }
+
+  public void testStatsToString() {
+    KeyedSequentialExecutor<String> executor = KeyedSequentialExecutor.create(fakePool, 100);
+    executor.execute("a", () -> {});
+    assertThat(executor.stats().toString())
+        .isEqualTo(
+            "Stats{completedTaskCount=0, failedTaskCount=0, rejectedTaskCount=0,"
+                + " queuedTaskCount=1, activeKeyCount=1}");
+  }
+
+  public void testNulls() {
+    NullPointerTester tester = new NullPointerTester().setDefault(int.class, 1);
+    tester.testAllPublicStaticMethods(KeyedSequentialExecutor.class);
+    tester.testAllPublicInstanceMethods(KeyedSequentialExecutor.create(fakePool, 100));
+  }
+}
@@ -294,6 +294,32 @@ public class MoreExecutorsTest extends TestCase {
      */
   }
 
+  public void testNewVirtualThreadPerTaskListeningExecutor() throws Exception {
+    if (!VirtualThreads.isSupported()) {
+      assertThrows(
+          UnsupportedOperationException.class,
+          () -> MoreExecutors.newVirtualThreadPerTaskListeningExecutor());
+      return;
+    }
+    ListeningExecutorService service = MoreExecutors.newVirtualThreadPerTaskListeningExecutor();
+    try {
+      CountDownLatch allStarted = new CountDownLatch(100);
+      List<ListenableFuture<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        futures.add(
+            service.submit(
+                () -> {
+                  allStarted.countDown();
+                  // Every task blocks until all have started, which needs a thread per task.
+                  return allStarted.await(10, SECONDS);
+                }));
+      }
+      assertThat(Futures.allAsList(futures).get(10, SECONDS)).doesNotContain(false);
+    } finally {
+      assertTrue(shutdownAndAwaitTermination(service, 10, SECONDS));
+    }
+  }
+
   @AndroidIncompatible // Mocking ExecutorService is forbidden there. TODO(b/218700094): Don't mock.
   @J2ktIncompatible
   public void testListeningDecorator_noWrapExecuteTask() {
@@ -17,8 +17,10 @@
 package com.google.common.util.concurrent;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
 import static java.lang.Math.max;
 import static java.lang.reflect.Modifier.isStatic;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -39,7 +41,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import junit.framework.TestCase;
 import org.jspecify.annotations.NullUnmarked;
 
@@ -479,6 +486,96 @@ public class RateLimiterTest extends TestCase {
         "Should not acquire additional permit even after sleeping", rateLimiter.tryAcquire());
   }
 
+  public void testAcquireAsync() throws Exception {
+    ScheduledExecutorService executor = newSingleThreadScheduledExecutor();
+    try {
+      RateLimiter limiter = RateLimiter.create(50.0, stopwatch);
+      ListenableFuture<Double> first = limiter.acquireAsync(executor);
+      assertThat(Futures.getDone(first)).isEqualTo(0.0);
+      ListenableFuture<Double> second = limiter.acquireAsync(executor);
+      assertThat(second.get(10, SECONDS)).isWithin(EPSILON).of(0.02);
+      assertEvents(); // the stopwatch never slept
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testAcquireAsync_reservesLikeAcquire() {
+    ScheduledExecutorService executor = newSingleThreadScheduledExecutor();
+    try {
+      RateLimiter limiter = RateLimiter.create(5.0, stopwatch);
+      ListenableFuture<Double> unused = limiter.acquireAsync(executor);
+      ListenableFuture<Double> expensive = limiter.acquireAsync(3, executor);
+      limiter.acquire(); // R0.80: 0.20 for the first permit, 0.60 for the next three
+      assertEvents("R0.80");
+      expensive.cancel(false);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testAcquireAsync_cancel() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    executor.setRemoveOnCancelPolicy(true);
+    try {
+      RateLimiter limiter = RateLimiter.create(1.0, stopwatch);
+      limiter.acquire();
+      ListenableFuture<Double> future = limiter.acquireAsync(executor);
+      assertThat(executor.getQueue()).hasSize(1);
+      assertTrue(future.cancel(false));
+      assertThat(executor.getQueue()).isEmpty();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testAcquireAsync_rejected() {
+    ScheduledExecutorService executor = newSingleThreadScheduledExecutor();
+    executor.shutdown();
+    RateLimiter limiter = RateLimiter.create(1.0, stopwatch);
+    assertThat(Futures.getUnchecked(limiter.acquireAsync(executor))).isEqualTo(0.0);
+    assertThrows(RejectedExecutionException.class, () -> limiter.acquireAsync(executor));
+    assertThrows(IllegalArgumentException.class, () -> limiter.acquireAsync(0, executor));
+  }
+
+  public void testConcurrentTryAcquire() throws Exception {
+    // Time stands still, so exactly the permits that fit within the timeout are granted, provided
+    // that no reservation is lost to a race.
+    SleepingStopwatch frozen =
+        new SleepingStopwatch() {
+          @Override
+          protected long readMicros() {
+            return 0;
+          }
+
+          @Override
+          protected void sleepMicrosUninterruptibly(long micros) {}
+        };
+    RateLimiter limiter = RateLimiter.create(1000.0, frozen);
+    AtomicInteger granted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                awaitUninterruptibly(start);
+                for (int j = 0; j < 1000; j++) {
+                  if (limiter.tryAcquire(1, 1, SECONDS)) {
+                    granted.incrementAndGet();
+                  }
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(1001, granted.get());
+  }
+
   private long measureTotalTimeMillis(RateLimiter rateLimiter, int permits, Random random) {
     long startTime = stopwatch.instant;
     while (permits > 0) {
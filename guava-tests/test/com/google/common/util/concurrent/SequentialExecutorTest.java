@@ -146,6 +146,33 @@ public class SequentialExecutorTest extends TestCase {
     assertEquals(ImmutableList.of(0, 1, 2), callOrder);
   }
 
+  public void testTryExecuteAll() {
+    List<Integer> callOrder = new ArrayList<>();
+    // With no worker running, the tasks are declined, and execute() has to start one.
+    assertFalse(e.tryExecuteAll(ImmutableList.of(() -> callOrder.add(0))));
+    assertFalse(fakePool.hasNext());
+    e.execute(() -> callOrder.add(0));
+    assertTrue(e.tryExecuteAll(ImmutableList.of(() -> callOrder.add(1), () -> callOrder.add(2))));
+    // A single worker runs every task.
+    fakePool.runNext();
+    assertFalse(fakePool.hasNext());
+    assertEquals(ImmutableList.of(0, 1, 2), callOrder);
+  }
+
+  public void testTryExecuteAll_delegateRejection() {
+    AtomicInteger numCalls = new AtomicInteger();
+    SequentialExecutor executor =
+        new SequentialExecutor(
+            r -> {
+              throw new RejectedExecutionException();
+            });
+    Runnable task = numCalls::incrementAndGet;
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+    // The rejected worker is not running, so the tasks are declined rather than stranded.
+    assertFalse(executor.tryExecuteAll(ImmutableList.of(task, task)));
+    assertEquals(0, numCalls.get());
+  }
+
   public void testRuntimeException_doesNotStopExecution() {
 
     AtomicInteger numCalls = new AtomicInteger();
@@ -204,6 +204,47 @@ public class ThreadFactoryBuilderTest extends TestCase {
     assertTrue(completed);
   }
 
+  public void testVirtual() throws InterruptedException {
+    builder.setVirtual(true).setNameFormat("virtual-%d");
+    if (!VirtualThreads.isSupported()) {
+      assertThrows(UnsupportedOperationException.class, () -> builder.build());
+      return;
+    }
+    Thread thread =
+        builder.setUncaughtExceptionHandler(UNCAUGHT_EXCEPTION_HANDLER)
+            .build()
+            .newThread(monitoredRunnable);
+    assertThat(thread.getName()).isEqualTo("virtual-0");
+    assertTrue(thread.isDaemon());
+    assertThat(thread.getUncaughtExceptionHandler()).isEqualTo(UNCAUGHT_EXCEPTION_HANDLER);
+    assertThat(thread.getState()).isEqualTo(Thread.State.NEW);
+
+    thread.start();
+    thread.join();
+    assertTrue(completed);
+  }
+
+  public void testVirtual_incompatibleOptions() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> new ThreadFactoryBuilder().setVirtual(true).setDaemon(false).build());
+    assertThrows(
+        IllegalStateException.class,
+        () -> new ThreadFactoryBuilder().setVirtual(true).setPriority(1).build());
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new ThreadFactoryBuilder()
+                .setVirtual(true)
+                .setThreadFactory(defaultThreadFactory())
+                .build());
+  }
+
+  public void testVirtual_canBeTurnedOff() {
+    Thread thread = builder.setVirtual(true).setVirtual(false).build().newThread(monitoredRunnable);
+    assertEquals(defaultThreadFactory().newThread(monitoredRunnable).isDaemon(), thread.isDaemon());
+  }
+
   public void testNulls() {
     NullPointerTester npTester = new NullPointerTester();
     npTester.testAllPublicConstructors(ThreadFactoryBuilder.class);
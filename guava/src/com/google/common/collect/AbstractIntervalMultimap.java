@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtIncompatible;
+import java.util.Map.Entry;
+import org.jspecify.annotations.Nullable;
+
+/** A skeletal implementation of {@code IntervalMultimap}. */
+@GwtIncompatible
+abstract class AbstractIntervalMultimap<K extends Comparable<?>, V>
+    implements IntervalMultimap<K, V> {
+  AbstractIntervalMultimap() {}
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public void putAll(IntervalMultimap<K, ? extends V> intervalMultimap) {
+    for (Entry<Range<K>, ? extends V> entry : intervalMultimap.entries()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public final boolean equals(@Nullable Object obj) {
+    if (obj == this) {
+      return true;
+    } else if (obj instanceof IntervalMultimap) {
+      IntervalMultimap<?, ?> other = (IntervalMultimap<?, ?>) obj;
+      return size() == other.size() && Iterables.elementsEqual(entries(), other.entries());
+    }
+    return false;
+  }
+
+  @Override
+  public final int hashCode() {
+    int hashCode = 1;
+    for (Entry<Range<K>, V> entry : entries()) {
+      hashCode = 31 * hashCode + entry.hashCode();
+    }
+    return hashCode;
+  }
+
+  @Override
+  public final String toString() {
+    return entries().toString();
+  }
+}
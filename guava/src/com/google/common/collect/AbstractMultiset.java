@@ -105,6 +105,11 @@ abstract class AbstractMultiset<E extends @Nullable Object> extends AbstractColl
   @CanIgnoreReturnValue
   @Override
   public final boolean addAll(Collection<? extends E> elementsToAdd) {
+    return addAllImpl(elementsToAdd);
+  }
+
+  /** Implements {@link #addAll}. Subclasses may override this to add the elements more cheaply. */
+  boolean addAllImpl(Collection<? extends E> elementsToAdd) {
     return Multisets.addAllImpl(this, elementsToAdd);
   }
 
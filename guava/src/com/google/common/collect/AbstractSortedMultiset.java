@@ -76,7 +76,7 @@ abstract class AbstractSortedMultiset<E extends @Nullable Object> extends Abstra
   }
 
   @Override
-  public final @Nullable Entry<E> pollFirstEntry() {
+  public @Nullable Entry<E> pollFirstEntry() {
     Iterator<Entry<E>> entryIterator = entryIterator();
     if (entryIterator.hasNext()) {
       Entry<E> result = entryIterator.next();
@@ -88,7 +88,7 @@ abstract class AbstractSortedMultiset<E extends @Nullable Object> extends Abstra
   }
 
   @Override
-  public final @Nullable Entry<E> pollLastEntry() {
+  public @Nullable Entry<E> pollLastEntry() {
     Iterator<Entry<E>> entryIterator = descendingEntryIterator();
     if (entryIterator.hasNext()) {
       Entry<E> result = entryIterator.next();
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Math.min;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.Interners.StatsCounter;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A strong interner that holds at most a fixed number of canonical instances, built by {@link
+ * Interners.InternerBuilder#maximumSize}.
+ *
+ * <p>The table is set-associative: each hash code maps to a bucket of up to {@link #MAX_WAYS}
+ * adjacent slots, and an instance can only live in its bucket. Slots fill in order and are never
+ * emptied, so lookups scan the bucket without locking, stopping at the first empty slot. Only
+ * inserting takes a lock, one of a fixed set of stripes. When a bucket is full, the CLOCK policy
+ * picks the victim: hits set a slot's referenced bit, and the bucket's hand clears set bits until
+ * it finds a slot without one.
+ *
+ * <p>The whole table is allocated when the interner is built, which is why the maximum size is
+ * capped at {@link #MAX_SIZE}.
+ *
+ * <p>Once an instance has been evicted, a later equal sample becomes a new canonical instance, so
+ * equal samples interned at different times may produce different instances.
+ */
+@J2ktIncompatible
+@GwtIncompatible
+class BoundedInterner<E> implements Interner<E> {
+  /** The largest supported maximum size, for which the table takes on the order of 100 MiB. */
+  static final int MAX_SIZE = 1 << 24;
+
+  private static final int MAX_WAYS = 8;
+  private static final int MAX_LOCK_STRIPES = 256;
+
+  private final AtomicReferenceArray<@Nullable Object> table;
+  private final AtomicIntegerArray referenced;
+  private final int ways;
+  private final int buckets;
+  private final Object[] locks;
+
+  // Each bucket's CLOCK hand, guarded by the bucket's lock stripe.
+  private final int[] hands;
+
+  private final @Nullable StatsCounter stats;
+
+  BoundedInterner(int maximumSize, @Nullable StatsCounter stats) {
+    this.ways = min(maximumSize, MAX_WAYS);
+    this.buckets = maximumSize / ways;
+    this.table = new AtomicReferenceArray<>(buckets * ways);
+    this.referenced = new AtomicIntegerArray(buckets * ways);
+    this.hands = new int[buckets];
+    this.locks = new Object[min(buckets, MAX_LOCK_STRIPES)];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+    this.stats = stats;
+  }
+
+  @Override
+  public E intern(E sample) {
+    checkNotNull(sample);
+    int hash = sample.hashCode();
+    int start = bucketStart(hash);
+    for (int slot = start; slot < start + ways; slot++) {
+      Object candidate = slotAt(slot);
+      if (candidate == null) {
+        break;
+      }
+      if (candidate.equals(sample)) {
+        return hit(slot, candidate);
+      }
+    }
+    return insert(hash, sample);
+  }
+
+  /** Returns the first slot of the bucket for {@code hash}. */
+  final int bucketStart(int hash) {
+    return bucket(hash) * ways;
+  }
+
+  /** Returns the number of slots in each bucket. */
+  final int ways() {
+    return ways;
+  }
+
+  final @Nullable Object slotAt(int slot) {
+    return table.get(slot);
+  }
+
+  /** Records a hit on the canonical instance {@code candidate} at {@code slot}, and returns it. */
+  final E hit(int slot, Object candidate) {
+    if (referenced.get(slot) == 0) {
+      referenced.lazySet(slot, 1);
+    }
+    if (stats != null) {
+      stats.recordHit();
+    }
+    @SuppressWarnings("unchecked") // only Es are put in the table
+    E canonical = (E) candidate;
+    return canonical;
+  }
+
+  /**
+   * Makes {@code sample} the canonical instance for its value and returns it, unless another thread
+   * has done so for an equal sample since the caller looked, in which case that instance is
+   * returned.
+   */
+  final E insert(int hash, E sample) {
+    int bucket = bucket(hash);
+    int start = bucket * ways;
+    synchronized (locks[bucket % locks.length]) {
+      for (int slot = start; slot < start + ways; slot++) {
+        Object candidate = table.get(slot);
+        if (candidate == null) {
+          table.set(slot, sample);
+          recordMiss();
+          return sample;
+        }
+        if (candidate.equals(sample)) {
+          return hit(slot, candidate);
+        }
+      }
+      evictAndSet(bucket, sample);
+      recordMiss();
+      if (stats != null) {
+        stats.recordEviction();
+      }
+      return sample;
+    }
+  }
+
+  @GuardedBy("locks[bucket % locks.length]")
+  private void evictAndSet(int bucket, E sample) {
+    int hand = hands[bucket];
+    while (true) {
+      int slot = bucket * ways + hand;
+      hand = (hand + 1) % ways;
+      if (referenced.get(slot) != 0) {
+        // Give a recently used instance a second chance.
+        referenced.set(slot, 0);
+      } else {
+        table.set(slot, sample);
+        hands[bucket] = hand;
+        return;
+      }
+    }
+  }
+
+  private void recordMiss() {
+    if (stats != null) {
+      stats.recordMiss();
+    }
+  }
+
+  private int bucket(int hash) {
+    return (int) (((Hashing.smear(hash) & 0xFFFFFFFFL) * buckets) >>> 32);
+  }
+
+  /** Returns statistics, or null if this interner was not built to record them. */
+  final @Nullable InternerStats stats() {
+    if (stats == null) {
+      return null;
+    }
+    int size = 0;
+    for (int slot = 0; slot < table.length(); slot++) {
+      if (table.get(slot) != null) {
+        size++;
+      }
+    }
+    return stats.snapshot(size);
+  }
+}
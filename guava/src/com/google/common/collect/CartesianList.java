@@ -23,6 +23,7 @@ import java.util.AbstractList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.RandomAccess;
+import java.util.Spliterator;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -167,4 +168,11 @@ final class CartesianList<E> extends AbstractList<List<E>> implements RandomAcce
     }
     return true;
   }
+
+  @Override
+  @GwtIncompatible // Spliterator
+  public Spliterator<List<E>> spliterator() {
+    return CollectSpliterators.indexed(
+        size(), Spliterator.IMMUTABLE | Spliterator.NONNULL, this::get);
+  }
 }
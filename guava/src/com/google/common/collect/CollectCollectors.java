@@ -17,6 +17,9 @@
 package com.google.common.collect;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableCollection.Builder.DEFAULT_INITIAL_CAPACITY;
+import static com.google.common.collect.ImmutableCollection.Builder.expandedCapacity;
+import static java.lang.System.arraycopy;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toMap;
@@ -24,11 +27,15 @@ import static java.util.stream.Collectors.toMap;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -44,10 +51,10 @@ final class CollectCollectors {
 
   private static final Collector<Object, ?, ImmutableList<Object>> TO_IMMUTABLE_LIST =
       Collector.of(
-          ImmutableList::builder,
-          ImmutableList.Builder::add,
-          ImmutableList.Builder::combine,
-          ImmutableList.Builder::build);
+          () -> new SegmentedAccumulator(new Object[DEFAULT_INITIAL_CAPACITY]),
+          (accumulator, element) -> accumulator.add(checkNotNull(element)),
+          SegmentedAccumulator::combine,
+          SegmentedAccumulator::toImmutableList);
 
   private static final Collector<Object, ?, ImmutableSet<Object>> TO_IMMUTABLE_SET =
       Collector.of(
@@ -72,6 +79,124 @@ final class CollectCollectors {
     return (Collector) TO_IMMUTABLE_LIST;
   }
 
+  /**
+   * Accumulates elements in encounter order into a sequence of array segments. Unlike the {@code
+   * combine} methods of the builders, {@link #combine} doesn't copy any elements; it only links the
+   * segments of the two accumulators. A parallel stream therefore copies each element just once
+   * more, into the final array, however many times it splits and recombines partial results.
+   *
+   * <p>The component type of the final array is that of the array passed to the constructor, so an
+   * accumulator created with an {@code Entry[]} can be finished with {@link #toImmutableMap}.
+   */
+  private static final class SegmentedAccumulator {
+    // Filled segments that precede `contents`, in encounter order.
+    private final List<Segment> segments = new ArrayList<>(0);
+    // The first `size` elements are non-null.
+    private @Nullable Object[] contents;
+    private int size;
+    // The number of elements in `segments` and `contents` combined.
+    private int totalSize;
+    // Whether `contents` has been handed to an immutable collection and must be copied on write.
+    private boolean shared;
+
+    SegmentedAccumulator(@Nullable Object[] initialContents) {
+      this.contents = initialContents;
+    }
+
+    void add(Object element) {
+      if (size == contents.length || shared) {
+        contents = Arrays.copyOf(contents, expandedCapacity(contents.length, size + 1));
+        shared = false;
+      }
+      contents[size++] = element;
+      totalSize++;
+    }
+
+    SegmentedAccumulator combine(SegmentedAccumulator other) {
+      if (other.totalSize == 0) {
+        return this;
+      } else if (this.totalSize == 0) {
+        return other;
+      }
+      int newTotalSize = this.totalSize + other.totalSize;
+      if (newTotalSize < 0) {
+        throw new IllegalArgumentException("cannot store more than Integer.MAX_VALUE elements");
+      }
+      if (size > 0) {
+        segments.add(new Segment(contents, size));
+      }
+      segments.addAll(other.segments);
+      contents = other.contents;
+      size = other.size;
+      shared = other.shared;
+      totalSize = newTotalSize;
+      return this;
+    }
+
+    /**
+     * Returns an array holding exactly the accumulated elements. The array may be {@code contents}
+     * itself, in which case this accumulator copies it before writing to it again.
+     */
+    private Object[] toArray() {
+      @Nullable Object[] result;
+      if (segments.isEmpty()) {
+        if (size == contents.length) {
+          shared = true;
+          result = contents;
+        } else {
+          result = Arrays.copyOf(contents, size);
+        }
+      } else {
+        // Arrays.copyOf preserves the component type of the first segment.
+        Segment first = segments.get(0);
+        result = Arrays.copyOf(first.contents, totalSize);
+        int offset = first.size;
+        for (int i = 1; i < segments.size(); i++) {
+          Segment segment = segments.get(i);
+          arraycopy(segment.contents, 0, result, offset, segment.size);
+          offset += segment.size;
+        }
+        arraycopy(contents, 0, result, offset, size);
+      }
+      /*
+       * The suppression is safe because all `totalSize` positions of `result` have been filled in
+       * with non-null elements.
+       */
+      @SuppressWarnings("nullness")
+      Object[] nonNullResult = result;
+      return nonNullResult;
+    }
+
+    <E> ImmutableList<E> toImmutableList() {
+      return ImmutableList.asImmutableList(toArray());
+    }
+
+    <K, V> ImmutableMap<K, V> toImmutableMap() {
+      switch (totalSize) {
+        case 0:
+          return ImmutableMap.of();
+        case 1:
+          @SuppressWarnings("unchecked") // we only ever put Entry<K, V> instances into the array
+          Entry<K, V> onlyEntry = (Entry<K, V>) toArray()[0];
+          return ImmutableMap.of(onlyEntry.getKey(), onlyEntry.getValue());
+        default:
+          @SuppressWarnings("unchecked") // the array was created as an Entry[]
+          Entry<K, V>[] entries = (Entry<K, V>[]) toArray();
+          return ImmutableMap.ofEntries(entries);
+      }
+    }
+
+    private static final class Segment {
+      final @Nullable Object[] contents;
+      final int size;
+
+      Segment(@Nullable Object[] contents, int size) {
+        this.contents = contents;
+        this.size = size;
+      }
+    }
+  }
+
   // Sets
 
   @SuppressWarnings({"rawtypes", "unchecked"})
@@ -189,10 +314,12 @@ final class CollectCollectors {
     checkNotNull(keyFunction);
     checkNotNull(valueFunction);
     return Collector.of(
-        ImmutableMap.Builder<K, V>::new,
-        (builder, input) -> builder.put(keyFunction.apply(input), valueFunction.apply(input)),
-        ImmutableMap.Builder::combine,
-        ImmutableMap.Builder::buildOrThrow);
+        () -> new SegmentedAccumulator(new Entry<?, ?>[DEFAULT_INITIAL_CAPACITY]),
+        (accumulator, input) ->
+            accumulator.add(
+                ImmutableMap.entryOf(keyFunction.apply(input), valueFunction.apply(input))),
+        SegmentedAccumulator::combine,
+        SegmentedAccumulator::toImmutableMap);
   }
 
   static <T extends @Nullable Object, K, V> Collector<T, ?, ImmutableMap<K, V>> toImmutableMap(
@@ -30,6 +30,7 @@ import com.google.common.annotations.GwtIncompatible;
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.math.IntMath;
+import com.google.common.math.LongMath;
 import com.google.common.primitives.Ints;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
@@ -619,6 +620,19 @@ public final class Collections2 {
       return new PermutationIterator<E>(inputList);
     }
 
+    /**
+     * Returns a spliterator that traverses the permutations in the order of {@link #iterator}, and
+     * can be split by permutation index.
+     */
+    @Override
+    @GwtIncompatible // Spliterator
+    public Spliterator<List<E>> spliterator() {
+      if (inputList.size() > PermutationSpliterator.MAX_SIZE) {
+        return super.spliterator();
+      }
+      return new PermutationSpliterator<>(inputList, 0, LongMath.factorial(inputList.size()));
+    }
+
     @Override
     public boolean contains(@Nullable Object obj) {
       if (obj instanceof List) {
@@ -650,6 +664,31 @@ public final class Collections2 {
       j = Integer.MAX_VALUE;
     }
 
+    /**
+     * Creates an iterator that starts at the {@code index}-th permutation of {@code input}, with the
+     * state that the algorithm has after {@code index} steps.
+     */
+    PermutationIterator(List<E> input, long index) {
+      int n = input.size();
+      list = new ArrayList<>(n);
+      c = new int[n];
+      o = new int[n];
+      j = Integer.MAX_VALUE;
+      // The element at position m of the input moves across the m + 1 places among the elements
+      // before it once for each of their arrangements: right to left (o[m] == 1) during even
+      // sweeps, and back during odd ones. c[m] is its distance from the right of those places.
+      for (int m = n - 1; m >= 0; m--) {
+        int step = (int) (index % (m + 1));
+        index /= m + 1;
+        boolean evenSweep = index % 2 == 0;
+        c[m] = evenSweep ? step : m - step;
+        o[m] = evenSweep ? 1 : -1;
+      }
+      for (int m = 0; m < n; m++) {
+        list.add(m - c[m], input.get(m));
+      }
+    }
+
     @Override
     protected @Nullable List<E> computeNext() {
       if (j <= 0) {
@@ -697,6 +736,71 @@ public final class Collections2 {
     }
   }
 
+  /**
+   * Traverses the permutations with indexes in {@code [index, end)}, in the order of {@link
+   * PermutationIterator}.
+   */
+  @GwtIncompatible // Spliterator
+  private static final class PermutationSpliterator<E> implements Spliterator<List<E>> {
+    /** The largest input size whose permutation count fits in a {@code long}. */
+    static final int MAX_SIZE = 20;
+
+    final ImmutableList<E> inputList;
+    long index;
+    long end;
+    // Positioned at index, or null if nothing has been traversed since the last split.
+    @Nullable PermutationIterator<E> iterator;
+
+    PermutationSpliterator(ImmutableList<E> inputList, long index, long end) {
+      this.inputList = inputList;
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<E>> action) {
+      checkNotNull(action);
+      if (index >= end) {
+        return false;
+      }
+      PermutationIterator<E> iterator = this.iterator;
+      if (iterator == null) {
+        iterator = this.iterator = new PermutationIterator<>(inputList, index);
+      }
+      index++;
+      action.accept(iterator.next());
+      return true;
+    }
+
+    @Override
+    public @Nullable Spliterator<List<E>> trySplit() {
+      long remaining = end - index;
+      if (remaining < 2) {
+        return null;
+      }
+      long mid = index + remaining / 2;
+      PermutationSpliterator<E> prefix = new PermutationSpliterator<>(inputList, index, mid);
+      prefix.iterator = iterator;
+      iterator = null;
+      index = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED
+          | Spliterator.SIZED
+          | Spliterator.SUBSIZED
+          | Spliterator.IMMUTABLE
+          | Spliterator.NONNULL;
+    }
+  }
+
   /** Returns {@code true} if the second list is a permutation of the first. */
   private static boolean isPermutation(List<?> first, List<?> second) {
     if (first.size() != second.size()) {
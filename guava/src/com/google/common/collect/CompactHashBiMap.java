@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link BiMap} backed by two hash tables of {@code int} indexes into parallel arrays of keys and
+ * values. This implementation allows null keys and values. A {@code CompactHashBiMap} and its
+ * inverse are both serializable.
+ *
+ * <p>Unlike {@link HashBiMap}, this implementation allocates no object per entry: each mapping
+ * costs two array slots for its key and value, four {@code int}s for its hash chains and insertion
+ * order, and about one slot in each of the two hash tables. This makes it considerably smaller and
+ * easier on the garbage collector for large bimaps, at the cost of somewhat slower removal, which
+ * moves the last entry into the removed entry's place.
+ *
+ * <p>This implementation guarantees insertion-based iteration order of its keys. {@link #inverse}
+ * is a view that takes constant time to create.
+ *
+ * <p>See the Guava User Guide article on <a href=
+ * "https://github.com/google/guava/wiki/NewCollectionTypesExplained#bimap">{@code BiMap} </a>.
+ *
+ * @since NEXT
+ */
+@GwtCompatible
+public final class CompactHashBiMap<K extends @Nullable Object, V extends @Nullable Object>
+    extends AbstractCompactHashBiMap<K, V> {
+
+  /** Returns a new, empty {@code CompactHashBiMap} with the default initial capacity (16). */
+  public static <K extends @Nullable Object, V extends @Nullable Object>
+      CompactHashBiMap<K, V> create() {
+    return create(16);
+  }
+
+  /**
+   * Constructs a new, empty bimap with the specified expected size.
+   *
+   * @param expectedSize the expected number of entries
+   * @throws IllegalArgumentException if the specified expected size is negative
+   */
+  public static <K extends @Nullable Object, V extends @Nullable Object>
+      CompactHashBiMap<K, V> create(int expectedSize) {
+    return new CompactHashBiMap<>(expectedSize);
+  }
+
+  /**
+   * Constructs a new bimap containing initial values from {@code map}. The bimap is created with an
+   * initial capacity sufficient to hold the mappings in the specified map.
+   */
+  public static <K extends @Nullable Object, V extends @Nullable Object>
+      CompactHashBiMap<K, V> create(Map<? extends K, ? extends V> map) {
+    CompactHashBiMap<K, V> bimap = create(map.size());
+    bimap.putAll(map);
+    return bimap;
+  }
+
+  private CompactHashBiMap(int expectedSize) {
+    super(expectedSize);
+  }
+
+  @GwtIncompatible @J2ktIncompatible private static final long serialVersionUID = 0;
+}
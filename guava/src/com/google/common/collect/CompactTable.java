@@ -0,0 +1,995 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.CollectPreconditions.checkRemove;
+import static java.lang.Math.max;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.Maps.IteratorBasedAbstractMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.google.j2objc.annotations.WeakOuter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link Table} that stores its cells in a few flat arrays instead of in a map of
+ * maps. Each distinct row key and column key is assigned a dense index, and each cell is stored as
+ * a (row index, column index, value) triple in parallel arrays, located through a single
+ * open-addressed hash table keyed on the pair of indices. The per-row and per-column views are
+ * served from compact indexes that are built lazily, the first time they are needed after the set
+ * of cells changes.
+ *
+ * <p>Compared to {@link HashBasedTable}, this layout needs no per-row map or per-cell entry object,
+ * which substantially reduces memory use and improves locality for tables with many small rows.
+ * In exchange, iterating over a single {@link #row} or {@link #column} after adding cells costs a
+ * pass over all cells to rebuild the index for that direction, so workloads that interleave many
+ * insertions with row or column iteration may be better served by {@link HashBasedTable}.
+ *
+ * <p>Cells are iterated in insertion order; the row and column key sets are ordered by the first
+ * insertion of each key. Null row keys, columns keys, and values are not supported. All optional
+ * operations are supported, including removal through the iterators of all views.
+ *
+ * <p>Removed cells and keys no longer used by any cell keep their slots until the table next needs
+ * to grow, at which point the arrays are compacted.
+ *
+ * <p>Note that this implementation is not synchronized. If multiple threads access this table
+ * concurrently and one of the threads modifies the table, it must be synchronized externally.
+ *
+ * @since NEXT
+ */
+@GwtCompatible
+public final class CompactTable<R, C, V> extends AbstractTable<R, C, V> implements Serializable {
+  private static final int DEFAULT_SIZE = 8;
+
+  /** Maximum load factor of the open-addressed hash tables. */
+  private static final double MAX_LOAD = 0.5;
+
+  /** Creates an empty {@code CompactTable}. */
+  public static <R, C, V> CompactTable<R, C, V> create() {
+    return new CompactTable<>(DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
+  }
+
+  /**
+   * Creates an empty {@code CompactTable} with storage preallocated for the specified sizes.
+   *
+   * @param expectedRows the expected number of distinct row keys
+   * @param expectedColumns the expected number of distinct column keys
+   * @param expectedCells the expected number of cells
+   * @throws IllegalArgumentException if {@code expectedRows}, {@code expectedColumns} or {@code
+   *     expectedCells} is negative
+   */
+  public static <R, C, V> CompactTable<R, C, V> create(
+      int expectedRows, int expectedColumns, int expectedCells) {
+    checkNonnegative(expectedRows, "expectedRows");
+    checkNonnegative(expectedColumns, "expectedColumns");
+    checkNonnegative(expectedCells, "expectedCells");
+    return new CompactTable<>(expectedRows, expectedColumns, expectedCells);
+  }
+
+  /**
+   * Creates a {@code CompactTable} with the same mappings as the specified table.
+   *
+   * @param table the table to copy
+   * @throws NullPointerException if any of the row keys, column keys, or values in {@code table}
+   *     is null
+   */
+  public static <R, C, V> CompactTable<R, C, V> create(
+      Table<? extends R, ? extends C, ? extends V> table) {
+    CompactTable<R, C, V> result =
+        new CompactTable<>(
+            table.rowKeySet().size(), table.columnKeySet().size(), max(table.size(), 1));
+    result.putAll(table);
+    return result;
+  }
+
+  private transient KeyIndex<R> rows;
+  private transient KeyIndex<C> columns;
+
+  /*
+   * Cell i is stored in cellRows[i], cellColumns[i] and cellValues[i]. A null value marks a removed
+   * cell; its slot is reclaimed the next time the arrays are compacted.
+   */
+  private transient int[] cellRows;
+  private transient int[] cellColumns;
+  private transient @Nullable Object[] cellValues;
+
+  /** Open-addressed table of cell indices plus one, keyed on the row and column indices. */
+  private transient int[] cellTable;
+
+  /** Number of used slots in the cell arrays, including removed cells. */
+  private transient int cellCount;
+
+  private transient int size;
+  private transient int modCount;
+
+  /*
+   * Lazily built indexes of the live cells of each row and each column, in insertion order. For
+   * a row with index r, its cells are rowIndex[rowIndex[r]] up to rowIndex[rowIndex[r + 1]]. They
+   * are discarded whenever a cell is added or the arrays are compacted; removing a cell keeps them
+   * valid, because removed cells are skipped during iteration.
+   */
+  private transient int @Nullable [] rowIndex;
+  private transient int @Nullable [] columnIndex;
+
+  private CompactTable(int expectedRows, int expectedColumns, int expectedCells) {
+    init(expectedRows, expectedColumns, expectedCells);
+  }
+
+  private void init(int expectedRows, int expectedColumns, int expectedCells) {
+    rows = new KeyIndex<>(expectedRows);
+    columns = new KeyIndex<>(expectedColumns);
+    int capacity = max(expectedCells, 1);
+    cellRows = new int[capacity];
+    cellColumns = new int[capacity];
+    cellValues = new Object[capacity];
+    cellTable = new int[Hashing.closedTableSize(capacity, MAX_LOAD)];
+  }
+
+  /** An insertion-ordered set of keys, each identified by a dense index. */
+  private static final class KeyIndex<K> {
+    @Nullable Object[] keys;
+
+    /** Number of live cells using each key. */
+    int[] counts;
+
+    /** Open-addressed table of key indices plus one. */
+    int[] table;
+
+    /** Number of keys assigned an index, including keys no longer used by any cell. */
+    int size;
+
+    /** Number of keys used by at least one cell. */
+    int live;
+
+    KeyIndex(int expectedSize) {
+      int capacity = max(expectedSize, 1);
+      keys = new Object[capacity];
+      counts = new int[capacity];
+      table = new int[Hashing.closedTableSize(capacity, MAX_LOAD)];
+    }
+
+    int indexOf(@Nullable Object key) {
+      if (key == null) {
+        return -1;
+      }
+      int mask = table.length - 1;
+      for (int slot = Hashing.smear(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+        int entry = table[slot];
+        if (entry == 0) {
+          return -1;
+        } else if (key.equals(keys[entry - 1])) {
+          return entry - 1;
+        }
+      }
+    }
+
+    /** Returns the index of a key used by at least one cell, or -1. */
+    int liveIndexOf(@Nullable Object key) {
+      int index = indexOf(key);
+      return (index >= 0 && counts[index] > 0) ? index : -1;
+    }
+
+    /** Assigns an index to a key not yet present. */
+    int add(K key) {
+      if (size == keys.length) {
+        int newCapacity = ImmutableCollection.Builder.expandedCapacity(size, size + 1);
+        keys = Arrays.copyOf(keys, newCapacity);
+        counts = Arrays.copyOf(counts, newCapacity);
+        if (table.length < Hashing.closedTableSize(newCapacity, MAX_LOAD)) {
+          rehash(Hashing.closedTableSize(newCapacity, MAX_LOAD));
+        }
+      }
+      int index = size++;
+      keys[index] = key;
+      insert(index);
+      return index;
+    }
+
+    private void insert(int index) {
+      int mask = table.length - 1;
+      int slot = Hashing.smear(key(index).hashCode()) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = index + 1;
+    }
+
+    private void rehash(int tableSize) {
+      table = new int[tableSize];
+      for (int i = 0; i < size; i++) {
+        insert(i);
+      }
+    }
+
+    @SuppressWarnings("unchecked") // only Ks are stored
+    K key(int index) {
+      return (K) keys[index];
+    }
+
+    void increment(int index) {
+      if (counts[index]++ == 0) {
+        live++;
+      }
+    }
+
+    void decrement(int index) {
+      if (--counts[index] == 0) {
+        live--;
+      }
+    }
+
+    /** Whether adding a key would grow the arrays even though most keys are no longer used. */
+    boolean shouldCompact() {
+      return size == keys.length && live <= size / 2;
+    }
+
+    /**
+     * Drops the keys no longer used by any cell, and returns an array mapping each old index to
+     * its new index.
+     */
+    int[] compact() {
+      int[] newIndices = new int[size];
+      int newSize = 0;
+      for (int i = 0; i < size; i++) {
+        if (counts[i] > 0) {
+          keys[newSize] = keys[i];
+          counts[newSize] = counts[i];
+          newIndices[i] = newSize++;
+        } else {
+          newIndices[i] = -1;
+        }
+      }
+      Arrays.fill(keys, newSize, size, null);
+      Arrays.fill(counts, newSize, size, 0);
+      size = newSize;
+      rehash(table.length);
+      return newIndices;
+    }
+
+    void clear() {
+      Arrays.fill(keys, 0, size, null);
+      Arrays.fill(counts, 0, size, 0);
+      Arrays.fill(table, 0);
+      size = 0;
+      live = 0;
+    }
+  }
+
+  private static int cellHash(int row, int column) {
+    long hash = (((long) row << 32) | (column & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32);
+  }
+
+  /** Returns the index of the live cell with the given row and column indices, or -1. */
+  private int findCell(int row, int column) {
+    int mask = cellTable.length - 1;
+    for (int slot = cellHash(row, column) & mask; ; slot = (slot + 1) & mask) {
+      int entry = cellTable[slot];
+      if (entry == 0) {
+        return -1;
+      }
+      int cell = entry - 1;
+      if (cellRows[cell] == row && cellColumns[cell] == column) {
+        return cell;
+      }
+    }
+  }
+
+  private int findCell(@Nullable Object rowKey, @Nullable Object columnKey) {
+    int row = rows.indexOf(rowKey);
+    if (row < 0) {
+      return -1;
+    }
+    int column = columns.indexOf(columnKey);
+    return (column < 0) ? -1 : findCell(row, column);
+  }
+
+  private void insertCell(int cell) {
+    int mask = cellTable.length - 1;
+    int slot = cellHash(cellRows[cell], cellColumns[cell]) & mask;
+    while (cellTable[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    cellTable[slot] = cell + 1;
+  }
+
+  private V value(int cell) {
+    @SuppressWarnings("unchecked") // callers only pass live cells, whose values are Vs
+    V value = (V) cellValues[cell];
+    return value;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object rowKey, @Nullable Object columnKey) {
+    return findCell(rowKey, columnKey) >= 0;
+  }
+
+  @Override
+  public boolean containsRow(@Nullable Object rowKey) {
+    return rows.liveIndexOf(rowKey) >= 0;
+  }
+
+  @Override
+  public boolean containsColumn(@Nullable Object columnKey) {
+    return columns.liveIndexOf(columnKey) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@Nullable Object value) {
+    if (value != null) {
+      for (int i = 0; i < cellCount; i++) {
+        if (value.equals(cellValues[i])) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object rowKey, @Nullable Object columnKey) {
+    int cell = findCell(rowKey, columnKey);
+    return (cell < 0) ? null : value(cell);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    if (size == 0 && cellCount == 0) {
+      return;
+    }
+    rows.clear();
+    columns.clear();
+    Arrays.fill(cellValues, 0, cellCount, null);
+    Arrays.fill(cellTable, 0);
+    cellCount = 0;
+    size = 0;
+    rowIndex = null;
+    columnIndex = null;
+    modCount++;
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public @Nullable V put(R rowKey, C columnKey, V value) {
+    checkNotNull(rowKey);
+    checkNotNull(columnKey);
+    checkNotNull(value);
+    int row = rows.indexOf(rowKey);
+    int column = columns.indexOf(columnKey);
+    if (row >= 0 && column >= 0) {
+      int cell = findCell(row, column);
+      if (cell >= 0) {
+        V oldValue = value(cell);
+        cellValues[cell] = value;
+        return oldValue;
+      }
+    }
+    if (cellCount == cellValues.length
+        || (row < 0 && rows.shouldCompact())
+        || (column < 0 && columns.shouldCompact())) {
+      compact();
+      row = rows.indexOf(rowKey);
+      column = columns.indexOf(columnKey);
+    }
+    if (row < 0) {
+      row = rows.add(rowKey);
+    }
+    if (column < 0) {
+      column = columns.add(columnKey);
+    }
+    int cell = cellCount++;
+    cellRows[cell] = row;
+    cellColumns[cell] = column;
+    cellValues[cell] = value;
+    insertCell(cell);
+    rows.increment(row);
+    columns.increment(column);
+    size++;
+    rowIndex = null;
+    columnIndex = null;
+    modCount++;
+    return null;
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public @Nullable V remove(@Nullable Object rowKey, @Nullable Object columnKey) {
+    int cell = findCell(rowKey, columnKey);
+    return (cell < 0) ? null : removeCell(cell);
+  }
+
+  @CanIgnoreReturnValue
+  private V removeCell(int cell) {
+    int row = cellRows[cell];
+    int column = cellColumns[cell];
+    int mask = cellTable.length - 1;
+    int slot = cellHash(row, column) & mask;
+    while (cellTable[slot] != cell + 1) {
+      slot = (slot + 1) & mask;
+    }
+    deleteSlot(slot);
+    V oldValue = value(cell);
+    cellValues[cell] = null;
+    rows.decrement(row);
+    columns.decrement(column);
+    size--;
+    modCount++;
+    return oldValue;
+  }
+
+  /** Empties a slot of the cell table, shifting back later entries of the same probe sequence. */
+  private void deleteSlot(int slot) {
+    int mask = cellTable.length - 1;
+    int hole = slot;
+    for (int next = (hole + 1) & mask; cellTable[next] != 0; next = (next + 1) & mask) {
+      int cell = cellTable[next] - 1;
+      int home = cellHash(cellRows[cell], cellColumns[cell]) & mask;
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        cellTable[hole] = cellTable[next];
+        hole = next;
+      }
+    }
+    cellTable[hole] = 0;
+  }
+
+  /**
+   * Drops removed cells and unused keys, growing the cell arrays if more than half of their slots
+   * hold live cells.
+   */
+  private void compact() {
+    int capacity = cellValues.length;
+    if (size >= capacity / 2) {
+      capacity = ImmutableCollection.Builder.expandedCapacity(capacity, size + 1);
+    }
+    int[] newRows = rows.compact();
+    int[] newColumns = columns.compact();
+    int[] oldRows = cellRows;
+    int[] oldColumns = cellColumns;
+    @Nullable Object[] oldValues = cellValues;
+    cellRows = new int[capacity];
+    cellColumns = new int[capacity];
+    cellValues = new Object[capacity];
+    cellTable = new int[Hashing.closedTableSize(capacity, MAX_LOAD)];
+    int newCount = 0;
+    for (int i = 0; i < cellCount; i++) {
+      if (oldValues[i] != null) {
+        cellRows[newCount] = newRows[oldRows[i]];
+        cellColumns[newCount] = newColumns[oldColumns[i]];
+        cellValues[newCount] = oldValues[i];
+        insertCell(newCount++);
+      }
+    }
+    cellCount = newCount;
+    rowIndex = null;
+    columnIndex = null;
+  }
+
+  private int[] rowIndex() {
+    int[] result = rowIndex;
+    if (result == null) {
+      result = rowIndex = buildIndex(cellRows, rows.size);
+    }
+    return result;
+  }
+
+  private int[] columnIndex() {
+    int[] result = columnIndex;
+    if (result == null) {
+      result = columnIndex = buildIndex(cellColumns, columns.size);
+    }
+    return result;
+  }
+
+  /** Groups the live cells by key with a counting sort, preserving insertion order. */
+  private int[] buildIndex(int[] keyOfCell, int keyCount) {
+    int[] index = new int[keyCount + 1 + size];
+    for (int i = 0; i < cellCount; i++) {
+      if (cellValues[i] != null) {
+        index[keyOfCell[i] + 1]++;
+      }
+    }
+    index[0] = keyCount + 1;
+    for (int k = 0; k < keyCount; k++) {
+      index[k + 1] += index[k];
+    }
+    int[] next = Arrays.copyOf(index, keyCount);
+    for (int i = 0; i < cellCount; i++) {
+      if (cellValues[i] != null) {
+        index[next[keyOfCell[i]]++] = i;
+      }
+    }
+    return index;
+  }
+
+  /** Iterates over a range of positions, each identifying a cell, skipping removed cells. */
+  private abstract class CellIterator<T> implements Iterator<T> {
+    private int position;
+    private final int end;
+    private int lastCell = -1;
+    private int expectedModCount = modCount;
+
+    CellIterator(int start, int end) {
+      this.position = start;
+      this.end = end;
+    }
+
+    abstract int cellAt(int position);
+
+    abstract T output(int cell);
+
+    @Override
+    public boolean hasNext() {
+      while (position < end && cellValues[cellAt(position)] == null) {
+        position++;
+      }
+      return position < end;
+    }
+
+    @Override
+    public T next() {
+      checkForComodification();
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      lastCell = cellAt(position++);
+      return output(lastCell);
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      checkRemove(lastCell >= 0);
+      removeCell(lastCell);
+      lastCell = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  Iterator<Cell<R, C, V>> cellIterator() {
+    return new CellIterator<Cell<R, C, V>>(0, cellCount) {
+      @Override
+      int cellAt(int position) {
+        return position;
+      }
+
+      @Override
+      Cell<R, C, V> output(int cell) {
+        return Tables.immutableCell(
+            rows.key(cellRows[cell]), columns.key(cellColumns[cell]), value(cell));
+      }
+    };
+  }
+
+  @Override
+  Iterator<V> valuesIterator() {
+    return new CellIterator<V>(0, cellCount) {
+      @Override
+      int cellAt(int position) {
+        return position;
+      }
+
+      @Override
+      V output(int cell) {
+        return value(cell);
+      }
+    };
+  }
+
+  /** A view of the cells sharing one row key or one column key. */
+  private abstract class Slice<K> extends IteratorBasedAbstractMap<K, V> {
+    /** Returns the index of this slice's key among the row or column keys, or -1. */
+    abstract int keyIndex();
+
+    /** Returns the index of the live cell of this slice with the given key, or -1. */
+    abstract int cellFor(@Nullable Object key);
+
+    abstract int count(int keyIndex);
+
+    abstract int[] index();
+
+    abstract K otherKey(int cell);
+
+    @Override
+    public int size() {
+      int keyIndex = keyIndex();
+      return (keyIndex < 0) ? 0 : count(keyIndex);
+    }
+
+    @Override
+    Iterator<Entry<K, V>> entryIterator() {
+      int keyIndex = keyIndex();
+      if (keyIndex < 0 || count(keyIndex) == 0) {
+        return Iterators.emptyIterator();
+      }
+      int[] index = index();
+      return new CellIterator<Entry<K, V>>(index[keyIndex], index[keyIndex + 1]) {
+        @Override
+        int cellAt(int position) {
+          return index[position];
+        }
+
+        @Override
+        Entry<K, V> output(int cell) {
+          return new SliceEntry(otherKey(cell));
+        }
+      };
+    }
+
+    /*
+     * The entries look their cell up by key on every access, rather than holding its index, because
+     * compacting the arrays moves cells to new indices.
+     */
+    private final class SliceEntry extends AbstractMapEntry<K, V> {
+      final K key;
+
+      SliceEntry(K key) {
+        this.key = key;
+      }
+
+      @Override
+      public K getKey() {
+        return key;
+      }
+
+      @Override
+      public V getValue() {
+        return value(liveCell());
+      }
+
+      @Override
+      public V setValue(V value) {
+        checkNotNull(value);
+        int cell = liveCell();
+        V oldValue = value(cell);
+        cellValues[cell] = value;
+        return oldValue;
+      }
+
+      private int liveCell() {
+        int cell = cellFor(key);
+        if (cell < 0) {
+          throw new IllegalStateException("Cell was removed from the table");
+        }
+        return cell;
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned map's views have iterators that support {@code remove()}.
+   */
+  @Override
+  public Map<C, V> row(R rowKey) {
+    return new Row(rowKey);
+  }
+
+  @WeakOuter
+  private final class Row extends Slice<C> {
+    final R rowKey;
+
+    Row(R rowKey) {
+      this.rowKey = checkNotNull(rowKey);
+    }
+
+    @Override
+    int keyIndex() {
+      return rows.indexOf(rowKey);
+    }
+
+    @Override
+    int cellFor(@Nullable Object key) {
+      return findCell(rowKey, key);
+    }
+
+    @Override
+    int count(int keyIndex) {
+      return rows.counts[keyIndex];
+    }
+
+    @Override
+    int[] index() {
+      return rowIndex();
+    }
+
+    @Override
+    C otherKey(int cell) {
+      return columns.key(cellColumns[cell]);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+      return contains(rowKey, key);
+    }
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+      return CompactTable.this.get(rowKey, key);
+    }
+
+    @Override
+    public @Nullable V put(C key, V value) {
+      return CompactTable.this.put(rowKey, key, value);
+    }
+
+    @Override
+    public @Nullable V remove(@Nullable Object key) {
+      return CompactTable.this.remove(rowKey, key);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned map's views have iterators that support {@code remove()}.
+   */
+  @Override
+  public Map<R, V> column(C columnKey) {
+    return new Column(columnKey);
+  }
+
+  @WeakOuter
+  private final class Column extends Slice<R> {
+    final C columnKey;
+
+    Column(C columnKey) {
+      this.columnKey = checkNotNull(columnKey);
+    }
+
+    @Override
+    int keyIndex() {
+      return columns.indexOf(columnKey);
+    }
+
+    @Override
+    int cellFor(@Nullable Object key) {
+      return findCell(key, columnKey);
+    }
+
+    @Override
+    int count(int keyIndex) {
+      return columns.counts[keyIndex];
+    }
+
+    @Override
+    int[] index() {
+      return columnIndex();
+    }
+
+    @Override
+    R otherKey(int cell) {
+      return rows.key(cellRows[cell]);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+      return contains(key, columnKey);
+    }
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+      return CompactTable.this.get(key, columnKey);
+    }
+
+    @Override
+    public @Nullable V put(R key, V value) {
+      return CompactTable.this.put(key, columnKey, value);
+    }
+
+    @Override
+    public @Nullable V remove(@Nullable Object key) {
+      return CompactTable.this.remove(key, columnKey);
+    }
+  }
+
+  /** A view of the row keys or the column keys, each mapped to its slice of the table. */
+  private abstract class SliceMap<K, S extends Map<?, V>> extends IteratorBasedAbstractMap<K, S> {
+    abstract KeyIndex<K> keys();
+
+    abstract S slice(K key);
+
+    @Override
+    public int size() {
+      return keys().live;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+      return keys().liveIndexOf(key) >= 0;
+    }
+
+    @Override
+    public @Nullable S get(@Nullable Object key) {
+      int index = keys().liveIndexOf(key);
+      return (index < 0) ? null : slice(keys().key(index));
+    }
+
+    @Override
+    public @Nullable S remove(@Nullable Object key) {
+      int index = keys().liveIndexOf(key);
+      if (index < 0) {
+        return null;
+      }
+      S slice = slice(keys().key(index));
+      @SuppressWarnings("unchecked") // the copy holds the same mappings as the slice
+      S copy = (S) new LinkedHashMap<>(slice);
+      slice.clear();
+      return copy;
+    }
+
+    @Override
+    Iterator<Entry<K, S>> entryIterator() {
+      return new Iterator<Entry<K, S>>() {
+        private int index;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+          KeyIndex<K> keys = keys();
+          while (index < keys.size && keys.counts[index] == 0) {
+            index++;
+          }
+          return index < keys.size;
+        }
+
+        @Override
+        public Entry<K, S> next() {
+          checkForComodification();
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          lastIndex = index++;
+          K key = keys().key(lastIndex);
+          return Maps.immutableEntry(key, slice(key));
+        }
+
+        @Override
+        public void remove() {
+          checkForComodification();
+          checkRemove(lastIndex >= 0);
+          slice(keys().key(lastIndex)).clear();
+          lastIndex = -1;
+          expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+          if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+          }
+        }
+      };
+    }
+  }
+
+  @LazyInit private transient @Nullable Map<R, Map<C, V>> rowMap;
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned map's views have iterators that support {@code remove()}.
+   */
+  @Override
+  public Map<R, Map<C, V>> rowMap() {
+    Map<R, Map<C, V>> result = rowMap;
+    if (result == null) {
+      result =
+          rowMap =
+              new SliceMap<R, Map<C, V>>() {
+                @Override
+                KeyIndex<R> keys() {
+                  return rows;
+                }
+
+                @Override
+                Map<C, V> slice(R key) {
+                  return row(key);
+                }
+              };
+    }
+    return result;
+  }
+
+  @LazyInit private transient @Nullable Map<C, Map<R, V>> columnMap;
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned map's views have iterators that support {@code remove()}.
+   */
+  @Override
+  public Map<C, Map<R, V>> columnMap() {
+    Map<C, Map<R, V>> result = columnMap;
+    if (result == null) {
+      result =
+          columnMap =
+              new SliceMap<C, Map<R, V>>() {
+                @Override
+                KeyIndex<C> keys() {
+                  return columns;
+                }
+
+                @Override
+                Map<R, V> slice(C key) {
+                  return column(key);
+                }
+              };
+    }
+    return result;
+  }
+
+  /**
+   * @serialData the number of cells, followed by the row key, column key and value of each cell,
+   *     in iteration order
+   */
+  @GwtIncompatible
+  @J2ktIncompatible
+  private void writeObject(ObjectOutputStream stream) throws IOException {
+    stream.defaultWriteObject();
+    stream.writeInt(size);
+    for (int i = 0; i < cellCount; i++) {
+      if (cellValues[i] != null) {
+        stream.writeObject(rows.key(cellRows[i]));
+        stream.writeObject(columns.key(cellColumns[i]));
+        stream.writeObject(cellValues[i]);
+      }
+    }
+  }
+
+  @GwtIncompatible
+  @J2ktIncompatible
+  @SuppressWarnings("unchecked") // reading data stored by writeObject
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    int size = stream.readInt();
+    checkNonnegative(size, "size");
+    init(DEFAULT_SIZE, DEFAULT_SIZE, max(size, 1));
+    for (int i = 0; i < size; i++) {
+      put((R) stream.readObject(), (C) stream.readObject(), (V) stream.readObject());
+    }
+  }
+
+  @GwtIncompatible @J2ktIncompatible private static final long serialVersionUID = 0;
+}
@@ -26,12 +26,15 @@ import static com.google.common.collect.Collections2.safeRemove;
 import static com.google.common.collect.Lists.newArrayListWithExpectedSize;
 import static com.google.common.collect.Maps.safeGet;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
 
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.primitives.Ints;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
 import com.google.j2objc.annotations.WeakOuter;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -44,7 +47,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -75,6 +81,9 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
   /** The number of occurrences of each element. */
   private final transient ConcurrentMap<E, AtomicInteger> countMap;
 
+  /** Whether new counters are {@link StripedCounter}s. */
+  private final boolean striped;
+
   /**
    * An instance created in {@link #readObject} to be returned from {@link #readResolve}. This field
    * is used only by those methods, and it is never set in a "normal" instance.
@@ -137,11 +146,54 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
    */
   public static <E> ConcurrentHashMultiset<E> create(ConcurrentMap<E, AtomicInteger> countMap) {
     checkArgument(countMap.isEmpty(), "the backing map (%s) must be empty", countMap);
-    return new ConcurrentHashMultiset<>(countMap);
+    return new ConcurrentHashMultiset<>(countMap, false);
+  }
+
+  /**
+   * Creates a new, empty {@code ConcurrentHashMultiset} whose counts scale under heavy contention
+   * on individual elements, such as a few very frequently counted keys.
+   *
+   * <p>Once concurrent additions to the count of an element start to collide, further additions to
+   * that element are spread over several cells, each updated independently, in the manner of
+   * {@link java.util.concurrent.atomic.LongAdder}. Elements that are not contended use a single
+   * counter, as in a multiset returned by {@link #create()}.
+   *
+   * <p>This makes {@link #add(Object, int)} scale with the number of threads, with these
+   * trade-offs for contended elements:
+   *
+   * <ul>
+   *   <li>{@link #add(Object, int)} may return a smaller previous count than the true one, although
+   *       it still returns zero only if the element was absent.
+   *   <li>{@link #count} sums the cells, so it is not atomic with respect to concurrent additions,
+   *       and counts that would exceed {@link Integer#MAX_VALUE} are saturated rather than
+   *       rejected.
+   *   <li>The other modifying operations, such as {@link #remove(Object, int)} and {@link
+   *       #setCount(Object, int)}, first fold the cells back into a single count, and hold a lock
+   *       on that element's counter while they run. They remain atomic, but unlike additions they
+   *       are not lock-free for striped elements.
+   * </ul>
+   *
+   * @since NEXT
+   */
+  public static <E> ConcurrentHashMultiset<E> createStriped() {
+    return new ConcurrentHashMultiset<>(new ConcurrentHashMap<>(), true);
   }
 
-  private ConcurrentHashMultiset(ConcurrentMap<E, AtomicInteger> countMap) {
+  /**
+   * Creates a multiset backed by {@code countMap}, which may already contain counters. {@link
+   * ConcurrentSkipListMultiset} uses this to share one count map between a multiset and its views.
+   */
+  ConcurrentHashMultiset(ConcurrentMap<E, AtomicInteger> countMap, boolean striped) {
     this.countMap = countMap;
+    this.striped = striped;
+  }
+
+  private AtomicInteger newCounter(int count) {
+    return striped ? new StripedCounter(count) : new AtomicInteger(count);
+  }
+
+  private static int countOf(AtomicInteger counter) {
+    return (counter instanceof StripedCounter) ? ((StripedCounter) counter).sum() : counter.get();
   }
 
   // Query Operations
@@ -155,7 +207,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
   @Override
   public int count(@Nullable Object element) {
     AtomicInteger existingCounter = safeGet(countMap, element);
-    return (existingCounter == null) ? 0 : existingCounter.get();
+    return (existingCounter == null) ? 0 : countOf(existingCounter);
   }
 
   /**
@@ -168,7 +220,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
   public int size() {
     long sum = 0L;
     for (AtomicInteger value : countMap.values()) {
-      sum += value.get();
+      sum += countOf(value);
     }
     return Ints.saturatedCast(sum);
   }
@@ -237,7 +289,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
     while (true) {
       AtomicInteger existingCounter = safeGet(countMap, element);
       if (existingCounter == null) {
-        existingCounter = countMap.putIfAbsent(element, new AtomicInteger(occurrences));
+        existingCounter = countMap.putIfAbsent(element, newCounter(occurrences));
         if (existingCounter == null) {
           return 0;
         }
@@ -245,6 +297,13 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
       }
 
       while (true) {
+        if (existingCounter instanceof StripedCounter) {
+          int oldValue = ((StripedCounter) existingCounter).add(occurrences);
+          if (oldValue != 0) {
+            return oldValue;
+          }
+          // The counter has dropped to zero; replace it below, as for any other counter.
+        }
         int oldValue = existingCounter.get();
         if (oldValue != 0) {
           try {
@@ -261,7 +320,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
           // In the case of a concurrent remove, we might observe a zero value, which means another
           // thread is about to remove (element, existingCounter) from the map. Rather than wait,
           // we can just do that work here.
-          AtomicInteger newCounter = new AtomicInteger(occurrences);
+          AtomicInteger newCounter = newCounter(occurrences);
           if ((countMap.putIfAbsent(element, newCounter) == null)
               || countMap.replace(element, existingCounter, newCounter)) {
             return 0;
@@ -304,6 +363,21 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
     if (existingCounter == null) {
       return 0;
     }
+    if (existingCounter instanceof StripedCounter) {
+      StripedCounter stripedCounter = (StripedCounter) existingCounter;
+      synchronized (stripedCounter) {
+        stripedCounter.seal();
+        try {
+          return removeFrom(element, stripedCounter, occurrences);
+        } finally {
+          stripedCounter.unseal();
+        }
+      }
+    }
+    return removeFrom(element, existingCounter, occurrences);
+  }
+
+  private int removeFrom(@Nullable Object element, AtomicInteger existingCounter, int occurrences) {
     while (true) {
       int oldValue = existingCounter.get();
       if (oldValue != 0) {
@@ -345,6 +419,22 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
     if (existingCounter == null) {
       return false;
     }
+    if (existingCounter instanceof StripedCounter) {
+      StripedCounter stripedCounter = (StripedCounter) existingCounter;
+      synchronized (stripedCounter) {
+        stripedCounter.seal();
+        try {
+          return removeExactlyFrom(element, stripedCounter, occurrences);
+        } finally {
+          stripedCounter.unseal();
+        }
+      }
+    }
+    return removeExactlyFrom(element, existingCounter, occurrences);
+  }
+
+  private boolean removeExactlyFrom(
+      @Nullable Object element, AtomicInteger existingCounter, int occurrences) {
     while (true) {
       int oldValue = existingCounter.get();
       if (oldValue < occurrences) {
@@ -380,7 +470,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
         if (count == 0) {
           return 0;
         } else {
-          existingCounter = countMap.putIfAbsent(element, new AtomicInteger(count));
+          existingCounter = countMap.putIfAbsent(element, newCounter(count));
           if (existingCounter == null) {
             return 0;
           }
@@ -388,29 +478,54 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
         }
       }
 
-      while (true) {
-        int oldValue = existingCounter.get();
-        if (oldValue == 0) {
-          if (count == 0) {
-            return 0;
-          } else {
-            AtomicInteger newCounter = new AtomicInteger(count);
-            if ((countMap.putIfAbsent(element, newCounter) == null)
-                || countMap.replace(element, existingCounter, newCounter)) {
-              return 0;
-            }
+      int oldValue;
+      if (existingCounter instanceof StripedCounter) {
+        StripedCounter stripedCounter = (StripedCounter) existingCounter;
+        synchronized (stripedCounter) {
+          stripedCounter.seal();
+          try {
+            oldValue = setCountIn(element, stripedCounter, count);
+          } finally {
+            stripedCounter.unseal();
           }
-          break;
+        }
+      } else {
+        oldValue = setCountIn(element, existingCounter, count);
+      }
+      if (oldValue >= 0) {
+        return oldValue;
+      }
+      // If we're still here, there was a race, so just try again.
+    }
+  }
+
+  /**
+   * Sets the count stored in {@code existingCounter}, returning the previous count, or -1 if the
+   * counter was concurrently replaced.
+   */
+  private int setCountIn(E element, AtomicInteger existingCounter, int count) {
+    while (true) {
+      int oldValue = existingCounter.get();
+      if (oldValue == 0) {
+        if (count == 0) {
+          return 0;
         } else {
-          if (existingCounter.compareAndSet(oldValue, count)) {
-            if (count == 0) {
-              // Just CASed to 0; remove the entry to clean up the map. If the removal fails,
-              // another thread has already replaced it with a new counter, which is fine.
-              countMap.remove(element, existingCounter);
-            }
-            return oldValue;
+          AtomicInteger newCounter = newCounter(count);
+          if ((countMap.putIfAbsent(element, newCounter) == null)
+              || countMap.replace(element, existingCounter, newCounter)) {
+            return 0;
           }
         }
+        return -1;
+      } else {
+        if (existingCounter.compareAndSet(oldValue, count)) {
+          if (count == 0) {
+            // Just CASed to 0; remove the entry to clean up the map. If the removal fails,
+            // another thread has already replaced it with a new counter, which is fine.
+            countMap.remove(element, existingCounter);
+          }
+          return oldValue;
+        }
       }
     }
   }
@@ -440,9 +555,25 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
         return true;
       } else {
         // if our write lost the race, it must have lost to a nonzero value, so we can stop
-        return countMap.putIfAbsent(element, new AtomicInteger(newCount)) == null;
+        return countMap.putIfAbsent(element, newCounter(newCount)) == null;
+      }
+    }
+    if (existingCounter instanceof StripedCounter) {
+      StripedCounter stripedCounter = (StripedCounter) existingCounter;
+      synchronized (stripedCounter) {
+        stripedCounter.seal();
+        try {
+          return setCountIn(element, stripedCounter, expectedOldCount, newCount);
+        } finally {
+          stripedCounter.unseal();
+        }
       }
     }
+    return setCountIn(element, existingCounter, expectedOldCount, newCount);
+  }
+
+  private boolean setCountIn(
+      E element, AtomicInteger existingCounter, int expectedOldCount, int newCount) {
     int oldValue = existingCounter.get();
     if (oldValue == expectedOldCount) {
       if (oldValue == 0) {
@@ -451,7 +582,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
           countMap.remove(element, existingCounter);
           return true;
         } else {
-          AtomicInteger newCounter = new AtomicInteger(newCount);
+          AtomicInteger newCounter = newCounter(newCount);
           return (countMap.putIfAbsent(element, newCounter) == null)
               || countMap.replace(element, existingCounter, newCounter);
         }
@@ -469,6 +600,204 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
     return false;
   }
 
+  /*
+   * The occurrences of each distinct element are added in a single atomic step. If elementsToAdd is
+   * a Multiset, its counts are used directly; otherwise the elements are first tallied locally.
+   * Adding a batch in which some elements repeat therefore updates each shared counter only once,
+   * which greatly reduces contention on frequently added elements. Tallying first also rejects a
+   * null element before anything is added. The batch as a whole is not added atomically.
+   */
+  @Override
+  boolean addAllImpl(Collection<? extends E> elementsToAdd) {
+    if (elementsToAdd instanceof Multiset || elementsToAdd.size() <= 1) {
+      return super.addAllImpl(elementsToAdd);
+    }
+    Multiset<E> tally = HashMultiset.create();
+    for (E element : elementsToAdd) {
+      tally.add(checkNotNull(element));
+    }
+    return super.addAllImpl(tally);
+  }
+
+  /**
+   * A counter that, once concurrent updates to its value start to collide, spreads further
+   * additions over an array of cells, in the manner of {@link
+   * java.util.concurrent.atomic.LongAdder}. The inherited value is the base count, and the count of
+   * the element is the base count plus the contents of the cells.
+   *
+   * <p>Additions are lock-free: they only retry compare-and-set operations, on a cell or, while the
+   * cells are sealed, on the base count. The cells are created by a compare-and-set as well.
+   *
+   * <p>Operations other than additions are lock-based: they must hold the counter's monitor,
+   * {@linkplain #seal seal} the cells first and {@linkplain #unseal unseal} them afterwards. While
+   * the cells are sealed, the whole count is in the base count, so those operations can use the
+   * same compare-and-set logic as for a plain {@code AtomicInteger}. In particular, a base count of
+   * zero still means that the counter is being removed from the map: the cells of such a counter
+   * stay sealed, so that no addition to it can be lost.
+   */
+  private static final class StripedCounter extends AtomicInteger {
+    /** The content of a sealed cell. */
+    private static final int SEALED = -1;
+
+    /** The distance between cells, so that each cell sits on its own cache line. */
+    private static final int STRIDE = 16;
+
+    private static final int CELLS =
+        min(Integer.highestOneBit(max(Runtime.getRuntime().availableProcessors(), 1) * 2 - 1), 64);
+
+    /**
+     * The cells of a counter that was sealed before it had any. Every cell is {@link #SEALED}, so
+     * additions go to the base count, and no counter ever writes to it.
+     */
+    private static final AtomicIntegerArray SEALED_CELLS = sealedCells();
+
+    private static final AtomicReferenceFieldUpdater<StripedCounter, @Nullable AtomicIntegerArray>
+        CELLS_UPDATER = newUpdater(StripedCounter.class, AtomicIntegerArray.class, "cells");
+
+    private static AtomicIntegerArray sealedCells() {
+      AtomicIntegerArray cells = new AtomicIntegerArray(CELLS * STRIDE);
+      for (int offset = 0; offset < CELLS * STRIDE; offset += STRIDE) {
+        cells.set(offset, SEALED);
+      }
+      return cells;
+    }
+
+    private transient volatile @Nullable AtomicIntegerArray cells;
+
+    StripedCounter(int initialValue) {
+      super(initialValue);
+    }
+
+    /**
+     * Adds occurrences to this counter. Returns zero if the counter has dropped to zero, in which
+     * case nothing was added; otherwise returns the base count observed before the addition.
+     */
+    int add(int occurrences) {
+      AtomicIntegerArray cells = this.cells;
+      if (cells == null) {
+        int oldValue = get();
+        if (oldValue == 0 || compareAndSet(oldValue, checkedAdd(oldValue, occurrences))) {
+          return oldValue;
+        }
+        cells = inflate();
+      }
+      int observedBase = get();
+      if (observedBase == 0) {
+        return 0;
+      }
+      int mask = CELLS - 1;
+      int index = Hashing.smear(System.identityHashCode(Thread.currentThread()));
+      while (true) {
+        int offset = (index & mask) * STRIDE;
+        int oldValue = cells.get(offset);
+        if (oldValue == SEALED) {
+          return addToBase(occurrences);
+        }
+        if (cells.compareAndSet(offset, oldValue, checkedAdd(oldValue, occurrences))) {
+          return observedBase;
+        }
+        index = ThreadLocalRandom.current().nextInt();
+      }
+    }
+
+    private int addToBase(int occurrences) {
+      while (true) {
+        int oldValue = get();
+        if (oldValue == 0 || compareAndSet(oldValue, checkedAdd(oldValue, occurrences))) {
+          return oldValue;
+        }
+      }
+    }
+
+    private static int checkedAdd(int oldValue, int occurrences) {
+      try {
+        return Math.addExact(oldValue, occurrences);
+      } catch (ArithmeticException overflow) {
+        throw new IllegalArgumentException(
+            "Overflow adding " + occurrences + " occurrences to a count of " + oldValue);
+      }
+    }
+
+    /** Returns the cells, creating them if needed. They are {@link #SEALED_CELLS} if sealed. */
+    private AtomicIntegerArray inflate() {
+      while (true) {
+        AtomicIntegerArray result = cells;
+        if (result != null) {
+          return result;
+        }
+        // If this fails, another adder created the cells or an operation sealed them. In the
+        // latter case, the cells may be reset to null again only once the operation is done.
+        CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(CELLS * STRIDE));
+      }
+    }
+
+    /** Returns the base count plus the contents of the cells. */
+    int sum() {
+      int base = get();
+      AtomicIntegerArray cells = this.cells;
+      if (base == 0 || cells == null || cells == SEALED_CELLS) {
+        return base;
+      }
+      long sum = base;
+      for (int offset = 0; offset < CELLS * STRIDE; offset += STRIDE) {
+        sum += max(cells.get(offset), 0);
+      }
+      return Ints.saturatedCast(sum);
+    }
+
+    /** Moves the contents of the cells into the base count, and stops further additions to them. */
+    @GuardedBy("this")
+    void seal() {
+      AtomicIntegerArray cells = this.cells;
+      if (cells == null) {
+        if (CELLS_UPDATER.compareAndSet(this, null, SEALED_CELLS)) {
+          return;
+        }
+        // An adder has just created the cells.
+        cells = requireNonNull(this.cells);
+      }
+      if (cells == SEALED_CELLS) {
+        return;
+      }
+      long sum = 0;
+      for (int offset = 0; offset < CELLS * STRIDE; offset += STRIDE) {
+        sum += max(cells.getAndSet(offset, SEALED), 0);
+      }
+      if (sum > 0) {
+        // The base count can't be zero, because the cells of a zero counter are already sealed.
+        while (true) {
+          int oldValue = get();
+          if (compareAndSet(oldValue, Ints.saturatedCast(oldValue + sum))) {
+            return;
+          }
+        }
+      }
+    }
+
+    /** Reopens the cells for additions, unless the counter has dropped to zero. */
+    @GuardedBy("this")
+    void unseal() {
+      if (get() == 0) {
+        return;
+      }
+      AtomicIntegerArray cells = requireNonNull(this.cells);
+      if (cells == SEALED_CELLS) {
+        this.cells = null;
+        return;
+      }
+      for (int offset = 0; offset < CELLS * STRIDE; offset += STRIDE) {
+        cells.set(offset, 0);
+      }
+    }
+
+    /** Serializes the count as the base count of a counter with no cells. */
+    private Object writeReplace() {
+      return new StripedCounter(sum());
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
   // Views
 
   @Override
@@ -542,7 +871,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
                 return endOfData();
               }
               Map.Entry<E, AtomicInteger> mapEntry = mapEntries.next();
-              int count = mapEntry.getValue().get();
+              int count = countOf(mapEntry.getValue());
               if (count != 0) {
                 return Multisets.immutableEntry(mapEntry.getKey(), count);
               }
@@ -627,7 +956,7 @@ public final class ConcurrentHashMultiset<E> extends AbstractMultiset<E> impleme
     @SuppressWarnings("unchecked") // reading data stored by writeObject
     ConcurrentMap<E, AtomicInteger> deserializedCountMap =
         (ConcurrentMap<E, AtomicInteger>) requireNonNull(stream.readObject());
-    deserializationReplacement = new ConcurrentHashMultiset<>(deserializedCountMap);
+    deserializationReplacement = new ConcurrentHashMultiset<>(deserializedCountMap, striped);
   }
 
     private Object readResolve() {
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A thread-safe {@link MinMaxPriorityQueue}, created with {@link
+ * MinMaxPriorityQueue.Builder#createConcurrent}. It is intended for tracking the "top N" elements
+ * produced by many threads while other threads consume them from either end.
+ *
+ * <p>Every operation is guarded by a single lock, except that when the queue has a maximum size and
+ * is full, {@link #offer} first compares the new element to the queue's current greatest element,
+ * which is published through a volatile field. An element that would be evicted immediately is
+ * rejected without taking the lock. Once the queue has filled up, most candidates in a typical
+ * top-N workload fall into that case, so producers rarely contend with each other.
+ *
+ * <p>An element that compares equal to the greatest element of a full queue is rejected.
+ *
+ * <p>The iterator returned by {@link #iterator} traverses a snapshot of the queue, in no particular
+ * order, and never throws {@link java.util.ConcurrentModificationException}. Its {@code remove}
+ * method removes an element equal to the last element returned, if the queue still contains one.
+ *
+ * <p>This class does not accept null elements.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class ConcurrentMinMaxPriorityQueue<E> extends AbstractQueue<E> {
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @GuardedBy("lock")
+  private final MinMaxPriorityQueue<E> queue;
+
+  private final Comparator<? super E> comparator;
+  private final int maximumSize;
+
+  /** The greatest element of the queue while it holds {@code maximumSize} elements, else null. */
+  private volatile @Nullable E evictionThreshold;
+
+  ConcurrentMinMaxPriorityQueue(MinMaxPriorityQueue<E> queue) {
+    this.queue = queue;
+    this.comparator = queue.comparator();
+    this.maximumSize = queue.maximumSize;
+  }
+
+  /**
+   * Adds the given element to this queue. If this queue has a maximum size, after adding {@code
+   * element} the queue will automatically evict its greatest element (according to its comparator),
+   * which may be {@code element} itself.
+   *
+   * @return {@code true} always
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public boolean add(E element) {
+    offer(element);
+    return true;
+  }
+
+  /**
+   * Adds the given element to this queue. If this queue has a maximum size, after adding {@code
+   * element} the queue will automatically evict its greatest element (according to its comparator),
+   * which may be {@code element} itself.
+   *
+   * @return {@code true} if {@code element} is now in the queue, or {@code false} if it was the
+   *     element evicted
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public boolean offer(E element) {
+    checkNotNull(element);
+    E threshold = evictionThreshold;
+    if (threshold != null && comparator.compare(element, threshold) >= 0) {
+      return false;
+    }
+    lock.lock();
+    try {
+      boolean retained = queue.offer(element);
+      publishEvictionThreshold();
+      return retained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable E poll() {
+    return pollFirst();
+  }
+
+  @Override
+  public @Nullable E peek() {
+    return peekFirst();
+  }
+
+  /**
+   * Removes and returns the least element of this queue, or returns {@code null} if the queue is
+   * empty.
+   */
+  @CanIgnoreReturnValue
+  public @Nullable E pollFirst() {
+    lock.lock();
+    try {
+      E first = queue.pollFirst();
+      publishEvictionThreshold();
+      return first;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the greatest element of this queue, or returns {@code null} if the queue is
+   * empty.
+   */
+  @CanIgnoreReturnValue
+  public @Nullable E pollLast() {
+    lock.lock();
+    try {
+      E last = queue.pollLast();
+      publishEvictionThreshold();
+      return last;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves, but does not remove, the least element of this queue, or returns {@code null} if the
+   * queue is empty.
+   */
+  public @Nullable E peekFirst() {
+    lock.lock();
+    try {
+      return queue.peekFirst();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves, but does not remove, the greatest element of this queue, or returns {@code null} if
+   * the queue is empty.
+   */
+  public @Nullable E peekLast() {
+    lock.lock();
+    try {
+      return queue.peekLast();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes all elements of this queue and adds them to {@code target} in ascending order. The
+   * elements are removed atomically, but added to {@code target} after the lock is released.
+   *
+   * @return the number of elements transferred
+   * @throws IllegalArgumentException if {@code target} is this queue
+   */
+  @CanIgnoreReturnValue
+  public int drainTo(Collection<? super E> target) {
+    checkArgument(target != this, "cannot drain a queue to itself");
+    Object[] drained;
+    lock.lock();
+    try {
+      drained = new Object[queue.size()];
+      for (int i = 0; i < drained.length; i++) {
+        drained[i] = queue.pollFirst();
+      }
+      publishEvictionThreshold();
+    } finally {
+      lock.unlock();
+    }
+    for (Object element : drained) {
+      @SuppressWarnings("unchecked") // only Es were in the queue
+      E e = (E) element;
+      target.add(e);
+    }
+    return drained.length;
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean contains(@Nullable Object object) {
+    lock.lock();
+    try {
+      return queue.contains(object);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(@Nullable Object object) {
+    lock.lock();
+    try {
+      boolean removed = queue.remove(object);
+      publishEvictionThreshold();
+      return removed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock.lock();
+    try {
+      queue.clear();
+      publishEvictionThreshold();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    lock.lock();
+    try {
+      return queue.toArray();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("nullness") // b/192354773 in our checker affects toArray declarations
+  public <T extends @Nullable Object> T[] toArray(T[] array) {
+    lock.lock();
+    try {
+      return queue.toArray(array);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    @SuppressWarnings("unchecked") // only Es were in the queue
+    Iterator<E> snapshot = (Iterator<E>) Iterators.forArray(toArray());
+    return new Iterator<E>() {
+      private @Nullable E last;
+
+      @Override
+      public boolean hasNext() {
+        return snapshot.hasNext();
+      }
+
+      @Override
+      public E next() {
+        E next = snapshot.next();
+        last = next;
+        return next;
+      }
+
+      @Override
+      public void remove() {
+        CollectPreconditions.checkRemove(last != null);
+        ConcurrentMinMaxPriorityQueue.this.remove(last);
+        last = null;
+      }
+    };
+  }
+
+  /**
+   * Returns the comparator used to order the elements in this queue, as {@link
+   * MinMaxPriorityQueue#comparator()} does.
+   */
+  public Comparator<? super E> comparator() {
+    return comparator;
+  }
+
+  @GuardedBy("lock")
+  private void publishEvictionThreshold() {
+    evictionThreshold = (queue.size() >= maximumSize) ? queue.peekLast() : null;
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.BoundType.CLOSED;
+import static com.google.common.collect.NullnessCasts.uncheckedCastNullableTToT;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A sorted multiset that supports concurrent modifications and that provides atomic versions of
+ * most {@code Multiset} operations (exceptions where noted). Null elements are not supported.
+ *
+ * <p>This is the sorted counterpart of {@link ConcurrentHashMultiset}: the count of each element
+ * is held in an {@link AtomicInteger}, and the counters are kept in a {@link
+ * ConcurrentSkipListMap}. Queries, including iteration and the navigation methods of {@link
+ * #elementSet()}, never block. Iteration is weakly consistent, as for {@code
+ * ConcurrentSkipListMap}, and {@link #size} requires a traversal of the elements in range.
+ *
+ * <p>The views returned by {@link #headMultiset}, {@link #tailMultiset} and {@link #subMultiset}
+ * share the counters of this multiset and are equally safe for concurrent use. Adding an element
+ * outside a view's range throws {@link IllegalArgumentException}.
+ *
+ * <p>See the {@link ConcurrentHashMultiset} documentation for details on the atomicity guarantees.
+ * In addition, {@link #pollFirstEntry} and {@link #pollLastEntry} atomically remove every
+ * occurrence of the element that they return.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class ConcurrentSkipListMultiset<E> extends AbstractSortedMultiset<E>
+    implements Serializable {
+
+  /**
+   * Creates a new, empty multiset, sorted according to the elements' natural order. All elements
+   * inserted into the multiset must implement the {@code Comparable} interface and be <i>mutually
+   * comparable</i>.
+   *
+   * <p>The type specification is {@code <E extends Comparable>}, instead of the more specific
+   * {@code <E extends Comparable<? super E>>}, to support classes defined without generics.
+   */
+  @SuppressWarnings("rawtypes") // https://github.com/google/guava/issues/989
+  public static <E extends Comparable> ConcurrentSkipListMultiset<E> create() {
+    return new ConcurrentSkipListMultiset<>(
+        new ConcurrentSkipListMap<E, AtomicInteger>(), GeneralRange.all(Ordering.natural()));
+  }
+
+  /**
+   * Creates a new, empty multiset, sorted according to the specified comparator. All elements
+   * inserted into the multiset must be <i>mutually comparable</i> by the specified comparator.
+   *
+   * @param comparator the comparator that will be used to sort this multiset. A null value
+   *     indicates that the elements' <i>natural ordering</i> should be used.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"}) // natural ordering when comparator is null
+  public static <E> ConcurrentSkipListMultiset<E> create(
+      @Nullable Comparator<? super E> comparator) {
+    if (comparator == null) {
+      return new ConcurrentSkipListMultiset<E>(
+          new ConcurrentSkipListMap<E, AtomicInteger>(),
+          GeneralRange.all((Comparator) Ordering.natural()));
+    }
+    return new ConcurrentSkipListMultiset<>(
+        new ConcurrentSkipListMap<E, AtomicInteger>(comparator), GeneralRange.all(comparator));
+  }
+
+  /**
+   * Creates a new multiset containing the given initial elements, sorted according to the
+   * elements' natural order.
+   *
+   * <p>The type specification is {@code <E extends Comparable>}, instead of the more specific
+   * {@code <E extends Comparable<? super E>>}, to support classes defined without generics.
+   */
+  @SuppressWarnings("rawtypes") // https://github.com/google/guava/issues/989
+  public static <E extends Comparable> ConcurrentSkipListMultiset<E> create(
+      Iterable<? extends E> elements) {
+    ConcurrentSkipListMultiset<E> multiset = create();
+    Iterables.addAll(multiset, elements);
+    return multiset;
+  }
+
+  /** The counters of the whole multiset, shared with any views. */
+  private final transient ConcurrentNavigableMap<E, AtomicInteger> rootCountMap;
+
+  private final transient GeneralRange<E> range;
+
+  /** The counters of the elements within {@link #range}. */
+  private final transient ConcurrentNavigableMap<E, AtomicInteger> countMap;
+
+  /** Implements the counting operations; iterates in ascending order. */
+  private final transient ConcurrentHashMultiset<E> counts;
+
+  /** Shares the counters of {@link #counts}; iterates in descending order. */
+  private final transient ConcurrentHashMultiset<E> descendingCounts;
+
+  /**
+   * An instance created in {@link #readObject} to be returned from {@link #readResolve}. This field
+   * is used only by those methods, and it is never set in a "normal" instance.
+   *
+   * <p>For more background, see {@code ConcurrentHashMultiset.deserializationReplacement}.
+   */
+  private transient @Nullable ConcurrentSkipListMultiset<E> deserializationReplacement;
+
+  private ConcurrentSkipListMultiset(
+      ConcurrentNavigableMap<E, AtomicInteger> rootCountMap, GeneralRange<E> range) {
+    super(range.comparator());
+    this.rootCountMap = rootCountMap;
+    this.range = range;
+    this.countMap = restrict(rootCountMap, range);
+    this.counts = new ConcurrentHashMultiset<>(countMap, /* striped= */ false);
+    this.descendingCounts = new ConcurrentHashMultiset<>(countMap.descendingMap(), false);
+  }
+
+  private static <E> ConcurrentNavigableMap<E, AtomicInteger> restrict(
+      ConcurrentNavigableMap<E, AtomicInteger> map, GeneralRange<E> range) {
+    // The casts are safe because we call them only if the range has the matching bound.
+    if (range.hasLowerBound() && range.hasUpperBound()) {
+      return map.subMap(
+          uncheckedCastNullableTToT(range.getLowerEndpoint()),
+          range.getLowerBoundType() == CLOSED,
+          uncheckedCastNullableTToT(range.getUpperEndpoint()),
+          range.getUpperBoundType() == CLOSED);
+    } else if (range.hasLowerBound()) {
+      return map.tailMap(
+          uncheckedCastNullableTToT(range.getLowerEndpoint()), range.getLowerBoundType() == CLOSED);
+    } else if (range.hasUpperBound()) {
+      return map.headMap(
+          uncheckedCastNullableTToT(range.getUpperEndpoint()), range.getUpperBoundType() == CLOSED);
+    } else {
+      return map;
+    }
+  }
+
+  // Query Operations
+
+  @Override
+  public int count(@Nullable Object element) {
+    return counts.count(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If the data in the multiset is modified by any other threads during this method, it is
+   * undefined which (if any) of these modifications will be reflected in the result.
+   */
+  @Override
+  public int size() {
+    return counts.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return counts.isEmpty();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return counts.toArray();
+  }
+
+  @Override
+  @SuppressWarnings("nullness") // b/192354773 in our checker affects toArray declarations
+  public <T extends @Nullable Object> T[] toArray(T[] array) {
+    return counts.toArray(array);
+  }
+
+  // Modification Operations
+
+  /**
+   * Adds a number of occurrences of the specified element to this multiset.
+   *
+   * @throws IllegalArgumentException if {@code occurrences} is negative, if the resulting amount
+   *     would exceed {@link Integer#MAX_VALUE}, or if {@code element} is outside the range of this
+   *     view
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public int add(E element, int occurrences) {
+    return counts.add(element, occurrences);
+  }
+
+  @Override
+  boolean addAllImpl(Collection<? extends E> elementsToAdd) {
+    return counts.addAll(elementsToAdd);
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public int remove(@Nullable Object element, int occurrences) {
+    return counts.remove(element, occurrences);
+  }
+
+  /**
+   * Removes exactly the specified number of occurrences of {@code element}, or makes no change if
+   * this is not possible. See {@link ConcurrentHashMultiset#removeExactly}.
+   */
+  @CanIgnoreReturnValue
+  public boolean removeExactly(@Nullable Object element, int occurrences) {
+    return counts.removeExactly(element, occurrences);
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public int setCount(E element, int count) {
+    return counts.setCount(element, count);
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public boolean setCount(E element, int expectedOldCount, int newCount) {
+    return counts.setCount(element, expectedOldCount, newCount);
+  }
+
+  @Override
+  public @Nullable Entry<E> pollFirstEntry() {
+    return pollFirstEntry(countMap);
+  }
+
+  @Override
+  public @Nullable Entry<E> pollLastEntry() {
+    return pollFirstEntry(countMap.descendingMap());
+  }
+
+  /**
+   * Removes all occurrences of the first element of {@code map}, following the protocol of {@link
+   * ConcurrentHashMultiset}: a counter is first drained to zero and only then unlinked, so a
+   * concurrent {@code add} either lands before the drain or installs a fresh counter.
+   */
+  private static <E> @Nullable Entry<E> pollFirstEntry(
+      ConcurrentNavigableMap<E, AtomicInteger> map) {
+    while (true) {
+      Map.Entry<E, AtomicInteger> first = map.firstEntry();
+      if (first == null) {
+        return null;
+      }
+      E element = first.getKey();
+      AtomicInteger counter = first.getValue();
+      int count;
+      do {
+        count = counter.get();
+      } while (count != 0 && !counter.compareAndSet(count, 0));
+      map.remove(element, counter);
+      if (count != 0) {
+        return Multisets.immutableEntry(element, count);
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    countMap.clear();
+  }
+
+  // Views
+
+  @Override
+  int distinctElements() {
+    return counts.distinctElements();
+  }
+
+  @Override
+  Iterator<E> elementIterator() {
+    return Multisets.elementIterator(entryIterator());
+  }
+
+  @Override
+  Iterator<Entry<E>> entryIterator() {
+    return counts.entryIterator();
+  }
+
+  @Override
+  Iterator<Entry<E>> descendingEntryIterator() {
+    return descendingCounts.entryIterator();
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return Multisets.iteratorImpl(this);
+  }
+
+  @Override
+  public SortedMultiset<E> headMultiset(E upperBound, BoundType boundType) {
+    return new ConcurrentSkipListMultiset<>(
+        rootCountMap, range.intersect(GeneralRange.upTo(comparator(), upperBound, boundType)));
+  }
+
+  @Override
+  public SortedMultiset<E> tailMultiset(E lowerBound, BoundType boundType) {
+    return new ConcurrentSkipListMultiset<>(
+        rootCountMap, range.intersect(GeneralRange.downTo(comparator(), lowerBound, boundType)));
+  }
+
+  /**
+   * @serialData the comparator, the number of distinct elements, the first element, its count, the
+   *     second element, its count, and so on
+   */
+  private void writeObject(ObjectOutputStream stream) throws IOException {
+    stream.defaultWriteObject();
+    stream.writeObject(comparator());
+    Serialization.writeMultiset(this, stream);
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    @SuppressWarnings("unchecked") // reading data stored by writeObject
+    Comparator<? super E> comparator = (Comparator<? super E>) requireNonNull(stream.readObject());
+    deserializationReplacement = create(comparator);
+    Serialization.populateMultiset(deserializationReplacement, stream);
+  }
+
+  private Object readResolve() {
+    return requireNonNull(deserializationReplacement); // set by readObject
+  }
+
+  private static final long serialVersionUID = 0;
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link RangeMap} that is safe for concurrent use, backed by a {@link ConcurrentSkipListMap}.
+ *
+ * <p>Lookups with {@link #get} and {@link #getEntry} never block: they read the skip list directly,
+ * as {@link TreeRangeMap} reads its {@code TreeMap}. Updates are serialized on an internal lock,
+ * and each update rewrites the skip list in an order that never leaves a key unmapped while it is
+ * mapped both before and after the update. A lookup that runs concurrently with an update returns
+ * either the value before the update or the value after it.
+ *
+ * <p>The remapping function passed to {@link #merge} is called while holding the lock, so it
+ * should be fast and must not update this range map from another thread.
+ *
+ * <p>The {@link #asMapOfRanges} and {@link #asDescendingMapOfRanges} views are unmodifiable and
+ * weakly consistent: an iteration that overlaps an update may observe it partially applied. Use
+ * {@link #remove} to remove ranges. The {@link #subRangeMap} views share the lock of this range map
+ * and are safe for concurrent use.
+ *
+ * <p>Like all {@code RangeMap} implementations, this supports neither null keys nor null values.
+ *
+ * @since NEXT
+ */
+@SuppressWarnings("rawtypes") // https://github.com/google/guava/issues/989
+@J2ktIncompatible
+@GwtIncompatible // NavigableMap
+public final class ConcurrentTreeRangeMap<K extends Comparable, V> implements RangeMap<K, V> {
+
+  /** Returns a new, empty {@link ConcurrentTreeRangeMap}. */
+  public static <K extends Comparable, V> ConcurrentTreeRangeMap<K, V> create() {
+    TreeRangeMap<K, V> delegate = TreeRangeMap.createWithConcurrentReads();
+    return new ConcurrentTreeRangeMap<>(delegate, delegate);
+  }
+
+  /**
+   * Returns a new {@link ConcurrentTreeRangeMap} containing the same ranges as the given {@code
+   * RangeMap}.
+   */
+  public static <K extends Comparable<?>, V> ConcurrentTreeRangeMap<K, V> copyOf(
+      RangeMap<K, ? extends V> rangeMap) {
+    ConcurrentTreeRangeMap<K, V> result = create();
+    result.putAll(rangeMap);
+    return result;
+  }
+
+  /** A {@link TreeRangeMap} backed by a skip list, or a sub-range view of one. */
+  private final RangeMap<K, V> delegate;
+
+  /** The backing {@link TreeRangeMap}, which serializes updates through all views. */
+  private final Object lock;
+
+  private ConcurrentTreeRangeMap(RangeMap<K, V> delegate, Object lock) {
+    this.delegate = delegate;
+    this.lock = lock;
+  }
+
+  @Override
+  public @Nullable V get(K key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public @Nullable Entry<Range<K>, V> getEntry(K key) {
+    return delegate.getEntry(key);
+  }
+
+  @Override
+  public Range<K> span() {
+    return delegate.span();
+  }
+
+  @Override
+  public void put(Range<K> range, V value) {
+    synchronized (lock) {
+      delegate.put(range, value);
+    }
+  }
+
+  @Override
+  public void putCoalescing(Range<K> range, V value) {
+    synchronized (lock) {
+      delegate.putCoalescing(range, value);
+    }
+  }
+
+  @Override
+  public void putAll(RangeMap<K, ? extends V> rangeMap) {
+    synchronized (lock) {
+      delegate.putAll(rangeMap);
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (lock) {
+      delegate.clear();
+    }
+  }
+
+  @Override
+  public void remove(Range<K> range) {
+    synchronized (lock) {
+      delegate.remove(range);
+    }
+  }
+
+  @Override
+  public void merge(
+      Range<K> range,
+      @Nullable V value,
+      BiFunction<? super V, ? super @Nullable V, ? extends @Nullable V> remappingFunction) {
+    synchronized (lock) {
+      delegate.merge(range, value, remappingFunction);
+    }
+  }
+
+  @Override
+  public Map<Range<K>, V> asMapOfRanges() {
+    return Collections.unmodifiableMap(delegate.asMapOfRanges());
+  }
+
+  @Override
+  public Map<Range<K>, V> asDescendingMapOfRanges() {
+    return Collections.unmodifiableMap(delegate.asDescendingMapOfRanges());
+  }
+
+  @Override
+  public RangeMap<K, V> subRangeMap(Range<K> subRange) {
+    return new ConcurrentTreeRangeMap<>(delegate.subRangeMap(checkNotNull(subRange)), lock);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o instanceof RangeMap) {
+      RangeMap<?, ?> rangeMap = (RangeMap<?, ?>) o;
+      return asMapOfRanges().equals(rangeMap.asMapOfRanges());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return asMapOfRanges().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link RangeSet} that is safe for concurrent use, backed by a {@link ConcurrentSkipListMap}.
+ *
+ * <p>Queries such as {@link #contains}, {@link #rangeContaining} and {@link #encloses} never block:
+ * they read the skip list directly, as {@link TreeRangeSet} reads its {@code TreeMap}. Updates are
+ * serialized on an internal lock, so that ranges are always coalesced correctly, and each update
+ * rewrites the skip list in an order that never hides a value from a concurrent query while that
+ * value is in the set both before and after the update. A query that runs concurrently with an
+ * update sees each value either as it was before the update or as it is after it.
+ *
+ * <p>The {@link #asRanges} and {@link #asDescendingSetOfRanges} views are unmodifiable and weakly
+ * consistent: an iteration that overlaps an update may observe it partially applied. Use {@link
+ * #remove} to remove ranges. The {@link #complement} and {@link #subRangeSet} views share the lock
+ * of this range set and are safe for concurrent use.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible // uses NavigableMap
+public final class ConcurrentTreeRangeSet<C extends Comparable<?>> extends AbstractRangeSet<C>
+    implements Serializable {
+
+  /** Creates an empty {@code ConcurrentTreeRangeSet} instance. */
+  public static <C extends Comparable<?>> ConcurrentTreeRangeSet<C> create() {
+    TreeRangeSet<C> delegate = new TreeRangeSet<>(new ConcurrentSkipListMap<Cut<C>, Range<C>>());
+    return new ConcurrentTreeRangeSet<>(delegate, delegate);
+  }
+
+  /**
+   * Returns a {@code ConcurrentTreeRangeSet} initialized with the ranges in the specified range
+   * set.
+   */
+  public static <C extends Comparable<?>> ConcurrentTreeRangeSet<C> create(RangeSet<C> rangeSet) {
+    ConcurrentTreeRangeSet<C> result = create();
+    result.addAll(rangeSet);
+    return result;
+  }
+
+  /** Returns a {@code ConcurrentTreeRangeSet} representing the union of the specified ranges. */
+  public static <C extends Comparable<?>> ConcurrentTreeRangeSet<C> create(
+      Iterable<Range<C>> ranges) {
+    ConcurrentTreeRangeSet<C> result = create();
+    result.addAll(ranges);
+    return result;
+  }
+
+  /** A {@link TreeRangeSet} backed by a skip list, or a view of one. */
+  private final RangeSet<C> delegate;
+
+  /** The backing {@link TreeRangeSet}, which serializes updates through all views. */
+  private final Object lock;
+
+  private ConcurrentTreeRangeSet(RangeSet<C> delegate, Object lock) {
+    this.delegate = delegate;
+    this.lock = lock;
+  }
+
+  // Queries
+
+  @Override
+  public boolean contains(C value) {
+    return delegate.contains(value);
+  }
+
+  @Override
+  public @Nullable Range<C> rangeContaining(C value) {
+    return delegate.rangeContaining(value);
+  }
+
+  @Override
+  public boolean intersects(Range<C> range) {
+    return delegate.intersects(range);
+  }
+
+  @Override
+  public boolean encloses(Range<C> range) {
+    return delegate.encloses(range);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return delegate.isEmpty();
+  }
+
+  @Override
+  public Range<C> span() {
+    return delegate.span();
+  }
+
+  // Views
+
+  @Override
+  public Set<Range<C>> asRanges() {
+    return Collections.unmodifiableSet(delegate.asRanges());
+  }
+
+  @Override
+  public Set<Range<C>> asDescendingSetOfRanges() {
+    return Collections.unmodifiableSet(delegate.asDescendingSetOfRanges());
+  }
+
+  @Override
+  public RangeSet<C> complement() {
+    return new ConcurrentTreeRangeSet<>(delegate.complement(), lock);
+  }
+
+  @Override
+  public RangeSet<C> subRangeSet(Range<C> view) {
+    return new ConcurrentTreeRangeSet<>(delegate.subRangeSet(checkNotNull(view)), lock);
+  }
+
+  // Updates
+
+  @Override
+  public void add(Range<C> rangeToAdd) {
+    synchronized (lock) {
+      delegate.add(rangeToAdd);
+    }
+  }
+
+  @Override
+  public void remove(Range<C> rangeToRemove) {
+    synchronized (lock) {
+      delegate.remove(rangeToRemove);
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (lock) {
+      delegate.clear();
+    }
+  }
+
+  @Override
+  public void addAll(RangeSet<C> other) {
+    synchronized (lock) {
+      delegate.addAll(other);
+    }
+  }
+
+  @Override
+  public void addAll(Iterable<Range<C>> ranges) {
+    synchronized (lock) {
+      delegate.addAll(ranges);
+    }
+  }
+
+  @Override
+  public void removeAll(RangeSet<C> other) {
+    synchronized (lock) {
+      delegate.removeAll(other);
+    }
+  }
+
+  @Override
+  public void removeAll(Iterable<Range<C>> ranges) {
+    synchronized (lock) {
+      delegate.removeAll(ranges);
+    }
+  }
+
+  private static final long serialVersionUID = 0;
+}
@@ -0,0 +1,699 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.indexMap;
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.System.arraycopy;
+import static java.util.Collections.emptyMap;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.DoNotCall;
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.google.j2objc.annotations.WeakOuter;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Fixed-size {@link Table} of {@code double} values, backed by a single {@code double[]} array in
+ * row-major order.
+ *
+ * <p>This is the primitive counterpart of {@link ArrayTable}: the complete universe of rows and
+ * columns must be specified at construction time, every combination of row key and column key
+ * always has a value, and that value is {@code 0.0} unless another value is provided. Because the
+ * values are stored unboxed, a dense numeric grid needs only 8 bytes per cell, instead of a
+ * reference plus a {@link Double} object.
+ *
+ * <p>The primitive methods {@link #at}, {@link #set}, {@link #getDouble}, {@link #putDouble} and
+ * the row and column bulk operations read and write the array without boxing.
+ * The {@link Table} methods and views box values as {@link Double} objects on access. Null values
+ * are not permitted, and {@code remove} and {@code clear} are not supported by the table or its
+ * views.
+ *
+ * <p>The ordering of the row and column keys provided when the table is constructed determines the
+ * iteration ordering across rows and columns in the table's views. None of the view iterators
+ * support {@link Iterator#remove}. If the table is modified after an iterator is created, the
+ * iterator remains valid.
+ *
+ * <p>Null row keys or column keys are not permitted.
+ *
+ * <p>Note that this implementation is not synchronized. If multiple threads access the same cell of
+ * a {@code DoubleArrayTable} concurrently and one of the threads modifies its value, there is no
+ * guarantee that the new value will be fully visible to the other threads. To guarantee that
+ * modifications are visible, synchronize access to the table.
+ *
+ * @since NEXT
+ */
+@GwtCompatible
+public final class DoubleArrayTable<R, C> extends AbstractTable<R, C, Double>
+    implements Serializable {
+
+  /**
+   * Creates a {@code DoubleArrayTable} filled with {@code 0.0}.
+   *
+   * @param rowKeys row keys that may be stored in the generated table
+   * @param columnKeys column keys that may be stored in the generated table
+   * @throws NullPointerException if any of the provided keys is null
+   * @throws IllegalArgumentException if {@code rowKeys} or {@code columnKeys} contains duplicates,
+   *     if exactly one of {@code rowKeys} or {@code columnKeys} is empty, or if the table would
+   *     have more than {@code Integer.MAX_VALUE} cells
+   */
+  public static <R, C> DoubleArrayTable<R, C> create(
+      Iterable<? extends R> rowKeys, Iterable<? extends C> columnKeys) {
+    ImmutableList<R> rowList = ImmutableList.copyOf(rowKeys);
+    ImmutableList<C> columnList = ImmutableList.copyOf(columnKeys);
+    return new DoubleArrayTable<>(indexMap(rowList), indexMap(columnList));
+  }
+
+  /**
+   * Creates a {@code DoubleArrayTable} with the mappings in the provided table.
+   *
+   * <p>If {@code table} includes a mapping with row key {@code r} and a separate mapping with
+   * column key {@code c}, the returned table contains a mapping with row key {@code r} and column
+   * key {@code c}. If that row key / column key pair in not in {@code table}, the pair maps to
+   * {@code 0.0} in the generated table.
+   *
+   * <p>If {@code table} is an {@link ArrayTable} or a {@code DoubleArrayTable}, the returned table
+   * shares its key index maps, so that only the values are copied.
+   *
+   * <p>The ordering of {@code table.rowKeySet()} and {@code table.columnKeySet()} determines the
+   * row and column iteration ordering of the returned table.
+   *
+   * @throws NullPointerException if {@code table} has a null key or value
+   */
+  @SuppressWarnings("unchecked") // a table of Doubles is also a table of ? extends Double
+  public static <R, C> DoubleArrayTable<R, C> create(
+      Table<R, C, ? extends @Nullable Double> table) {
+    if (table instanceof DoubleArrayTable) {
+      return new DoubleArrayTable<>((DoubleArrayTable<R, C>) table);
+    }
+    DoubleArrayTable<R, C> result;
+    if (table instanceof ArrayTable) {
+      ArrayTable<R, C, ? extends @Nullable Double> arrayTable =
+          (ArrayTable<R, C, ? extends @Nullable Double>) table;
+      result =
+          new DoubleArrayTable<>(arrayTable.rowKeyToIndex(), arrayTable.columnKeyToIndex());
+    } else {
+      result = create(table.rowKeySet(), table.columnKeySet());
+    }
+    for (Cell<R, C, ? extends @Nullable Double> cell : table.cellSet()) {
+      result.putDouble(cell.getRowKey(), cell.getColumnKey(), checkNotNull(cell.getValue()));
+    }
+    return result;
+  }
+
+  private final ImmutableList<R> rowList;
+  private final ImmutableList<C> columnList;
+  private final ImmutableMap<R, Integer> rowKeyToIndex;
+  private final ImmutableMap<C, Integer> columnKeyToIndex;
+
+  /** The value at row index {@code i} and column index {@code j} is at {@code i * columns + j}. */
+  private final double[] array;
+
+  private DoubleArrayTable(
+      ImmutableMap<R, Integer> rowKeyToIndex, ImmutableMap<C, Integer> columnKeyToIndex) {
+    this.rowKeyToIndex = rowKeyToIndex;
+    this.columnKeyToIndex = columnKeyToIndex;
+    this.rowList = rowKeyToIndex.keySet().asList();
+    this.columnList = columnKeyToIndex.keySet().asList();
+    checkArgument(rowList.isEmpty() == columnList.isEmpty());
+    long cells = (long) rowList.size() * columnList.size();
+    checkArgument(
+        cells <= Integer.MAX_VALUE,
+        "%s rows and %s columns are too many cells for a DoubleArrayTable",
+        rowList.size(),
+        columnList.size());
+    this.array = new double[(int) cells];
+  }
+
+  private DoubleArrayTable(DoubleArrayTable<R, C> table) {
+    rowList = table.rowList;
+    columnList = table.columnList;
+    rowKeyToIndex = table.rowKeyToIndex;
+    columnKeyToIndex = table.columnKeyToIndex;
+    array = table.array.clone();
+  }
+
+  /** Returns, as an immutable list, the row keys provided when the table was constructed. */
+  public ImmutableList<R> rowKeyList() {
+    return rowList;
+  }
+
+  /** Returns, as an immutable list, the column keys provided when the table was constructed. */
+  public ImmutableList<C> columnKeyList() {
+    return columnList;
+  }
+
+  private int offset(int rowIndex, int columnIndex) {
+    // In GWT array access never throws IndexOutOfBoundsException.
+    checkElementIndex(rowIndex, rowList.size());
+    checkElementIndex(columnIndex, columnList.size());
+    return rowIndex * columnList.size() + columnIndex;
+  }
+
+  private int rowIndex(Object rowKey) {
+    checkNotNull(rowKey);
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    checkArgument(rowIndex != null, "Row %s not in %s", rowKey, rowList);
+    return rowIndex;
+  }
+
+  private int columnIndex(Object columnKey) {
+    checkNotNull(columnKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    checkArgument(columnIndex != null, "Column %s not in %s", columnKey, columnList);
+    return columnIndex;
+  }
+
+  /**
+   * Returns the value corresponding to the specified row and column indices. The same value is
+   * returned by {@code getDouble(rowKeyList().get(rowIndex), columnKeyList().get(columnIndex))},
+   * but this method runs more quickly.
+   *
+   * @param rowIndex position of the row key in {@link #rowKeyList()}
+   * @param columnIndex position of the column key in {@link #columnKeyList()}
+   * @throws IndexOutOfBoundsException if either index is negative, {@code rowIndex} is greater than
+   *     or equal to the number of allowed row keys, or {@code columnIndex} is greater than or equal
+   *     to the number of allowed column keys
+   */
+  public double at(int rowIndex, int columnIndex) {
+    return array[offset(rowIndex, columnIndex)];
+  }
+
+  /**
+   * Associates {@code value} with the specified row and column indices. The logic {@code
+   * put(rowKeyList().get(rowIndex), columnKeyList().get(columnIndex), value)} has the same
+   * behavior, but this method runs more quickly.
+   *
+   * @param rowIndex position of the row key in {@link #rowKeyList()}
+   * @param columnIndex position of the column key in {@link #columnKeyList()}
+   * @param value value to store in the table
+   * @return the previous value with the specified row and column
+   * @throws IndexOutOfBoundsException if either index is negative, {@code rowIndex} is greater than
+   *     or equal to the number of allowed row keys, or {@code columnIndex} is greater than or equal
+   *     to the number of allowed column keys
+   */
+  @CanIgnoreReturnValue
+  public double set(int rowIndex, int columnIndex, double value) {
+    int offset = offset(rowIndex, columnIndex);
+    double oldValue = array[offset];
+    array[offset] = value;
+    return oldValue;
+  }
+
+  /**
+   * Returns the value corresponding to the given row and column keys, without boxing it.
+   *
+   * @throws NullPointerException if either key is null
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()} or {@code
+   *     columnKey} is not in {@link #columnKeySet()}
+   */
+  public double getDouble(Object rowKey, Object columnKey) {
+    checkNotNull(columnKey);
+    return at(rowIndex(rowKey), columnIndex(columnKey));
+  }
+
+  /**
+   * Associates the specified value with the specified keys, without boxing it.
+   *
+   * @return the value previously associated with the keys
+   * @throws NullPointerException if either key is null
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()} or {@code
+   *     columnKey} is not in {@link #columnKeySet()}
+   */
+  @CanIgnoreReturnValue
+  public double putDouble(R rowKey, C columnKey, double value) {
+    checkNotNull(columnKey);
+    return set(rowIndex(rowKey), columnIndex(columnKey), value);
+  }
+
+  /**
+   * Returns a new array holding the values of the specified row, in the order of {@link
+   * #columnKeyList()}. Subsequent table changes will not modify the array, and vice versa.
+   *
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()}
+   */
+  public double[] getRow(R rowKey) {
+    int start = rowIndex(rowKey) * columnList.size();
+    return Arrays.copyOfRange(array, start, start + columnList.size());
+  }
+
+  /**
+   * Stores the given values in the specified row, in the order of {@link #columnKeyList()}.
+   *
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()}, or if the
+   *     length of {@code values} is not the number of column keys
+   */
+  public void setRow(R rowKey, double[] values) {
+    checkNotNull(values);
+    int rowIndex = rowIndex(rowKey);
+    checkArgument(
+        values.length == columnList.size(),
+        "Expected %s values but got %s",
+        columnList.size(),
+        values.length);
+    arraycopy(values, 0, array, rowIndex * columnList.size(), values.length);
+  }
+
+  /**
+   * Returns a new array holding the values of the specified column, in the order of {@link
+   * #rowKeyList()}. Subsequent table changes will not modify the array, and vice versa.
+   *
+   * @throws IllegalArgumentException if {@code columnKey} is not in {@link #columnKeySet()}
+   */
+  public double[] getColumn(C columnKey) {
+    int columnIndex = columnIndex(columnKey);
+    int columns = columnList.size();
+    double[] values = new double[rowList.size()];
+    for (int i = 0, offset = columnIndex; i < values.length; i++, offset += columns) {
+      values[i] = array[offset];
+    }
+    return values;
+  }
+
+  /**
+   * Stores the given values in the specified column, in the order of {@link #rowKeyList()}.
+   *
+   * @throws IllegalArgumentException if {@code columnKey} is not in {@link #columnKeySet()}, or if
+   *     the length of {@code values} is not the number of row keys
+   */
+  public void setColumn(C columnKey, double[] values) {
+    checkNotNull(values);
+    int columnIndex = columnIndex(columnKey);
+    checkArgument(
+        values.length == rowList.size(),
+        "Expected %s values but got %s",
+        rowList.size(),
+        values.length);
+    int columns = columnList.size();
+    for (int i = 0, offset = columnIndex; i < values.length; i++, offset += columns) {
+      array[offset] = values[i];
+    }
+  }
+
+  /** Associates {@code value} with every pair of allowed row and column keys. */
+  public void fill(double value) {
+    Arrays.fill(array, value);
+  }
+
+  /**
+   * Returns a two-dimensional array with the table contents. The row and column indices correspond
+   * to the positions of the row and column in the iterables provided during table construction.
+   *
+   * <p>Subsequent table changes will not modify the array, and vice versa.
+   */
+  public double[][] toArray() {
+    int columns = columnList.size();
+    double[][] copy = new double[rowList.size()][];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = Arrays.copyOfRange(array, i * columns, (i + 1) * columns);
+    }
+    return copy;
+  }
+
+  /**
+   * Not supported. Use {@link #fill} instead.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #fill}
+   */
+  @DoNotCall("Always throws UnsupportedOperationException")
+  @Override
+  @Deprecated
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns {@code true} if the provided keys are among the keys provided when the table was
+   * constructed.
+   */
+  @Override
+  public boolean contains(@Nullable Object rowKey, @Nullable Object columnKey) {
+    return containsRow(rowKey) && containsColumn(columnKey);
+  }
+
+  /**
+   * Returns {@code true} if the provided column key is among the column keys provided when the
+   * table was constructed.
+   */
+  @Override
+  public boolean containsColumn(@Nullable Object columnKey) {
+    return columnKeyToIndex.containsKey(columnKey);
+  }
+
+  /**
+   * Returns {@code true} if the provided row key is among the row keys provided when the table was
+   * constructed.
+   */
+  @Override
+  public boolean containsRow(@Nullable Object rowKey) {
+    return rowKeyToIndex.containsKey(rowKey);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Values are compared as by {@link Double#equals}, so {@code NaN} is found and {@code 0.0} is
+   * distinct from {@code -0.0}.
+   */
+  @Override
+  public boolean containsValue(@Nullable Object value) {
+    if (value instanceof Double) {
+      long bits = doubleToLongBits((Double) value);
+      for (double element : array) {
+        if (doubleToLongBits(element) == bits) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public @Nullable Double get(@Nullable Object rowKey, @Nullable Object columnKey) {
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    return (rowIndex == null || columnIndex == null) ? null : at(rowIndex, columnIndex);
+  }
+
+  /**
+   * Returns {@code true} if {@code rowKeyList().size == 0} or {@code columnKeyList().size() == 0}.
+   */
+  @Override
+  public boolean isEmpty() {
+    return array.length == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()} or {@code
+   *     columnKey} is not in {@link #columnKeySet()}.
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public Double put(R rowKey, C columnKey, Double value) {
+    return putDouble(rowKey, columnKey, value.doubleValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws NullPointerException if {@code table} has a null key or value
+   * @throws IllegalArgumentException if any of the provided table's row keys or column keys is not
+   *     in {@link #rowKeySet()} or {@link #columnKeySet()}
+   */
+  @Override
+  public void putAll(Table<? extends R, ? extends C, ? extends Double> table) {
+    super.putAll(table);
+  }
+
+  /**
+   * Not supported. Use {@link #putDouble} instead.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #putDouble}
+   */
+  @DoNotCall("Always throws UnsupportedOperationException")
+  @CanIgnoreReturnValue
+  @Override
+  @Deprecated
+  public @Nullable Double remove(@Nullable Object rowKey, @Nullable Object columnKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int size() {
+    return array.length;
+  }
+
+  @Override
+  Iterator<Cell<R, C, Double>> cellIterator() {
+    return new AbstractIndexedListIterator<Cell<R, C, Double>>(size()) {
+      @Override
+      Cell<R, C, Double> get(int index) {
+        return getCell(index);
+      }
+    };
+  }
+
+  @Override
+  Spliterator<Cell<R, C, Double>> cellSpliterator() {
+    return CollectSpliterators.indexed(
+        size(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT, this::getCell);
+  }
+
+  private Cell<R, C, Double> getCell(int index) {
+    return new Tables.AbstractCell<R, C, Double>() {
+      final int rowIndex = index / columnList.size();
+      final int columnIndex = index % columnList.size();
+
+      @Override
+      public R getRowKey() {
+        return rowList.get(rowIndex);
+      }
+
+      @Override
+      public C getColumnKey() {
+        return columnList.get(columnIndex);
+      }
+
+      @Override
+      public Double getValue() {
+        return at(rowIndex, columnIndex);
+      }
+    };
+  }
+
+  /**
+   * Returns a view of all mappings that have the given column key. If the column key isn't in
+   * {@link #columnKeySet()}, an empty immutable map is returned.
+   *
+   * <p>Otherwise, for each row key in {@link #rowKeySet()}, the returned map associates the row key
+   * with the corresponding value in the table. Changes to the returned map will update the
+   * underlying table, and vice versa.
+   *
+   * @param columnKey key of column to search for in the table
+   * @return the corresponding map from row keys to values
+   */
+  @Override
+  public Map<R, Double> column(C columnKey) {
+    checkNotNull(columnKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    if (columnIndex == null) {
+      return emptyMap();
+    } else {
+      return new Column(columnIndex);
+    }
+  }
+
+  private final class Column extends KeyIndexedMap<R, Double> {
+    final int columnIndex;
+
+    Column(int columnIndex) {
+      super(rowKeyToIndex);
+      this.columnIndex = columnIndex;
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Row";
+    }
+
+    @Override
+    Double getValue(int index) {
+      return at(index, columnIndex);
+    }
+
+    @Override
+    Double setValue(int index, Double newValue) {
+      return set(index, columnIndex, newValue);
+    }
+  }
+
+  /**
+   * Returns an immutable set of the valid column keys.
+   *
+   * @return immutable set of column keys
+   */
+  @Override
+  public ImmutableSet<C> columnKeySet() {
+    return columnKeyToIndex.keySet();
+  }
+
+  @LazyInit private transient @Nullable ColumnMap columnMap;
+
+  @Override
+  public Map<C, Map<R, Double>> columnMap() {
+    ColumnMap result = columnMap;
+    if (result == null) {
+      result = columnMap = new ColumnMap();
+    }
+    return result;
+  }
+
+  @WeakOuter
+  private final class ColumnMap extends KeyIndexedMap<C, Map<R, Double>> {
+    private ColumnMap() {
+      super(columnKeyToIndex);
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Column";
+    }
+
+    @Override
+    Map<R, Double> getValue(int index) {
+      return new Column(index);
+    }
+
+    @Override
+    Map<R, Double> setValue(int index, Map<R, Double> newValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @Nullable Map<R, Double> put(C key, Map<R, Double> value) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Returns a view of all mappings that have the given row key. If the row key isn't in {@link
+   * #rowKeySet()}, an empty immutable map is returned.
+   *
+   * <p>Otherwise, for each column key in {@link #columnKeySet()}, the returned map associates the
+   * column key with the corresponding value in the table. Changes to the returned map will update
+   * the underlying table, and vice versa.
+   *
+   * @param rowKey key of row to search for in the table
+   * @return the corresponding map from column keys to values
+   */
+  @Override
+  public Map<C, Double> row(R rowKey) {
+    checkNotNull(rowKey);
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    if (rowIndex == null) {
+      return emptyMap();
+    } else {
+      return new Row(rowIndex);
+    }
+  }
+
+  private final class Row extends KeyIndexedMap<C, Double> {
+    final int rowIndex;
+
+    Row(int rowIndex) {
+      super(columnKeyToIndex);
+      this.rowIndex = rowIndex;
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Column";
+    }
+
+    @Override
+    Double getValue(int index) {
+      return at(rowIndex, index);
+    }
+
+    @Override
+    Double setValue(int index, Double newValue) {
+      return set(rowIndex, index, newValue);
+    }
+  }
+
+  /**
+   * Returns an immutable set of the valid row keys.
+   *
+   * @return immutable set of row keys
+   */
+  @Override
+  public ImmutableSet<R> rowKeySet() {
+    return rowKeyToIndex.keySet();
+  }
+
+  @LazyInit private transient @Nullable RowMap rowMap;
+
+  @Override
+  public Map<R, Map<C, Double>> rowMap() {
+    RowMap result = rowMap;
+    if (result == null) {
+      result = rowMap = new RowMap();
+    }
+    return result;
+  }
+
+  @WeakOuter
+  private final class RowMap extends KeyIndexedMap<R, Map<C, Double>> {
+    private RowMap() {
+      super(rowKeyToIndex);
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Row";
+    }
+
+    @Override
+    Map<C, Double> getValue(int index) {
+      return new Row(index);
+    }
+
+    @Override
+    Map<C, Double> setValue(int index, Map<C, Double> newValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @Nullable Map<C, Double> put(R key, Map<C, Double> value) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @Override
+  Iterator<Double> valuesIterator() {
+    return new AbstractIndexedListIterator<Double>(size()) {
+      @Override
+      Double get(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  @Override
+  @GwtIncompatible // Spliterator
+  Spliterator<Double> valuesSpliterator() {
+    return CollectSpliterators.indexed(
+        size(), Spliterator.ORDERED | Spliterator.NONNULL, index -> array[index]);
+  }
+
+  @GwtIncompatible @J2ktIncompatible private static final long serialVersionUID = 0;
+}
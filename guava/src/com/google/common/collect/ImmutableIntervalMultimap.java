@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.immutableEntry;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.DoNotCall;
+import com.google.errorprone.annotations.DoNotMock;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link IntervalMultimap} whose contents will never change, with many other important
+ * properties detailed at {@link ImmutableCollection}.
+ *
+ * <p>The entries are held in flat arrays sorted by range, which double as an implicit balanced
+ * binary search tree: the root of each slice of the arrays is its middle element, and a parallel
+ * array records the greatest upper bound within each slice. {@link #getAll} and {@link
+ * #getOverlapping} take <i>O(log n + k log(n/k))</i> time for <i>k</i> results, as in {@link
+ * TreeIntervalMultimap}, but without its per-node overhead.
+ *
+ * @since NEXT
+ */
+@GwtIncompatible
+public final class ImmutableIntervalMultimap<K extends Comparable<?>, V>
+    extends AbstractIntervalMultimap<K, V> implements Serializable {
+
+  private static final ImmutableIntervalMultimap<Comparable<?>, Object> EMPTY =
+      new ImmutableIntervalMultimap<>(ImmutableList.of(), ImmutableList.of());
+
+  /**
+   * Returns an empty immutable interval multimap.
+   *
+   * <p><b>Performance note:</b> the instance returned is a singleton.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K extends Comparable<?>, V> ImmutableIntervalMultimap<K, V> of() {
+    return (ImmutableIntervalMultimap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns an immutable interval multimap mapping a single range to a single value.
+   *
+   * @throws IllegalArgumentException if {@code range} is empty
+   */
+  public static <K extends Comparable<?>, V> ImmutableIntervalMultimap<K, V> of(
+      Range<K> range, V value) {
+    return new Builder<K, V>().put(range, value).build();
+  }
+
+  /** Returns an immutable interval multimap containing the entries of {@code intervalMultimap}. */
+  @SuppressWarnings("unchecked")
+  public static <K extends Comparable<?>, V> ImmutableIntervalMultimap<K, V> copyOf(
+      IntervalMultimap<K, ? extends V> intervalMultimap) {
+    if (intervalMultimap instanceof ImmutableIntervalMultimap) {
+      return (ImmutableIntervalMultimap<K, V>) intervalMultimap;
+    }
+    return new Builder<K, V>().putAll(intervalMultimap).build();
+  }
+
+  /** Returns a new builder for an immutable interval multimap. */
+  public static <K extends Comparable<?>, V> Builder<K, V> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * A builder for immutable interval multimaps. Unlike {@link ImmutableRangeMap.Builder}, it
+   * permits overlapping ranges. Entries with equal ranges keep the order in which they were added.
+   *
+   * @since NEXT
+   */
+  @DoNotMock
+  public static final class Builder<K extends Comparable<?>, V> {
+    private final List<Entry<Range<K>, V>> entries;
+
+    /** Constructs a new builder. */
+    public Builder() {
+      this.entries = new ArrayList<>();
+    }
+
+    /**
+     * Associates the specified range with the specified value.
+     *
+     * @throws IllegalArgumentException if {@code range} is empty
+     */
+    @CanIgnoreReturnValue
+    public Builder<K, V> put(Range<K> range, V value) {
+      checkNotNull(range);
+      checkNotNull(value);
+      checkArgument(!range.isEmpty(), "Range must not be empty, but was %s", range);
+      entries.add(immutableEntry(range, value));
+      return this;
+    }
+
+    /** Copies all entries from the specified interval multimap into this builder. */
+    @CanIgnoreReturnValue
+    public Builder<K, V> putAll(IntervalMultimap<K, ? extends V> intervalMultimap) {
+      for (Entry<Range<K>, ? extends V> entry : intervalMultimap.entries()) {
+        put(entry.getKey(), entry.getValue());
+      }
+      return this;
+    }
+
+    /**
+     * Returns an {@code ImmutableIntervalMultimap} containing the associations previously added.
+     */
+    public ImmutableIntervalMultimap<K, V> build() {
+      if (entries.isEmpty()) {
+        return of();
+      }
+      // List.sort is stable, so entries with equal ranges stay in insertion order.
+      entries.sort(Range.<K>rangeLexOrdering().onKeys());
+      ImmutableList.Builder<Range<K>> rangesBuilder = new ImmutableList.Builder<>(entries.size());
+      ImmutableList.Builder<V> valuesBuilder = new ImmutableList.Builder<>(entries.size());
+      for (Entry<Range<K>, V> entry : entries) {
+        rangesBuilder.add(entry.getKey());
+        valuesBuilder.add(entry.getValue());
+      }
+      return new ImmutableIntervalMultimap<>(rangesBuilder.build(), valuesBuilder.build());
+    }
+  }
+
+  private final transient ImmutableList<Range<K>> ranges;
+  private final transient ImmutableList<V> values;
+
+  /**
+   * For the slice of {@link #ranges} whose middle element (its implicit tree root) is at index
+   * {@code i}, the greatest upper bound of the ranges in that slice.
+   */
+  private final transient Cut<K>[] maxUpperBounds;
+
+  private ImmutableIntervalMultimap(ImmutableList<Range<K>> ranges, ImmutableList<V> values) {
+    this.ranges = ranges;
+    this.values = values;
+    @SuppressWarnings("unchecked") // we only store Cut<K> instances
+    Cut<K>[] maxUpperBounds = (Cut<K>[]) new Cut<?>[ranges.size()];
+    this.maxUpperBounds = maxUpperBounds;
+    computeMaxUpperBounds(0, ranges.size());
+  }
+
+  private @Nullable Cut<K> computeMaxUpperBounds(int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+    int mid = (from + to) >>> 1;
+    Cut<K> max = ranges.get(mid).upperBound;
+    Cut<K> left = computeMaxUpperBounds(from, mid);
+    Cut<K> right = computeMaxUpperBounds(mid + 1, to);
+    if (left != null && left.compareTo(max) > 0) {
+      max = left;
+    }
+    if (right != null && right.compareTo(max) > 0) {
+      max = right;
+    }
+    maxUpperBounds[mid] = max;
+    return max;
+  }
+
+  @Override
+  public int size() {
+    return ranges.size();
+  }
+
+  @Override
+  public ImmutableList<V> getAll(K key) {
+    checkNotNull(key);
+    if (ranges.isEmpty()) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<V> builder = ImmutableList.builder();
+    collect(0, ranges.size(), Cut.belowValue(key), Cut.aboveValue(key), builder, false);
+    return builder.build();
+  }
+
+  @Override
+  public ImmutableList<Entry<Range<K>, V>> getOverlapping(Range<K> range) {
+    checkNotNull(range);
+    if (ranges.isEmpty() || range.isEmpty()) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<Entry<Range<K>, V>> builder = ImmutableList.builder();
+    collect(0, ranges.size(), range.lowerBound, range.upperBound, builder, true);
+    return builder.build();
+  }
+
+  /**
+   * Adds the values (or the entries, if {@code asEntries}) of the ranges in the slice [from, to)
+   * that overlap the query [lower, upper), in order. See {@code TreeIntervalMultimap} for the
+   * pruning rules.
+   */
+  @SuppressWarnings("unchecked") // the builder's type matches asEntries
+  private void collect(
+      int from,
+      int to,
+      Cut<K> lower,
+      Cut<K> upper,
+      ImmutableList.Builder<?> builder,
+      boolean asEntries) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      if (maxUpperBounds[mid].compareTo(lower) <= 0) {
+        return;
+      }
+      collect(from, mid, lower, upper, builder, asEntries);
+      Range<K> range = ranges.get(mid);
+      if (range.lowerBound.compareTo(upper) >= 0) {
+        return;
+      }
+      if (range.upperBound.compareTo(lower) > 0) {
+        if (asEntries) {
+          ((ImmutableList.Builder<Entry<Range<K>, V>>) builder)
+              .add(immutableEntry(range, values.get(mid)));
+        } else {
+          ((ImmutableList.Builder<V>) builder).add(values.get(mid));
+        }
+      }
+      from = mid + 1;
+    }
+  }
+
+  @Override
+  public Range<K> span() {
+    if (ranges.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    // The root of the implicit tree covers all ranges.
+    return Range.create(ranges.get(0).lowerBound, maxUpperBounds[ranges.size() >>> 1]);
+  }
+
+  @Override
+  public ImmutableList<Entry<Range<K>, V>> entries() {
+    return new ImmutableList<Entry<Range<K>, V>>() {
+      @Override
+      public int size() {
+        return ranges.size();
+      }
+
+      @Override
+      public Entry<Range<K>, V> get(int index) {
+        checkElementIndex(index, ranges.size());
+        return immutableEntry(ranges.get(index), values.get(index));
+      }
+
+      @Override
+      boolean isPartialView() {
+        return true;
+      }
+
+      // redeclare to help optimizers with b/310253115
+      @SuppressWarnings("RedundantOverride")
+      @Override
+      @J2ktIncompatible
+      Object writeReplace() {
+        return super.writeReplace();
+      }
+    };
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the {@code IntervalMultimap} unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final boolean put(Range<K> range, V value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the {@code IntervalMultimap} unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final void putAll(IntervalMultimap<K, ? extends V> intervalMultimap) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the {@code IntervalMultimap} unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final boolean remove(Range<K> range, @Nullable Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the {@code IntervalMultimap} unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /** This class is used to serialize ImmutableIntervalMultimap instances. */
+  private static final class SerializedForm<K extends Comparable<?>, V> implements Serializable {
+    private final ImmutableList<Range<K>> ranges;
+    private final ImmutableList<V> values;
+
+    SerializedForm(ImmutableList<Range<K>> ranges, ImmutableList<V> values) {
+      this.ranges = ranges;
+      this.values = values;
+    }
+
+    Object readResolve() {
+      Builder<K, V> builder = new Builder<>();
+      for (int i = 0; i < ranges.size(); i++) {
+        builder.put(ranges.get(i), values.get(i));
+      }
+      return builder.build();
+    }
+
+    @J2ktIncompatible private static final long serialVersionUID = 0;
+  }
+
+  @J2ktIncompatible // serialization
+  Object writeReplace() {
+    return new SerializedForm<>(ranges, values);
+  }
+
+  @J2ktIncompatible // java.io.ObjectInputStream
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("Use SerializedForm");
+  }
+
+  @J2ktIncompatible private static final long serialVersionUID = 0;
+}
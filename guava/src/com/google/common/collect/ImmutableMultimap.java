@@ -617,6 +617,12 @@ public abstract class ImmutableMultimap<K, V> extends BaseImmutableMultimap<K, V
       return multimap.entryIterator();
     }
 
+    @Override
+    @GwtIncompatible // Spliterator
+    public Spliterator<Entry<K, V>> spliterator() {
+      return multimap.entrySpliterator();
+    }
+
     @Override
     boolean isPartialView() {
       return multimap.isPartialView();
@@ -690,7 +696,11 @@ public abstract class ImmutableMultimap<K, V> extends BaseImmutableMultimap<K, V
               Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE,
               (V value) -> immutableEntry(key, value));
         },
-        Spliterator.SIZED | (this instanceof SetMultimap ? Spliterator.DISTINCT : 0),
+        Spliterator.ORDERED
+            | Spliterator.NONNULL
+            | Spliterator.IMMUTABLE
+            | Spliterator.SIZED
+            | (this instanceof SetMultimap ? Spliterator.DISTINCT : 0),
         size());
   }
 
@@ -832,6 +842,16 @@ public abstract class ImmutableMultimap<K, V> extends BaseImmutableMultimap<K, V
       return multimap.valueIterator();
     }
 
+    @Override
+    @GwtIncompatible // Spliterator
+    public Spliterator<V> spliterator() {
+      return CollectSpliterators.flatMap(
+          multimap.map.values().spliterator(),
+          ImmutableCollection::spliterator,
+          SPLITERATOR_CHARACTERISTICS | Spliterator.SIZED,
+          multimap.size());
+    }
+
     @GwtIncompatible // not present in emulated superclass
     @Override
     int copyIntoArray(@Nullable Object[] dst, int offset) {
@@ -198,8 +198,26 @@ public final class ImmutableRangeSet<C extends Comparable> extends AbstractRange
     return index != -1 && ranges.get(index).encloses(otherRange);
   }
 
+  @Override
+  public boolean contains(C value) {
+    if (value instanceof Integer || value instanceof Long) {
+      LongBounds longBounds = longBounds();
+      if (longBounds.valueClass == value.getClass()) {
+        return longBounds.indexOf(((Number) value).longValue()) != -1;
+      }
+    }
+    return super.contains(value);
+  }
+
   @Override
   public @Nullable Range<C> rangeContaining(C value) {
+    if (value instanceof Integer || value instanceof Long) {
+      LongBounds longBounds = longBounds();
+      if (longBounds.valueClass == value.getClass()) {
+        int index = longBounds.indexOf(((Number) value).longValue());
+        return (index == -1) ? null : ranges.get(index);
+      }
+    }
     int index =
         SortedLists.binarySearch(
             ranges,
@@ -215,6 +233,101 @@ public final class ImmutableRangeSet<C extends Comparable> extends AbstractRange
     return null;
   }
 
+  @LazyInit private transient @Nullable LongBounds lazyLongBounds;
+
+  private LongBounds longBounds() {
+    LongBounds result = lazyLongBounds;
+    if (result == null) {
+      result = lazyLongBounds = LongBounds.create(ranges);
+    }
+    return result;
+  }
+
+  /**
+   * The ranges of a set of {@link Integer} or {@link Long} values, flattened into an array of
+   * inclusive {@code long} bounds. Searching it touches one array instead of comparing {@code Cut}
+   * objects and their boxed endpoints, and allocates nothing.
+   */
+  private static final class LongBounds {
+    static final LongBounds NONE = new LongBounds(null, new long[0]);
+
+    /** The class of every endpoint, or null if the ranges can't be represented this way. */
+    final @Nullable Class<?> valueClass;
+
+    /** The least and greatest values in range {@code i}, at {@code 2 * i} and {@code 2 * i + 1}. */
+    final long[] bounds;
+
+    private LongBounds(@Nullable Class<?> valueClass, long[] bounds) {
+      this.valueClass = valueClass;
+      this.bounds = bounds;
+    }
+
+    static <C extends Comparable> LongBounds create(ImmutableList<Range<C>> ranges) {
+      Class<?> valueClass = null;
+      long[] bounds = new long[2 * ranges.size()];
+      for (int i = 0; i < ranges.size(); i++) {
+        Range<C> range = ranges.get(i);
+        long lower = Long.MIN_VALUE;
+        long upper = Long.MAX_VALUE;
+        if (range.hasLowerBound()) {
+          C endpoint = range.lowerEndpoint();
+          if (!isIntegral(endpoint, valueClass)) {
+            return NONE;
+          }
+          valueClass = endpoint.getClass();
+          lower = ((Number) endpoint).longValue();
+          if (range.lowerBoundType() == BoundType.OPEN) {
+            if (lower == Long.MAX_VALUE) {
+              return NONE;
+            }
+            lower++;
+          }
+        }
+        if (range.hasUpperBound()) {
+          C endpoint = range.upperEndpoint();
+          if (!isIntegral(endpoint, valueClass)) {
+            return NONE;
+          }
+          valueClass = endpoint.getClass();
+          upper = ((Number) endpoint).longValue();
+          if (range.upperBoundType() == BoundType.OPEN) {
+            if (upper == Long.MIN_VALUE) {
+              return NONE;
+            }
+            upper--;
+          }
+        }
+        // A range like (3L, 4L) contains no longs and ends up with lower > upper, which is fine:
+        // the least bounds remain sorted, and the range never matches.
+        bounds[2 * i] = lower;
+        bounds[2 * i + 1] = upper;
+      }
+      return (valueClass == null) ? NONE : new LongBounds(valueClass, bounds);
+    }
+
+    private static boolean isIntegral(Object endpoint, @Nullable Class<?> valueClass) {
+      return (endpoint instanceof Integer || endpoint instanceof Long)
+          && (valueClass == null || valueClass == endpoint.getClass());
+    }
+
+    /** Returns the index of the range containing {@code value}, or -1 if there is none. */
+    int indexOf(long value) {
+      int size = bounds.length >>> 1;
+      if (size == 0) {
+        return -1;
+      }
+      // Finds the last range whose least value is at most value. The loop runs the same number of
+      // times for every value, and its only data-dependent choice compiles to a conditional move.
+      int base = 0;
+      for (int n = size; n > 1; ) {
+        int half = n >>> 1;
+        base = (bounds[2 * (base + half)] <= value) ? base + half : base;
+        n -= half;
+      }
+      return (bounds[2 * base] <= value && value <= bounds[2 * base + 1]) ? base : -1;
+    }
+  }
+
   @Override
   public Range<C> span() {
     if (ranges.isEmpty()) {
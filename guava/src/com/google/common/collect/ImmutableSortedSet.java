@@ -21,7 +21,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.asImmutableList;
 import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
 import static java.lang.System.arraycopy;
-import static java.util.Arrays.sort;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
@@ -372,7 +371,7 @@ public abstract class ImmutableSortedSet<E> extends ImmutableSet.CachingAsList<E
       return emptySet(comparator);
     }
     checkElementsNotNull(contents, n);
-    sort(contents, 0, n, comparator);
+    Platform.sort(contents, 0, n, comparator);
     int uniques = 1;
     for (int i = 1; i < n; i++) {
       E cur = contents[i];
@@ -470,7 +469,7 @@ public abstract class ImmutableSortedSet<E> extends ImmutableSet.CachingAsList<E
       if (n == 0) {
         return;
       }
-      sort(elements, 0, n, comparator);
+      Platform.sort(elements, 0, n, comparator);
       int unique = 1;
       for (int i = 1; i < n; i++) {
         int cmp = comparator.compare(elements[unique - 1], elements[i]);
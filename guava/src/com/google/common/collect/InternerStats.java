@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.math.LongMath.saturatedAdd;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Statistics about the effectiveness of an {@link Interner}, as returned by {@link
+ * Interners#stats}. Instances of this class are immutable.
+ *
+ * <p>Each call to {@link Interner#intern} (or one of the {@code intern} methods of {@link
+ * StringInterner}) increments either {@code hitCount}, if it returned an instance the interner
+ * already held, or {@code missCount}, if the sample became the canonical instance. When an interner
+ * built with {@link Interners.InternerBuilder#maximumSize} discards a canonical instance to make
+ * room for a new one, {@code evictionCount} is incremented.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class InternerStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long size;
+
+  InternerStats(long hitCount, long missCount, long evictionCount, long size) {
+    checkArgument(hitCount >= 0);
+    checkArgument(missCount >= 0);
+    checkArgument(evictionCount >= 0);
+    checkArgument(size >= 0);
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * Returns the number of times {@code intern} was called, which is {@code hitCount + missCount}.
+   */
+  public long requestCount() {
+    return saturatedAdd(hitCount, missCount);
+  }
+
+  /** Returns the number of times {@code intern} returned an instance the interner already held. */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the ratio of interner requests which were hits. This is defined as {@code hitCount /
+   * requestCount}, or {@code 1.0} when {@code requestCount == 0}. A low hit rate means that most
+   * interned values are never seen again, so interning them costs more than it saves.
+   */
+  public double hitRate() {
+    long requestCount = requestCount();
+    return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /** Returns the number of times {@code intern} made its sample the canonical instance. */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of canonical instances that were discarded to stay within the interner's
+   * maximum size. This is always zero for interners without a maximum size.
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Returns the number of canonical instances the interner held when these statistics were taken.
+   * For weak interners this may include instances that have been garbage-collected but not yet
+   * cleaned up.
+   */
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(hitCount, missCount, evictionCount, size);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object object) {
+    if (object instanceof InternerStats) {
+      InternerStats other = (InternerStats) object;
+      return hitCount == other.hitCount
+          && missCount == other.missCount
+          && evictionCount == other.evictionCount
+          && size == other.size;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("hitCount", hitCount)
+        .add("missCount", missCount)
+        .add("evictionCount", evictionCount)
+        .add("size", size)
+        .toString();
+  }
+}
@@ -14,7 +14,9 @@
 
 package com.google.common.collect;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
@@ -24,6 +26,7 @@ import com.google.common.base.Function;
 import com.google.common.collect.MapMaker.Dummy;
 import com.google.common.collect.MapMakerInternalMap.InternalEntry;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.concurrent.atomic.LongAdder;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -43,8 +46,12 @@ public final class Interners {
    * @since 21.0
    */
   public static final class InternerBuilder {
+    private static final int UNSET_INT = -1;
+
     private final MapMaker mapMaker = new MapMaker();
     private boolean strong = true;
+    private int maximumSize = UNSET_INT;
+    private boolean recordStats;
 
     private InternerBuilder() {}
 
@@ -81,12 +88,81 @@ public final class Interners {
       return this;
     }
 
-    /** Builds and returns a new interner. */
+    /**
+     * Limits the to-be-built strong {@link Interner} to holding at most {@code maximumSize}
+     * canonical instances. When it is full, interning a new value evicts an instance that has not
+     * been returned recently. A later equal sample then becomes a new canonical instance, so equal
+     * samples interned at different times may produce different instances.
+     *
+     * <p>Lookups in a bounded interner do not lock. It trades some hit rate for that: it only
+     * considers a few candidates for eviction, and may evict before it is full. The {@linkplain
+     * #concurrencyLevel concurrency level} is ignored.
+     *
+     * <p>A bounded interner reserves room for {@code maximumSize} instances when it is built, so
+     * {@code maximumSize} should be close to the number of instances expected, not a generous upper
+     * bound. It may be at most 2<sup>24</sup> (16,777,216).
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive, or is greater than
+     *     2<sup>24</sup>
+     * @throws IllegalStateException if a maximum size was already set
+     * @since NEXT
+     */
+    @CanIgnoreReturnValue
+    public InternerBuilder maximumSize(int maximumSize) {
+      checkState(
+          this.maximumSize == UNSET_INT, "maximum size was already set to %s", this.maximumSize);
+      checkArgument(maximumSize > 0, "maximum size must be positive: %s", maximumSize);
+      checkArgument(
+          maximumSize <= BoundedInterner.MAX_SIZE,
+          "maximum size must be at most %s: %s",
+          BoundedInterner.MAX_SIZE,
+          maximumSize);
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * Enables the accumulation of {@link InternerStats} by the to-be-built {@link Interner}, for
+     * {@link Interners#stats}. This costs a little bookkeeping on each call to {@code intern}.
+     *
+     * @since NEXT
+     */
+    @CanIgnoreReturnValue
+    public InternerBuilder recordStats() {
+      this.recordStats = true;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new interner.
+     *
+     * @throws IllegalStateException if a {@linkplain #maximumSize maximum size} was set for a weak
+     *     interner
+     */
     public <E> Interner<E> build() {
+      StatsCounter stats = recordStats ? new StatsCounter() : null;
+      if (maximumSize != UNSET_INT) {
+        checkState(strong, "maximumSize can only be used with strong interners");
+        return new BoundedInterner<>(maximumSize, stats);
+      }
       if (!strong) {
         mapMaker.weakKeys();
       }
-      return new InternerImpl<>(mapMaker);
+      return new InternerImpl<>(mapMaker, stats);
+    }
+
+    /**
+     * Builds and returns a new {@link StringInterner}, which can also intern strings directly from
+     * character and byte arrays.
+     *
+     * @throws IllegalStateException if no {@linkplain #maximumSize maximum size} was set, or the
+     *     builder was configured to build a weak interner
+     * @since NEXT
+     */
+    public StringInterner buildStringInterner() {
+      checkState(maximumSize != UNSET_INT, "a string interner requires a maximum size");
+      checkState(strong, "maximumSize can only be used with strong interners");
+      return new StringInterner(maximumSize, recordStats ? new StatsCounter() : null);
     }
   }
 
@@ -114,14 +190,67 @@ public final class Interners {
     return newBuilder().weak().build();
   }
 
+  /**
+   * Returns a snapshot of the statistics of {@code interner}, which must have been built by an
+   * {@link InternerBuilder} configured with {@link InternerBuilder#recordStats}.
+   *
+   * @throws IllegalArgumentException if {@code interner} does not record statistics
+   * @since NEXT
+   */
+  public static InternerStats stats(Interner<?> interner) {
+    checkNotNull(interner);
+    InternerStats stats = null;
+    if (interner instanceof InternerImpl) {
+      stats = ((InternerImpl<?>) interner).stats();
+    } else if (interner instanceof BoundedInterner) {
+      stats = ((BoundedInterner<?>) interner).stats();
+    } else if (interner instanceof StringInterner) {
+      stats = ((StringInterner) interner).stats();
+    }
+    if (stats == null) {
+      throw new IllegalArgumentException(interner + " does not record stats");
+    }
+    return stats;
+  }
+
+  /** Accumulates the counts behind {@link InternerStats}. */
+  static final class StatsCounter {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    void recordHit() {
+      hitCount.increment();
+    }
+
+    void recordMiss() {
+      missCount.increment();
+    }
+
+    void recordEviction() {
+      evictionCount.increment();
+    }
+
+    InternerStats snapshot(long size) {
+      return new InternerStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+  }
+
   @VisibleForTesting
   static final class InternerImpl<E> implements Interner<E> {
     // MapMaker is our friend, we know about this type
     @VisibleForTesting final MapMakerInternalMap<E, Dummy, ?, ?> map;
 
-    private InternerImpl(MapMaker mapMaker) {
+    private final @Nullable StatsCounter stats;
+
+    private InternerImpl(MapMaker mapMaker, @Nullable StatsCounter stats) {
       this.map =
           MapMakerInternalMap.createWithDummyValues(mapMaker.keyEquivalence(Equivalence.equals()));
+      this.stats = stats;
+    }
+
+    @Nullable InternerStats stats() {
+      return (stats == null) ? null : stats.snapshot(map.size());
     }
 
     @Override
@@ -136,6 +265,9 @@ public final class Interners {
             // The compiler would know this is safe if not for our use of raw types (see above).
             @SuppressWarnings("unchecked")
             E result = (E) canonical;
+            if (stats != null) {
+              stats.recordHit();
+            }
             return result;
           }
         }
@@ -143,6 +275,9 @@ public final class Interners {
         // didn't see it, trying to put it instead...
         Dummy sneaky = map.putIfAbsent(sample, Dummy.VALUE);
         if (sneaky == null) {
+          if (stats != null) {
+            stats.recordMiss();
+          }
           return sample;
         } else {
           /* Someone beat us to it! Trying again...
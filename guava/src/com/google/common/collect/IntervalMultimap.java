@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.DoNotMock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A collection of associations from ranges to values in which, unlike {@link RangeMap}, the ranges
+ * may overlap. Each key may lie in any number of ranges, and {@link #getAll} returns the values of
+ * all of them.
+ *
+ * <p>Like a {@link ListMultimap}, an interval multimap may hold the same range several times,
+ * even with equal values. Its entries are ordered by range, using the order of {@linkplain
+ * Range#lowerEndpoint() lower bounds} and then of {@linkplain Range#upperEndpoint() upper bounds},
+ * and entries with equal ranges are ordered by insertion. Empty ranges are never stored, since they
+ * contain no keys. Neither null ranges nor null values are supported.
+ *
+ * <p>Two interval multimaps are equal if their {@link #entries} are equal and in the same order.
+ *
+ * @since NEXT
+ */
+@DoNotMock("Use ImmutableIntervalMultimap or TreeIntervalMultimap")
+@GwtIncompatible
+public interface IntervalMultimap<K extends Comparable<?>, V> {
+
+  /** Returns the number of entries in this interval multimap. */
+  int size();
+
+  /** Returns {@code true} if this interval multimap contains no entries. */
+  boolean isEmpty();
+
+  /**
+   * Returns the values of all ranges that {@linkplain Range#contains contain} {@code key}, in the
+   * order of their entries. This is also known as a stabbing query.
+   */
+  List<V> getAll(K key);
+
+  /**
+   * Returns all entries whose range has a nonempty {@linkplain Range#intersection intersection}
+   * with {@code range}, in order. Ranges that are merely {@linkplain Range#isConnected connected}
+   * to {@code range}, like {@code [1..2)} and {@code [2..3]}, do not overlap.
+   */
+  List<Entry<Range<K>, V>> getOverlapping(Range<K> range);
+
+  /**
+   * Returns the minimal range {@linkplain Range#encloses(Range) enclosing} the ranges in this
+   * interval multimap.
+   *
+   * @throws NoSuchElementException if this interval multimap is empty
+   */
+  Range<K> span();
+
+  /**
+   * Returns all entries of this interval multimap, in order. The returned collection is
+   * unmodifiable.
+   */
+  Collection<Entry<Range<K>, V>> entries();
+
+  /**
+   * Adds an association from {@code range} to {@code value} (optional operation). If {@code range}
+   * {@linkplain Range#isEmpty() is empty}, then this is a no-op.
+   *
+   * @return {@code true} if the interval multimap changed, which is whenever the range is nonempty
+   */
+  @CanIgnoreReturnValue
+  boolean put(Range<K> range, V value);
+
+  /**
+   * Adds all entries of {@code intervalMultimap} to this interval multimap (optional operation).
+   */
+  void putAll(IntervalMultimap<K, ? extends V> intervalMultimap);
+
+  /**
+   * Removes the earliest-added association from exactly {@code range} to {@code value}, if one is
+   * present (optional operation). Other ranges, even overlapping ones, are left unchanged.
+   *
+   * @return {@code true} if the interval multimap changed
+   */
+  @CanIgnoreReturnValue
+  boolean remove(Range<K> range, @Nullable Object value);
+
+  /** Removes all entries from this interval multimap (optional operation). */
+  void clear();
+
+  /**
+   * Returns {@code true} if {@code obj} is another {@code IntervalMultimap} with equal entries in
+   * the same order.
+   */
+  @Override
+  boolean equals(@Nullable Object obj);
+
+  /** Returns the hash code that a {@link List} holding the {@link #entries} in order would have. */
+  @Override
+  int hashCode();
+
+  /** Returns a readable string representation of this interval multimap. */
+  @Override
+  String toString();
+}
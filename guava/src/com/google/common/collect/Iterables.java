@@ -30,6 +30,7 @@ import static com.google.common.collect.Lists.newArrayList;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.base.Equivalence;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
@@ -45,7 +46,10 @@ import java.util.RandomAccess;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -1096,4 +1100,112 @@ public final class Iterables {
         };
     return new UnmodifiableIterable<>(iterable);
   }
+
+  /**
+   * Returns an iterable over the elements of {@code first} that are matched by an equivalent
+   * element of {@code second}, as computed by {@link Iterators#intersectSorted}. Both iterables
+   * must be in non-descending order according to {@code comparator}.
+   *
+   * <p>The returned iterable's spliterator reports {@link Spliterator#ORDERED}, so that {@code
+   * Streams.stream(Iterables.intersectSorted(...))} preserves the merge order.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> Iterable<T> intersectSorted(
+      Iterable<? extends T> first, Iterable<? extends T> second, Comparator<? super T> comparator) {
+    checkNotNull(first);
+    checkNotNull(second);
+    checkNotNull(comparator);
+    return orderedIterable(
+        () -> Iterators.intersectSorted(first.iterator(), second.iterator(), comparator));
+  }
+
+  /**
+   * Returns an iterable over the elements of {@code first} that are not matched by an equivalent
+   * element of {@code second}, as computed by {@link Iterators#differenceSorted}. Both iterables
+   * must be in non-descending order according to {@code comparator}.
+   *
+   * <p>The returned iterable's spliterator reports {@link Spliterator#ORDERED}.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> Iterable<T> differenceSorted(
+      Iterable<? extends T> first, Iterable<? extends T> second, Comparator<? super T> comparator) {
+    checkNotNull(first);
+    checkNotNull(second);
+    checkNotNull(comparator);
+    return orderedIterable(
+        () -> Iterators.differenceSorted(first.iterator(), second.iterator(), comparator));
+  }
+
+  /**
+   * Returns an iterable over the inner join of {@code left} and {@code right}, as computed by
+   * {@link Iterators#joinSorted}. Both iterables must be in non-descending order of their keys
+   * according to {@code keyComparator}.
+   *
+   * <p>The returned iterable's spliterator reports {@link Spliterator#ORDERED}.
+   *
+   * @since NEXT
+   */
+  public static <
+          L extends @Nullable Object,
+          R extends @Nullable Object,
+          K extends @Nullable Object,
+          T extends @Nullable Object>
+      Iterable<T> joinSorted(
+          Iterable<? extends L> left,
+          Iterable<? extends R> right,
+          Function<? super L, ? extends K> leftKeyFunction,
+          Function<? super R, ? extends K> rightKeyFunction,
+          Comparator<? super K> keyComparator,
+          BiFunction<? super L, ? super R, ? extends T> joiner) {
+    checkNotNull(left);
+    checkNotNull(right);
+    checkNotNull(leftKeyFunction);
+    checkNotNull(rightKeyFunction);
+    checkNotNull(keyComparator);
+    checkNotNull(joiner);
+    return orderedIterable(
+        () ->
+            Iterators.joinSorted(
+                left.iterator(),
+                right.iterator(),
+                leftKeyFunction,
+                rightKeyFunction,
+                keyComparator,
+                joiner));
+  }
+
+  /**
+   * Returns an iterable over unmodifiable lists of consecutive elements of {@code iterable} that
+   * are equivalent according to {@code equivalence}, as computed by {@link
+   * Iterators#groupAdjacent}.
+   *
+   * <p>The returned iterable's spliterator reports {@link Spliterator#ORDERED}.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> Iterable<List<T>> groupAdjacent(
+      Iterable<T> iterable, Equivalence<? super T> equivalence) {
+    checkNotNull(iterable);
+    checkNotNull(equivalence);
+    return orderedIterable(() -> Iterators.groupAdjacent(iterable.iterator(), equivalence));
+  }
+
+  private static <T extends @Nullable Object> Iterable<T> orderedIterable(
+      Supplier<Iterator<T>> iteratorSupplier) {
+    Iterable<T> iterable =
+        new FluentIterable<T>() {
+          @Override
+          public Iterator<T> iterator() {
+            return iteratorSupplier.get();
+          }
+
+          @Override
+          public Spliterator<T> spliterator() {
+            return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+          }
+        };
+    return new UnmodifiableIterable<>(iterable);
+  }
 }
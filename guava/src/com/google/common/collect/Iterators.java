@@ -30,6 +30,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.base.Equivalence;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
@@ -38,6 +39,7 @@ import com.google.common.primitives.Ints;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.InlineMe;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,6 +52,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.function.BiFunction;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -1369,6 +1372,209 @@ public final class Iterators {
     }
   }
 
+  /**
+   * Returns an iterator over the elements of {@code first} that are matched by an equivalent
+   * element of {@code second}, computed lazily by a single merge pass over both iterators.
+   *
+   * <p>Callers must ensure that both iterators are in non-descending order according to {@code
+   * comparator}, as this method does not sort its input. Duplicates are treated as in a multiset:
+   * an element occurring {@code m} times in {@code first} and {@code n} times in {@code second} is
+   * returned {@code min(m, n)} times. Returned elements always come from {@code first}, in their
+   * original order.
+   *
+   * <p>Each call to {@code next()} advances both iterators only as far as necessary, so the
+   * intersection of two sorted inputs takes time linear in their combined length and constant
+   * space, unlike copying either input into a {@link java.util.TreeSet}.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> UnmodifiableIterator<T> intersectSorted(
+      Iterator<? extends T> first, Iterator<? extends T> second, Comparator<? super T> comparator) {
+    checkNotNull(first);
+    checkNotNull(second);
+    checkNotNull(comparator);
+    PeekingIterator<T> firstPeeking = peekingIterator(first);
+    PeekingIterator<T> secondPeeking = peekingIterator(second);
+    return new AbstractIterator<T>() {
+      @Override
+      protected @Nullable T computeNext() {
+        while (firstPeeking.hasNext() && secondPeeking.hasNext()) {
+          int result = comparator.compare(firstPeeking.peek(), secondPeeking.peek());
+          if (result < 0) {
+            firstPeeking.next();
+          } else if (result > 0) {
+            secondPeeking.next();
+          } else {
+            secondPeeking.next();
+            return firstPeeking.next();
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator over the elements of {@code first} that are not matched by an equivalent
+   * element of {@code second}, computed lazily by a single merge pass over both iterators.
+   *
+   * <p>Callers must ensure that both iterators are in non-descending order according to {@code
+   * comparator}, as this method does not sort its input. Duplicates are treated as in a multiset:
+   * an element occurring {@code m} times in {@code first} and {@code n} times in {@code second} is
+   * returned {@code max(m - n, 0)} times. Returned elements keep their order from {@code first}.
+   *
+   * <p>The difference takes time linear in the combined length of the inputs and constant space.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> UnmodifiableIterator<T> differenceSorted(
+      Iterator<? extends T> first, Iterator<? extends T> second, Comparator<? super T> comparator) {
+    checkNotNull(first);
+    checkNotNull(second);
+    checkNotNull(comparator);
+    PeekingIterator<T> firstPeeking = peekingIterator(first);
+    PeekingIterator<T> secondPeeking = peekingIterator(second);
+    return new AbstractIterator<T>() {
+      @Override
+      protected @Nullable T computeNext() {
+        while (firstPeeking.hasNext()) {
+          if (!secondPeeking.hasNext()) {
+            return firstPeeking.next();
+          }
+          int result = comparator.compare(firstPeeking.peek(), secondPeeking.peek());
+          if (result < 0) {
+            return firstPeeking.next();
+          } else if (result > 0) {
+            secondPeeking.next();
+          } else {
+            firstPeeking.next();
+            secondPeeking.next();
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator over the inner join of {@code left} and {@code right}, computed lazily by a
+   * single merge pass over both iterators. For every pair of a left element and a right element
+   * whose keys compare as equal, the iterator returns {@code joiner.apply(leftElement,
+   * rightElement)}.
+   *
+   * <p>Callers must ensure that both iterators are in non-descending order of their keys according
+   * to {@code keyComparator}, as this method does not sort its input. Results are returned in the
+   * order of the left elements, and for each left element, in the order of the matching right
+   * elements.
+   *
+   * <p>The join takes time linear in the combined length of the inputs plus the number of results.
+   * It keeps one run of right elements with equal keys in memory, so that the run can be paired
+   * with each left element of that key; when keys are unique on the right side, the join takes
+   * constant space.
+   *
+   * @since NEXT
+   */
+  public static <
+          L extends @Nullable Object,
+          R extends @Nullable Object,
+          K extends @Nullable Object,
+          T extends @Nullable Object>
+      UnmodifiableIterator<T> joinSorted(
+          Iterator<? extends L> left,
+          Iterator<? extends R> right,
+          Function<? super L, ? extends K> leftKeyFunction,
+          Function<? super R, ? extends K> rightKeyFunction,
+          Comparator<? super K> keyComparator,
+          BiFunction<? super L, ? super R, ? extends T> joiner) {
+    checkNotNull(left);
+    checkNotNull(right);
+    checkNotNull(leftKeyFunction);
+    checkNotNull(rightKeyFunction);
+    checkNotNull(keyComparator);
+    checkNotNull(joiner);
+    PeekingIterator<R> rightPeeking = peekingIterator(right);
+    return new AbstractIterator<T>() {
+      /** The right elements whose key equals {@link #runKey}. */
+      final List<R> run = new ArrayList<>();
+
+      @Nullable K runKey;
+      @Nullable L current;
+      int runIndex;
+
+      @Override
+      protected @Nullable T computeNext() {
+        while (true) {
+          if (runIndex < run.size()) {
+            return joiner.apply(uncheckedCastNullableTToT(current), run.get(runIndex++));
+          }
+          if (!left.hasNext()) {
+            return endOfData();
+          }
+          L leftElement = left.next();
+          K key = leftKeyFunction.apply(leftElement);
+          if (run.isEmpty() || keyComparator.compare(key, uncheckedCastNullableTToT(runKey)) != 0) {
+            run.clear();
+            while (rightPeeking.hasNext()) {
+              int result = keyComparator.compare(rightKeyFunction.apply(rightPeeking.peek()), key);
+              if (result > 0) {
+                break;
+              }
+              R rightElement = rightPeeking.next();
+              if (result == 0) {
+                run.add(rightElement);
+              }
+            }
+            if (run.isEmpty()) {
+              if (!rightPeeking.hasNext()) {
+                return endOfData();
+              }
+              continue;
+            }
+            runKey = key;
+          }
+          current = leftElement;
+          runIndex = 0;
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator over unmodifiable lists of consecutive elements of {@code iterator} that
+   * are equivalent according to {@code equivalence}. For example, grouping an iterator containing
+   * {@code [a, a, b, a]} by {@link Equivalence#equals()} yields {@code [[a, a], [b], [a]]}. Each
+   * element is compared with the first element of the group being built.
+   *
+   * <p>Applied to a sorted iterator, with an equivalence consistent with the sort order, this
+   * returns each distinct value together with all of its duplicates without materializing anything
+   * beyond the current group.
+   *
+   * <p>The returned lists implement {@link java.util.RandomAccess}.
+   *
+   * @since NEXT
+   */
+  public static <T extends @Nullable Object> UnmodifiableIterator<List<T>> groupAdjacent(
+      Iterator<T> iterator, Equivalence<? super T> equivalence) {
+    checkNotNull(iterator);
+    checkNotNull(equivalence);
+    PeekingIterator<T> peeking = peekingIterator(iterator);
+    return new AbstractIterator<List<T>>() {
+      @Override
+      protected @Nullable List<T> computeNext() {
+        if (!peeking.hasNext()) {
+          return endOfData();
+        }
+        T first = peeking.next();
+        List<T> group = new ArrayList<>();
+        group.add(first);
+        while (peeking.hasNext() && equivalence.equivalent(first, peeking.peek())) {
+          group.add(peeking.next());
+        }
+        return unmodifiableList(group);
+      }
+    };
+  }
+
   private static final class ConcatenatedIterator<T extends @Nullable Object>
       implements Iterator<T> {
     /* The last iterator to return an element.  Calls to remove() go to this iterator. */
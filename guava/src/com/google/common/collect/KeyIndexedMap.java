@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2009 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.Maps.IteratorBasedAbstractMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A map view over a fixed set of keys, whose values are stored by key index. Used for the row and
+ * column views of {@link ArrayTable} and {@link DoubleArrayTable}.
+ */
+@GwtCompatible
+abstract class KeyIndexedMap<K, V extends @Nullable Object>
+    extends IteratorBasedAbstractMap<K, V> {
+  private final ImmutableMap<K, Integer> keyIndex;
+
+  KeyIndexedMap(ImmutableMap<K, Integer> keyIndex) {
+    this.keyIndex = keyIndex;
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return keyIndex.keySet();
+  }
+
+  K getKey(int index) {
+    return keyIndex.keySet().asList().get(index);
+  }
+
+  abstract String getKeyRole();
+
+  @ParametricNullness
+  abstract V getValue(int index);
+
+  @ParametricNullness
+  abstract V setValue(int index, @ParametricNullness V newValue);
+
+  @Override
+  public int size() {
+    return keyIndex.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keyIndex.isEmpty();
+  }
+
+  Entry<K, V> getEntry(int index) {
+    checkElementIndex(index, size());
+    return new AbstractMapEntry<K, V>() {
+      @Override
+      public K getKey() {
+        return KeyIndexedMap.this.getKey(index);
+      }
+
+      @Override
+      @ParametricNullness
+      public V getValue() {
+        return KeyIndexedMap.this.getValue(index);
+      }
+
+      @Override
+      @ParametricNullness
+      public V setValue(@ParametricNullness V value) {
+        return KeyIndexedMap.this.setValue(index, value);
+      }
+    };
+  }
+
+  @Override
+  Iterator<Entry<K, V>> entryIterator() {
+    return new AbstractIndexedListIterator<Entry<K, V>>(size()) {
+      @Override
+      Entry<K, V> get(int index) {
+        return getEntry(index);
+      }
+    };
+  }
+
+  @Override
+  @GwtIncompatible // Spliterator
+  Spliterator<Entry<K, V>> entrySpliterator() {
+    return CollectSpliterators.indexed(
+        size(), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL, this::getEntry);
+  }
+
+  // TODO(lowasser): consider an optimized values() implementation
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return keyIndex.containsKey(key);
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    Integer index = keyIndex.get(key);
+    if (index == null) {
+      return null;
+    } else {
+      return getValue(index);
+    }
+  }
+
+  @Override
+  public @Nullable V put(K key, @ParametricNullness V value) {
+    Integer index = keyIndex.get(key);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          getKeyRole() + " " + key + " not in " + keyIndex.keySet());
+    }
+    return setValue(index, value);
+  }
+
+  @Override
+  public @Nullable V remove(@Nullable Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.MinMaxPriorityQueue.isEvenLevel;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A double-ended priority queue of elements with {@code long} priorities, which provides
+ * constant-time access to both the element with the least priority and the element with the
+ * greatest priority.
+ *
+ * <p>Usage example:
+ *
+ * {@snippet :
+ * LongMinMaxPriorityQueue<Task> tasksByDeadline = LongMinMaxPriorityQueue.create();
+ * tasksByDeadline.offer(task.deadlineNanos(), task);
+ * ...
+ * while (!tasksByDeadline.isEmpty() && tasksByDeadline.peekFirstPriority() <= now) {
+ *   expire(tasksByDeadline.pollFirst());
+ * }
+ * }
+ *
+ * <p>This is the same <a href="http://portal.acm.org/citation.cfm?id=6621">min-max heap</a> as
+ * {@link MinMaxPriorityQueue}, but it keeps priorities in a {@code long[]} and elements in a
+ * parallel array. Priorities are never boxed, and the heap compares them directly instead of
+ * calling a {@link java.util.Comparator}. Elements are only moved along with their priorities.
+ *
+ * <p>Like {@code MinMaxPriorityQueue}, a queue can be configured with a maximum size. If so, each
+ * time the size of the queue would exceed that value, the queue removes its element with the
+ * greatest priority, which might be the element being added.
+ *
+ * <p>Elements with equal priorities are returned in no particular order. This class is not
+ * thread-safe, and does not accept null elements.
+ *
+ * <p>{@link #offer} and all forms of {@code poll} run in O(log n) time. The {@code peek} methods
+ * and {@link #size} are constant-time.
+ *
+ * @param <E> the type of elements held in this queue
+ * @since NEXT
+ */
+@GwtCompatible
+public final class LongMinMaxPriorityQueue<E> {
+
+  /** Creates a new queue with no maximum size and an initial expected size of 11. */
+  public static <E> LongMinMaxPriorityQueue<E> create() {
+    return new Builder().create();
+  }
+
+  /**
+   * Creates and returns a new builder, configured to build {@code LongMinMaxPriorityQueue}
+   * instances sized appropriately to hold {@code expectedSize} elements.
+   */
+  public static Builder expectedSize(int expectedSize) {
+    return new Builder().expectedSize(expectedSize);
+  }
+
+  /**
+   * Creates and returns a new builder, configured to build {@code LongMinMaxPriorityQueue}
+   * instances that are limited to {@code maximumSize} elements. Each time a queue would grow beyond
+   * this bound, it removes its element with the greatest priority, which might be the element that
+   * was just added.
+   */
+  public static Builder maximumSize(int maximumSize) {
+    return new Builder().maximumSize(maximumSize);
+  }
+
+  /**
+   * The builder class used in creation of {@code LongMinMaxPriorityQueue} instances. Instead of
+   * constructing one directly, use {@link LongMinMaxPriorityQueue#expectedSize(int)} or {@link
+   * LongMinMaxPriorityQueue#maximumSize(int)}.
+   *
+   * @since NEXT
+   */
+  public static final class Builder {
+    private int expectedSize = DEFAULT_CAPACITY;
+    private int maximumSize = Integer.MAX_VALUE;
+
+    private Builder() {}
+
+    /**
+     * Configures this builder to build queues with an initial expected size of {@code
+     * expectedSize}.
+     */
+    @CanIgnoreReturnValue
+    public Builder expectedSize(int expectedSize) {
+      checkArgument(expectedSize >= 0);
+      this.expectedSize = expectedSize;
+      return this;
+    }
+
+    /**
+     * Configures this builder to build queues that are limited to {@code maximumSize} elements.
+     * Each time a queue would grow beyond this bound, it removes its element with the greatest
+     * priority, which might be the element that was just added.
+     */
+    @CanIgnoreReturnValue
+    public Builder maximumSize(int maximumSize) {
+      checkArgument(maximumSize > 0);
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /** Builds a new, empty queue using the previously specified options. */
+    public <E> LongMinMaxPriorityQueue<E> create() {
+      return new LongMinMaxPriorityQueue<>(min(expectedSize, maximumSize), maximumSize);
+    }
+  }
+
+  private static final int DEFAULT_CAPACITY = 11;
+
+  private final int maximumSize;
+  private long[] priorities;
+  private @Nullable Object[] elements;
+  private int size;
+
+  private LongMinMaxPriorityQueue(int capacity, int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.priorities = new long[capacity];
+    this.elements = new Object[capacity];
+  }
+
+  /** Returns the number of elements in this queue. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns {@code true} if this queue contains no elements. */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds {@code element} to this queue with the given priority. If this queue has a maximum size,
+   * and is full, the element with the greatest priority is removed, which may be {@code element}
+   * itself.
+   *
+   * @return {@code true} if {@code element} is now in the queue, or {@code false} if it was the
+   *     element removed
+   */
+  @CanIgnoreReturnValue
+  public boolean offer(long priority, E element) {
+    checkNotNull(element);
+    if (size == maximumSize) {
+      int lastIndex = lastIndex();
+      if (priority >= priorities[lastIndex]) {
+        return false;
+      }
+      removeAt(lastIndex);
+    }
+    if (size == priorities.length) {
+      grow();
+    }
+    int index = size++;
+    priorities[index] = priority;
+    elements[index] = element;
+    bubbleUp(index);
+    return true;
+  }
+
+  /**
+   * Returns the least priority in this queue.
+   *
+   * @throws NoSuchElementException if the queue is empty
+   */
+  public long peekFirstPriority() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return priorities[0];
+  }
+
+  /**
+   * Returns the greatest priority in this queue.
+   *
+   * @throws NoSuchElementException if the queue is empty
+   */
+  public long peekLastPriority() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return priorities[lastIndex()];
+  }
+
+  /**
+   * Retrieves, but does not remove, the element with the least priority in this queue, or returns
+   * {@code null} if the queue is empty.
+   */
+  public @Nullable E peekFirst() {
+    return isEmpty() ? null : elementAt(0);
+  }
+
+  /**
+   * Retrieves, but does not remove, the element with the greatest priority in this queue, or
+   * returns {@code null} if the queue is empty.
+   */
+  public @Nullable E peekLast() {
+    return isEmpty() ? null : elementAt(lastIndex());
+  }
+
+  /**
+   * Removes and returns the element with the least priority in this queue, or returns {@code null}
+   * if the queue is empty.
+   */
+  @CanIgnoreReturnValue
+  public @Nullable E pollFirst() {
+    return isEmpty() ? null : removeAt(0);
+  }
+
+  /**
+   * Removes and returns the element with the greatest priority in this queue, or returns {@code
+   * null} if the queue is empty.
+   */
+  @CanIgnoreReturnValue
+  public @Nullable E pollLast() {
+    return isEmpty() ? null : removeAt(lastIndex());
+  }
+
+  /** Removes all of the elements from this queue. */
+  public void clear() {
+    Arrays.fill(elements, 0, size, null);
+    size = 0;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder().append('[');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(priorities[i]).append('=').append(elements[i]);
+    }
+    return builder.append(']').toString();
+  }
+
+  @SuppressWarnings("unchecked") // we only put Es in
+  private E elementAt(int index) {
+    return (E) requireNonNull(elements[index]);
+  }
+
+  /** Returns the index of the greatest priority. The queue must not be empty. */
+  private int lastIndex() {
+    switch (size) {
+      case 1:
+        return 0; // The lone entry in the queue has the greatest priority.
+      case 2:
+        return 1; // The lone entry on the first max level has the greatest priority.
+      default:
+        // The greatest priority must sit on the first max level.
+        return (priorities[1] >= priorities[2]) ? 1 : 2;
+    }
+  }
+
+  private E removeAt(int index) {
+    E removed = elementAt(index);
+    int last = --size;
+    if (index != last) {
+      priorities[index] = priorities[last];
+      elements[index] = elements[last];
+      trickleDown(index, isEvenLevel(index));
+    }
+    elements[last] = null;
+    return removed;
+  }
+
+  /**
+   * Returns whether the entry at {@code a} belongs closer to the root than the entry at {@code b}
+   * in a min level (if {@code minLevel}) or in a max level.
+   */
+  private boolean precedes(int a, int b, boolean minLevel) {
+    return minLevel ? priorities[a] < priorities[b] : priorities[a] > priorities[b];
+  }
+
+  /** Restores the heap invariants after adding an entry at {@code index}. */
+  private void bubbleUp(int index) {
+    if (index == 0) {
+      return;
+    }
+    boolean minLevel = isEvenLevel(index);
+    int parent = (index - 1) >>> 1;
+    if (precedes(parent, index, minLevel)) {
+      // The entry belongs to the other kind of level, above its parent.
+      swap(index, parent);
+      bubbleUpGrandparents(parent, !minLevel);
+    } else {
+      bubbleUpGrandparents(index, minLevel);
+    }
+  }
+
+  private void bubbleUpGrandparents(int index, boolean minLevel) {
+    while (index > 2) {
+      int grandparent = (index - 3) >>> 2;
+      if (!precedes(index, grandparent, minLevel)) {
+        return;
+      }
+      swap(index, grandparent);
+      index = grandparent;
+    }
+  }
+
+  /** Restores the heap invariants after replacing the entry at {@code index} with a later one. */
+  private void trickleDown(int index, boolean minLevel) {
+    while (true) {
+      int firstChild = 2 * index + 1;
+      if (firstChild >= size) {
+        return;
+      }
+      // Find the entry among the children and grandchildren that belongs closest to the root.
+      int best = firstChild;
+      if (firstChild + 1 < size && precedes(firstChild + 1, best, minLevel)) {
+        best = firstChild + 1;
+      }
+      long firstGrandchild = 2L * firstChild + 1;
+      int grandchildrenEnd = (int) min(firstGrandchild + 4, size);
+      for (int i = (int) min(firstGrandchild, size); i < grandchildrenEnd; i++) {
+        if (precedes(i, best, minLevel)) {
+          best = i;
+        }
+      }
+      if (!precedes(best, index, minLevel)) {
+        return;
+      }
+      swap(best, index);
+      if (best < firstGrandchild) {
+        return;
+      }
+      // The entry moved down from index may belong on the other kind of level, its new parent's.
+      int parent = (best - 1) >>> 1;
+      if (precedes(parent, best, minLevel)) {
+        swap(best, parent);
+      }
+      index = best;
+    }
+  }
+
+  private void swap(int i, int j) {
+    long priority = priorities[i];
+    priorities[i] = priorities[j];
+    priorities[j] = priority;
+    Object element = elements[i];
+    elements[i] = elements[j];
+    elements[j] = element;
+  }
+
+  /** Grows the arrays to ~2x their old capacity if small, or ~1.5x otherwise. */
+  private void grow() {
+    int oldCapacity = priorities.length;
+    int newCapacity =
+        (oldCapacity < 64) ? (oldCapacity + 1) * 2 : Math.multiplyExact(oldCapacity / 2, 3);
+    newCapacity = min(newCapacity, maximumSize);
+    priorities = Arrays.copyOf(priorities, newCapacity);
+    elements = Arrays.copyOf(elements, newCapacity);
+  }
+
+  @VisibleForTesting
+  boolean isIntact() {
+    for (int i = 1; i < size; i++) {
+      boolean minLevel = isEvenLevel(i);
+      if (precedes((i - 1) >>> 1, i, minLevel) || (i > 2 && precedes(i, (i - 3) >>> 2, minLevel))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
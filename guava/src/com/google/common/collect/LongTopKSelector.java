@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.math.IntMath;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * A {@link TopKSelector} for {@code long} values, which never boxes. It implements {@link
+ * Streams#leastOf(java.util.stream.LongStream, int)} and its relatives.
+ *
+ * <p>Values are stored as <i>keys</i> whose natural order is the order of selection: a value itself
+ * for {@link #least}, and its bitwise complement for {@link #greatest}. That way a single
+ * quickselect over the keys serves both. {@code double} values can be selected by first mapping
+ * them with {@link #doubleToSortableLong}.
+ */
+@GwtCompatible
+final class LongTopKSelector {
+
+  /**
+   * Returns a {@code LongTopKSelector} that collects the lowest {@code k} values offered to it, and
+   * returns them via {@link #topK} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   */
+  static LongTopKSelector least(int k) {
+    return new LongTopKSelector(k, false);
+  }
+
+  /**
+   * Returns a {@code LongTopKSelector} that collects the greatest {@code k} values offered to it,
+   * and returns them via {@link #topK} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   */
+  static LongTopKSelector greatest(int k) {
+    return new LongTopKSelector(k, true);
+  }
+
+  /**
+   * Returns a {@code long} whose signed order matches the order of {@code value} under {@link
+   * Double#compare}: {@code -0.0} is less than {@code 0.0}, and {@code NaN} is greater than every
+   * other value. {@link #sortableLongToDouble} reverses the mapping.
+   */
+  static long doubleToSortableLong(double value) {
+    long bits = Double.doubleToLongBits(value);
+    // Negative doubles order in reverse by their bits, so flip everything but the sign bit.
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /** Returns the {@code double} that {@link #doubleToSortableLong} mapped to {@code key}. */
+  static double sortableLongToDouble(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+
+  private final int k;
+  private final boolean greatest;
+
+  /*
+   * We are currently considering the keys in buffer in the range [0, bufferSize) as candidates for
+   * the top k values. Whenever the buffer is filled, we quickselect the least k keys to the range
+   * [0, k) and ignore the remaining keys.
+   */
+  private long[] buffer;
+  private int bufferSize;
+
+  /**
+   * The largest of the lowest k keys we've seen so far. If bufferSize ≥ k, then we can ignore any
+   * keys greater than or equal to this value.
+   */
+  private long threshold;
+
+  private LongTopKSelector(int k, boolean greatest) {
+    checkArgument(k >= 0, "k (%s) must be >= 0", k);
+    checkArgument(k <= Integer.MAX_VALUE / 2, "k (%s) must be <= Integer.MAX_VALUE / 2", k);
+    this.k = k;
+    this.greatest = greatest;
+    this.buffer = new long[k * 2];
+  }
+
+  /**
+   * Adds {@code value} as a candidate for the top {@code k} values. This operation takes amortized
+   * O(1) time.
+   */
+  void offer(long value) {
+    offerKey(greatest ? ~value : value);
+  }
+
+  private void offerKey(long key) {
+    if (k == 0) {
+      return;
+    } else if (bufferSize < k) {
+      if (bufferSize == 0 || key > threshold) {
+        threshold = key;
+      }
+      buffer[bufferSize++] = key;
+    } else if (key < threshold) {
+      // Otherwise, we can ignore key; we've seen k better values.
+      buffer[bufferSize++] = key;
+      if (bufferSize == 2 * k) {
+        trim();
+      }
+    }
+  }
+
+  /**
+   * Quickselects the least k keys from the more than k keys in the buffer. O(k) expected time,
+   * O(k log k) worst case.
+   */
+  private void trim() {
+    int left = 0;
+    int right = bufferSize - 1;
+
+    // The leftmost position at which the greatest of the k lower keys -- the new value of
+    // threshold -- might be found.
+    int minThresholdPosition = 0;
+
+    int iterations = 0;
+    int maxIterations = IntMath.log2(right - left, RoundingMode.CEILING) * 3;
+    while (left < right) {
+      int pivotIndex = (left + right + 1) >>> 1;
+
+      int pivotNewIndex = partition(left, right, pivotIndex);
+
+      if (pivotNewIndex > k) {
+        right = pivotNewIndex - 1;
+      } else if (pivotNewIndex < k) {
+        left = max(pivotNewIndex, left + 1);
+        minThresholdPosition = pivotNewIndex;
+      } else {
+        break;
+      }
+      iterations++;
+      if (iterations >= maxIterations) {
+        // We've already taken O(k log k), let's make sure we don't take longer than O(k log k).
+        Arrays.sort(buffer, left, right + 1);
+        break;
+      }
+    }
+    bufferSize = k;
+
+    threshold = buffer[minThresholdPosition];
+    for (int i = minThresholdPosition + 1; i < k; i++) {
+      threshold = max(threshold, buffer[i]);
+    }
+  }
+
+  /**
+   * Partitions the contents of buffer in the range [left, right] around the pivot key previously
+   * stored in buffer[pivotIndex]. Returns the new index of the pivot key, so that everything in
+   * [left, pivotNewIndex) is less than it and everything in (pivotNewIndex, right] is greater than
+   * or equal to it.
+   */
+  private int partition(int left, int right, int pivotIndex) {
+    long pivotValue = buffer[pivotIndex];
+    buffer[pivotIndex] = buffer[right];
+
+    int pivotNewIndex = left;
+    for (int i = left; i < right; i++) {
+      if (buffer[i] < pivotValue) {
+        long tmp = buffer[pivotNewIndex];
+        buffer[pivotNewIndex] = buffer[i];
+        buffer[i] = tmp;
+        pivotNewIndex++;
+      }
+    }
+    buffer[right] = buffer[pivotNewIndex];
+    buffer[pivotNewIndex] = pivotValue;
+    return pivotNewIndex;
+  }
+
+  /**
+   * Merges the candidates of {@code other} into this selector, the same way as {@link
+   * TopKSelector#combine}. {@code other} should no longer be used.
+   */
+  void combine(LongTopKSelector other) {
+    if (other.bufferSize > bufferSize) {
+      // Continue from the larger selector's state and offer it the smaller one's candidates.
+      long[] otherBuffer = other.buffer;
+      int otherBufferSize = other.bufferSize;
+      long otherThreshold = other.threshold;
+      other.buffer = buffer;
+      other.bufferSize = bufferSize;
+      other.threshold = threshold;
+      buffer = otherBuffer;
+      bufferSize = otherBufferSize;
+      threshold = otherThreshold;
+    }
+    if (other.bufferSize > k) {
+      other.trim();
+    }
+    for (int i = 0; i < other.bufferSize; i++) {
+      offerKey(other.buffer[i]);
+    }
+  }
+
+  /**
+   * Returns the top {@code k} values offered to this {@code LongTopKSelector}, or all values if
+   * fewer than {@code k} have been offered, in the order specified by the factory used to create
+   * this {@code LongTopKSelector}. This method returns in O(k log k) time.
+   */
+  long[] topK() {
+    Arrays.sort(buffer, 0, bufferSize);
+    bufferSize = min(bufferSize, k);
+    if (bufferSize > 0) {
+      threshold = buffer[bufferSize - 1];
+    }
+    long[] topK = Arrays.copyOf(buffer, bufferSize);
+    if (greatest) {
+      for (int i = 0; i < topK.length; i++) {
+        topK[i] = ~topK[i];
+      }
+    }
+    return topK;
+  }
+}
@@ -2202,7 +2202,13 @@ public final class Maps {
 
     @Override
     public Collection<V2> values() {
-      return new Values<>(this);
+      return new Values<K, V2>(this) {
+        @Override
+        @GwtIncompatible // Spliterator
+        public Spliterator<V2> spliterator() {
+          return CollectSpliterators.map(entrySpliterator(), 0, Entry::getValue);
+        }
+      };
     }
   }
 
@@ -28,6 +28,7 @@ import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
@@ -224,6 +225,18 @@ public final class MinMaxPriorityQueue<E> extends AbstractQueue<E> {
       return queue;
     }
 
+    /**
+     * Builds a new, empty, thread-safe min-max priority queue using the previously specified
+     * options. See {@link ConcurrentMinMaxPriorityQueue} for details.
+     *
+     * @since NEXT
+     */
+    @J2ktIncompatible
+    @GwtIncompatible
+    public <T extends B> ConcurrentMinMaxPriorityQueue<T> createConcurrent() {
+      return new ConcurrentMinMaxPriorityQueue<>(this.<T>create());
+    }
+
     @SuppressWarnings("unchecked") // safe "contravariant cast"
     private <T extends B> Ordering<T> ordering() {
       return Ordering.from((Comparator<T>) comparator);
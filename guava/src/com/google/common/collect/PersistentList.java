@@ -0,0 +1,633 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.collectingAndThen;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.DoNotCall;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link ImmutableList} whose "modifying" operations, such as {@link #with(int, Object)} and
+ * {@link #append}, return a new list that shares most of its structure with the original. Both
+ * lists remain valid and immutable.
+ *
+ * <p>The elements are stored in the leaves of a tree with a branching factor of 32, plus a "tail"
+ * array holding the last (up to) 32 elements. {@link #get}, {@link #with(int, Object)}, {@link
+ * #append} and {@link #withoutLast} run in O(log<sub>32</sub> n) time, which is effectively
+ * constant, and allocate only the O(log<sub>32</sub> n) arrays on the path to the affected
+ * element. By contrast, producing a modified copy of a {@link RegularImmutableList} takes O(n)
+ * time and memory.
+ *
+ * <p>Reads are somewhat slower than those of an array-backed {@code ImmutableList}, so prefer
+ * {@link ImmutableList} unless you derive many versions of a list from one another. Passing a
+ * {@code PersistentList} to {@link ImmutableList#copyOf(Collection)} returns it without copying.
+ *
+ * <p>Like other immutable collections, a {@code PersistentList} does not permit null elements.
+ *
+ * @since NEXT
+ */
+@GwtIncompatible // ImmutableList is emulated differently in GWT
+public final class PersistentList<E> extends ImmutableList<E> {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private static final @Nullable Object[] EMPTY_NODE = new @Nullable Object[WIDTH];
+  private static final Object[] EMPTY_TAIL = new Object[0];
+
+  private static final PersistentList<Object> EMPTY =
+      new PersistentList<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+  /** Returns the empty persistent list. */
+  @SuppressWarnings("unchecked") // it has no elements, so the type variable doesn't matter
+  public static <E> PersistentList<E> of() {
+    return (PersistentList<E>) EMPTY;
+  }
+
+  /**
+   * Returns a persistent list containing a single element.
+   *
+   * @throws NullPointerException if {@code e1} is null
+   */
+  public static <E> PersistentList<E> of(E e1) {
+    return construct(e1);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2) {
+    return construct(e1, e2);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3) {
+    return construct(e1, e2, e3);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4) {
+    return construct(e1, e2, e3, e4);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4, E e5) {
+    return construct(e1, e2, e3, e4, e5);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4, E e5, E e6) {
+    return construct(e1, e2, e3, e4, e5, e6);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+    return construct(e1, e2, e3, e4, e5, e6, e7);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+    return construct(e1, e2, e3, e4, e5, e6, e7, e8);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+    return construct(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(
+      E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+    return construct(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  public static <E> PersistentList<E> of(
+      E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10, E e11) {
+    return construct(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10, e11);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * <p>The array {@code others} must not be longer than {@code Integer.MAX_VALUE - 12}.
+   *
+   * @throws NullPointerException if any of the elements is null
+   */
+  @SafeVarargs // For Eclipse. For internal javac we have disabled this pointless type of warning.
+  public static <E> PersistentList<E> of(
+      E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10, E e11, E e12, E... others) {
+    checkArgument(
+        others.length <= Integer.MAX_VALUE - 12, "the total number of elements must fit in an int");
+    Object[] array = new Object[12 + others.length];
+    array[0] = e1;
+    array[1] = e2;
+    array[2] = e3;
+    array[3] = e4;
+    array[4] = e5;
+    array[5] = e6;
+    array[6] = e7;
+    array[7] = e8;
+    array[8] = e9;
+    array[9] = e10;
+    array[10] = e11;
+    array[11] = e12;
+    // Copying element by element, rather than with System.arraycopy, keeps the varargs array from
+    // escaping, so javac need not warn about heap pollution.
+    for (int i = 0; i < others.length; i++) {
+      array[12 + i] = others[i];
+    }
+    return construct(array);
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order. If {@code elements} is
+   * itself a {@code PersistentList}, it is returned without copying.
+   *
+   * @throws NullPointerException if {@code elements} is null or contains a null element
+   */
+  public static <E> PersistentList<E> copyOf(Iterable<? extends E> elements) {
+    checkNotNull(elements);
+    return (elements instanceof Collection)
+        ? copyOf((Collection<? extends E>) elements)
+        : copyOf(elements.iterator());
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order. If {@code elements} is
+   * itself a {@code PersistentList}, it is returned without copying.
+   *
+   * @throws NullPointerException if {@code elements} is null or contains a null element
+   */
+  public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+    if (elements instanceof PersistentList) {
+      @SuppressWarnings("unchecked") // safe because the list is immutable
+      PersistentList<E> list = (PersistentList<E>) elements;
+      return list;
+    }
+    return construct(elements.toArray());
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if {@code elements} is null or contains a null element
+   */
+  public static <E> PersistentList<E> copyOf(Iterator<? extends E> elements) {
+    return construct(Iterators.toArray(elements, Object.class));
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in order.
+   *
+   * @throws NullPointerException if {@code elements} is null or contains a null element
+   */
+  public static <E> PersistentList<E> copyOf(E[] elements) {
+    return construct((Object[]) elements);
+  }
+
+  /**
+   * Returns a {@code Collector} that accumulates the input elements into a new {@code
+   * PersistentList}, in encounter order.
+   */
+  public static <E> Collector<E, ?, PersistentList<E>> toPersistentList() {
+    return collectingAndThen(
+        ImmutableList.<E>toImmutableList(), list -> construct(list.toArray()));
+  }
+
+  /**
+   * Not supported. Use {@link #toPersistentList} instead. This method exists only to hide {@link
+   * ImmutableList#toImmutableList} from consumers of {@code PersistentList}.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link PersistentList#toPersistentList}.
+   */
+  @DoNotCall("Use toPersistentList")
+  @Deprecated
+  public static <E> Collector<E, ?, ImmutableList<E>> toImmutableList() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not supported. Build a {@code PersistentList} by calling {@link #append} on {@link #of()}, or
+   * with {@link #copyOf(Collection)}. This method exists only to hide {@link ImmutableList#builder}
+   * from consumers of {@code PersistentList}.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #append} or {@link #copyOf(Collection)}.
+   */
+  @DoNotCall("Use append or copyOf")
+  @Deprecated
+  public static <E> ImmutableList.Builder<E> builder() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not supported. Build a {@code PersistentList} by calling {@link #append} on {@link #of()}, or
+   * with {@link #copyOf(Collection)}. This method exists only to hide {@link
+   * ImmutableList#builderWithExpectedSize} from consumers of {@code PersistentList}.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #append} or {@link #copyOf(Collection)}.
+   */
+  @DoNotCall("Use append or copyOf")
+  @Deprecated
+  public static <E> ImmutableList.Builder<E> builderWithExpectedSize(int expectedSize) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, sorted according to their natural
+   * order.
+   *
+   * @throws NullPointerException if any element in the input is null
+   */
+  public static <E extends Comparable<? super E>> PersistentList<E> sortedCopyOf(
+      Iterable<? extends E> elements) {
+    return construct(ImmutableList.sortedCopyOf(elements).toArray());
+  }
+
+  /**
+   * Returns a persistent list containing the given elements, in sorted order relative to the
+   * specified comparator.
+   *
+   * @throws NullPointerException if any element in the input is null
+   */
+  public static <E> PersistentList<E> sortedCopyOf(
+      Comparator<? super E> comparator, Iterable<? extends E> elements) {
+    return construct(ImmutableList.sortedCopyOf(comparator, elements).toArray());
+  }
+
+  /*
+   * The first `size - tail.length` elements are stored in the leaves of the tree under `root`,
+   * which is `shift / BITS` levels deep. Every node has WIDTH slots, and every leaf is full. The
+   * remaining elements, of which there is at least one unless the list is empty, are in `tail`.
+   * Arrays are never modified once they are reachable from a list.
+   */
+  private final int size;
+  private final int shift;
+  private final @Nullable Object[] root;
+  private final Object[] tail;
+
+  private PersistentList(int size, int shift, @Nullable Object[] root, Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /** Builds a list from the given elements, bottom-up and in linear time. */
+  private static <E> PersistentList<E> construct(@Nullable Object... elements) {
+    checkElementsNotNull(elements);
+    int size = elements.length;
+    if (size == 0) {
+      return of();
+    }
+    int tailOffset = tailOffset(size);
+    // Copy into arrays of exactly Object[], since `elements` might be an array of a subtype.
+    Object[] tail = Arrays.copyOfRange(elements, tailOffset, size, Object[].class);
+    @Nullable Object[][] nodes = new @Nullable Object[tailOffset / WIDTH][];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = Arrays.copyOfRange(elements, i * WIDTH, (i + 1) * WIDTH, Object[].class);
+    }
+    int shift = BITS;
+    while (nodes.length > WIDTH) {
+      @Nullable Object[][] parents = new @Nullable Object[(nodes.length + MASK) / WIDTH][];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = new @Nullable Object[WIDTH];
+        System.arraycopy(nodes, i * WIDTH, parents[i], 0, min(WIDTH, nodes.length - i * WIDTH));
+      }
+      nodes = parents;
+      shift += BITS;
+    }
+    @Nullable Object[] root = new @Nullable Object[WIDTH];
+    System.arraycopy(nodes, 0, root, 0, nodes.length);
+    return new PersistentList<>(size, shift, root, tail);
+  }
+
+  /** Returns the index of the first element stored in the tail of a list of the given size. */
+  private static int tailOffset(int size) {
+    return (size < WIDTH) ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  /** Returns the array that holds the element at {@code index}. */
+  private @Nullable Object[] arrayFor(int index) {
+    if (index >= tailOffset(size)) {
+      return tail;
+    }
+    @Nullable Object[] node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (@Nullable Object[]) node[(index >>> level) & MASK];
+    }
+    return node;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // we only put E instances into the leaves
+  public E get(int index) {
+    checkElementIndex(index, size);
+    return (E) arrayFor(index)[index & MASK];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a list that is equal to this one except that {@code element} is at position {@code
+   * index}. This list is unaffected.
+   *
+   * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than {@link
+   *     #size}
+   * @throws NullPointerException if {@code element} is null
+   */
+  public PersistentList<E> with(int index, E element) {
+    checkElementIndex(index, size);
+    checkNotNull(element);
+    if (index >= tailOffset(size)) {
+      Object[] newTail = tail.clone();
+      newTail[index & MASK] = element;
+      return new PersistentList<>(size, shift, root, newTail);
+    }
+    return new PersistentList<>(size, shift, replace(shift, root, index, element), tail);
+  }
+
+  private static @Nullable Object[] replace(
+      int level, @Nullable Object[] node, int index, Object element) {
+    @Nullable Object[] result = node.clone();
+    int slot = (index >>> level) & MASK;
+    if (level == 0) {
+      result[slot] = element;
+    } else {
+      result[slot] = replace(level - BITS, (@Nullable Object[]) node[slot], index, element);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a list consisting of the elements of this list followed by {@code element}. This list
+   * is unaffected.
+   *
+   * @throws NullPointerException if {@code element} is null
+   */
+  public PersistentList<E> append(E element) {
+    checkNotNull(element);
+    if (size - tailOffset(size) < WIDTH) {
+      Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+      newTail[tail.length] = element;
+      return new PersistentList<>(size + 1, shift, root, newTail);
+    }
+    // The tail is full: move it into the tree and start a new one.
+    @Nullable Object[] newRoot;
+    int newShift = shift;
+    if ((size >>> BITS) > (1 << shift)) {
+      // The tree is full too, so it grows a level.
+      newRoot = new @Nullable Object[WIDTH];
+      newRoot[0] = root;
+      newRoot[1] = newPath(shift, tail);
+      newShift += BITS;
+    } else {
+      newRoot = pushTail(shift, root, tail);
+    }
+    return new PersistentList<>(size + 1, newShift, newRoot, new Object[] {element});
+  }
+
+  /**
+   * Returns a list consisting of the elements of this list followed by the elements of {@code
+   * elements}, in order. This list is unaffected.
+   *
+   * @throws NullPointerException if {@code elements} is null or contains a null element
+   */
+  public PersistentList<E> appendAll(Iterable<? extends E> elements) {
+    if (isEmpty()) {
+      return copyOf(elements);
+    }
+    PersistentList<E> result = this;
+    for (E element : elements) {
+      result = result.append(element);
+    }
+    return result;
+  }
+
+  private @Nullable Object[] pushTail(int level, @Nullable Object[] parent, Object[] tailNode) {
+    int slot = ((size - 1) >>> level) & MASK;
+    @Nullable Object[] result = parent.clone();
+    if (level == BITS) {
+      result[slot] = tailNode;
+    } else {
+      @Nullable Object[] child = (@Nullable Object[]) parent[slot];
+      result[slot] =
+          (child == null)
+              ? newPath(level - BITS, tailNode)
+              : pushTail(level - BITS, child, tailNode);
+    }
+    return result;
+  }
+
+  private static @Nullable Object[] newPath(int level, @Nullable Object[] node) {
+    if (level == 0) {
+      return node;
+    }
+    @Nullable Object[] result = new @Nullable Object[WIDTH];
+    result[0] = newPath(level - BITS, node);
+    return result;
+  }
+
+  /**
+   * Returns a list consisting of all but the last element of this list. This list is unaffected.
+   *
+   * @throws NoSuchElementException if this list is empty
+   */
+  public PersistentList<E> withoutLast() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    } else if (size == 1) {
+      return of();
+    } else if (size - tailOffset(size) > 1) {
+      return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+    }
+    // The tail becomes empty, so the last leaf of the tree becomes the new tail.
+    @SuppressWarnings("nullness") // leaves in the tree are full of non-null elements
+    Object[] newTail = arrayFor(size - 2);
+    @Nullable Object[] newRoot = popTail(shift, root);
+    int newShift = shift;
+    if (newRoot == null) {
+      newRoot = EMPTY_NODE;
+    }
+    if (shift > BITS && newRoot[1] == null) {
+      newRoot = (@Nullable Object[]) newRoot[0];
+      newShift -= BITS;
+    }
+    return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+  }
+
+  private @Nullable Object @Nullable [] popTail(int level, @Nullable Object[] node) {
+    int slot = ((size - 2) >>> level) & MASK;
+    if (level > BITS) {
+      @Nullable Object[] newChild = popTail(level - BITS, (@Nullable Object[]) node[slot]);
+      if (newChild == null && slot == 0) {
+        return null;
+      }
+      @Nullable Object[] result = node.clone();
+      result[slot] = newChild;
+      return result;
+    } else if (slot == 0) {
+      return null;
+    } else {
+      @Nullable Object[] result = node.clone();
+      result[slot] = null;
+      return result;
+    }
+  }
+
+  @Override
+  public UnmodifiableIterator<E> iterator() {
+    return new UnmodifiableIterator<E>() {
+      int index = 0;
+      @Nullable Object[] leaf = EMPTY_TAIL;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked") // we only put E instances into the leaves
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int offset = index & MASK;
+        if (offset == 0) {
+          leaf = arrayFor(index);
+        }
+        index++;
+        return (E) leaf[offset];
+      }
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // we only put E instances into the leaves
+  public void forEach(Consumer<? super E> consumer) {
+    checkNotNull(consumer);
+    for (int start = 0; start < size; start += WIDTH) {
+      @Nullable Object[] leaf = arrayFor(start);
+      int end = min(WIDTH, size - start);
+      for (int i = 0; i < end; i++) {
+        consumer.accept((E) leaf[i]);
+      }
+    }
+  }
+
+  @Override
+  int copyIntoArray(@Nullable Object[] dst, int offset) {
+    for (int start = 0; start < size; start += WIDTH) {
+      System.arraycopy(arrayFor(start), 0, dst, offset + start, min(WIDTH, size - start));
+    }
+    return offset + size;
+  }
+
+  @Override
+  boolean isPartialView() {
+    return false;
+  }
+
+  /** Serializes {@code PersistentList} instances as their elements, like other immutable lists. */
+  @J2ktIncompatible // serialization
+  private static final class SerializedForm implements Serializable {
+    final Object[] elements;
+
+    SerializedForm(Object[] elements) {
+      this.elements = elements;
+    }
+
+    Object readResolve() {
+      return construct(elements);
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  @J2ktIncompatible // serialization
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("Use SerializedForm");
+  }
+
+  @Override
+  @J2ktIncompatible // serialization
+  Object writeReplace() {
+    return new SerializedForm(toArray());
+  }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkEntryNotNull;
+import static com.google.common.collect.ImmutableMap.conflictException;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.DoNotCall;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable hash-based map whose "modifying" operations, {@link #with} and {@link #without},
+ * return a new map that shares most of its structure with the original. Both maps remain valid and
+ * immutable.
+ *
+ * <p>The entries are stored in a hash array mapped trie: each level of the trie is indexed by five
+ * bits of the (smeared) hash code of the key, and each node stores only the slots that are in use.
+ * {@link #get}, {@link #with} and {@link #without} run in O(log<sub>32</sub> n) time, which is
+ * effectively constant, and allocate only the O(log<sub>32</sub> n) nodes on the path to the
+ * affected entry. By contrast, producing a modified copy of an {@link ImmutableMap} with {@code
+ * ImmutableMap.builder().putAll(old).put(key, value).buildKeepingLast()} takes O(n) time and
+ * memory.
+ *
+ * <p>Unlike {@link ImmutableMap}, a {@code PersistentMap} does not preserve insertion order: its
+ * iteration order is determined by the hash codes of its keys. Use {@link ImmutableMap#copyOf(Map)}
+ * to get an {@code ImmutableMap} snapshot of a {@code PersistentMap}.
+ *
+ * <p>Like other immutable collections, a {@code PersistentMap} does not permit null keys or values.
+ * All views are unmodifiable.
+ *
+ * @since NEXT
+ */
+@GwtIncompatible // ImmutableMap is emulated differently in GWT, without conflictException
+public final class PersistentMap<K, V> extends AbstractMap<K, V> implements Serializable {
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+
+  /*
+   * Bitmap nodes at shifts 0, 5, ..., 30 consume all 32 bits of the hash code, so the deepest path
+   * is 7 bitmap nodes followed by a collision node.
+   */
+  private static final int MAX_DEPTH = 8;
+
+  private static final PersistentMap<Object, Object> EMPTY =
+      new PersistentMap<>(BitmapNode.EMPTY, 0);
+
+  /** Returns the empty persistent map. */
+  @SuppressWarnings("unchecked") // it has no entries, so the type variables don't matter
+  public static <K, V> PersistentMap<K, V> of() {
+    return (PersistentMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns a persistent map containing a single entry.
+   *
+   * @throws NullPointerException if {@code key} or {@code value} is null
+   */
+  public static <K, V> PersistentMap<K, V> of(K key, V value) {
+    return PersistentMap.<K, V>of().with(key, value);
+  }
+
+  /**
+   * Returns a persistent map containing the same entries as {@code map}. If {@code map} is itself a
+   * {@code PersistentMap}, it is returned without copying.
+   *
+   * @throws NullPointerException if any key or value in {@code map} is null
+   */
+  public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentMap) {
+      @SuppressWarnings("unchecked") // safe because the map is immutable
+      PersistentMap<K, V> persistentMap = (PersistentMap<K, V>) map;
+      return persistentMap;
+    }
+    return PersistentMap.<K, V>of().withAll(map);
+  }
+
+  /**
+   * Returns a {@link Collector} that accumulates elements into a {@code PersistentMap} whose keys
+   * and values are the result of applying the provided mapping functions to the input elements.
+   *
+   * <p>If the mapped keys contain duplicates (according to {@link Object#equals(Object)}), an
+   * {@code IllegalArgumentException} is thrown when the collection operation is performed.
+   */
+  public static <T extends @Nullable Object, K, V>
+      Collector<T, ?, PersistentMap<K, V>> toPersistentMap(
+          Function<? super T, ? extends K> keyFunction,
+          Function<? super T, ? extends V> valueFunction) {
+    checkNotNull(keyFunction);
+    checkNotNull(valueFunction);
+    return Collector.of(
+        Accumulator<K, V>::new,
+        (accumulator, input) ->
+            accumulator.put(keyFunction.apply(input), valueFunction.apply(input)),
+        Accumulator::combine,
+        accumulator -> accumulator.map,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  private static final class Accumulator<K, V> {
+    PersistentMap<K, V> map = of();
+
+    void put(K key, V value) {
+      checkEntryNotNull(key, value);
+      V existing = map.get(key);
+      if (existing != null) {
+        throw conflictException("key", key + "=" + existing, key + "=" + value);
+      }
+      map = map.with(key, value);
+    }
+
+    Accumulator<K, V> combine(Accumulator<K, V> other) {
+      Accumulator<K, V> larger = (map.size() >= other.map.size()) ? this : other;
+      Accumulator<K, V> smaller = (larger == this) ? other : this;
+      smaller.map.forEach(larger::put);
+      return larger;
+    }
+  }
+
+  private final transient Node root;
+  private final transient int size;
+
+  private PersistentMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    if (key == null) {
+      return null;
+    }
+    @SuppressWarnings("unchecked") // we only put V instances into the trie
+    V value = (V) root.get(Hashing.smear(key.hashCode()), 0, key);
+    return value;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Returns a map that is equal to this one except that {@code key} is mapped to {@code value}.
+   * This map is unaffected. If this map already maps {@code key} to this very {@code value}
+   * instance, this map itself is returned.
+   *
+   * @throws NullPointerException if {@code key} or {@code value} is null
+   */
+  public PersistentMap<K, V> with(K key, V value) {
+    checkEntryNotNull(key, value);
+    SizeChange change = new SizeChange();
+    Node newRoot = root.with(Hashing.smear(key.hashCode()), 0, key, value, change);
+    return (newRoot == root) ? this : new PersistentMap<>(newRoot, size + change.delta);
+  }
+
+  /**
+   * Returns a map that contains the entries of this map and of {@code map}. If both contain the
+   * same key, the value from {@code map} wins. This map is unaffected.
+   *
+   * @throws NullPointerException if any key or value in {@code map} is null
+   */
+  public PersistentMap<K, V> withAll(Map<? extends K, ? extends V> map) {
+    SizeChange change = new SizeChange();
+    Node newRoot = root;
+    for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      K key = entry.getKey();
+      V value = entry.getValue();
+      checkEntryNotNull(key, value);
+      newRoot = newRoot.with(Hashing.smear(key.hashCode()), 0, key, value, change);
+    }
+    return (newRoot == root) ? this : new PersistentMap<>(newRoot, size + change.delta);
+  }
+
+  /**
+   * Returns a map that is equal to this one except that it contains no mapping for {@code key}.
+   * This map is unaffected. If this map contains no mapping for {@code key}, this map itself is
+   * returned.
+   */
+  public PersistentMap<K, V> without(@Nullable Object key) {
+    if (key == null) {
+      return this;
+    }
+    SizeChange change = new SizeChange();
+    Node newRoot = root.without(Hashing.smear(key.hashCode()), 0, key, change);
+    if (newRoot == root) {
+      return this;
+    }
+    return (newRoot == null) ? of() : new PersistentMap<>(newRoot, size + change.delta);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    checkNotNull(action);
+    root.forEach(action);
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<Entry<K, V>>() {
+      @Override
+      public UnmodifiableIterator<Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(@Nullable Object o) {
+        if (o instanceof Entry) {
+          Entry<?, ?> entry = (Entry<?, ?>) o;
+          V value = get(entry.getKey());
+          return value != null && value.equals(entry.getValue());
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the map unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation. Use {@link #with} instead.
+   */
+  @CanIgnoreReturnValue
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final @Nullable V put(K key, V value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the map unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation. Use {@link #withAll} instead.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final void putAll(Map<? extends K, ? extends V> map) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the map unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation. Use {@link #without} instead.
+   */
+  @CanIgnoreReturnValue
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final @Nullable V remove(@Nullable Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Guaranteed to throw an exception and leave the map unmodified.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Unsupported operation.
+   */
+  @Deprecated
+  @Override
+  @DoNotCall("Always throws UnsupportedOperationException")
+  public final void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Serializes {@code PersistentMap} instances as their keys and values, like immutable maps. */
+  @J2ktIncompatible // serialization
+  private static final class SerializedForm implements Serializable {
+    final Object[] keys;
+    final Object[] values;
+
+    SerializedForm(PersistentMap<?, ?> map) {
+      keys = new Object[map.size()];
+      values = new Object[map.size()];
+      int i = 0;
+      for (Entry<?, ?> entry : map.entrySet()) {
+        keys[i] = entry.getKey();
+        values[i] = entry.getValue();
+        i++;
+      }
+    }
+
+    Object readResolve() {
+      PersistentMap<Object, Object> map = of();
+      for (int i = 0; i < keys.length; i++) {
+        map = map.with(keys[i], values[i]);
+      }
+      return map;
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  @J2ktIncompatible // serialization
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("Use SerializedForm");
+  }
+
+  @J2ktIncompatible // serialization
+  private Object writeReplace() {
+    return new SerializedForm(this);
+  }
+
+  @J2ktIncompatible // serialization
+  private static final long serialVersionUID = 0;
+
+  /** Records how an update changed the number of entries. */
+  private static final class SizeChange {
+    int delta;
+  }
+
+  /**
+   * A node of the trie. Its {@code array} holds key-value pairs in consecutive slots. In a {@link
+   * BitmapNode}, a pair whose key slot is null instead holds a child node in its value slot.
+   */
+  private abstract static class Node {
+    final @Nullable Object[] array;
+
+    Node(@Nullable Object[] array) {
+      this.array = array;
+    }
+
+    abstract @Nullable Object get(int hash, int shift, Object key);
+
+    /** Returns this node if it already maps {@code key} to {@code value}. */
+    abstract Node with(int hash, int shift, Object key, Object value, SizeChange change);
+
+    /** Returns this node if it has no mapping for {@code key}, or null if it becomes empty. */
+    abstract @Nullable Node without(int hash, int shift, Object key, SizeChange change);
+
+    /** Returns whether this node holds exactly one entry and no children. */
+    final boolean isSingleEntry() {
+      return array.length == 2 && array[0] != null;
+    }
+
+    @SuppressWarnings("unchecked") // we only put K and V instances into the trie
+    final <K, V> void forEach(BiConsumer<? super K, ? super V> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        Object key = array[i];
+        Object valueOrNode = array[i + 1];
+        if (key == null) {
+          ((Node) valueOrNode).forEach(action);
+        } else {
+          action.accept((K) key, (V) valueOrNode);
+        }
+      }
+    }
+  }
+
+  private static final class BitmapNode extends Node {
+    static final BitmapNode EMPTY = new BitmapNode(0, new @Nullable Object[0]);
+
+    // Bit i is set if the pair for the hash bits i is present.
+    private final int bitmap;
+
+    BitmapNode(int bitmap, @Nullable Object[] array) {
+      super(array);
+      this.bitmap = bitmap;
+    }
+
+    private static int bit(int hash, int shift) {
+      return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private int index(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    @Nullable Object get(int hash, int shift, Object key) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int index = index(bit);
+      Object existingKey = array[index];
+      Object valueOrNode = array[index + 1];
+      if (existingKey == null) {
+        return ((Node) valueOrNode).get(hash, shift + BITS, key);
+      }
+      return key.equals(existingKey) ? valueOrNode : null;
+    }
+
+    @Override
+    Node with(int hash, int shift, Object key, Object value, SizeChange change) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        @Nullable Object[] newArray = new @Nullable Object[array.length + 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        newArray[index] = key;
+        newArray[index + 1] = value;
+        System.arraycopy(array, index, newArray, index + 2, array.length - index);
+        change.delta++;
+        return new BitmapNode(bitmap | bit, newArray);
+      }
+      Object existingKey = array[index];
+      Object valueOrNode = array[index + 1];
+      if (existingKey == null) {
+        Node child = (Node) valueOrNode;
+        Node newChild = child.with(hash, shift + BITS, key, value, change);
+        return (newChild == child) ? this : withPair(index, null, newChild);
+      } else if (key.equals(existingKey)) {
+        return (value == valueOrNode) ? this : withPair(index, existingKey, value);
+      } else {
+        change.delta++;
+        Node child = pair(shift + BITS, existingKey, valueOrNode, hash, key, value);
+        return withPair(index, null, child);
+      }
+    }
+
+    @Override
+    @Nullable Node without(int hash, int shift, Object key, SizeChange change) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Object existingKey = array[index];
+      Object valueOrNode = array[index + 1];
+      if (existingKey == null) {
+        Node child = (Node) valueOrNode;
+        Node newChild = child.without(hash, shift + BITS, key, change);
+        if (newChild == child) {
+          return this;
+        } else if (newChild == null) {
+          return withoutPair(bit, index);
+        } else if (newChild.isSingleEntry()) {
+          // Pull a lone remaining entry up into this node, so that the trie stays shallow.
+          return withPair(index, newChild.array[0], newChild.array[1]);
+        } else {
+          return withPair(index, null, newChild);
+        }
+      } else if (key.equals(existingKey)) {
+        change.delta--;
+        return withoutPair(bit, index);
+      } else {
+        return this;
+      }
+    }
+
+    private BitmapNode withPair(int index, @Nullable Object key, Object valueOrNode) {
+      @Nullable Object[] newArray = array.clone();
+      newArray[index] = key;
+      newArray[index + 1] = valueOrNode;
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    private @Nullable BitmapNode withoutPair(int bit, int index) {
+      if (bitmap == bit) {
+        return null;
+      }
+      @Nullable Object[] newArray = new @Nullable Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, index);
+      System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+      return new BitmapNode(bitmap ^ bit, newArray);
+    }
+
+    /** Returns a node at the given shift that holds both of the given (distinct-key) entries. */
+    private static Node pair(
+        int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+      int hash1 = Hashing.smear(key1.hashCode());
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new @Nullable Object[] {key1, value1, key2, value2});
+      }
+      SizeChange ignored = new SizeChange();
+      return EMPTY
+          .with(hash1, shift, key1, value1, ignored)
+          .with(hash2, shift, key2, value2, ignored);
+    }
+  }
+
+  /** A node for keys whose smeared hash codes are all equal. */
+  private static final class CollisionNode extends Node {
+    private final int hash;
+
+    CollisionNode(int hash, @Nullable Object[] array) {
+      super(array);
+      this.hash = hash;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    @Nullable Object get(int hash, int shift, Object key) {
+      if (hash != this.hash) {
+        return null;
+      }
+      int index = indexOf(key);
+      return (index < 0) ? null : array[index + 1];
+    }
+
+    @Override
+    Node with(int hash, int shift, Object key, Object value, SizeChange change) {
+      if (hash != this.hash) {
+        // Nest this node under a bitmap node that can tell the two hashes apart.
+        return new BitmapNode(BitmapNode.bit(this.hash, shift), new @Nullable Object[] {null, this})
+            .with(hash, shift, key, value, change);
+      }
+      int index = indexOf(key);
+      if (index >= 0) {
+        if (array[index + 1] == value) {
+          return this;
+        }
+        @Nullable Object[] newArray = array.clone();
+        newArray[index + 1] = value;
+        return new CollisionNode(hash, newArray);
+      }
+      @Nullable Object[] newArray = new @Nullable Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      change.delta++;
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    @Nullable Node without(int hash, int shift, Object key, SizeChange change) {
+      int index = (hash == this.hash) ? indexOf(key) : -1;
+      if (index < 0) {
+        return this;
+      }
+      change.delta--;
+      if (array.length == 2) {
+        return null;
+      }
+      @Nullable Object[] newArray = new @Nullable Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, index);
+      System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+      return new CollisionNode(hash, newArray);
+    }
+  }
+
+  /** Walks the trie depth-first with an explicit stack of node arrays and positions. */
+  private static final class EntryIterator<K, V> extends UnmodifiableIterator<Entry<K, V>> {
+    private final @Nullable Object[][] arrays = new @Nullable Object[MAX_DEPTH][];
+    private final int[] positions = new int[MAX_DEPTH];
+    private int depth = 0;
+
+    EntryIterator(Node root) {
+      arrays[0] = root.array;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (depth >= 0) {
+        @Nullable Object[] array = arrays[depth];
+        int position = positions[depth];
+        if (position == array.length) {
+          depth--;
+        } else if (array[position] == null) {
+          positions[depth] += 2;
+          depth++;
+          arrays[depth] = ((Node) array[position + 1]).array;
+          positions[depth] = 0;
+        } else {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // we only put K and V instances into the trie
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      @Nullable Object[] array = arrays[depth];
+      int position = positions[depth];
+      positions[depth] += 2;
+      return Maps.immutableEntry((K) array[position], (V) array[position + 1]);
+    }
+  }
+}
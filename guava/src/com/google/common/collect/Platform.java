@@ -19,6 +19,7 @@ package com.google.common.collect;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +49,15 @@ final class Platform {
     return Maps.newLinkedHashMapWithExpectedSize(expectedSize);
   }
 
+  /**
+   * Returns the platform preferred implementation of an insertion ordered map that avoids
+   * allocating an object per entry.
+   */
+  static <K extends @Nullable Object, V extends @Nullable Object>
+      Map<K, V> newCompactLinkedHashMapWithExpectedSize(int expectedSize) {
+    return CompactLinkedHashMap.createWithExpectedSize(expectedSize);
+  }
+
   /** Returns the platform preferred implementation of a set based on a hash table. */
   static <E extends @Nullable Object> Set<E> newHashSetWithExpectedSize(int expectedSize) {
     return Sets.newHashSetWithExpectedSize(expectedSize);
@@ -110,6 +120,26 @@ final class Platform {
     return Arrays.copyOfRange(source, from, to, (Class<? extends T[]>) arrayOfType.getClass());
   }
 
+  /**
+   * The smallest range that {@link #sort} hands to {@link Arrays#parallelSort}. Below this size the
+   * cost of forking tasks onto the common pool outweighs the benefit of sorting in parallel.
+   */
+  static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+  /**
+   * Sorts the range {@code [from, to)} of {@code array} according to {@code comparator}. Large
+   * ranges are sorted in parallel in the common {@link java.util.concurrent.ForkJoinPool}; the
+   * result is the same as that of {@link Arrays#sort(Object[], int, int, Comparator)}.
+   */
+  static <T extends @Nullable Object> void sort(
+      T[] array, int from, int to, Comparator<? super T> comparator) {
+    if (to - from >= PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(array, from, to, comparator);
+    } else {
+      Arrays.sort(array, from, to, comparator);
+    }
+  }
+
   /**
    * Configures the given map maker to use weak keys, if possible; does nothing otherwise (i.e., in
    * GWT). This is sometimes acceptable, when only server-side code could generate enough volume
@@ -29,6 +29,7 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Spliterator;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -164,6 +165,18 @@ final class RegularContiguousSet<C extends Comparable> extends ContiguousSet<C>
     }
   }
 
+  @Override
+  @GwtIncompatible // Spliterator
+  public Spliterator<C> spliterator() {
+    int size = size();
+    if (domain.supportsFastOffset && size < Integer.MAX_VALUE) {
+      C first = first();
+      return CollectSpliterators.indexed(
+          size, SPLITERATOR_CHARACTERISTICS, i -> domain.offset(first, i), comparator());
+    }
+    return super.spliterator();
+  }
+
   @Override
   public int size() {
     long distance = domain.distance(first(), last());
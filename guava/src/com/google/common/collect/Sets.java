@@ -63,6 +63,7 @@ import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.Spliterator;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -891,6 +892,27 @@ public final class Sets {
         return stream().parallel();
       }
 
+      @Override
+      @GwtIncompatible // Spliterator
+      @SuppressWarnings("unchecked") // safe covariant casts: the spliterators only produce Es
+      public Spliterator<E> spliterator() {
+        Spliterator<E> inSet1 = (Spliterator<E>) set1.spliterator();
+        Spliterator<E> onlyInSet2 =
+            CollectSpliterators.filter(
+                (Spliterator<E>) set2.spliterator(), e -> !set1.contains(e));
+        // The parts are disjoint, but the second one's size is unknown until it is filtered.
+        int characteristics =
+            Spliterator.DISTINCT
+                | (inSet1.characteristics()
+                    & onlyInSet2.characteristics()
+                    & (Spliterator.ORDERED | Spliterator.NONNULL));
+        return CollectSpliterators.flatMap(
+            ImmutableList.of(inSet1, onlyInSet2).spliterator(),
+            spliterator -> spliterator,
+            characteristics,
+            (long) set1.size() + set2.size());
+      }
+
       @Override
       public boolean contains(@Nullable Object object) {
         return set1.contains(object) || set2.contains(object);
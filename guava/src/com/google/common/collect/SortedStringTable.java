@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.Utf8;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Reads and writes sorted string tables: a compact, read-only file format for maps from {@code
+ * String} keys to {@code byte[]} values that can be memory-mapped and used in place.
+ *
+ * <p>A table is written once with a {@link Builder} and then {@linkplain #open(Path) opened} as an
+ * {@link ImmutableSortedMap} view of the mapped file. Opening reads only a fixed-size header, so a
+ * table of tens of millions of entries is usable immediately, occupies almost no heap, and shares
+ * the operating system's page cache with every other process that maps the same file. Lookups
+ * binary-search the mapped region directly, and all of {@code ImmutableSortedMap}'s navigation
+ * methods and views work as usual.
+ *
+ * <p>Keys are stored in UTF-8, each sharing a prefix with the first key of its block of 16
+ * consecutive entries, and are ordered by {@link String#compareTo}. Each call that returns a value
+ * (such as {@link Map#get} or iterating over {@link Map#values}) copies it out of the table into a
+ * new array. Consequently, values compare by identity as arrays always do, and
+ * the view's {@code equals} and {@code hashCode} are only meaningful for its keys.
+ *
+ * <p>A table may be at most 2GB, the largest region a {@link ByteBuffer} can address.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class SortedStringTable {
+  /*
+   * Format, with all ints big-endian:
+   *
+   *   int magic, int version, int size, int blockSize
+   *   int[size] entry offsets, relative to the end of this array
+   *   entries, each:
+   *     varint sharedLength: bytes shared with the first key of the entry's block (0 for that key)
+   *     varint suffixLength
+   *     varint valueLength
+   *     byte[suffixLength] key suffix
+   *     byte[valueLength] value
+   *
+   * Sharing a prefix with the block's first key rather than with the previous key compresses
+   * slightly less, but lets any key be decoded without scanning its block.
+   */
+  private static final int MAGIC = 0x53535442; // "SSTB"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int BLOCK_SIZE = 16;
+  private static final int MAX_TABLE_SIZE = Integer.MAX_VALUE;
+
+  private SortedStringTable() {}
+
+  /**
+   * Memory-maps the table in the given file and returns a view of it. The file must not change
+   * while the view is in use. The mapping stays valid until the view is garbage collected, even
+   * though the file is closed before this method returns.
+   *
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the file is not a sorted string table or is larger than 2GB
+   */
+  public static ImmutableSortedMap<String, byte[]> open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      checkArgument(size <= Integer.MAX_VALUE, "table too large: %s bytes", size);
+      return open(channel.map(MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  /**
+   * Returns a view of the table starting at {@code buffer}'s position and ending at its limit. The
+   * contents of the buffer must not change while the view is in use. The buffer's position and
+   * limit are not modified.
+   *
+   * <p>Only the header is validated here. If the rest of the table is damaged, methods of the
+   * returned view throw {@code IllegalArgumentException} when they reach the damaged entries.
+   *
+   * @throws IllegalArgumentException if the buffer does not contain a sorted string table
+   */
+  public static ImmutableSortedMap<String, byte[]> open(ByteBuffer buffer) {
+    Table table = new Table(buffer.slice());
+    if (table.size == 0) {
+      return ImmutableSortedMap.of();
+    }
+    return new ImmutableSortedMap<>(
+        new RegularImmutableSortedSet<>(new KeyList(table), Ordering.natural()),
+        new ValueList(table));
+  }
+
+  /** Returns a new builder for a sorted string table. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A builder for writing sorted string tables. Entries may be added in any order. Example:
+   *
+   * {@snippet :
+   * try (OutputStream out = Files.newOutputStream(path)) {
+   *   SortedStringTable.builder()
+   *       .put("one", new byte[] {1})
+   *       .put("two", new byte[] {2})
+   *       .writeTo(out);
+   * }
+   * }
+   *
+   * <p>The builder keeps references to the value arrays it is given, so they must not be modified
+   * until the table is written.
+   */
+  public static final class Builder {
+    private final ImmutableSortedMap.Builder<String, byte[]> entries =
+        ImmutableSortedMap.naturalOrder();
+
+    Builder() {}
+
+    /**
+     * Adds an entry to the table.
+     *
+     * @throws IllegalArgumentException if {@code key} contains an unpaired surrogate, which UTF-8
+     *     cannot represent, or if the entry alone would make the table larger than 2GB
+     */
+    @CanIgnoreReturnValue
+    public Builder put(String key, byte[] value) {
+      long entryLength = (long) Utf8.encodedLength(key) + value.length;
+      checkArgument(
+          entryLength <= MAX_TABLE_SIZE - HEADER_SIZE - 4,
+          "entry too large for a sorted string table: %s bytes",
+          entryLength);
+      entries.put(key, value);
+      return this;
+    }
+
+    /**
+     * Adds all entries of {@code map} to the table.
+     *
+     * @throws IllegalArgumentException if any key contains an unpaired surrogate
+     */
+    @CanIgnoreReturnValue
+    public Builder putAll(Map<String, byte[]> map) {
+      for (Entry<String, byte[]> entry : map.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+      return this;
+    }
+
+    /**
+     * Writes the table to {@code out}, which is flushed but not closed.
+     *
+     * @throws IllegalArgumentException if duplicate keys were added
+     * @throws IllegalStateException if the table would be larger than 2GB
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+      ImmutableSortedMap<String, byte[]> map = entries.buildOrThrow();
+      int size = map.size();
+      ImmutableList<byte[]> values = map.values().asList();
+      byte[][] keys = new byte[size][];
+      int[] sharedLengths = new int[size];
+      int[] offsets = new int[size];
+      long offset = 0;
+      int i = 0;
+      for (String key : map.keySet()) {
+        byte[] bytes = key.getBytes(UTF_8);
+        keys[i] = bytes;
+        if (i % BLOCK_SIZE != 0) {
+          sharedLengths[i] = commonPrefixLength(keys[i - i % BLOCK_SIZE], bytes);
+        }
+        int suffixLength = bytes.length - sharedLengths[i];
+        int valueLength = values.get(i).length;
+        offsets[i] = (int) offset;
+        offset +=
+            varIntSize(sharedLengths[i])
+                + varIntSize(suffixLength)
+                + varIntSize(valueLength)
+                + suffixLength
+                + valueLength;
+        checkState(
+            HEADER_SIZE + 4L * size + offset <= MAX_TABLE_SIZE, "table would exceed 2GB");
+        i++;
+      }
+
+      DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+      data.writeInt(MAGIC);
+      data.writeInt(VERSION);
+      data.writeInt(size);
+      data.writeInt(BLOCK_SIZE);
+      for (int entryOffset : offsets) {
+        data.writeInt(entryOffset);
+      }
+      for (i = 0; i < size; i++) {
+        byte[] key = keys[i];
+        byte[] value = values.get(i);
+        writeVarInt(data, sharedLengths[i]);
+        writeVarInt(data, key.length - sharedLengths[i]);
+        writeVarInt(data, value.length);
+        data.write(key, sharedLengths[i], key.length - sharedLengths[i]);
+        data.write(value);
+      }
+      data.flush();
+    }
+
+    private static int commonPrefixLength(byte[] a, byte[] b) {
+      int length = Math.min(a.length, b.length);
+      for (int i = 0; i < length; i++) {
+        if (a[i] != b[i]) {
+          return i;
+        }
+      }
+      return length;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+      while ((value & ~0x7F) != 0) {
+        out.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte(value);
+    }
+  }
+
+  private static int varIntSize(int value) {
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  /**
+   * Decodes the entries of a table. Only absolute reads are used, so it is thread-safe. Offsets and
+   * lengths read from the buffer are checked against its limit, so that a damaged table fails with
+   * an {@code IllegalArgumentException} rather than reading out of bounds.
+   */
+  private static final class Table {
+    final ByteBuffer buffer;
+    final int size;
+    final int blockSize;
+    final int dataStart;
+
+    Table(ByteBuffer buffer) {
+      checkArgument(
+          buffer.remaining() >= HEADER_SIZE && buffer.getInt(0) == MAGIC,
+          "not a sorted string table");
+      checkArgument(buffer.getInt(4) == VERSION, "unsupported version: %s", buffer.getInt(4));
+      this.buffer = buffer;
+      this.size = buffer.getInt(8);
+      this.blockSize = buffer.getInt(12);
+      checkArgument(size >= 0 && blockSize > 0, "corrupt sorted string table");
+      checkArgument(
+          HEADER_SIZE + 4L * size <= buffer.remaining(), "truncated sorted string table");
+      this.dataStart = HEADER_SIZE + 4 * size;
+    }
+
+    private int entryPosition(int index) {
+      int offset = buffer.getInt(HEADER_SIZE + 4 * index);
+      checkCorrupt(offset >= 0 && offset < buffer.limit() - dataStart);
+      return dataStart + offset;
+    }
+
+    private int readVarInt(int position) {
+      int result = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        checkCorrupt(position < buffer.limit());
+        byte b = buffer.get(position++);
+        result |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          checkCorrupt(result >= 0);
+          return result;
+        }
+      }
+      throw corrupt();
+    }
+
+    private void read(int position, byte[] dst, int dstOffset, int length) {
+      checkCorrupt(position <= buffer.limit() && length <= buffer.limit() - position);
+      for (int i = 0; i < length; i++) {
+        dst[dstOffset + i] = buffer.get(position + i);
+      }
+    }
+
+    private static void checkCorrupt(boolean expression) {
+      if (!expression) {
+        throw corrupt();
+      }
+    }
+
+    private static IllegalArgumentException corrupt() {
+      return new IllegalArgumentException("corrupt sorted string table");
+    }
+
+    String key(int index) {
+      int position = entryPosition(index);
+      int sharedLength = readVarInt(position);
+      position += varIntSize(sharedLength);
+      int suffixLength = readVarInt(position);
+      position += varIntSize(suffixLength);
+      position += varIntSize(readVarInt(position));
+
+      // Check the lengths before allocating, so a damaged length can't ask for a huge array.
+      checkCorrupt(
+          suffixLength <= buffer.limit() - position
+              && sharedLength <= buffer.limit() - suffixLength);
+      byte[] bytes = new byte[sharedLength + suffixLength];
+      if (sharedLength > 0) {
+        int first = entryPosition(index - index % blockSize);
+        // The first key of a block shares nothing, so its lengths are one byte (0) and a varint.
+        checkCorrupt(readVarInt(first) == 0);
+        first++;
+        int firstLength = readVarInt(first);
+        checkCorrupt(sharedLength <= firstLength);
+        first += varIntSize(firstLength);
+        first += varIntSize(readVarInt(first));
+        read(first, bytes, 0, sharedLength);
+      }
+      read(position, bytes, sharedLength, suffixLength);
+      return new String(bytes, UTF_8);
+    }
+
+    byte[] value(int index) {
+      int position = entryPosition(index);
+      int sharedLength = readVarInt(position);
+      position += varIntSize(sharedLength);
+      int suffixLength = readVarInt(position);
+      position += varIntSize(suffixLength);
+      int valueLength = readVarInt(position);
+      position += varIntSize(valueLength);
+      checkCorrupt(
+          suffixLength <= buffer.limit() - position
+              && valueLength <= buffer.limit() - position - suffixLength);
+      position += suffixLength;
+      byte[] value = new byte[valueLength];
+      read(position, value, 0, valueLength);
+      return value;
+    }
+  }
+
+  private static final class KeyList extends ImmutableList<String> {
+    private final Table table;
+
+    KeyList(Table table) {
+      this.table = table;
+    }
+
+    @Override
+    public int size() {
+      return table.size;
+    }
+
+    @Override
+    public String get(int index) {
+      checkElementIndex(index, table.size);
+      return table.key(index);
+    }
+
+    @Override
+    boolean isPartialView() {
+      return false;
+    }
+
+    // redeclare to help optimizers with b/310253115
+    @SuppressWarnings("RedundantOverride")
+    @Override
+    Object writeReplace() {
+      return super.writeReplace();
+    }
+  }
+
+  private static final class ValueList extends ImmutableList<byte[]> {
+    private final Table table;
+
+    ValueList(Table table) {
+      this.table = table;
+    }
+
+    @Override
+    public int size() {
+      return table.size;
+    }
+
+    @Override
+    public byte[] get(int index) {
+      checkElementIndex(index, table.size);
+      return table.value(index);
+    }
+
+    @Override
+    boolean isPartialView() {
+      return false;
+    }
+
+    // redeclare to help optimizers with b/310253115
+    @SuppressWarnings("RedundantOverride")
+    @Override
+    Object writeReplace() {
+      return super.writeReplace();
+    }
+  }
+}
@@ -983,5 +983,78 @@ public final class Streams {
     return boxedLast.map(OptionalDouble::of).orElse(OptionalDouble.empty());
   }
 
+  /**
+   * Returns the {@code k} least values of the specified stream, in ascending order, or all of its
+   * values if it has fewer than {@code k}. This is a terminal operation.
+   *
+   * <p>Equivalent to {@code stream.sorted().limit(k).toArray()}, but uses O(k) memory and takes
+   * expected time O(n) (worst-case O(n log k)), without boxing. A parallel stream selects from each
+   * of its parts independently and then merges the partial results in O(k) time each.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   * @since NEXT
+   */
+  public static long[] leastOf(LongStream stream, int k) {
+    return stream
+        .collect(() -> LongTopKSelector.least(k), LongTopKSelector::offer, LongTopKSelector::combine)
+        .topK();
+  }
+
+  /**
+   * Returns the {@code k} greatest values of the specified stream, in descending order, or all of
+   * its values if it has fewer than {@code k}. This is a terminal operation.
+   *
+   * <p>Behaves like {@link #leastOf(LongStream, int)} in the reverse order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   * @since NEXT
+   */
+  public static long[] greatestOf(LongStream stream, int k) {
+    return stream
+        .collect(
+            () -> LongTopKSelector.greatest(k), LongTopKSelector::offer, LongTopKSelector::combine)
+        .topK();
+  }
+
+  /**
+   * Returns the {@code k} least values of the specified stream, in ascending order as defined by
+   * {@link Double#compare}, or all of its values if it has fewer than {@code k}. This is a terminal
+   * operation.
+   *
+   * <p>Equivalent to {@code stream.sorted().limit(k).toArray()}, but uses O(k) memory and takes
+   * expected time O(n) (worst-case O(n log k)), without boxing. A parallel stream selects from each
+   * of its parts independently and then merges the partial results in O(k) time each.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   * @since NEXT
+   */
+  public static double[] leastOf(DoubleStream stream, int k) {
+    return sortableLongsToDoubles(
+        leastOf(stream.mapToLong(LongTopKSelector::doubleToSortableLong), k));
+  }
+
+  /**
+   * Returns the {@code k} greatest values of the specified stream, in descending order as defined
+   * by {@link Double#compare}, or all of its values if it has fewer than {@code k}. This is a
+   * terminal operation.
+   *
+   * <p>Behaves like {@link #leastOf(DoubleStream, int)} in the reverse order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code k > Integer.MAX_VALUE / 2}
+   * @since NEXT
+   */
+  public static double[] greatestOf(DoubleStream stream, int k) {
+    return sortableLongsToDoubles(
+        greatestOf(stream.mapToLong(LongTopKSelector::doubleToSortableLong), k));
+  }
+
+  private static double[] sortableLongsToDoubles(long[] keys) {
+    double[] values = new double[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      values[i] = LongTopKSelector.sortableLongToDouble(keys[i]);
+    }
+    return values;
+  }
+
   private Streams() {}
 }
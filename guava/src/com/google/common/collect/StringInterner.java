@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.Interners.StatsCounter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded strong {@link Interner} for strings, which can also intern character data that is not
+ * yet a {@code String}. When the value is already interned, the {@code intern} methods that accept
+ * a {@link CharSequence}, a {@code char[]} slice or a {@code byte[]} slice return the canonical
+ * string without allocating a new one. This suits parsers that would otherwise create a short-lived
+ * string for every token.
+ *
+ * <p>Instances are built by {@link Interners.InternerBuilder#buildStringInterner}. Like every
+ * interner with a {@linkplain Interners.InternerBuilder#maximumSize maximum size}, a {@code
+ * StringInterner} may evict canonical instances. Equal samples interned at different times may
+ * therefore produce different instances.
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class StringInterner implements Interner<String> {
+  // The table of canonical strings. The methods below look strings up in it themselves, so that
+  // they can compare character data that is not yet a String.
+  private final BoundedInterner<String> table;
+
+  StringInterner(int maximumSize, @Nullable StatsCounter stats) {
+    this.table = new BoundedInterner<>(maximumSize, stats);
+  }
+
+  @Override
+  public String intern(String sample) {
+    return table.intern(sample);
+  }
+
+  /** Returns statistics, or null if this interner was not built to record them. */
+  @Nullable InternerStats stats() {
+    return table.stats();
+  }
+
+  /**
+   * Returns the canonical string equal to {@code chars}. If there is none, {@code chars.toString()}
+   * becomes the canonical string.
+   */
+  public String intern(CharSequence chars) {
+    checkNotNull(chars);
+    if (chars instanceof String) {
+      return intern((String) chars);
+    }
+    int length = chars.length();
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + chars.charAt(i);
+    }
+    int start = table.bucketStart(hash);
+    for (int slot = start; slot < start + table.ways(); slot++) {
+      Object candidate = table.slotAt(slot);
+      if (candidate == null) {
+        break;
+      }
+      String string = (String) candidate;
+      if (string.hashCode() == hash && string.contentEquals(chars)) {
+        return table.hit(slot, string);
+      }
+    }
+    return table.insert(hash, chars.toString());
+  }
+
+  /**
+   * Returns the canonical string whose characters are {@code chars[offset]} through {@code
+   * chars[offset + length - 1]}. If there is none, a new string with those characters becomes the
+   * canonical string.
+   *
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not describe a range
+   *     within {@code chars}
+   */
+  public String intern(char[] chars, int offset, int length) {
+    checkNotNull(chars);
+    checkPositionIndexes(offset, offset + length, chars.length);
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    int start = table.bucketStart(hash);
+    for (int slot = start; slot < start + table.ways(); slot++) {
+      Object candidate = table.slotAt(slot);
+      if (candidate == null) {
+        break;
+      }
+      String string = (String) candidate;
+      if (string.hashCode() == hash && contentEquals(string, chars, offset, length)) {
+        return table.hit(slot, string);
+      }
+    }
+    return table.insert(hash, new String(chars, offset, length));
+  }
+
+  /**
+   * Returns the canonical string for the UTF-8 encoded bytes {@code bytes[offset]} through {@code
+   * bytes[offset + length - 1]}. If there is none, the decoded string becomes the canonical string.
+   *
+   * <p>Only ASCII input is looked up without allocating. Other input is decoded to a string first,
+   * and that string is interned.
+   *
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not describe a range
+   *     within {@code bytes}
+   */
+  public String intern(byte[] bytes, int offset, int length) {
+    checkNotNull(bytes);
+    checkPositionIndexes(offset, offset + length, bytes.length);
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      byte b = bytes[i];
+      if (b < 0) {
+        return intern(new String(bytes, offset, length, UTF_8));
+      }
+      hash = 31 * hash + b;
+    }
+    int start = table.bucketStart(hash);
+    for (int slot = start; slot < start + table.ways(); slot++) {
+      Object candidate = table.slotAt(slot);
+      if (candidate == null) {
+        break;
+      }
+      String string = (String) candidate;
+      if (string.hashCode() == hash && asciiEquals(string, bytes, offset, length)) {
+        return table.hit(slot, string);
+      }
+    }
+    return table.insert(hash, new String(bytes, offset, length, UTF_8));
+  }
+
+  private static boolean contentEquals(String string, char[] chars, int offset, int length) {
+    if (string.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean asciiEquals(String string, byte[] bytes, int offset, int length) {
+    if (string.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -159,12 +159,12 @@ final class TopKSelector<
   }
 
   /**
-   * Quickselects the top k elements from the 2k elements in the buffer. O(k) expected time, O(k log
-   * k) worst case.
+   * Quickselects the top k elements from the more than k elements in the buffer. O(k) expected
+   * time, O(k log k) worst case.
    */
   private void trim() {
     int left = 0;
-    int right = 2 * k - 1;
+    int right = bufferSize - 1;
 
     int minThresholdPosition = 0;
     // The leftmost position at which the greatest of the k lower elements
@@ -235,12 +235,20 @@ final class TopKSelector<
   }
 
   /*
-   * While the current implementation returns `this`, that's not something we mean to guarantee.
-   * Anyway, the purpose of this method is to implement a BinaryOperator combiner for a Collector,
-   * so its return value will get used naturally.
+   * This returns whichever of `this` and `other` held more candidates, after merging the other's
+   * candidates into it. The purpose of this method is to implement a BinaryOperator combiner for a
+   * Collector, so its return value will get used naturally.
    */
   @SuppressWarnings("CanIgnoreReturnValueSuggester")
   TopKSelector<T> combine(TopKSelector<T> other) {
+    // Offer the smaller selector's candidates, trimmed to at most k, to the larger one, whose
+    // threshold rejects most of them with a single comparison.
+    if (other.bufferSize > bufferSize) {
+      return other.combine(this);
+    }
+    if (other.bufferSize > k) {
+      other.trim();
+    }
     for (int i = 0; i < other.bufferSize; i++) {
       this.offer(uncheckedCastNullableTToT(other.buffer[i]));
     }
@@ -0,0 +1,397 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link IntervalMultimap} backed by an augmented interval tree: a balanced binary search tree
+ * of entries, ordered by range, in which every node also records the greatest upper bound of the
+ * ranges below it. Queries skip every subtree whose ranges all end before the queried key or
+ * range. Since the tree is balanced, {@link #getAll} and {@link #getOverlapping} take <i>O(log n +
+ * k log(n/k))</i> time for <i>k</i> results, which is never more than <i>O(n)</i>, and {@link
+ * #put} and {@link #remove} take <i>O(log n)</i> time.
+ *
+ * <p>This class is not thread-safe. For a read-only interval multimap with a more compact
+ * representation, see {@link ImmutableIntervalMultimap}.
+ *
+ * @since NEXT
+ */
+@GwtIncompatible
+public final class TreeIntervalMultimap<K extends Comparable<?>, V>
+    extends AbstractIntervalMultimap<K, V> {
+
+  /** Returns a new, empty {@code TreeIntervalMultimap}. */
+  public static <K extends Comparable<?>, V> TreeIntervalMultimap<K, V> create() {
+    return new TreeIntervalMultimap<>();
+  }
+
+  /** Returns a new {@code TreeIntervalMultimap} containing the entries of {@code other}. */
+  public static <K extends Comparable<?>, V> TreeIntervalMultimap<K, V> create(
+      IntervalMultimap<K, ? extends V> other) {
+    TreeIntervalMultimap<K, V> result = create();
+    result.putAll(other);
+    return result;
+  }
+
+  private @Nullable Node<K, V> root;
+  private int size;
+  private long nextSequence;
+  private int modCount;
+
+  private TreeIntervalMultimap() {}
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public ImmutableList<V> getAll(K key) {
+    checkNotNull(key);
+    ImmutableList.Builder<V> builder = ImmutableList.builder();
+    collectValues(root, Cut.belowValue(key), Cut.aboveValue(key), builder);
+    return builder.build();
+  }
+
+  @Override
+  public ImmutableList<Entry<Range<K>, V>> getOverlapping(Range<K> range) {
+    checkNotNull(range);
+    ImmutableList.Builder<Entry<Range<K>, V>> builder = ImmutableList.builder();
+    if (!range.isEmpty()) {
+      collectEntries(root, range.lowerBound, range.upperBound, builder);
+    }
+    return builder.build();
+  }
+
+  /*
+   * A range overlaps the query [lower, upper) (expressed in cuts) iff its lower bound is below the
+   * query's upper bound and its upper bound is above the query's lower bound. The tree is ordered
+   * by lower bound, so once a node's lower bound reaches the query's upper bound, nothing to its
+   * right can overlap; and a subtree whose maxUpperBound doesn't exceed the query's lower bound
+   * can be skipped entirely.
+   */
+
+  private static <K extends Comparable<?>, V> void collectValues(
+      @Nullable Node<K, V> node, Cut<K> lower, Cut<K> upper, ImmutableList.Builder<V> builder) {
+    while (node != null && node.maxUpperBound.compareTo(lower) > 0) {
+      collectValues(node.left, lower, upper, builder);
+      if (node.range.lowerBound.compareTo(upper) >= 0) {
+        return;
+      }
+      if (node.range.upperBound.compareTo(lower) > 0) {
+        builder.add(node.value);
+      }
+      node = node.right;
+    }
+  }
+
+  private static <K extends Comparable<?>, V> void collectEntries(
+      @Nullable Node<K, V> node,
+      Cut<K> lower,
+      Cut<K> upper,
+      ImmutableList.Builder<Entry<Range<K>, V>> builder) {
+    while (node != null && node.maxUpperBound.compareTo(lower) > 0) {
+      collectEntries(node.left, lower, upper, builder);
+      if (node.range.lowerBound.compareTo(upper) >= 0) {
+        return;
+      }
+      if (node.range.upperBound.compareTo(lower) > 0) {
+        builder.add(Maps.immutableEntry(node.range, node.value));
+      }
+      node = node.right;
+    }
+  }
+
+  @Override
+  public Range<K> span() {
+    Node<K, V> first = root;
+    if (first == null) {
+      throw new NoSuchElementException();
+    }
+    while (first.left != null) {
+      first = first.left;
+    }
+    // maxUpperBound of the root is the greatest upper bound of all ranges.
+    return Range.create(first.range.lowerBound, requireNonNull(root).maxUpperBound);
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public boolean put(Range<K> range, V value) {
+    checkNotNull(range);
+    checkNotNull(value);
+    if (range.isEmpty()) {
+      return false;
+    }
+    root = insert(root, new Node<>(range, value, nextSequence++));
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public boolean remove(Range<K> range, @Nullable Object value) {
+    checkNotNull(range);
+    if (value == null) {
+      return false;
+    }
+    Node<K, V> target = find(root, range, value);
+    if (target == null) {
+      return false;
+    }
+    root = delete(requireNonNull(root), target);
+    size--;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    root = null;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public Collection<Entry<Range<K>, V>> entries() {
+    return new AbstractCollection<Entry<Range<K>, V>>() {
+      @Override
+      public Iterator<Entry<Range<K>, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /** Iterates over the entries in order, using a stack of the nodes whose left side is done. */
+  private final class EntryIterator extends UnmodifiableIterator<Entry<Range<K>, V>> {
+    private final Deque<Node<K, V>> stack = new ArrayDeque<>();
+    private final int expectedModCount = modCount;
+
+    EntryIterator() {
+      pushLeft(root);
+    }
+
+    private void pushLeft(@Nullable Node<K, V> node) {
+      for (; node != null; node = node.left) {
+        stack.push(node);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      checkForComodification();
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public Entry<Range<K>, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Node<K, V> node = stack.pop();
+      pushLeft(node.right);
+      return Maps.immutableEntry(node.range, node.value);
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  // AVL tree maintenance
+
+  private static final class Node<K extends Comparable<?>, V> {
+    final Range<K> range;
+    final V value;
+
+    /** Orders nodes with equal ranges by insertion. */
+    final long sequence;
+
+    @Nullable Node<K, V> left;
+    @Nullable Node<K, V> right;
+    int height;
+
+    /** The greatest upper bound of the ranges in the subtree rooted at this node. */
+    Cut<K> maxUpperBound;
+
+    Node(Range<K> range, V value, long sequence) {
+      this.range = range;
+      this.value = value;
+      this.sequence = sequence;
+      this.height = 1;
+      this.maxUpperBound = range.upperBound;
+    }
+  }
+
+  private static <K extends Comparable<?>, V> int compare(Node<K, V> a, Node<K, V> b) {
+    int result = compareRanges(a.range, b.range);
+    return (result != 0) ? result : Long.compare(a.sequence, b.sequence);
+  }
+
+  private static <K extends Comparable<?>> int compareRanges(Range<K> a, Range<K> b) {
+    return ComparisonChain.start()
+        .compare(a.lowerBound, b.lowerBound)
+        .compare(a.upperBound, b.upperBound)
+        .result();
+  }
+
+  /** Returns the earliest-inserted node with the given range and value, or null. */
+  private static <K extends Comparable<?>, V> @Nullable Node<K, V> find(
+      @Nullable Node<K, V> node, Range<K> range, Object value) {
+    while (node != null) {
+      int cmp = compareRanges(range, node.range);
+      if (cmp < 0) {
+        node = node.left;
+      } else if (cmp > 0) {
+        node = node.right;
+      } else {
+        // Nodes with this range may be on both sides; search them in order.
+        Node<K, V> found = find(node.left, range, value);
+        if (found != null) {
+          return found;
+        } else if (node.value.equals(value)) {
+          return node;
+        }
+        node = node.right;
+      }
+    }
+    return null;
+  }
+
+  private static <K extends Comparable<?>, V> Node<K, V> insert(
+      @Nullable Node<K, V> node, Node<K, V> newNode) {
+    if (node == null) {
+      return newNode;
+    }
+    if (compare(newNode, node) < 0) {
+      node.left = insert(node.left, newNode);
+    } else {
+      node.right = insert(node.right, newNode);
+    }
+    return rebalance(node);
+  }
+
+  private static <K extends Comparable<?>, V> @Nullable Node<K, V> delete(
+      Node<K, V> node, Node<K, V> target) {
+    int cmp = compare(target, node);
+    if (cmp < 0) {
+      node.left = delete(requireNonNull(node.left), target);
+    } else if (cmp > 0) {
+      node.right = delete(requireNonNull(node.right), target);
+    } else {
+      Node<K, V> left = node.left;
+      Node<K, V> right = node.right;
+      if (left == null) {
+        return right;
+      } else if (right == null) {
+        return left;
+      }
+      Node<K, V> successor = right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      successor.right = deleteFirst(right);
+      successor.left = left;
+      node = successor;
+    }
+    return rebalance(node);
+  }
+
+  private static <K extends Comparable<?>, V> @Nullable Node<K, V> deleteFirst(Node<K, V> node) {
+    Node<K, V> left = node.left;
+    if (left == null) {
+      return node.right;
+    }
+    node.left = deleteFirst(left);
+    return rebalance(node);
+  }
+
+  private static int height(@Nullable Node<?, ?> node) {
+    return (node == null) ? 0 : node.height;
+  }
+
+  private static <K extends Comparable<?>, V> void recompute(Node<K, V> node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    Cut<K> max = node.range.upperBound;
+    if (node.left != null && node.left.maxUpperBound.compareTo(max) > 0) {
+      max = node.left.maxUpperBound;
+    }
+    if (node.right != null && node.right.maxUpperBound.compareTo(max) > 0) {
+      max = node.right.maxUpperBound;
+    }
+    node.maxUpperBound = max;
+  }
+
+  private static <K extends Comparable<?>, V> Node<K, V> rebalance(Node<K, V> node) {
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      Node<K, V> left = requireNonNull(node.left);
+      if (height(left.left) < height(left.right)) {
+        node.left = rotateLeft(left);
+      }
+      return rotateRight(node);
+    } else if (balance < -1) {
+      Node<K, V> right = requireNonNull(node.right);
+      if (height(right.right) < height(right.left)) {
+        node.right = rotateRight(right);
+      }
+      return rotateLeft(node);
+    }
+    recompute(node);
+    return node;
+  }
+
+  private static <K extends Comparable<?>, V> Node<K, V> rotateLeft(Node<K, V> node) {
+    Node<K, V> newRoot = requireNonNull(node.right);
+    node.right = newRoot.left;
+    newRoot.left = node;
+    recompute(node);
+    recompute(newRoot);
+    return newRoot;
+  }
+
+  private static <K extends Comparable<?>, V> Node<K, V> rotateRight(Node<K, V> node) {
+    Node<K, V> newRoot = requireNonNull(node.left);
+    node.left = newRoot.right;
+    newRoot.right = node;
+    recompute(node);
+    recompute(newRoot);
+    return newRoot;
+  }
+}
@@ -42,6 +42,7 @@ import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BiFunction;
 import org.jspecify.annotations.Nullable;
 
@@ -87,6 +88,14 @@ public final class TreeRangeMap<K extends Comparable, V> implements RangeMap<K,
     }
   }
 
+  /**
+   * Returns a new, empty {@link TreeRangeMap} backed by a {@link ConcurrentSkipListMap}, so that
+   * its read operations may run concurrently with (externally serialized) writes.
+   */
+  static <K extends Comparable, V> TreeRangeMap<K, V> createWithConcurrentReads() {
+    return new TreeRangeMap<>(new ConcurrentSkipListMap<Cut<K>, RangeMapEntry<K, V>>());
+  }
+
   private TreeRangeMap() {
     this.entriesByLowerBound = newTreeMap();
   }
@@ -139,8 +148,23 @@ public final class TreeRangeMap<K extends Comparable, V> implements RangeMap<K,
   public void put(Range<K> range, V value) {
     if (!range.isEmpty()) {
       checkNotNull(value);
-      remove(range);
+      /*
+       * This is remove(range) followed by a put, reordered so that every key in the range maps to
+       * either its old value or the new one at each step. That lets ConcurrentTreeRangeMap serve
+       * reads while a put is in progress.
+       */
+      split(range.upperBound);
+      Entry<Cut<K>, RangeMapEntry<K, V>> mapEntryBelow =
+          entriesByLowerBound.lowerEntry(range.lowerBound);
       entriesByLowerBound.put(range.lowerBound, new RangeMapEntry<K, V>(range, value));
+      if (mapEntryBelow != null) {
+        RangeMapEntry<K, V> rangeMapEntry = mapEntryBelow.getValue();
+        if (rangeMapEntry.getUpperBound().compareTo(range.lowerBound) > 0) {
+          putRangeMapEntry(
+              rangeMapEntry.getLowerBound(), range.lowerBound, rangeMapEntry.getValue());
+        }
+      }
+      entriesByLowerBound.subMap(range.lowerBound, false, range.upperBound, false).clear();
     }
   }
 
@@ -273,9 +297,9 @@ public final class TreeRangeMap<K extends Comparable, V> implements RangeMap<K,
     if (rangeMapEntry.getUpperBound().compareTo(cut) <= 0) {
       return;
     }
-    // we know ( | )
-    putRangeMapEntry(rangeMapEntry.getLowerBound(), cut, rangeMapEntry.getValue());
+    // we know ( | ); insert the upper half first so that no key is ever unmapped
     putRangeMapEntry(cut, rangeMapEntry.getUpperBound(), rangeMapEntry.getValue());
+    putRangeMapEntry(rangeMapEntry.getLowerBound(), cut, rangeMapEntry.getValue());
   }
 
   /**
@@ -318,17 +342,16 @@ public final class TreeRangeMap<K extends Comparable, V> implements RangeMap<K,
       }
     }
 
-    // Remap all existing entries in the merge range.
+    // Remap all existing entries in the merge range. We replace values with put() rather than
+    // Entry.setValue(), since the entries of a ConcurrentSkipListMap are immutable snapshots.
     Iterator<Entry<Cut<K>, RangeMapEntry<K, V>>> backingItr = entriesInMergeRange.iterator();
     while (backingItr.hasNext()) {
-      Entry<Cut<K>, RangeMapEntry<K, V>> entry = backingItr.next();
-      V newValue = remappingFunction.apply(entry.getValue().getValue(), value);
+      RangeMapEntry<K, V> entry = backingItr.next().getValue();
+      V newValue = remappingFunction.apply(entry.getValue(), value);
       if (newValue == null) {
         backingItr.remove();
       } else {
-        entry.setValue(
-            new RangeMapEntry<K, V>(
-                entry.getValue().getLowerBound(), entry.getValue().getUpperBound(), newValue));
+        putRangeMapEntry(entry.getLowerBound(), entry.getUpperBound(), newValue);
       }
     }
 
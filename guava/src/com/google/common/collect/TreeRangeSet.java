@@ -77,7 +77,7 @@ public class TreeRangeSet<C extends Comparable<?>> extends AbstractRangeSet<C>
     return result;
   }
 
-  private TreeRangeSet(NavigableMap<Cut<C>, Range<C>> rangesByLowerCut) {
+  TreeRangeSet(NavigableMap<Cut<C>, Range<C>> rangesByLowerCut) {
     this.rangesByLowerBound = rangesByLowerCut;
   }
 
@@ -223,10 +223,14 @@ public class TreeRangeSet<C extends Comparable<?>> extends AbstractRangeSet<C>
       }
     }
 
-    // Remove ranges which are strictly enclosed.
-    rangesByLowerBound.subMap(lbToAdd, ubToAdd).clear();
-
+    /*
+     * Install the coalesced range before removing the ranges it encloses, so that a concurrent
+     * reader of a ConcurrentTreeRangeSet never sees a value disappear while it is being re-added.
+     */
     replaceRangeWithSameLowerBound(Range.create(lbToAdd, ubToAdd));
+
+    // Remove ranges which are strictly enclosed.
+    rangesByLowerBound.subMap(lbToAdd, false, ubToAdd, false).clear();
   }
 
   @Override
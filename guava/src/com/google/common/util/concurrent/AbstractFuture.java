@@ -32,6 +32,9 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.ForOverride;
 import com.google.j2objc.annotations.ReflectionSupport;
 import com.google.j2objc.annotations.RetainedLocalRef;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -126,12 +129,17 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
     }
   }
 
-  /** Listeners form a Treiber stack through the {@link #listeners} field. */
-  static final class Listener {
+  /**
+   * Listeners form a Treiber stack through the {@link #listeners} field. A listener is first pushed
+   * as a node of its own, and {@link #addListener} then replaces each run of {@link
+   * ListenerChunk#SIZE} such nodes at the top of the stack with a {@link ListenerChunk}. {@link
+   * #clearListeners} reverses the stack so that listeners run in the order they were added.
+   */
+  static class Listener {
     static final Listener TOMBSTONE = new Listener();
-    // null only for TOMBSTONE
+    // null only for TOMBSTONE and chunks
     final @Nullable Runnable task;
-    // null only for TOMBSTONE
+    // null only for TOMBSTONE and chunks
     final @Nullable Executor executor;
 
     // writes to next are made visible by subsequent CAS's on the listeners field
@@ -148,6 +156,19 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
     }
   }
 
+  /**
+   * {@link #SIZE} listeners in one node, least recently added first. A chunk takes less than half
+   * the memory per listener of separate nodes, so futures with many listeners stay smaller, and
+   * completing them follows and reverses far fewer links.
+   */
+  static final class ListenerChunk extends Listener {
+    static final int SIZE = 16;
+
+    // writes to the arrays are made visible by the CAS that pushes the chunk
+    final Runnable[] tasks = new Runnable[SIZE];
+    final Executor[] executors = new Executor[SIZE];
+  }
+
   /** A special value to represent failure, when {@link #setException} is called successfully. */
   private static final class Failure {
     static final Failure FALLBACK_INSTANCE =
@@ -479,6 +500,7 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
         do {
           newNode.next = oldHead;
           if (casListeners(oldHead, newNode)) {
+            compactListeners(newNode);
             return;
           }
           oldHead = listeners(); // re-read
@@ -490,6 +512,35 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
     executeListener(listener, executor);
   }
 
+  /**
+   * Replaces {@code head} and the listeners below it with a {@link ListenerChunk} if they start
+   * with {@link ListenerChunk#SIZE} separate nodes. This is best effort: if another listener is
+   * added or the future completes first, the stack is left as it is.
+   */
+  private void compactListeners(Listener head) {
+    Listener curr = head;
+    for (int i = 0; i < ListenerChunk.SIZE; i++) {
+      // DelegatingToFuture listeners stay separate, because complete() unwinds them specially.
+      if (curr == null
+          || curr instanceof ListenerChunk
+          || curr.task instanceof DelegatingToFuture) {
+        return;
+      }
+      curr = curr.next;
+    }
+    ListenerChunk chunk = new ListenerChunk();
+    curr = head;
+    for (int i = ListenerChunk.SIZE - 1; i >= 0; i--) {
+      // requireNonNull is safe because the loop above saw SIZE separate nodes.
+      Listener node = requireNonNull(curr);
+      chunk.tasks[i] = requireNonNull(node.task);
+      chunk.executors[i] = requireNonNull(node.executor);
+      curr = node.next;
+    }
+    chunk.next = curr;
+    casListeners(head, chunk);
+  }
+
   /**
    * Sets the result of this {@code Future} unless this {@code Future} has already been cancelled or
    * set (including {@linkplain #setFuture set asynchronously}). When a call to this method returns,
@@ -775,6 +826,10 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
       while (next != null) {
         @RetainedLocalRef Listener curr = next;
         next = next.next;
+        if (curr instanceof ListenerChunk) {
+          executeListeners((ListenerChunk) curr);
+          continue;
+        }
         /*
          * requireNonNull is safe because the listener stack never contains TOMBSTONE until after
          * clearListeners.
@@ -800,7 +855,12 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
            * requireNonNull is safe because the listener stack never contains TOMBSTONE until after
            * clearListeners.
            */
-          executeListener(task, requireNonNull(curr.executor));
+          Executor executor = requireNonNull(curr.executor);
+          if (executor instanceof BatchingExecutor && next != null && next.executor == executor) {
+            next = executeListeners(curr, (BatchingExecutor) executor);
+          } else {
+            executeListener(task, executor);
+          }
         }
       }
       break;
@@ -1052,6 +1112,63 @@ public abstract class AbstractFuture<V extends @Nullable Object> extends Abstrac
     }
   }
 
+  /**
+   * Submits {@code first} and the consecutive separate listeners after it that use the same {@code
+   * executor}, as if by {@link #executeBatch}, and returns the first listener that uses a different
+   * executor or is a chunk, if any.
+   */
+  private static @Nullable Listener executeListeners(Listener first, BatchingExecutor executor) {
+    List<Runnable> tasks = new ArrayList<>();
+    Listener curr = first;
+    while (curr != null && !(curr instanceof ListenerChunk) && curr.executor == executor) {
+      tasks.add(requireNonNull(curr.task));
+      curr = curr.next;
+    }
+    executeBatch(tasks, executor);
+    return curr;
+  }
+
+  /**
+   * Submits the listeners of {@code chunk} in order, batching runs of listeners that use the same
+   * {@link BatchingExecutor} as {@link #executeBatch} does.
+   */
+  private static void executeListeners(ListenerChunk chunk) {
+    Runnable[] tasks = chunk.tasks;
+    Executor[] executors = chunk.executors;
+    int i = 0;
+    while (i < tasks.length) {
+      Executor executor = executors[i];
+      int end = i + 1;
+      if (executor instanceof BatchingExecutor) {
+        while (end < tasks.length && executors[end] == executor) {
+          end++;
+        }
+      }
+      if (end - i > 1) {
+        executeBatch(Arrays.asList(tasks).subList(i, end), (BatchingExecutor) executor);
+      } else {
+        executeListener(tasks[i], executor);
+      }
+      i = end;
+    }
+  }
+
+  /**
+   * Submits {@code tasks} to {@code executor}, each as if by {@link #executeListener}. The first
+   * goes through {@link Executor#execute}, which typically starts the executor's worker, and the
+   * rest are then offered in a single call. If the executor declines them, they are submitted one
+   * at a time, so that each still gets its own attempt and the batch costs only one extra call.
+   */
+  private static void executeBatch(List<Runnable> tasks, BatchingExecutor executor) {
+    executeListener(tasks.get(0), executor);
+    List<Runnable> rest = tasks.subList(1, tasks.size());
+    if (!rest.isEmpty() && !executor.tryExecuteAll(rest)) {
+      for (Runnable task : rest) {
+        executeListener(task, executor);
+      }
+    }
+  }
+
   private static Object maskNull(@Nullable Object v) {
     return v == null ? NULL : v;
   }
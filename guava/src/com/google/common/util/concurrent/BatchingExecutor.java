@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Executor} that can sometimes accept several tasks in one call more cheaply than through
+ * separate calls to {@link #execute}. When a future completes, {@link AbstractFuture} executes
+ * the first of several consecutive listeners that were registered with the same {@code
+ * BatchingExecutor} through {@link #execute}, and then offers the rest in one call. If that offer
+ * is declined, it executes them one at a time.
+ */
+@GwtCompatible
+interface BatchingExecutor extends Executor {
+  /**
+   * Executes {@code tasks} as if by calling {@link #execute} for each of them in order, if that can
+   * be done cheaply and without the risk of rejection, and returns whether it did. If this method
+   * returns {@code false}, none of the tasks were accepted. The tasks are never null.
+   */
+  boolean tryExecuteAll(List<Runnable> tasks);
+}
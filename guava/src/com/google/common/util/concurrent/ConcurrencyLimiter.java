@@ -0,0 +1,536 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.Internal.toNanosSaturated;
+import static java.lang.Math.ceil;
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Limits the number of operations that may be in flight at once, adjusting that limit from the
+ * observed latency of the operations it admits.
+ *
+ * <p>A {@link RateLimiter} admits a fixed number of permits per second, which is the right tool
+ * when the capacity to protect is known in advance. A {@code ConcurrencyLimiter} is meant for the
+ * common case in which it is not: a backend whose capacity changes with load, deployments and the
+ * mix of requests. Instead of a rate, it maintains a <i>limit</i> on the number of operations in
+ * flight. It raises the limit while operations complete quickly, and lowers it when their latency
+ * grows or when they are dropped. Once the limit is reached, further operations are rejected (or
+ * briefly queued, see {@link #acquireAsync}), so that overload is shed at the caller instead of
+ * piling up in queues in front of the backend.
+ *
+ * <p>Each admitted operation holds a {@link Permit}, which must be released exactly once when the
+ * operation ends. How it is released tells the limiter what happened:
+ *
+ * {@snippet :
+ * ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+ * if (permit == null) {
+ *   return Response.overloaded();
+ * }
+ * try {
+ *   Response response = backend.call(request);
+ *   permit.release();
+ *   return response;
+ * } catch (TimeoutException e) {
+ *   permit.releaseDropped();
+ *   throw e;
+ * } catch (RuntimeException e) {
+ *   permit.releaseIgnored();
+ *   throw e;
+ * }
+ * }
+ *
+ * <p>Two algorithms are available:
+ *
+ * <ul>
+ *   <li>{@link #aimd AIMD} (additive increase, multiplicative decrease) raises the limit by one for
+ *       each operation that completes within a latency threshold, and cuts it by 10% for each
+ *       operation that is dropped or exceeds the threshold. It is simple and predictable, but needs
+ *       a threshold that suits the backend.
+ *   <li>{@link #vegas Vegas}, after TCP Vegas, needs no threshold. It compares each operation's
+ *       latency to the lowest latency it has seen, estimates from that how many operations are
+ *       queued in the backend rather than being served, and moves the limit to keep that queue
+ *       short.
+ * </ul>
+ *
+ * <p>Neither algorithm raises the limit while fewer than half of the permits are in use, so an
+ * idle or lightly loaded limiter does not drift to {@code maxLimit}.
+ *
+ * @since NEXT
+ */
+@Beta
+@J2ktIncompatible
+@GwtIncompatible
+public final class ConcurrencyLimiter {
+  /**
+   * Creates a {@code ConcurrencyLimiter} that uses the AIMD algorithm.
+   *
+   * @param initialLimit the limit to start from
+   * @param maxLimit the highest limit the algorithm may reach
+   * @param latencyThreshold operations that take longer than this are treated as a sign of overload
+   * @throws IllegalArgumentException if {@code initialLimit} is not between 1 and {@code maxLimit},
+   *     or if {@code latencyThreshold} is not positive
+   */
+  public static ConcurrencyLimiter aimd(int initialLimit, int maxLimit, Duration latencyThreshold) {
+    return aimd(initialLimit, maxLimit, toNanosSaturated(latencyThreshold), NANOSECONDS);
+  }
+
+  /**
+   * Creates a {@code ConcurrencyLimiter} that uses the AIMD algorithm.
+   *
+   * @param initialLimit the limit to start from
+   * @param maxLimit the highest limit the algorithm may reach
+   * @param latencyThreshold operations that take longer than this are treated as a sign of overload
+   * @param unit the time unit of the {@code latencyThreshold} argument
+   * @throws IllegalArgumentException if {@code initialLimit} is not between 1 and {@code maxLimit},
+   *     or if {@code latencyThreshold} is not positive
+   */
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public static ConcurrencyLimiter aimd(
+      int initialLimit, int maxLimit, long latencyThreshold, TimeUnit unit) {
+    checkArgument(latencyThreshold > 0, "latencyThreshold must be positive: %s", latencyThreshold);
+    return create(
+        new Aimd(unit.toNanos(latencyThreshold)), initialLimit, maxLimit, Ticker.systemTicker());
+  }
+
+  /**
+   * Creates a {@code ConcurrencyLimiter} that uses the Vegas algorithm.
+   *
+   * @param initialLimit the limit to start from
+   * @param maxLimit the highest limit the algorithm may reach
+   * @throws IllegalArgumentException if {@code initialLimit} is not between 1 and {@code maxLimit}
+   */
+  public static ConcurrencyLimiter vegas(int initialLimit, int maxLimit) {
+    return create(new Vegas(), initialLimit, maxLimit, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  static ConcurrencyLimiter create(
+      LimitAlgorithm algorithm, int initialLimit, int maxLimit, Ticker ticker) {
+    checkArgument(
+        initialLimit >= 1 && initialLimit <= maxLimit,
+        "initialLimit (%s) must be between 1 and maxLimit (%s)",
+        initialLimit,
+        maxLimit);
+    return new ConcurrencyLimiter(algorithm, initialLimit, maxLimit, ticker);
+  }
+
+  private final LimitAlgorithm algorithm;
+  private final int maxLimit;
+  private final Ticker ticker;
+
+  private final Object lock = new Object();
+
+  /** The current limit. It is fractional so that small adjustments accumulate. */
+  @GuardedBy("lock")
+  private double limit;
+
+  @GuardedBy("lock")
+  private int inFlight;
+
+  /**
+   * Callers of {@link #acquireAsync} that are waiting for a permit, in arrival order. There are
+   * waiters only while every permit is in use.
+   */
+  @GuardedBy("lock")
+  private final ArrayDeque<SettableFuture<Permit>> waiters = new ArrayDeque<>();
+
+  private ConcurrencyLimiter(
+      LimitAlgorithm algorithm, int initialLimit, int maxLimit, Ticker ticker) {
+    this.algorithm = checkNotNull(algorithm);
+    this.limit = initialLimit;
+    this.maxLimit = maxLimit;
+    this.ticker = checkNotNull(ticker);
+  }
+
+  /**
+   * Acquires a permit if fewer than {@link #getLimit} operations are in flight, and otherwise
+   * returns {@code null} immediately.
+   */
+  public @Nullable Permit tryAcquire() {
+    synchronized (lock) {
+      return hasCapacity() && waiters.isEmpty() ? newPermit() : null;
+    }
+  }
+
+  /**
+   * Acquires a permit, waiting for one to be released if {@link #getLimit} operations are already
+   * in flight.
+   *
+   * <p>Waiting callers are granted permits in the order in which they called this method. To keep
+   * the wait short, at most {@link #getLimit} callers may wait at once; beyond that, the returned
+   * future fails immediately with a {@link RejectedExecutionException}. A caller that no longer
+   * wants the permit may cancel the returned future. To bound the wait, use {@link
+   * Futures#withTimeout}.
+   */
+  public ListenableFuture<Permit> acquireAsync() {
+    SettableFuture<Permit> waiter;
+    synchronized (lock) {
+      if (hasCapacity() && waiters.isEmpty()) {
+        return immediateFuture(newPermit());
+      }
+      if (waiters.size() >= limit) {
+        waiters.removeIf(Future::isDone);
+        if (waiters.size() >= limit) {
+          return immediateFailedFuture(
+              new RejectedExecutionException(
+                  "Too many callers waiting for " + (int) limit + " permits"));
+        }
+      }
+      waiter = SettableFuture.create();
+      waiters.add(waiter);
+    }
+    return waiter;
+  }
+
+  /** Returns the current limit on the number of operations in flight. */
+  public int getLimit() {
+    synchronized (lock) {
+      return (int) limit;
+    }
+  }
+
+  /** Returns the number of permits that have been acquired and not yet released. */
+  public int getInFlight() {
+    synchronized (lock) {
+      return inFlight;
+    }
+  }
+
+  /**
+   * Returns an executor service that runs tasks on {@code delegate} while this limiter admits them,
+   * and rejects them with a {@link RejectedExecutionException} when it does not.
+   *
+   * <p>Each task holds a permit from the moment it is submitted until it finishes, so its latency
+   * includes any time spent queued in {@code delegate}. That is deliberate: a growing queue is the
+   * overload that the limiter should react to. Tasks that throw are reported like tasks that
+   * return normally. Shutdown and termination methods are forwarded to {@code delegate}, and {@link
+   * ExecutorService#shutdownNow shutdownNow} releases the permits of the tasks that never started.
+   */
+  public ListeningExecutorService decorate(ExecutorService delegate) {
+    return new LimitingExecutorService(delegate);
+  }
+
+  @Override
+  public String toString() {
+    synchronized (lock) {
+      return "ConcurrencyLimiter[limit=" + (int) limit + ", inFlight=" + inFlight + "]";
+    }
+  }
+
+  @GuardedBy("lock")
+  private boolean hasCapacity() {
+    return inFlight < (int) limit;
+  }
+
+  @GuardedBy("lock")
+  private Permit newPermit() {
+    inFlight++;
+    return new Permit(ticker.read(), inFlight);
+  }
+
+  /** Hands out permits to waiters for as long as there is capacity. */
+  private void grantWaiters() {
+    while (true) {
+      SettableFuture<Permit> waiter;
+      Permit permit;
+      synchronized (lock) {
+        if (!hasCapacity()) {
+          return;
+        }
+        do {
+          waiter = waiters.poll();
+          if (waiter == null) {
+            return;
+          }
+        } while (waiter.isDone());
+        permit = newPermit();
+      }
+      if (!waiter.set(permit)) {
+        // The waiter was cancelled after we polled it.
+        synchronized (lock) {
+          permit.released = true;
+          inFlight--;
+        }
+      }
+    }
+  }
+
+  /**
+   * A permit to perform one operation, acquired from a {@link ConcurrencyLimiter}. Exactly one of
+   * the {@code release} methods must be called once the operation ends.
+   *
+   * @since NEXT
+   */
+  public final class Permit {
+    private final long startNanos;
+
+    /** The number of operations in flight, including this one, when this permit was acquired. */
+    private final int inFlightAtStart;
+
+    @GuardedBy("lock")
+    private boolean released;
+
+    private Permit(long startNanos, int inFlightAtStart) {
+      this.startNanos = startNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * Releases this permit after the operation completed, reporting its latency to the limiter.
+     *
+     * @throws IllegalStateException if this permit has already been released
+     */
+    public void release() {
+      release(/* update= */ true, /* dropped= */ false);
+    }
+
+    /**
+     * Releases this permit after the operation was dropped: it timed out, or the backend rejected
+     * it as overloaded. The limiter treats this as a sign of overload and lowers its limit.
+     *
+     * @throws IllegalStateException if this permit has already been released
+     */
+    public void releaseDropped() {
+      release(/* update= */ true, /* dropped= */ true);
+    }
+
+    /**
+     * Releases this permit without telling the limiter anything about the operation, for example
+     * because it failed before reaching the backend.
+     *
+     * @throws IllegalStateException if this permit has already been released
+     */
+    public void releaseIgnored() {
+      release(/* update= */ false, /* dropped= */ false);
+    }
+
+    private void release(boolean update, boolean dropped) {
+      synchronized (lock) {
+        checkState(!released, "Permit has already been released");
+        released = true;
+        inFlight--;
+        if (update) {
+          long latencyNanos = ticker.read() - startNanos;
+          double newLimit = algorithm.update(limit, inFlightAtStart, latencyNanos, dropped);
+          limit = min(max(newLimit, 1), maxLimit);
+        }
+      }
+      grantWaiters();
+    }
+  }
+
+  /**
+   * An algorithm that adjusts the limit after each operation. Instances are only called while
+   * holding the lock of the limiter that uses them, so they may keep unsynchronized state.
+   */
+  abstract static class LimitAlgorithm {
+    /**
+     * Returns the new limit, given the current one and an operation that completed.
+     *
+     * @param limit the current limit
+     * @param inFlight the number of operations in flight, including this one, when it started
+     * @param latencyNanos how long the operation took
+     * @param dropped whether the operation was dropped rather than completed
+     */
+    abstract double update(double limit, int inFlight, long latencyNanos, boolean dropped);
+
+    /**
+     * Returns whether enough of the limit is in use that the latency of an operation says anything
+     * about whether the limit could be higher.
+     */
+    static boolean isLimitInUse(double limit, int inFlight) {
+      return inFlight * 2 >= limit;
+    }
+  }
+
+  static final class Aimd extends LimitAlgorithm {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final long latencyThresholdNanos;
+
+    Aimd(long latencyThresholdNanos) {
+      this.latencyThresholdNanos = latencyThresholdNanos;
+    }
+
+    @Override
+    double update(double limit, int inFlight, long latencyNanos, boolean dropped) {
+      if (dropped || latencyNanos > latencyThresholdNanos) {
+        return limit * BACKOFF_RATIO;
+      }
+      return isLimitInUse(limit, inFlight) ? limit + 1 : limit;
+    }
+  }
+
+  static final class Vegas extends LimitAlgorithm {
+    /**
+     * How many operations, as a multiple of the limit, to complete before forgetting the lowest
+     * latency seen. Without this, a backend that becomes permanently slower (after a migration,
+     * say) would look overloaded forever.
+     */
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long samplesSinceProbe;
+
+    @Override
+    double update(double limit, int inFlight, long latencyNanos, boolean dropped) {
+      // The thresholds grow with the logarithm of the limit, so that large limits move faster.
+      double step = max(1, log10(limit));
+      if (dropped) {
+        return limit - step;
+      }
+      latencyNanos = max(latencyNanos, 1);
+      if (++samplesSinceProbe >= PROBE_MULTIPLIER * limit) {
+        samplesSinceProbe = 0;
+        minLatencyNanos = latencyNanos;
+      } else {
+        minLatencyNanos = min(minLatencyNanos, latencyNanos);
+      }
+      if (!isLimitInUse(limit, inFlight)) {
+        return limit;
+      }
+      // The share of the latency that exceeds the lowest one seen is taken to be time spent queued,
+      // which lets us estimate how many of the operations in flight are queued.
+      double queued = ceil(limit * (1 - (double) minLatencyNanos / latencyNanos));
+      if (queued <= step) {
+        return limit + 6 * step;
+      } else if (queued < 3 * step) {
+        return limit + step;
+      } else if (queued > 6 * step) {
+        return limit - step;
+      }
+      return limit;
+    }
+  }
+
+  private final class LimitingExecutorService extends AbstractListeningExecutorService {
+    private final ExecutorService delegate;
+
+    LimitingExecutorService(ExecutorService delegate) {
+      this.delegate = checkNotNull(delegate);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      checkNotNull(command);
+      Permit permit = tryAcquire();
+      if (permit == null) {
+        throw new RejectedExecutionException(
+            "Concurrency limit reached: " + ConcurrencyLimiter.this);
+      }
+      try {
+        delegate.execute(new PermitRunnable(command, permit));
+      } catch (Throwable t) {
+        permit.releaseIgnored();
+        throw t;
+      }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    /**
+     * Stops the delegate, releases the permits of the tasks that never started, and returns the
+     * tasks that were passed to {@link #execute}.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+      List<Runnable> unrun = delegate.shutdownNow();
+      List<Runnable> commands = new ArrayList<>(unrun.size());
+      for (Runnable runnable : unrun) {
+        if (runnable instanceof PermitRunnable) {
+          PermitRunnable wrapper = (PermitRunnable) runnable;
+          wrapper.permit.releaseIgnored();
+          commands.add(wrapper.command);
+        } else {
+          commands.add(runnable);
+        }
+      }
+      return commands;
+    }
+
+    @Override
+    public String toString() {
+      return super.toString() + "[" + delegate + ", " + ConcurrencyLimiter.this + "]";
+    }
+  }
+
+  /** A task submitted through a limiting executor, which releases its permit when it ends. */
+  private static final class PermitRunnable implements Runnable {
+    final Runnable command;
+    final Permit permit;
+
+    PermitRunnable(Runnable command, Permit permit) {
+      this.command = command;
+      this.permit = permit;
+    }
+
+    @Override
+    public void run() {
+      try {
+        command.run();
+      } finally {
+        permit.release();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return command.toString();
+    }
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.util.concurrent.Futures.getDone;
+import static com.google.common.util.concurrent.Futures.withTimeout;
+import static com.google.common.util.concurrent.Internal.toNanosSaturated;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A scope that owns the futures forked inside it, so that no unit of work outlives the operation
+ * that started it. As soon as one child fails or is cancelled, the scope cancels all of its other
+ * outstanding children. {@link #join} returns a single future that completes once every child has
+ * completed, and {@link #close} cancels whatever is still running. For example:
+ *
+ * {@snippet :
+ * try (FutureScope scope = FutureScope.open(executor)) {
+ *   ListenableFuture<User> user = scope.fork(() -> userService.lookUp(userId));
+ *   ListenableFuture<List<Order>> orders = scope.fork(() -> orderService.list(userId));
+ *   scope.join(Duration.ofSeconds(2), scheduledExecutor).get();
+ *   return new Summary(getDone(user), getDone(orders));
+ * }
+ * }
+ *
+ * <p>Compared to combining the children with {@link Futures#allAsList} or {@link
+ * Futures#whenAllSucceed}, a scope cancels the siblings of a failed child instead of letting them
+ * run to completion unobserved, and it does not require every child to be known up front.
+ *
+ * <p>Children are cancelled with {@code mayInterruptIfRunning} set to {@code true}. Neither {@link
+ * #close} nor cancellation waits for an interrupted task to return.
+ *
+ * <p>A scope's lifecycle is:
+ *
+ * <ol>
+ *   <li>While the scope is open, tasks can be forked with {@link #fork} and {@link #forkAsync}, and
+ *       existing futures can be handed to it with {@link #adopt}. Once a child has failed, newly
+ *       forked or adopted children are cancelled immediately.
+ *   <li>{@link #join} fixes the set of children; forking afterward throws {@link
+ *       IllegalStateException}.
+ *   <li>{@link #close} cancels every child that has not completed.
+ * </ol>
+ *
+ * @since NEXT
+ */
+@J2ktIncompatible
+@GwtIncompatible
+public final class FutureScope implements AutoCloseable {
+  /**
+   * Returns a new open scope whose {@link #fork} and {@link #forkAsync} methods run tasks on {@code
+   * executor}.
+   */
+  public static FutureScope open(Executor executor) {
+    return new FutureScope(checkNotNull(executor));
+  }
+
+  private enum State {
+    OPEN,
+    JOINED,
+    CLOSED
+  }
+
+  private final Executor executor;
+
+  @GuardedBy("this")
+  private State state = State.OPEN;
+
+  /** Children that have not completed yet. */
+  @GuardedBy("this")
+  private final Set<ListenableFuture<?>> outstanding = Sets.newIdentityHashSet();
+
+  /** The first child that failed or was cancelled, or null if there is none yet. */
+  @GuardedBy("this")
+  private @Nullable ListenableFuture<?> firstFailure;
+
+  private FutureScope(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Runs {@code callable} on this scope's executor as a child of this scope, and returns a future
+   * for its result. If the executor rejects the task, the returned future fails with the {@link
+   * RejectedExecutionException}, which fails the scope.
+   *
+   * @throws IllegalStateException if this scope has been joined or closed
+   */
+  public <V extends @Nullable Object> ListenableFuture<V> fork(Callable<V> callable) {
+    return start(TrustedListenableFutureTask.create(callable));
+  }
+
+  /**
+   * Runs {@code callable} on this scope's executor as a child of this scope, and returns a future
+   * for the result of the future it returns. Cancelling the child also cancels that future.
+   *
+   * @throws IllegalStateException if this scope has been joined or closed
+   */
+  public <V extends @Nullable Object> ListenableFuture<V> forkAsync(AsyncCallable<V> callable) {
+    return start(TrustedListenableFutureTask.create(callable));
+  }
+
+  /**
+   * Makes {@code future} a child of this scope, and returns it. The scope takes ownership of the
+   * future: it may cancel it if a sibling fails or when the scope is closed, so callers should not
+   * adopt a future that other code still depends on.
+   *
+   * @throws IllegalStateException if this scope has been joined or closed
+   */
+  @CanIgnoreReturnValue
+  public <F extends ListenableFuture<?>> F adopt(F future) {
+    register(checkNotNull(future));
+    return future;
+  }
+
+  private <V extends @Nullable Object> ListenableFuture<V> start(
+      TrustedListenableFutureTask<V> task) {
+    if (register(task)) {
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        task.setException(e);
+      }
+    }
+    return task;
+  }
+
+  /**
+   * Adds {@code child} to this scope. Returns false, after cancelling {@code child}, if the scope
+   * has already failed.
+   */
+  private boolean register(ListenableFuture<?> child) {
+    boolean failed;
+    synchronized (this) {
+      checkState(state == State.OPEN, "This FutureScope has already been %s", stateName());
+      failed = firstFailure != null;
+      if (!failed) {
+        outstanding.add(child);
+      }
+    }
+    if (failed) {
+      child.cancel(true);
+      return false;
+    }
+    child.addListener(() -> childDone(child), directExecutor());
+    return true;
+  }
+
+  private void childDone(ListenableFuture<?> child) {
+    boolean succeeded = succeeded(child);
+    ImmutableList<ListenableFuture<?>> siblings = ImmutableList.of();
+    synchronized (this) {
+      outstanding.remove(child);
+      if (!succeeded && firstFailure == null) {
+        firstFailure = child;
+        siblings = ImmutableList.copyOf(outstanding);
+      }
+    }
+    for (ListenableFuture<?> sibling : siblings) {
+      sibling.cancel(true);
+    }
+  }
+
+  /**
+   * Returns a future that completes once every child of this scope has completed. It succeeds with
+   * {@code null} if every child succeeded. Otherwise it fails in the same way as the first child
+   * that failed, or is cancelled if that child was cancelled. Cancelling the returned future
+   * cancels every outstanding child.
+   *
+   * <p>After this method is called, no more children can be added to this scope.
+   *
+   * @throws IllegalStateException if this scope has already been joined or closed
+   */
+  public ListenableFuture<@Nullable Void> join() {
+    ImmutableList<ListenableFuture<?>> children;
+    synchronized (this) {
+      checkState(state == State.OPEN, "This FutureScope has already been %s", stateName());
+      state = State.JOINED;
+      children = ImmutableList.copyOf(outstanding);
+    }
+    // whenAllComplete is an AggregateFuture, so cancelling it propagates to the children.
+    return Futures.whenAllComplete(children).call(() -> result(children), directExecutor());
+  }
+
+  /**
+   * Like {@link #join()}, except that if the children have not all completed after {@code
+   * timeout}, the returned future fails with a {@link java.util.concurrent.TimeoutException} and
+   * every outstanding child is cancelled.
+   *
+   * @throws IllegalStateException if this scope has already been joined or closed
+   */
+  public ListenableFuture<@Nullable Void> join(
+      Duration timeout, ScheduledExecutorService scheduledExecutor) {
+    return join(toNanosSaturated(timeout), NANOSECONDS, scheduledExecutor);
+  }
+
+  /**
+   * Like {@link #join()}, except that if the children have not all completed after {@code
+   * timeout}, the returned future fails with a {@link java.util.concurrent.TimeoutException} and
+   * every outstanding child is cancelled.
+   *
+   * @throws IllegalStateException if this scope has already been joined or closed
+   */
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public ListenableFuture<@Nullable Void> join(
+      long timeout, TimeUnit unit, ScheduledExecutorService scheduledExecutor) {
+    return withTimeout(join(), timeout, unit, scheduledExecutor);
+  }
+
+  private @Nullable Void result(ImmutableList<ListenableFuture<?>> children)
+      throws ExecutionException {
+    ListenableFuture<?> failure;
+    synchronized (this) {
+      failure = firstFailure;
+    }
+    if (failure == null) {
+      // The listener that records failures may not have run yet for a child that is not ours.
+      for (ListenableFuture<?> child : children) {
+        if (!succeeded(child)) {
+          failure = child;
+          break;
+        }
+      }
+    }
+    if (failure != null) {
+      // Rethrows the child's failure: ExecutionException fails, and CancellationException cancels.
+      getDone(failure);
+    }
+    return null;
+  }
+
+  /**
+   * Cancels every child of this scope that has not completed, and prevents new children from being
+   * added. This method does not wait for the cancelled tasks to return. Closing a scope more than
+   * once has no further effect.
+   */
+  @Override
+  public void close() {
+    ImmutableList<ListenableFuture<?>> children;
+    synchronized (this) {
+      state = State.CLOSED;
+      children = ImmutableList.copyOf(outstanding);
+    }
+    for (ListenableFuture<?> child : children) {
+      child.cancel(true);
+    }
+  }
+
+  @GuardedBy("this")
+  private String stateName() {
+    return state == State.JOINED ? "joined" : "closed";
+  }
+
+  private static boolean succeeded(ListenableFuture<?> future) {
+    try {
+      getDone(future);
+      return true;
+    } catch (ExecutionException | CancellationException e) {
+      return false;
+    }
+  }
+}
@@ -14,6 +14,7 @@
 
 package com.google.common.util.concurrent;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.util.concurrent.Internal.toNanosSaturated;
@@ -418,6 +419,73 @@ public final class Futures extends GwtFuturesCatchingSpecialization {
     return TimeoutFuture.create(delegate, time, unit, scheduledExecutor);
   }
 
+  /**
+   * Returns a future for the first successful result of up to {@code maxAttempts} concurrent calls
+   * to {@code callable}, launching a backup ("hedged") attempt whenever {@code delay} has passed
+   * since the previous attempt started without any attempt succeeding. This reduces tail latency
+   * when occasional calls are much slower than usual: a delay around the 95th percentile latency
+   * of the call adds only a few percent of extra load.
+   *
+   * <p>Each attempt runs {@code callable} on {@code executor}, the first immediately. As soon as
+   * one attempt succeeds, the returned future completes with its result, and all other attempts
+   * are cancelled with interruption. Cancelling the returned future cancels every attempt.
+   *
+   * <p>Hedging is not retrying: a failed attempt does not cause a backup attempt to start early.
+   * Once every attempt started so far has failed, the returned future fails in the same way as the
+   * first attempt that failed, and no more attempts are started.
+   *
+   * @param callable the call to make; it must be safe to run more than once concurrently
+   * @param delay how long to wait for an attempt before starting the next one
+   * @param maxAttempts the maximum number of attempts, including the first
+   * @param executor the executor that runs attempts and schedules backups
+   * @throws IllegalArgumentException if {@code maxAttempts} is not positive or {@code delay} is
+   *     negative
+   * @throws RejectedExecutionException if the first attempt cannot be scheduled for execution
+   * @since NEXT
+   */
+  @J2ktIncompatible
+  @GwtIncompatible // java.util.concurrent.ScheduledExecutorService
+  public static <V extends @Nullable Object> ListenableFuture<V> hedge(
+      AsyncCallable<V> callable,
+      Duration delay,
+      int maxAttempts,
+      ScheduledExecutorService executor) {
+    return hedge(callable, toNanosSaturated(delay), NANOSECONDS, maxAttempts, executor);
+  }
+
+  /**
+   * Returns a future for the first successful result of up to {@code maxAttempts} concurrent calls
+   * to {@code callable}, launching a backup ("hedged") attempt whenever {@code delay} has passed
+   * since the previous attempt started without any attempt succeeding. See {@link
+   * #hedge(AsyncCallable, Duration, int, ScheduledExecutorService)} for details.
+   *
+   * @param callable the call to make; it must be safe to run more than once concurrently
+   * @param delay how long to wait for an attempt before starting the next one
+   * @param unit the time unit of the delay parameter
+   * @param maxAttempts the maximum number of attempts, including the first
+   * @param executor the executor that runs attempts and schedules backups
+   * @throws IllegalArgumentException if {@code maxAttempts} is not positive or {@code delay} is
+   *     negative
+   * @throws RejectedExecutionException if the first attempt cannot be scheduled for execution
+   * @since NEXT
+   */
+  @J2ktIncompatible
+  @GwtIncompatible // java.util.concurrent.ScheduledExecutorService
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public static <V extends @Nullable Object> ListenableFuture<V> hedge(
+      AsyncCallable<V> callable,
+      long delay,
+      TimeUnit unit,
+      int maxAttempts,
+      ScheduledExecutorService executor) {
+    checkNotNull(callable);
+    checkNotNull(unit);
+    checkNotNull(executor);
+    checkArgument(maxAttempts > 0, "maxAttempts (%s) must be positive", maxAttempts);
+    checkArgument(delay >= 0, "delay (%s) must not be negative", delay);
+    return HedgingFuture.create(callable, unit.toNanos(delay), maxAttempts, executor);
+  }
+
   /**
    * Returns a new {@code Future} whose result is asynchronously derived from the result of the
    * given {@code Future}. If the given {@code Future} fails, the returned {@code Future} fails with
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@code Futures#hedge}.
+ *
+ * <p>Each attempt is a {@link TrustedListenableFutureTask} that runs the callable on the scheduled
+ * executor. Launching an attempt schedules the launch of the next one, until either {@code
+ * maxAttempts} have been launched or this future is done. The first attempt to succeed completes
+ * this future, and {@link #afterDone} then cancels the other attempts and the pending launch.
+ */
+@J2ktIncompatible
+@GwtIncompatible
+final class HedgingFuture<V extends @Nullable Object> extends FluentFuture.TrustedFuture<V> {
+  static <V extends @Nullable Object> ListenableFuture<V> create(
+      AsyncCallable<V> callable,
+      long delayNanos,
+      int maxAttempts,
+      ScheduledExecutorService executor) {
+    HedgingFuture<V> result = new HedgingFuture<>(callable, delayNanos, maxAttempts, executor);
+    executor.execute(result::launch);
+    return result;
+  }
+
+  private final AsyncCallable<V> callable;
+  private final long delayNanos;
+  private final int maxAttempts;
+  private final ScheduledExecutorService executor;
+
+  /** The attempts launched so far, in launch order. */
+  @GuardedBy("attempts")
+  private final List<TrustedListenableFutureTask<V>> attempts = new ArrayList<>();
+
+  @GuardedBy("attempts")
+  private int failedAttempts;
+
+  /** The attempt that failed first, whose failure this future reports if every attempt fails. */
+  @GuardedBy("attempts")
+  private @Nullable ListenableFuture<V> firstFailure;
+
+  /** The pending launch of the next attempt, if any. */
+  @GuardedBy("attempts")
+  private @Nullable Future<?> nextLaunch;
+
+  /** Whether an outcome has been chosen, after which no attempts are launched. */
+  @GuardedBy("attempts")
+  private boolean finished;
+
+  private HedgingFuture(
+      AsyncCallable<V> callable,
+      long delayNanos,
+      int maxAttempts,
+      ScheduledExecutorService executor) {
+    this.callable = checkNotNull(callable);
+    this.delayNanos = delayNanos;
+    this.maxAttempts = maxAttempts;
+    this.executor = checkNotNull(executor);
+  }
+
+  /** Starts an attempt on the current thread, after scheduling the next one if there is one. */
+  private void launch() {
+    TrustedListenableFutureTask<V> attempt = TrustedListenableFutureTask.create(callable);
+    synchronized (attempts) {
+      nextLaunch = null;
+      if (finished) {
+        return;
+      }
+      attempts.add(attempt);
+      if (attempts.size() < maxAttempts) {
+        try {
+          nextLaunch = executor.schedule(this::launch, delayNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+          // The executor is shutting down, so we continue with the attempts we already have.
+        }
+      }
+    }
+    attempt.addListener(() -> attemptDone(attempt), directExecutor());
+    attempt.run();
+  }
+
+  private void attemptDone(TrustedListenableFutureTask<V> attempt) {
+    ListenableFuture<V> outcome;
+    synchronized (attempts) {
+      if (finished) {
+        return;
+      }
+      if (!attempt.isCancelled() && attempt.tryInternalFastPathGetFailure() == null) {
+        outcome = attempt;
+      } else {
+        failedAttempts++;
+        if (firstFailure == null) {
+          firstFailure = attempt;
+        }
+        // Hedging is not retrying: a failure does not launch another attempt early. Once every
+        // launched attempt has failed, we report the first failure rather than wait for more.
+        if (failedAttempts < attempts.size()) {
+          return;
+        }
+        outcome = checkNotNull(firstFailure);
+      }
+      finished = true;
+    }
+    // Copies the outcome of the (already done) attempt. afterDone() then cancels the others.
+    setFuture(outcome);
+  }
+
+  @Override
+  protected @Nullable String pendingToString() {
+    synchronized (attempts) {
+      return "attempts=["
+          + attempts.size()
+          + " of "
+          + maxAttempts
+          + "], callable=["
+          + callable
+          + "]";
+    }
+  }
+
+  @Override
+  protected void afterDone() {
+    ImmutableList<TrustedListenableFutureTask<V>> toCancel;
+    Future<?> localNextLaunch;
+    synchronized (attempts) {
+      finished = true;
+      toCancel = ImmutableList.copyOf(attempts);
+      localNextLaunch = nextLaunch;
+      attempts.clear();
+      nextLaunch = null;
+      firstFailure = null;
+    }
+    if (localNextLaunch != null) {
+      localNextLaunch.cancel(false);
+    }
+    // Attempts that lost the race are interrupted, as are all attempts if the caller cancelled this
+    // future with interruption. The attempt that won is already done, so cancelling it is a no-op.
+    boolean mayInterruptIfRunning = !isCancelled() || wasInterrupted();
+    for (TrustedListenableFutureTask<V> attempt : toCancel) {
+      attempt.cancel(mayInterruptIfRunning);
+    }
+  }
+}
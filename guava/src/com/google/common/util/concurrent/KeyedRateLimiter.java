@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Internal.toNanosSaturated;
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.math.LongMath;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A rate limiter that enforces a separate rate for each key, such as a tenant or a user, and
+ * optionally a shared rate for groups of keys.
+ *
+ * <p>For each key, a {@code KeyedRateLimiter} admits permits exactly as a {@link RateLimiter}
+ * created by {@link RateLimiter#create(double)} that is only ever used through {@link
+ * RateLimiter#tryAcquire(int)}: permits are issued at a stable rate, up to one second's worth of
+ * unused permits may be saved for a burst, and a large request is admitted as soon as the previous
+ * one has been paid for, and throttles the requests that follow it. Unlike a {@code Map} of {@code
+ * RateLimiter} instances, though, the state of a key is a pair of {@code long}s, which is created
+ * when the key is first used and forgotten once it has gone unused for a while. Checking a key
+ * that is already known takes constant time and allocates nothing, so a single instance can
+ * enforce quotas for millions of keys.
+ *
+ * <p>A key that is forgotten starts over as if it had never been used. Choose an expiration that is
+ * long compared to one second and to the time it takes to pay for the largest request, so that
+ * only keys whose state no longer matters are forgotten.
+ *
+ * <p>A limiter may have a <i>parent</i>, which is itself a {@code KeyedRateLimiter}, and a function
+ * that maps each key to a key of the parent. A request is then admitted only if both the key and
+ * its parent key have permits available, so that, for example, the tenants of an organization
+ * share the organization's budget:
+ *
+ * {@snippet :
+ * KeyedRateLimiter<String> perOrganization =
+ *     KeyedRateLimiter.create(1000.0, Duration.ofMinutes(10));
+ * KeyedRateLimiter<Tenant> perTenant =
+ *     KeyedRateLimiter.create(50.0, Duration.ofMinutes(10), perOrganization, Tenant::organization);
+ *
+ * if (!perTenant.tryAcquire(tenant)) {
+ *   throw new QuotaExceededException(tenant);
+ * }
+ * }
+ *
+ * <p>To give all keys a single shared budget, map them all to the same parent key. Parents may have
+ * parents of their own. A request that the parent rejects is not charged to the key.
+ *
+ * @since NEXT
+ */
+@Beta
+@J2ktIncompatible
+@GwtIncompatible
+public final class KeyedRateLimiter<K> {
+  /** The number of seconds' worth of unused permits that a key may save, as in RateLimiter. */
+  private static final double MAX_BURST_SECONDS = 1.0;
+
+  /**
+   * Creates a {@code KeyedRateLimiter} that issues {@code permitsPerSecond} permits per second to
+   * each key, and forgets keys that have not been used for {@code expireAfterAccess}.
+   *
+   * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive, or if {@code
+   *     expireAfterAccess} is not positive
+   */
+  public static <K> KeyedRateLimiter<K> create(
+      double permitsPerSecond, Duration expireAfterAccess) {
+    return create(permitsPerSecond, toNanosSaturated(expireAfterAccess), NANOSECONDS);
+  }
+
+  /**
+   * Creates a {@code KeyedRateLimiter} that issues {@code permitsPerSecond} permits per second to
+   * each key, and forgets keys that have not been used for the given duration.
+   *
+   * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive, or if {@code
+   *     expireAfterAccess} is not positive
+   */
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public static <K> KeyedRateLimiter<K> create(
+      double permitsPerSecond, long expireAfterAccess, TimeUnit unit) {
+    return new KeyedRateLimiter<>(
+        permitsPerSecond, expireAfterAccess, unit, Ticker.systemTicker(), /* parent= */ null);
+  }
+
+  /**
+   * Creates a {@code KeyedRateLimiter} that issues {@code permitsPerSecond} permits per second to
+   * each key, but only while {@code parent} also has permits available for the key's parent key.
+   * Keys that have not been used for {@code expireAfterAccess} are forgotten.
+   *
+   * @param parentKey maps each key of the new limiter to a key of {@code parent}
+   * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive, or if {@code
+   *     expireAfterAccess} is not positive
+   */
+  public static <K, P> KeyedRateLimiter<K> create(
+      double permitsPerSecond,
+      Duration expireAfterAccess,
+      KeyedRateLimiter<P> parent,
+      Function<? super K, ? extends P> parentKey) {
+    checkNotNull(parent);
+    checkNotNull(parentKey);
+    return new KeyedRateLimiter<>(
+        permitsPerSecond,
+        toNanosSaturated(expireAfterAccess),
+        NANOSECONDS,
+        parent.ticker,
+        (key, permits, nowNanos) -> parent.tryAcquire(parentKey.apply(key), permits, nowNanos));
+  }
+
+  @VisibleForTesting
+  static <K> KeyedRateLimiter<K> create(
+      double permitsPerSecond, long expireAfterAccess, TimeUnit unit, Ticker ticker) {
+    return new KeyedRateLimiter<>(
+        permitsPerSecond, expireAfterAccess, unit, ticker, /* parent= */ null);
+  }
+
+  /** Acquires permits from the parent of a limiter for one of that limiter's keys. */
+  private interface Parent<K> {
+    boolean tryAcquire(K key, int permits, long nowNanos);
+  }
+
+  private final double permitsPerSecond;
+
+  /** The interval between two permits for the same key, at the stable rate. */
+  private final double stableIntervalNanos;
+
+  private final long maxBurstNanos;
+  private final long expireAfterAccessNanos;
+  private final Ticker ticker;
+  private final @Nullable Parent<K> parent;
+
+  /** The state of each key that has been used recently. */
+  private final ConcurrentHashMap<K, KeyState> states = new ConcurrentHashMap<>();
+
+  /** The time at which {@link #states} was last swept of expired keys. */
+  private final AtomicLong lastSweepNanos;
+
+  /**
+   * The state of a key. {@code paidUntilNanos} is the time at which the key would have paid for
+   * all the permits it was issued had it saved none of them. This takes the place of the {@code
+   * storedPermits} and {@code nextFreeTicketMicros} of a {@link SmoothRateLimiter.SmoothBursty}:
+   * the key has a permit available if this time is not in the future, and it has stored {@code
+   * (now - time) / stableIntervalNanos} permits, up to a burst's worth. Issuing permits moves the
+   * time forward by their cost.
+   */
+  private static final class KeyState {
+    final AtomicLong paidUntilNanos;
+    volatile long lastAccessNanos;
+
+    KeyState(long nowNanos) {
+      // Like a new RateLimiter, a new key has no stored permits.
+      this.paidUntilNanos = new AtomicLong(nowNanos);
+      this.lastAccessNanos = nowNanos;
+    }
+  }
+
+  private KeyedRateLimiter(
+      double permitsPerSecond,
+      long expireAfterAccess,
+      TimeUnit unit,
+      Ticker ticker,
+      @Nullable Parent<K> parent) {
+    checkArgument(permitsPerSecond > 0.0, "rate must be positive");
+    checkArgument(
+        expireAfterAccess > 0, "expireAfterAccess must be positive: %s", expireAfterAccess);
+    this.permitsPerSecond = permitsPerSecond;
+    this.stableIntervalNanos = SECONDS.toNanos(1L) / permitsPerSecond;
+    this.maxBurstNanos = (long) (MAX_BURST_SECONDS * SECONDS.toNanos(1L));
+    this.expireAfterAccessNanos = unit.toNanos(expireAfterAccess);
+    this.ticker = checkNotNull(ticker);
+    this.parent = parent;
+    this.lastSweepNanos = new AtomicLong(ticker.read());
+  }
+
+  /**
+   * Acquires a permit for {@code key} if it can be acquired immediately.
+   *
+   * <p>This method is equivalent to {@code tryAcquire(key, 1)}.
+   *
+   * @return {@code true} if the permit was acquired, {@code false} otherwise
+   */
+  public boolean tryAcquire(K key) {
+    return tryAcquire(key, 1);
+  }
+
+  /**
+   * Acquires the given number of permits for {@code key} if they can be acquired immediately. If
+   * this limiter has a parent, the permits must also be available for the parent key.
+   *
+   * @return {@code true} if the permits were acquired, {@code false} otherwise
+   * @throws IllegalArgumentException if the requested number of permits is negative or zero
+   */
+  public boolean tryAcquire(K key, int permits) {
+    checkNotNull(key);
+    checkArgument(permits > 0, "Requested permits (%s) must be positive", permits);
+    return tryAcquire(key, permits, ticker.read());
+  }
+
+  private boolean tryAcquire(K key, int permits, long nowNanos) {
+    sweepIfDue(nowNanos);
+    AtomicLong paidUntil = stateFor(key, nowNanos).paidUntilNanos;
+    long costNanos = (long) (permits * stableIntervalNanos);
+    long previous;
+    long updated;
+    do {
+      previous = paidUntil.get();
+      if (previous > nowNanos) {
+        return false;
+      }
+      // Unused permits accumulate up to a burst's worth, like storedPermits in SmoothBursty.
+      updated = LongMath.saturatedAdd(max(previous, nowNanos - maxBurstNanos), costNanos);
+    } while (!paidUntil.compareAndSet(previous, updated));
+
+    if (parent != null && !parent.tryAcquire(key, permits, nowNanos)) {
+      // Give the permits back. This is only approximate: if another thread issued permits in the
+      // meantime and had to discard stored permits beyond a burst's worth, part of our cost was
+      // already discarded with them, and giving back all of it credits the key with permits that it
+      // never saved. We never give back more than a burst's worth, though, and the next acquisition
+      // discards any excess anyway.
+      long previousPaidUntil;
+      do {
+        previousPaidUntil = paidUntil.get();
+        updated = max(previousPaidUntil - costNanos, nowNanos - maxBurstNanos);
+      } while (!paidUntil.compareAndSet(previousPaidUntil, updated));
+      return false;
+    }
+    return true;
+  }
+
+  /** Returns the state of {@code key}, starting over if the key has expired. */
+  private KeyState stateFor(K key, long nowNanos) {
+    KeyState state = states.get(key);
+    if (state == null || isExpired(state, nowNanos)) {
+      state =
+          states.compute(
+              key,
+              (k, current) ->
+                  (current == null || isExpired(current, nowNanos))
+                      ? new KeyState(nowNanos)
+                      : current);
+    }
+    state.lastAccessNanos = nowNanos;
+    return state;
+  }
+
+  private boolean isExpired(KeyState state, long nowNanos) {
+    return nowNanos - state.lastAccessNanos >= expireAfterAccessNanos;
+  }
+
+  /**
+   * Removes the keys that have expired, at most once per expiration period, so that keys that are
+   * not used again do not take up memory indefinitely. A key that is used while it is being removed
+   * simply starts over, as it would had it been used just after.
+   */
+  private void sweepIfDue(long nowNanos) {
+    long lastSweep = lastSweepNanos.get();
+    if (nowNanos - lastSweep >= expireAfterAccessNanos
+        && lastSweepNanos.compareAndSet(lastSweep, nowNanos)) {
+      states.values().removeIf(state -> isExpired(state, nowNanos));
+    }
+  }
+
+  /** Returns the stable rate, in permits per second, at which each key is issued permits. */
+  public double getRate() {
+    return permitsPerSecond;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "KeyedRateLimiter[stableRate=%3.1fqps]", permitsPerSecond);
+  }
+}
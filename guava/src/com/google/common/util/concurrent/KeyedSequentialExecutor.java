@@ -0,0 +1,373 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs tasks on an executor so that tasks submitted for the same key run one at a time, in the
+ * order in which they were submitted, while tasks for different keys run in parallel. This is the
+ * behavior of a separate {@link MoreExecutors#newSequentialExecutor sequential executor} for each
+ * key, without the cost of one: a key only takes up memory while it has tasks queued or running, so
+ * a single instance can serve millions of keys, such as one per account.
+ *
+ * <p>The keys that have tasks take turns on the underlying executor. Each turn runs a few of the
+ * key's tasks and then, if the key has more, submits the next turn to the executor, so that one
+ * busy key cannot hold on to a thread while other keys wait. A {@link ForkJoinPool} makes a good
+ * underlying executor: it spreads the turns of many keys across its threads and lets idle threads
+ * steal turns from busy ones. For event processing, create it in {@linkplain
+ * ForkJoinPool#ForkJoinPool(int, ForkJoinPool.ForkJoinWorkerThreadFactory,
+ * Thread.UncaughtExceptionHandler, boolean) async mode}, which runs turns in the order in which
+ * they were submitted.
+ *
+ * <p>Each key may have at most a fixed number of tasks queued. Submitting another task for a key
+ * whose queue is full throws a {@link RejectedExecutionException}, so that a key whose tasks fall
+ * behind applies back pressure instead of exhausting memory.
+ *
+ * <p>As with a sequential executor, {@code RuntimeException}s thrown by tasks are logged, tasks run
+ * with their thread's interrupt bit cleared, and an interrupt received while running the tasks of a
+ * key is restored once its turn ends. If the underlying executor rejects a turn, the task that was
+ * being submitted is rejected too; tasks for the same key that were queued behind it run once
+ * another task is submitted for the key.
+ *
+ * <p>{@link #stats} reports how many tasks completed, failed and were rejected, and how many are
+ * queued.
+ *
+ * @since NEXT
+ */
+@Beta
+@J2ktIncompatible
+@GwtIncompatible
+public final class KeyedSequentialExecutor<K> {
+  private static final LazyLogger log = new LazyLogger(KeyedSequentialExecutor.class);
+
+  /**
+   * The number of tasks that a key runs per turn. Running several amortizes the cost of submitting
+   * a turn, and running only a few keeps the wait of other keys short.
+   */
+  private static final int TASKS_PER_TURN = 16;
+
+  /**
+   * Creates a {@code KeyedSequentialExecutor} that runs tasks on {@code executor}, and allows up to
+   * {@code maxQueuedTasksPerKey} tasks to be queued for each key.
+   *
+   * @throws IllegalArgumentException if {@code maxQueuedTasksPerKey} is not positive
+   */
+  public static <K> KeyedSequentialExecutor<K> create(Executor executor, int maxQueuedTasksPerKey) {
+    return new KeyedSequentialExecutor<>(executor, maxQueuedTasksPerKey);
+  }
+
+  private final Executor executor;
+  private final int maxQueuedTasksPerKey;
+
+  /** The queues of the keys that have tasks queued or running. */
+  private final ConcurrentHashMap<K, KeyQueue> queues = new ConcurrentHashMap<>();
+
+  private final LongAdder completedTaskCount = new LongAdder();
+  private final LongAdder failedTaskCount = new LongAdder();
+  private final LongAdder rejectedTaskCount = new LongAdder();
+  private final LongAdder queuedTaskCount = new LongAdder();
+
+  private KeyedSequentialExecutor(Executor executor, int maxQueuedTasksPerKey) {
+    this.executor = checkNotNull(executor);
+    checkArgument(
+        maxQueuedTasksPerKey > 0,
+        "maxQueuedTasksPerKey must be positive: %s",
+        maxQueuedTasksPerKey);
+    this.maxQueuedTasksPerKey = maxQueuedTasksPerKey;
+  }
+
+  /**
+   * Runs {@code task} after all tasks previously submitted for {@code key} have completed.
+   *
+   * @throws RejectedExecutionException if {@code key} already has the maximum number of tasks
+   *     queued, or if the underlying executor rejects the task
+   */
+  public void execute(K key, Runnable task) {
+    checkNotNull(key);
+    checkNotNull(task);
+    while (true) {
+      KeyQueue queue = queues.computeIfAbsent(key, KeyQueue::new);
+      boolean startTurn;
+      synchronized (queue) {
+        if (queue.retired) {
+          // The queue emptied and was removed from the map after we looked it up.
+          continue;
+        }
+        if (queue.tasks.size() >= maxQueuedTasksPerKey) {
+          rejectedTaskCount.increment();
+          throw new RejectedExecutionException(
+              "Too many tasks (" + maxQueuedTasksPerKey + ") queued for key " + key);
+        }
+        queue.tasks.add(task);
+        startTurn = !queue.scheduled;
+        queue.scheduled = true;
+      }
+      queuedTaskCount.increment();
+      if (startTurn) {
+        try {
+          executor.execute(queue);
+        } catch (RuntimeException | Error t) {
+          synchronized (queue) {
+            if (queue.tasks.removeLastOccurrence(task)) {
+              queuedTaskCount.decrement();
+            }
+            queue.scheduled = false;
+            queue.retireIfEmpty();
+          }
+          rejectedTaskCount.increment();
+          throw t;
+        }
+      }
+      return;
+    }
+  }
+
+  /**
+   * Submits {@code task} to run after all tasks previously submitted for {@code key} have
+   * completed, and returns a future for its result.
+   *
+   * @throws RejectedExecutionException if {@code key} already has the maximum number of tasks
+   *     queued, or if the underlying executor rejects the task
+   */
+  public <T extends @Nullable Object> ListenableFuture<T> submit(K key, Callable<T> task) {
+    TrustedListenableFutureTask<T> future = TrustedListenableFutureTask.create(task);
+    execute(key, future);
+    return future;
+  }
+
+  /**
+   * Submits {@code task} to run after all tasks previously submitted for {@code key} have
+   * completed, and returns a future that completes when it has.
+   *
+   * @throws RejectedExecutionException if {@code key} already has the maximum number of tasks
+   *     queued, or if the underlying executor rejects the task
+   */
+  public ListenableFuture<@Nullable Void> submit(K key, Runnable task) {
+    TrustedListenableFutureTask<@Nullable Void> future =
+        TrustedListenableFutureTask.create(task, null);
+    execute(key, future);
+    return future;
+  }
+
+  /**
+   * Returns an executor that runs each task as if by {@code execute(key, task)}. This is useful to
+   * run the listeners of futures in the order of the other tasks for {@code key}.
+   */
+  public Executor executorFor(K key) {
+    checkNotNull(key);
+    return task -> execute(key, task);
+  }
+
+  /**
+   * Returns a snapshot of this executor's statistics. The counts are gathered without stopping
+   * other threads, so they may be slightly out of date relative to one another.
+   */
+  public Stats stats() {
+    return new Stats(
+        completedTaskCount.sum(),
+        failedTaskCount.sum(),
+        rejectedTaskCount.sum(),
+        queuedTaskCount.sum(),
+        queues.size());
+  }
+
+  @Override
+  public String toString() {
+    return "KeyedSequentialExecutor{" + executor + "}";
+  }
+
+  /**
+   * Statistics about a {@link KeyedSequentialExecutor}, as returned by {@link #stats}. Instances of
+   * this class are immutable.
+   *
+   * @since NEXT
+   */
+  public static final class Stats {
+    private final long completedTaskCount;
+    private final long failedTaskCount;
+    private final long rejectedTaskCount;
+    private final long queuedTaskCount;
+    private final long activeKeyCount;
+
+    Stats(
+        long completedTaskCount,
+        long failedTaskCount,
+        long rejectedTaskCount,
+        long queuedTaskCount,
+        long activeKeyCount) {
+      this.completedTaskCount = completedTaskCount;
+      this.failedTaskCount = failedTaskCount;
+      this.rejectedTaskCount = rejectedTaskCount;
+      this.queuedTaskCount = queuedTaskCount;
+      this.activeKeyCount = activeKeyCount;
+    }
+
+    /** Returns the number of tasks that ran and returned normally. */
+    public long completedTaskCount() {
+      return completedTaskCount;
+    }
+
+    /** Returns the number of tasks that ran and threw an exception. */
+    public long failedTaskCount() {
+      return failedTaskCount;
+    }
+
+    /**
+     * Returns the number of tasks that were rejected, because their key had too many tasks queued
+     * or because the underlying executor rejected them.
+     */
+    public long rejectedTaskCount() {
+      return rejectedTaskCount;
+    }
+
+    /** Returns the number of tasks that were waiting to run when these statistics were taken. */
+    public long queuedTaskCount() {
+      return queuedTaskCount;
+    }
+
+    /**
+     * Returns the number of keys that had tasks queued or running when these statistics were
+     * taken.
+     */
+    public long activeKeyCount() {
+      return activeKeyCount;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("completedTaskCount", completedTaskCount)
+          .add("failedTaskCount", failedTaskCount)
+          .add("rejectedTaskCount", rejectedTaskCount)
+          .add("queuedTaskCount", queuedTaskCount)
+          .add("activeKeyCount", activeKeyCount)
+          .toString();
+    }
+  }
+
+  /** The tasks of one key, and the turn that runs them. */
+  private final class KeyQueue implements Runnable {
+    private final K key;
+
+    @GuardedBy("this")
+    final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    /** Whether a turn has been submitted to the executor and has not yet ended. */
+    @GuardedBy("this")
+    boolean scheduled;
+
+    /** Whether this queue has been removed from {@link #queues}, and must not take new tasks. */
+    @GuardedBy("this")
+    boolean retired;
+
+    KeyQueue(K key) {
+      this.key = key;
+    }
+
+    /**
+     * Runs up to {@link #TASKS_PER_TURN} tasks, and then submits the next turn if there are tasks
+     * left. If the executor rejects the next turn, this thread keeps running the tasks instead. If
+     * submitting the next turn fails in any other way, or a task throws an {@code Error}, the turn
+     * ends, and the remaining tasks run once another task is submitted for the key.
+     */
+    @Override
+    public void run() {
+      boolean interruptedDuringTask = false;
+      try {
+        while (true) {
+          for (int i = 0; i < TASKS_PER_TURN; i++) {
+            Runnable task;
+            synchronized (this) {
+              task = tasks.poll();
+              if (task == null) {
+                scheduled = false;
+                retireIfEmpty();
+                return;
+              }
+            }
+            queuedTaskCount.decrement();
+            // As in SequentialExecutor, an interrupt is meant for the task that was running when
+            // it was sent, so we clear it before each task, and restore it when the turn ends.
+            interruptedDuringTask |= Thread.interrupted();
+            runTask(task);
+          }
+          try {
+            executor.execute(this);
+            return;
+          } catch (RejectedExecutionException e) {
+            // Keep running the tasks of this key on this thread.
+          }
+        }
+      } catch (Throwable t) {
+        // An Error from a task, or any other exception from the executor. (Tasks' exceptions are
+        // caught in runTask.)
+        synchronized (this) {
+          // The next task submitted for this key starts a new turn.
+          scheduled = false;
+          retireIfEmpty();
+        }
+        throw t;
+      } finally {
+        if (interruptedDuringTask) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @SuppressWarnings("CatchingUnchecked") // sneaky checked exception
+    private void runTask(Runnable task) {
+      try {
+        task.run();
+        completedTaskCount.increment();
+      } catch (Exception e) { // sneaky checked exception
+        failedTaskCount.increment();
+        log.get().log(Level.SEVERE, "Exception while executing runnable " + task, e);
+      } catch (Error e) {
+        failedTaskCount.increment();
+        throw e;
+      }
+    }
+
+    @GuardedBy("this")
+    void retireIfEmpty() {
+      if (tasks.isEmpty() && !scheduled) {
+        retired = true;
+        queues.remove(key, this);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "KeyedSequentialExecutorTurn{key=" + key + "}";
+    }
+  }
+}
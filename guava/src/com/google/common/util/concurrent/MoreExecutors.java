@@ -439,6 +439,13 @@ public final class MoreExecutors {
    * execute}. If this behaviour is problematic, use an Executor with a single thread (e.g. {@link
    * Executors#newSingleThreadExecutor}).
    *
+   * <p>When a {@link ListenableFuture} completes, consecutive listeners that were registered with
+   * the same sequential executor are handed to it together, so that they are queued (and the
+   * {@code delegate} is called) once rather than once per listener. So to make completing a widely
+   * shared future cheaper, register its listeners with one sequential executor rather than with
+   * {@code delegate} directly, provided that they may run one at a time. No other executor gets
+   * this treatment.
+   *
    * @since 23.3 (since 23.1 as {@code sequentialExecutor})
    */
   @GwtIncompatible
@@ -494,6 +501,30 @@ public final class MoreExecutors {
         : new ScheduledListeningDecorator(delegate);
   }
 
+  /**
+   * Creates a {@link ListeningExecutorService} that starts a new virtual thread for each task. The
+   * number of threads is unbounded, which suits tasks that spend most of their time blocked, such
+   * as synchronous RPCs: a virtual thread that blocks releases its carrier thread, so many
+   * thousands of such tasks can be in flight without tuning a pool.
+   *
+   * <p>This is {@link #listeningDecorator(ExecutorService)} applied to the result of {@code
+   * Executors.newVirtualThreadPerTaskExecutor()}. That method is looked up reflectively so that
+   * this class still loads on JDKs that lack it. Callers that require Java 21 anyway can call it
+   * directly.
+   *
+   * <p>Blocking in Guava's own utilities, such as {@link ListenableFuture#get}, {@link Monitor} and
+   * {@link Uninterruptibles}, is built on {@link java.util.concurrent.locks.LockSupport} and {@link
+   * java.util.concurrent.locks.ReentrantLock}, so it does not pin the carrier thread.
+   *
+   * @throws UnsupportedOperationException if the running JDK does not support virtual threads
+   * @since NEXT
+   */
+  @J2ktIncompatible
+  @GwtIncompatible // concurrency
+  public static ListeningExecutorService newVirtualThreadPerTaskListeningExecutor() {
+    return listeningDecorator(VirtualThreads.newThreadPerTaskExecutor());
+  }
+
   @GwtIncompatible // TODO
   private static class ListeningDecorator extends AbstractListeningExecutorService {
     private final ExecutorService delegate;
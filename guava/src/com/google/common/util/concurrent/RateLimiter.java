@@ -16,7 +16,9 @@ package com.google.common.util.concurrent;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static com.google.common.util.concurrent.Internal.toNanosSaturated;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
 import static java.lang.Math.max;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
@@ -33,8 +35,10 @@ import com.google.common.util.concurrent.SmoothRateLimiter.SmoothWarmingUp;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.time.Duration;
 import java.util.Locale;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import org.jspecify.annotations.Nullable;
 
 /**
  * A rate limiter. Conceptually, a rate limiter distributes permits at a configurable rate. Each
@@ -90,6 +94,10 @@ import org.jspecify.annotations.Nullable;
  * granted immediately, but it is the <i>next</i> request that will experience extra throttling,
  * thus paying for the cost of the expensive task.
  *
+ * <p>A {@code RateLimiter} needs to be told the rate to enforce. To protect a backend whose
+ * capacity is not known in advance, or changes over time, consider a {@link ConcurrencyLimiter},
+ * which limits the number of requests in flight and learns that limit from their latency.
+ *
  * @author Dimitris Andreou
  * @since 13.0
  */
@@ -217,22 +225,6 @@ public abstract class RateLimiter {
    */
   private final SleepingStopwatch stopwatch;
 
-  // Can't be initialized in the constructor because mocks don't call the constructor.
-  private volatile @Nullable Object mutexDoNotUseDirectly;
-
-  private Object mutex() {
-    Object mutex = mutexDoNotUseDirectly;
-    if (mutex == null) {
-      synchronized (this) {
-        mutex = mutexDoNotUseDirectly;
-        if (mutex == null) {
-          mutexDoNotUseDirectly = mutex = new Object();
-        }
-      }
-    }
-    return mutex;
-  }
-
   RateLimiter(SleepingStopwatch stopwatch) {
     this.stopwatch = checkNotNull(stopwatch);
   }
@@ -257,11 +249,10 @@ public abstract class RateLimiter {
    */
   public final void setRate(double permitsPerSecond) {
     checkArgument(permitsPerSecond > 0.0, "rate must be positive");
-    synchronized (mutex()) {
-      doSetRate(permitsPerSecond, stopwatch.readMicros());
-    }
+    doSetRate(permitsPerSecond, stopwatch.readMicros());
   }
 
+  /** Changes the rate. Implementations must be thread-safe. */
   abstract void doSetRate(double permitsPerSecond, long nowMicros);
 
   /**
@@ -271,9 +262,7 @@ public abstract class RateLimiter {
    * after invocations to {@linkplain #setRate}.
    */
   public final double getRate() {
-    synchronized (mutex()) {
-      return doGetRate();
-    }
+    return doGetRate();
   }
 
   abstract double doGetRate();
@@ -316,9 +305,54 @@ public abstract class RateLimiter {
    */
   final long reserve(int permits) {
     checkPermits(permits);
-    synchronized (mutex()) {
-      return reserveAndGetWaitLength(permits, stopwatch.readMicros());
+    return reserveAndGetWaitLength(permits, stopwatch.readMicros());
+  }
+
+  /**
+   * Acquires a single permit from this {@code RateLimiter} without blocking, returning a future
+   * that completes when the permit may be used.
+   *
+   * <p>This method is equivalent to {@code acquireAsync(1, executor)}.
+   *
+   * @param executor the executor that completes the returned future once the permit may be used
+   * @return a future for the time spent waiting to enforce the rate, in seconds; 0.0 if not
+   *     rate-limited
+   * @throws RejectedExecutionException if the completion of the future cannot be scheduled
+   * @since NEXT
+   */
+  public ListenableFuture<Double> acquireAsync(ScheduledExecutorService executor) {
+    return acquireAsync(1, executor);
+  }
+
+  /**
+   * Acquires the given number of permits from this {@code RateLimiter} without blocking, returning
+   * a future that completes when the permits may be used. Where {@link #acquire(int)} makes the
+   * calling thread sleep, this method has {@code executor} complete the returned future after the
+   * same delay, so that callers such as event loops can respect the rate without parking a thread.
+   *
+   * <p>The permits are reserved immediately, exactly as by {@code acquire}, and the next request is
+   * throttled accordingly. Cancelling the returned future does not give the permits back.
+   *
+   * @param permits the number of permits to acquire
+   * @param executor the executor that completes the returned future once the permits may be used
+   * @return a future for the time spent waiting to enforce the rate, in seconds; 0.0 if not
+   *     rate-limited
+   * @throws IllegalArgumentException if the requested number of permits is negative or zero
+   * @throws RejectedExecutionException if the completion of the future cannot be scheduled
+   * @since NEXT
+   */
+  public ListenableFuture<Double> acquireAsync(int permits, ScheduledExecutorService executor) {
+    checkNotNull(executor);
+    long microsToWait = reserve(permits);
+    if (microsToWait == 0) {
+      return immediateFuture(0.0);
     }
+    double secondsToWait = 1.0 * microsToWait / SECONDS.toMicros(1L);
+    TrustedListenableFutureTask<Double> task =
+        TrustedListenableFutureTask.create(() -> secondsToWait);
+    Future<?> scheduled = executor.schedule(task, microsToWait, MICROSECONDS);
+    task.addListener(() -> scheduled.cancel(false), directExecutor());
+    return task;
   }
 
   /**
@@ -411,49 +445,39 @@ public abstract class RateLimiter {
   public boolean tryAcquire(int permits, long timeout, TimeUnit unit) {
     long timeoutMicros = max(unit.toMicros(timeout), 0);
     checkPermits(permits);
-    long microsToWait;
-    synchronized (mutex()) {
-      long nowMicros = stopwatch.readMicros();
-      if (!canAcquire(nowMicros, timeoutMicros)) {
-        return false;
-      } else {
-        microsToWait = reserveAndGetWaitLength(permits, nowMicros);
-      }
+    long nowMicros = stopwatch.readMicros();
+    long momentAvailable = tryReserveEarliestAvailable(permits, nowMicros, timeoutMicros);
+    if (momentAvailable == UNAVAILABLE) {
+      return false;
     }
-    stopwatch.sleepMicrosUninterruptibly(microsToWait);
+    stopwatch.sleepMicrosUninterruptibly(max(momentAvailable - nowMicros, 0));
     return true;
   }
 
-  private boolean canAcquire(long nowMicros, long timeoutMicros) {
-    return queryEarliestAvailable(nowMicros) - timeoutMicros <= nowMicros;
-  }
-
   /**
    * Reserves next ticket and returns the wait time that the caller must wait for.
    *
    * @return the required wait time, never negative
    */
   final long reserveAndGetWaitLength(int permits, long nowMicros) {
-    long momentAvailable = reserveEarliestAvailable(permits, nowMicros);
+    long momentAvailable = tryReserveEarliestAvailable(permits, nowMicros, Long.MAX_VALUE);
     return max(momentAvailable - nowMicros, 0);
   }
 
-  /**
-   * Returns the earliest time that permits are available (with one caveat).
-   *
-   * @return the time that permits are available, or, if permits are available immediately, an
-   *     arbitrary past or present time
-   */
-  abstract long queryEarliestAvailable(long nowMicros);
+  /** Returned by {@link #tryReserveEarliestAvailable} when the permits cannot be reserved. */
+  static final long UNAVAILABLE = Long.MIN_VALUE;
 
   /**
-   * Reserves the requested number of permits and returns the time that those permits can be used
-   * (with one caveat).
+   * Reserves the requested number of permits if they can be used within {@code timeoutMicros} of
+   * {@code nowMicros}, and returns the time that those permits can be used (with one caveat).
+   * Checking and reserving happen atomically. Implementations must be thread-safe, and should not
+   * block.
    *
    * @return the time that the permits may be used, or, if the permits may be used immediately, an
-   *     arbitrary past or present time
+   *     arbitrary past or present time; {@link #UNAVAILABLE} if they cannot be used in time, in
+   *     which case nothing was reserved
    */
-  abstract long reserveEarliestAvailable(int permits, long nowMicros);
+  abstract long tryReserveEarliestAvailable(int permits, long nowMicros, long timeoutMicros);
 
   @Override
   public String toString() {
@@ -465,9 +489,9 @@ public abstract class RateLimiter {
     protected SleepingStopwatch() {}
 
     /*
-     * We always hold the mutex when calling this. TODO(cpovirk): Is that important? Perhaps we need
-     * to guarantee that each call to reserveEarliestAvailable, etc. sees a value >= the previous?
-     * Also, is it OK that we don't hold the mutex when sleeping?
+     * Concurrent callers read this without holding a lock, so a reservation may see an older value
+     * than one that was already made. That is harmless: SmoothRateLimiter never moves its state
+     * back in time, so such a caller merely waits a little longer than strictly necessary.
      */
     protected abstract long readMicros();
 
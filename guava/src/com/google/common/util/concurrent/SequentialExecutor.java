@@ -29,6 +29,7 @@ import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.j2objc.annotations.RetainedWith;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
@@ -50,7 +51,7 @@ import org.jspecify.annotations.Nullable;
  */
 @J2ktIncompatible
 @GwtIncompatible
-final class SequentialExecutor implements Executor {
+final class SequentialExecutor implements BatchingExecutor {
   private static final LazyLogger log = new LazyLogger(SequentialExecutor.class);
 
   enum WorkerRunningState {
@@ -173,6 +174,22 @@ final class SequentialExecutor implements Executor {
     }
   }
 
+  /**
+   * Adds the tasks to the queue in order if the worker is already running or queued, taking the lock
+   * only once for all the tasks. Otherwise, returns {@code false} so that the caller can start the
+   * worker through {@link #execute}, which knows how to handle the delegate rejecting it.
+   */
+  @Override
+  public boolean tryExecuteAll(List<Runnable> tasks) {
+    synchronized (queue) {
+      if (workerRunningState != RUNNING && workerRunningState != QUEUED) {
+        return false;
+      }
+      queue.addAll(tasks);
+      return true;
+    }
+  }
+
   /** Worker that runs tasks from {@link #queue} until it is empty. */
   private final class QueueWorker implements Runnable {
     @Nullable Runnable task;
@@ -21,6 +21,7 @@ import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.J2ktIncompatible;
 import com.google.common.math.LongMath;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @J2ktIncompatible
 @GwtIncompatible
@@ -205,14 +206,6 @@ abstract class SmoothRateLimiter extends RateLimiter {
    */
   static final class SmoothWarmingUp extends SmoothRateLimiter {
     private final long warmupPeriodMicros;
-
-    /**
-     * The slope of the line from the stable interval (when permits == 0), to the cold interval
-     * (when permits == maxPermits)
-     */
-    private double slope;
-
-    private double thresholdPermits;
     private final double coldFactor;
 
     SmoothWarmingUp(
@@ -223,13 +216,13 @@ abstract class SmoothRateLimiter extends RateLimiter {
     }
 
     @Override
-    void doSetRate(double permitsPerSecond, double stableIntervalMicros) {
-      double oldMaxPermits = maxPermits;
+    State doSetRate(State state, double permitsPerSecond, double stableIntervalMicros) {
+      double oldMaxPermits = state.maxPermits;
       double coldIntervalMicros = stableIntervalMicros * coldFactor;
-      thresholdPermits = 0.5 * warmupPeriodMicros / stableIntervalMicros;
-      maxPermits =
-          thresholdPermits + 2.0 * warmupPeriodMicros / (stableIntervalMicros + coldIntervalMicros);
-      slope = (coldIntervalMicros - stableIntervalMicros) / (maxPermits - thresholdPermits);
+      double maxPermits =
+          thresholdPermits(stableIntervalMicros)
+              + 2.0 * warmupPeriodMicros / (stableIntervalMicros + coldIntervalMicros);
+      double storedPermits;
       if (oldMaxPermits == Double.POSITIVE_INFINITY) {
         // if we don't special-case this, we would get storedPermits == NaN, below
         storedPermits = 0.0;
@@ -237,21 +230,45 @@ abstract class SmoothRateLimiter extends RateLimiter {
         storedPermits =
             (oldMaxPermits == 0.0)
                 ? maxPermits // initial state is cold
-                : storedPermits * maxPermits / oldMaxPermits;
+                : state.storedPermits * maxPermits / oldMaxPermits;
       }
+      return new State(storedPermits, maxPermits, stableIntervalMicros, state.nextFreeTicketMicros);
+    }
+
+    /**
+     * The number of stored permits below which permits are served at the stable interval. It only
+     * depends on the stable interval, so we compute it when needed rather than storing it.
+     */
+    private double thresholdPermits(double stableIntervalMicros) {
+      return 0.5 * warmupPeriodMicros / stableIntervalMicros;
     }
 
     @Override
-    long storedPermitsToWaitTime(double storedPermits, double permitsToTake) {
+    long storedPermitsToWaitTime(
+        double stableIntervalMicros,
+        double maxPermits,
+        double storedPermits,
+        double permitsToTake) {
+      double thresholdPermits = thresholdPermits(stableIntervalMicros);
       double availablePermitsAboveThreshold = storedPermits - thresholdPermits;
       long micros = 0;
       // measuring the integral on the right part of the function (the climbing line)
       if (availablePermitsAboveThreshold > 0.0) {
+        /*
+         * The slope of the line from the stable interval (when permits == 0), to the cold interval
+         * (when permits == maxPermits)
+         */
+        double slope =
+            (stableIntervalMicros * coldFactor - stableIntervalMicros)
+                / (maxPermits - thresholdPermits);
         double permitsAboveThresholdToTake = min(availablePermitsAboveThreshold, permitsToTake);
         // TODO(cpovirk): Figure out a good name for this variable.
         double length =
-            permitsToTime(availablePermitsAboveThreshold)
-                + permitsToTime(availablePermitsAboveThreshold - permitsAboveThresholdToTake);
+            permitsToTime(stableIntervalMicros, slope, availablePermitsAboveThreshold)
+                + permitsToTime(
+                    stableIntervalMicros,
+                    slope,
+                    availablePermitsAboveThreshold - permitsAboveThresholdToTake);
         micros = (long) (permitsAboveThresholdToTake * length / 2.0);
         permitsToTake -= permitsAboveThresholdToTake;
       }
@@ -260,13 +277,13 @@ abstract class SmoothRateLimiter extends RateLimiter {
       return micros;
     }
 
-    private double permitsToTime(double permits) {
+    private static double permitsToTime(double stableIntervalMicros, double slope, double permits) {
       return stableIntervalMicros + permits * slope;
     }
 
     @Override
-    double coolDownIntervalMicros() {
-      return warmupPeriodMicros / maxPermits;
+    double coolDownIntervalMicros(State state) {
+      return warmupPeriodMicros / state.maxPermits;
     }
   }
 
@@ -286,9 +303,10 @@ abstract class SmoothRateLimiter extends RateLimiter {
     }
 
     @Override
-    void doSetRate(double permitsPerSecond, double stableIntervalMicros) {
-      double oldMaxPermits = this.maxPermits;
-      maxPermits = maxBurstSeconds * permitsPerSecond;
+    State doSetRate(State state, double permitsPerSecond, double stableIntervalMicros) {
+      double oldMaxPermits = state.maxPermits;
+      double maxPermits = maxBurstSeconds * permitsPerSecond;
+      double storedPermits;
       if (oldMaxPermits == Double.POSITIVE_INFINITY) {
         // if we don't special-case this, we would get storedPermits == NaN, below
         storedPermits = maxPermits;
@@ -296,38 +314,65 @@ abstract class SmoothRateLimiter extends RateLimiter {
         storedPermits =
             (oldMaxPermits == 0.0)
                 ? 0.0 // initial state
-                : storedPermits * maxPermits / oldMaxPermits;
+                : state.storedPermits * maxPermits / oldMaxPermits;
       }
+      return new State(storedPermits, maxPermits, stableIntervalMicros, state.nextFreeTicketMicros);
     }
 
     @Override
-    long storedPermitsToWaitTime(double storedPermits, double permitsToTake) {
+    long storedPermitsToWaitTime(
+        double stableIntervalMicros,
+        double maxPermits,
+        double storedPermits,
+        double permitsToTake) {
       return 0L;
     }
 
     @Override
-    double coolDownIntervalMicros() {
-      return stableIntervalMicros;
+    double coolDownIntervalMicros(State state) {
+      return state.stableIntervalMicros;
     }
   }
 
-  /** The currently stored permits. */
-  double storedPermits;
-
-  /** The maximum number of stored permits. */
-  double maxPermits;
-
   /**
-   * The interval between two unit requests, at our stable rate. E.g., a stable rate of 5 permits
-   * per second has a stable interval of 200ms.
+   * An immutable snapshot of the state of a {@code SmoothRateLimiter}. Reserving permits and
+   * changing the rate both replace the current snapshot with a compare-and-set, so that callers
+   * never block one another.
    */
-  double stableIntervalMicros;
+  static final class State {
+    /** The currently stored permits. */
+    final double storedPermits;
 
-  /**
-   * The time when the next request (no matter its size) will be granted. After granting a request,
-   * this is pushed further in the future. Large requests push this further than small requests.
-   */
-  private long nextFreeTicketMicros = 0L; // could be either in the past or future
+    /** The maximum number of stored permits. */
+    final double maxPermits;
+
+    /**
+     * The interval between two unit requests, at our stable rate. E.g., a stable rate of 5 permits
+     * per second has a stable interval of 200ms.
+     */
+    final double stableIntervalMicros;
+
+    /**
+     * The time when the next request (no matter its size) will be granted. After granting a
+     * request, this is pushed further in the future. Large requests push this further than small
+     * requests.
+     */
+    final long nextFreeTicketMicros; // could be either in the past or future
+
+    State(
+        double storedPermits,
+        double maxPermits,
+        double stableIntervalMicros,
+        long nextFreeTicketMicros) {
+      this.storedPermits = storedPermits;
+      this.maxPermits = maxPermits;
+      this.stableIntervalMicros = stableIntervalMicros;
+      this.nextFreeTicketMicros = nextFreeTicketMicros;
+    }
+  }
+
+  private final AtomicReference<State> state =
+      new AtomicReference<>(new State(0.0, 0.0, 0.0, 0L));
 
   private SmoothRateLimiter(SleepingStopwatch stopwatch) {
     super(stopwatch);
@@ -335,37 +380,57 @@ abstract class SmoothRateLimiter extends RateLimiter {
 
   @Override
   final void doSetRate(double permitsPerSecond, long nowMicros) {
-    resync(nowMicros);
     double stableIntervalMicros = SECONDS.toMicros(1L) / permitsPerSecond;
-    this.stableIntervalMicros = stableIntervalMicros;
-    doSetRate(permitsPerSecond, stableIntervalMicros);
+    while (true) {
+      State current = state.get();
+      State updated =
+          doSetRate(resync(current, nowMicros), permitsPerSecond, stableIntervalMicros);
+      if (state.compareAndSet(current, updated)) {
+        return;
+      }
+    }
   }
 
-  abstract void doSetRate(double permitsPerSecond, double stableIntervalMicros);
+  /**
+   * Returns the state after changing the rate, given the state just before. This also computes the
+   * new {@code maxPermits} and scales {@code storedPermits} to it.
+   */
+  abstract State doSetRate(State state, double permitsPerSecond, double stableIntervalMicros);
 
   @Override
   final double doGetRate() {
-    return SECONDS.toMicros(1L) / stableIntervalMicros;
+    return SECONDS.toMicros(1L) / state.get().stableIntervalMicros;
   }
 
   @Override
-  final long queryEarliestAvailable(long nowMicros) {
-    return nextFreeTicketMicros;
-  }
-
-  @Override
-  final long reserveEarliestAvailable(int requiredPermits, long nowMicros) {
-    resync(nowMicros);
-    long returnValue = nextFreeTicketMicros;
-    double storedPermitsToSpend = min(requiredPermits, this.storedPermits);
-    double freshPermits = requiredPermits - storedPermitsToSpend;
-    long waitMicros =
-        storedPermitsToWaitTime(this.storedPermits, storedPermitsToSpend)
-            + (long) (freshPermits * stableIntervalMicros);
+  final long tryReserveEarliestAvailable(int requiredPermits, long nowMicros, long timeoutMicros) {
+    while (true) {
+      State current = state.get();
+      if (current.nextFreeTicketMicros - timeoutMicros > nowMicros) {
+        return UNAVAILABLE;
+      }
+      State resynced = resync(current, nowMicros);
+      long returnValue = resynced.nextFreeTicketMicros;
+      double storedPermitsToSpend = min(requiredPermits, resynced.storedPermits);
+      double freshPermits = requiredPermits - storedPermitsToSpend;
+      long waitMicros =
+          storedPermitsToWaitTime(
+                  resynced.stableIntervalMicros,
+                  resynced.maxPermits,
+                  resynced.storedPermits,
+                  storedPermitsToSpend)
+              + (long) (freshPermits * resynced.stableIntervalMicros);
 
-    this.nextFreeTicketMicros = LongMath.saturatedAdd(nextFreeTicketMicros, waitMicros);
-    this.storedPermits -= storedPermitsToSpend;
-    return returnValue;
+      State updated =
+          new State(
+              resynced.storedPermits - storedPermitsToSpend,
+              resynced.maxPermits,
+              resynced.stableIntervalMicros,
+              LongMath.saturatedAdd(returnValue, waitMicros));
+      if (state.compareAndSet(current, updated)) {
+        return returnValue;
+      }
+    }
   }
 
   /**
@@ -375,20 +440,25 @@ abstract class SmoothRateLimiter extends RateLimiter {
    *
    * <p>This always holds: {@code 0 <= permitsToTake <= storedPermits}
    */
-  abstract long storedPermitsToWaitTime(double storedPermits, double permitsToTake);
+  abstract long storedPermitsToWaitTime(
+      double stableIntervalMicros, double maxPermits, double storedPermits, double permitsToTake);
 
   /**
    * Returns the number of microseconds during cool down that we have to wait to get a new permit.
    */
-  abstract double coolDownIntervalMicros();
+  abstract double coolDownIntervalMicros(State state);
 
-  /** Updates {@code storedPermits} and {@code nextFreeTicketMicros} based on the current time. */
-  void resync(long nowMicros) {
+  /**
+   * Returns {@code state} with {@code storedPermits} and {@code nextFreeTicketMicros} updated based
+   * on the current time.
+   */
+  private State resync(State state, long nowMicros) {
     // if nextFreeTicket is in the past, resync to now
-    if (nowMicros > nextFreeTicketMicros) {
-      double newPermits = (nowMicros - nextFreeTicketMicros) / coolDownIntervalMicros();
-      storedPermits = min(maxPermits, storedPermits + newPermits);
-      nextFreeTicketMicros = nowMicros;
+    if (nowMicros > state.nextFreeTicketMicros) {
+      double newPermits = (nowMicros - state.nextFreeTicketMicros) / coolDownIntervalMicros(state);
+      double storedPermits = min(state.maxPermits, state.storedPermits + newPermits);
+      return new State(storedPermits, state.maxPermits, state.stableIntervalMicros, nowMicros);
     }
+    return state;
   }
 }
@@ -16,6 +16,7 @@ package com.google.common.util.concurrent;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.Executors.defaultThreadFactory;
 
@@ -38,10 +39,12 @@ import org.jspecify.annotations.Nullable;
  *   <li>a {@linkplain Thread#setPriority thread priority}
  *   <li>an {@linkplain Thread#setUncaughtExceptionHandler uncaught exception handler}
  *   <li>a {@linkplain ThreadFactory#newThread backing thread factory}
+ *   <li>whether threads should be {@linkplain ThreadFactoryBuilder#setVirtual virtual threads}
  * </ul>
  *
  * <p>If no backing thread factory is provided, a default backing thread factory is used as if by
- * calling {@code setThreadFactory(}{@link Executors#defaultThreadFactory()}{@code )}.
+ * calling {@code setThreadFactory(}{@link Executors#defaultThreadFactory()}{@code )}, or, for
+ * virtual threads, {@code setThreadFactory(Thread.ofVirtual().factory())}.
  *
  * <p><b>Java 21+ users:</b> consider using the {@code Thread.Builder} interface instead. E.g.,
  * instead of {@code new ThreadFactoryBuilder().setPriority(priority).setDaemon(false).build()}, use
@@ -58,6 +61,7 @@ public final class ThreadFactoryBuilder {
   private @Nullable Integer priority = null;
   private @Nullable UncaughtExceptionHandler uncaughtExceptionHandler = null;
   private @Nullable ThreadFactory backingThreadFactory = null;
+  private boolean virtual = false;
 
   /**
    * Creates a new {@link ThreadFactory} builder.
@@ -167,6 +171,29 @@ public final class ThreadFactoryBuilder {
     return this;
   }
 
+  /**
+   * Sets whether new threads created with this ThreadFactory are virtual threads. Virtual threads
+   * are available from Java 21; the JDK API is looked up reflectively, so this class still works on
+   * older JDKs as long as this option is not used.
+   *
+   * <p>Virtual threads are always daemon threads and always have {@linkplain Thread#NORM_PRIORITY
+   * normal priority}, so {@link #setDaemon setDaemon(false)} and {@link #setPriority} cannot be
+   * combined with this option. Nor can {@link #setThreadFactory}, since the backing factory is the
+   * one that creates virtual threads.
+   *
+   * <p><b>Java 21+ users:</b> use {@link Thread#ofVirtual()} instead.
+   *
+   * @param virtual whether or not new Threads created with this ThreadFactory will be virtual
+   *     threads
+   * @return this for the builder pattern
+   * @since NEXT
+   */
+  @CanIgnoreReturnValue
+  public ThreadFactoryBuilder setVirtual(boolean virtual) {
+    this.virtual = virtual;
+    return this;
+  }
+
   /**
    * Returns a new thread factory using the options supplied during the building process. After
    * building, it is still possible to change the options used to build the ThreadFactory and/or
@@ -175,6 +202,10 @@ public final class ThreadFactoryBuilder {
    * <p><b>Java 21+ users:</b> use {@link Thread.Builder#factory()} instead.
    *
    * @return the fully constructed {@link ThreadFactory}
+   * @throws IllegalStateException if {@linkplain #setVirtual virtual threads} were requested along
+   *     with a non-daemon setting, a priority or a backing thread factory
+   * @throws UnsupportedOperationException if virtual threads were requested but the running JDK
+   *     does not support them
    */
   public ThreadFactory build() {
     return doBuild(this);
@@ -188,10 +219,20 @@ public final class ThreadFactoryBuilder {
     Boolean daemon = builder.daemon;
     Integer priority = builder.priority;
     UncaughtExceptionHandler uncaughtExceptionHandler = builder.uncaughtExceptionHandler;
-    ThreadFactory backingThreadFactory =
-        (builder.backingThreadFactory != null)
-            ? builder.backingThreadFactory
-            : defaultThreadFactory();
+    ThreadFactory backingThreadFactory;
+    if (builder.virtual) {
+      checkState(daemon == null || daemon, "Virtual threads are always daemon threads");
+      checkState(priority == null, "Virtual threads cannot have their priority changed");
+      checkState(
+          builder.backingThreadFactory == null,
+          "Virtual threads cannot be combined with a backing thread factory");
+      backingThreadFactory = VirtualThreads.newThreadFactory();
+    } else {
+      backingThreadFactory =
+          (builder.backingThreadFactory != null)
+              ? builder.backingThreadFactory
+              : defaultThreadFactory();
+    }
     AtomicLong count = (nameFormat != null) ? new AtomicLong(0) : null;
     return new ThreadFactory() {
       @Override
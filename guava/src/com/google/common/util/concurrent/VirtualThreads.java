@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.util.concurrent;
+
+import static com.google.common.util.concurrent.SneakyThrows.sneakyThrow;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.J2ktIncompatible;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reflective access to the virtual thread APIs added in Java 21, so that Guava can create virtual
+ * threads when they are available while still running on older JDKs.
+ */
+@J2ktIncompatible
+@GwtIncompatible
+final class VirtualThreads {
+  // Thread.ofVirtual(), Thread.Builder.factory() and Executors.newVirtualThreadPerTaskExecutor().
+  private static final @Nullable Method OF_VIRTUAL;
+  private static final @Nullable Method FACTORY;
+  private static final @Nullable Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method factory = null;
+    Method newExecutor = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      newExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      // Virtual threads are not available in this JDK.
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    FACTORY = factory;
+    NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newExecutor;
+  }
+
+  /** Returns whether the running JDK supports virtual threads. */
+  static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Returns a factory for unstarted virtual threads, as returned by {@code
+   * Thread.ofVirtual().factory()}.
+   *
+   * @throws UnsupportedOperationException if the running JDK does not support virtual threads
+   */
+  static ThreadFactory newThreadFactory() {
+    checkSupported();
+    return (ThreadFactory) invoke(FACTORY, invoke(OF_VIRTUAL, null));
+  }
+
+  /**
+   * Returns an executor that starts a new virtual thread for each task, as returned by {@code
+   * Executors.newVirtualThreadPerTaskExecutor()}.
+   *
+   * @throws UnsupportedOperationException if the running JDK does not support virtual threads
+   */
+  static ExecutorService newThreadPerTaskExecutor() {
+    checkSupported();
+    return (ExecutorService) invoke(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR, null);
+  }
+
+  private static void checkSupported() {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+  }
+
+  private static Object invoke(@Nullable Method method, @Nullable Object receiver) {
+    try {
+      // requireNonNull is safe because callers check isSupported() first.
+      return requireNonNull(requireNonNull(method).invoke(receiver));
+    } catch (IllegalAccessException e) {
+      throw new AssertionError(e);
+    } catch (InvocationTargetException e) {
+      // None of the reflectively invoked methods declares a checked exception.
+      throw sneakyThrow(e.getCause());
+    }
+  }
+
+  private VirtualThreads() {}
+}